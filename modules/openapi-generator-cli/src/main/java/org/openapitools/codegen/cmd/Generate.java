@@ -331,6 +331,11 @@ public class Generate extends OpenApiGeneratorCommand {
         description = "Only write output files that have changed.")
     private Boolean minimalUpdate;
 
+    @Option(name = {"--parallelism"},
+        title = "Rendering parallelism",
+        description = "Number of threads used to render model and API files. Defaults to 1 (sequential rendering). The order of generated files does not depend on this setting. Values above 1 require a generator whose templates, lambdas and hooks are thread-safe.")
+    private Integer parallelism;
+
     @Override
     public void execute() {
         if (StringUtils.isNotBlank(inputSpecRootDirectory)) {
@@ -498,6 +503,10 @@ public class Generate extends OpenApiGeneratorCommand {
             configurator.setEnableMinimalUpdate(minimalUpdate);
         }
 
+        if (parallelism != null) {
+            configurator.setParallelism(parallelism);
+        }
+
         if (strictSpecBehavior != null) {
             configurator.setStrictSpecBehavior(strictSpecBehavior);
         }
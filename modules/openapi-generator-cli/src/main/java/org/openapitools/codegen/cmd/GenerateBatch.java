@@ -35,9 +35,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.DynamicSettings;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.config.ParsedSpecCache;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,12 +52,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.List;
-import java.util.Locale;
+import java.util.*;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,7 +66,16 @@ import java.util.stream.Stream;
 public class GenerateBatch extends OpenApiGeneratorCommand {
     private static AtomicInteger failures = new AtomicInteger(0);
     private static AtomicInteger successes = new AtomicInteger(0);
-    private final Logger LOGGER = LoggerFactory.getLogger(GenerateBatch.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerateBatch.class);
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+    private static final String TIMEOUT = "timeout";
+
+    private static final long MB = 1024 * 1024;
+    // rough memory use of a generator, and of each byte of its input spec once parsed and processed
+    private static final long BASE_MEMORY_MB = 64;
+    private static final long MEMORY_PER_SPEC_BYTE = 100;
 
     @Option(name = {"-v", "--verbose"}, description = "verbose mode")
     private Boolean verbose;
@@ -87,6 +101,13 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
     @Option(name = {"--root-dir"}, description = "root directory used output/includes (includes can be overridden)")
     private String root;
 
+    @Option(name = {"--max-memory"}, description = "memory (MB) available to concurrently running generators, defaults to 3/4 of the maximum heap size")
+    private Integer maxMemory;
+
+    @Option(name = {"--report"}, description = "file to write a JSON report of per-generator timings to. "
+            + "An existing report is read first, to run the generators which took the longest first")
+    private String report;
+
     /**
      * When an object implementing interface <code>Runnable</code> is used
      * to create a thread, starting the thread causes the object's
@@ -111,6 +132,11 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
             numThreads = threads;
         }
 
+        long maxMemoryMb = Runtime.getRuntime().maxMemory() / 4 * 3 / MB;
+        if (null != maxMemory && maxMemory > 0) {
+            maxMemoryMb = maxMemory;
+        }
+
         Path rootDir;
         if (root != null) {
             rootDir = Paths.get(root);
@@ -133,13 +159,23 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
             }
         }
 
-        LOGGER.info(String.format(Locale.ROOT, "Batch generation using up to %d threads.\nIncludes: %s\nRoot: %s", numThreads, includesDir.getAbsolutePath(), rootDir.toAbsolutePath().toString()));
+        LOGGER.info(String.format(Locale.ROOT, "Batch generation using up to %d threads and %d MB.\nIncludes: %s\nRoot: %s", numThreads, maxMemoryMb, includesDir.getAbsolutePath(), rootDir.toAbsolutePath().toString()));
 
         // Create a module which loads our config files, but supports a special "!include" key which can point to an existing config file.
         // This allows us to create a sort of meta-config which holds configs which are otherwise required at CLI time (via generate task).
         // That is, this allows us to create a wrapper config for generatorName, inputSpec, outputDir, etc.
         SimpleModule module = getCustomDeserializationModel(includesDir);
-        List<CodegenConfigurator> configurators = configs.stream().map(config -> CodegenConfigurator.fromFile(config, module)).collect(Collectors.toList());
+
+        // Generators sharing an input spec use copies of a single parsed spec.
+        ParsedSpecCache parsedSpecCache = new ParsedSpecCache();
+        Map<String, Long> history = readHistory(report);
+        List<GenerationRunner> runners = new ArrayList<>();
+        for (String config : configs) {
+            CodegenConfigurator configurator = CodegenConfigurator.fromFile(config, module);
+            configurator.setParsedSpecCache(parsedSpecCache);
+            runners.add(new GenerationRunner(config, configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean)));
+        }
+        schedule(runners, history, maxMemoryMb);
 
         // it doesn't make sense to interleave INFO level logs, so limit these to only ERROR.
         LoggerContext lc = (LoggerContext) LoggerFactory.getILoggerFactory();
@@ -148,47 +184,242 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                 .forEach(logger -> logger.setLevel(Level.ERROR));
 
         ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        Admission admission = new Admission(runners, maxMemoryMb, numThreads);
 
-        // Execute each configurator on a separate pooled thread.
-        configurators.forEach(configurator -> {
-            GenerationRunner runner = new GenerationRunner(configurator, rootDir, Boolean.TRUE.equals(failFast), Boolean.TRUE.equals(clean));
-            executor.execute(runner);
-        });
-
-        executor.shutdown();
+        if (timeout == null) timeout = 10;
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MINUTES.toNanos(Math.max(timeout, 1));
+        runners.forEach(GenerationRunner::queued);
 
         try {
-            // Allow the batch job to terminate, never running for more than 30 minutes (defaulted to max 10 minutes)
-            if (timeout == null) timeout = 10;
-            int awaitFor = Math.min(Math.max(timeout, 1), 30);
-
-            executor.awaitTermination(awaitFor, TimeUnit.MINUTES);
+            // Execute each generator on a pooled thread, once a thread and enough memory are available to it.
+            GenerationRunner next;
+            while ((next = admission.next(deadline)) != null) {
+                GenerationRunner runner = next;
+                executor.execute(() -> {
+                    try {
+                        runner.run();
+                    } finally {
+                        admission.release(runner);
+                    }
+                });
+            }
+            executor.shutdown();
 
-            int failCount = failures.intValue();
-            if (failCount > 0) {
-                System.err.println(String.format(Locale.ROOT, "[FAIL] Completed with %d failures, %d successes", failCount, successes.intValue()));
-                System.exit(1);
-            } else {
-                System.out.println(String.format(Locale.ROOT, "[SUCCESS] Batch generation finished %d generators successfully.", successes.intValue()));
+            if (!executor.awaitTermination(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                executor.shutdownNow();
+                System.err.println(String.format(Locale.ROOT, "[FAIL] Batch generation timed out after %d minutes.", Math.max(timeout, 1)));
             }
         } catch (InterruptedException e) {
             e.printStackTrace();
+            executor.shutdownNow();
             // re-interrupt
             Thread.currentThread().interrupt();
         }
+
+        runners.stream().filter(runner -> runner.getStatus() == null).forEach(runner -> failures.incrementAndGet());
+
+        if (report != null) {
+            writeReport(report, runners, numThreads, maxMemoryMb, System.nanoTime() - start);
+        }
+
+        if (parsedSpecCache.getRequestCount() > parsedSpecCache.getParseCount()) {
+            System.out.println(String.format(Locale.ROOT, "Parsed %d distinct input specs for %d generators, saving %d ms of parsing.",
+                    parsedSpecCache.getParseCount(), parsedSpecCache.getRequestCount(), TimeUnit.NANOSECONDS.toMillis(parsedSpecCache.getSavedNanos())));
+        }
+
+        int failCount = failures.intValue();
+        if (failCount > 0) {
+            System.err.println(String.format(Locale.ROOT, "[FAIL] Completed with %d failures, %d successes", failCount, successes.intValue()));
+            System.exit(1);
+        } else {
+            System.out.println(String.format(Locale.ROOT, "[SUCCESS] Batch generation finished %d generators successfully.", successes.intValue()));
+        }
     }
 
-    private static class GenerationRunner implements Runnable {
+    /**
+     * Orders generators by their expected cost, most expensive first, and estimates the memory each of them needs.
+     * <p>
+     * The cost of a generator is its duration in a previous report. Without one, it is estimated from the size of
+     * the input spec, using the average duration per byte of the generators which do have a previous duration.
+     * Generators with a remote input spec and no previous duration have an unknown cost, and are run first.
+     *
+     * @param runners     The generators to order
+     * @param history     The previous durations in milliseconds by configuration file
+     * @param maxMemoryMb The memory available to all generators, the most a single generator is admitted with
+     */
+    static void schedule(List<GenerationRunner> runners, Map<String, Long> history, long maxMemoryMb) {
+        long knownMillis = 0;
+        long knownBytes = 0;
+        for (GenerationRunner runner : runners) {
+            Long millis = history.get(runner.getConfig());
+            if (millis != null && runner.getSpecBytes() > 0) {
+                knownMillis += millis;
+                knownBytes += runner.getSpecBytes();
+            }
+        }
+        double millisPerByte = knownBytes > 0 && knownMillis > 0 ? (double) knownMillis / knownBytes : 1;
+
+        for (GenerationRunner runner : runners) {
+            Long millis = history.get(runner.getConfig());
+            if (millis != null) {
+                runner.expectedCost = millis;
+            } else if (runner.getSpecBytes() > 0) {
+                runner.expectedCost = (long) Math.ceil(runner.getSpecBytes() * millisPerByte);
+            } else {
+                runner.expectedCost = Long.MAX_VALUE;
+            }
+            long memoryMb = BASE_MEMORY_MB + runner.getSpecBytes() * MEMORY_PER_SPEC_BYTE / MB;
+            runner.memoryMb = (int) Math.max(1, Math.min(memoryMb, Math.min(maxMemoryMb, Integer.MAX_VALUE)));
+        }
+        // stable, so generators of equal cost run in the order they are configured
+        runners.sort(Comparator.comparingLong(GenerationRunner::getExpectedCost).reversed());
+    }
+
+    /**
+     * Admits generators to run once a thread and the memory estimated for them are available.
+     * <p>
+     * Generators are admitted in the order they have been scheduled in, except that a generator which doesn't fit into
+     * the available memory lets the following generators which do fit go first, rather than holding them up until
+     * enough memory has been released. Every generator fits once all running generators have finished, as none needs
+     * more than the available memory.
+     */
+    static final class Admission {
+        private final List<GenerationRunner> pending;
+        private long memoryMb;
+        private int threads;
+
+        Admission(List<GenerationRunner> runners, long memoryMb, int threads) {
+            this.pending = new LinkedList<>(runners);
+            this.memoryMb = memoryMb;
+            this.threads = threads;
+        }
+
+        /**
+         * Waits for the next generator which can be run.
+         *
+         * @param deadline The {@link System#nanoTime()} to wait until at the most
+         * @return The generator, which must be released once it has finished, or null if all generators have been
+         * admitted or the deadline has passed
+         * @throws InterruptedException If interrupted while waiting
+         */
+        synchronized GenerationRunner next(long deadline) throws InterruptedException {
+            while (!pending.isEmpty()) {
+                if (threads > 0) {
+                    for (Iterator<GenerationRunner> it = pending.iterator(); it.hasNext(); ) {
+                        GenerationRunner runner = it.next();
+                        if (runner.getMemoryMb() <= memoryMb) {
+                            it.remove();
+                            memoryMb -= runner.getMemoryMb();
+                            threads--;
+                            return runner;
+                        }
+                    }
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return null;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return null;
+        }
+
+        /**
+         * Releases the thread and memory of a generator which has finished.
+         *
+         * @param runner The generator
+         */
+        synchronized void release(GenerationRunner runner) {
+            memoryMb += runner.getMemoryMb();
+            threads++;
+            notifyAll();
+        }
+    }
+
+    static Map<String, Long> readHistory(String report) {
+        Map<String, Long> history = new HashMap<>();
+        if (report == null || !new File(report).isFile()) {
+            return history;
+        }
+        try {
+            JsonNode jobs = new ObjectMapper().readTree(new File(report)).path("jobs");
+            for (JsonNode job : jobs) {
+                if (SUCCESS.equals(job.path("status").asText()) && job.has("config")) {
+                    history.put(job.get("config").asText(), job.path("totalMillis").asLong());
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read previous batch report {}, generators are ordered by input spec size: {}", report, e.getMessage());
+        }
+        return history;
+    }
+
+    private static void writeReport(String report, List<GenerationRunner> runners, int numThreads, long maxMemoryMb, long nanos) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("threads", numThreads);
+        root.put("maxMemoryMb", maxMemoryMb);
+        root.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(nanos));
+        root.put("jobs", runners.stream().map(GenerationRunner::toReport).collect(Collectors.toList()));
+        try {
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(new File(report), root);
+        } catch (IOException e) {
+            System.err.printf(Locale.ROOT, "Unable to write batch report %s: %s%n", report, e.getMessage());
+        }
+    }
+
+    static class GenerationRunner implements Runnable {
+        private final String config;
         private final CodegenConfigurator configurator;
         private final Path rootDir;
         private final boolean exitOnError;
         private final boolean clean;
-
-        private GenerationRunner(CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean) {
+        private final long specBytes;
+
+        private long expectedCost;
+        private int memoryMb;
+        private volatile long queuedAt;
+        private volatile long startedAt;
+        private volatile String name;
+        private volatile String status;
+        private volatile long parseNanos;
+        private volatile long processNanos;
+        private volatile long renderNanos;
+        private volatile long totalNanos;
+        private volatile int files;
+
+        GenerationRunner(String config, CodegenConfigurator configurator, Path rootDir, boolean failFast, boolean clean) {
+            this.config = config;
             this.configurator = configurator;
             this.rootDir = rootDir;
             this.exitOnError = failFast;
             this.clean = clean;
+            String inputSpec = configurator.getInputSpec();
+            this.specBytes = inputSpec != null && new File(inputSpec).isFile() ? new File(inputSpec).length() : 0;
+        }
+
+        String getConfig() {
+            return config;
+        }
+
+        long getSpecBytes() {
+            return specBytes;
+        }
+
+        long getExpectedCost() {
+            return expectedCost;
+        }
+
+        int getMemoryMb() {
+            return memoryMb;
+        }
+
+        String getStatus() {
+            return status;
+        }
+
+        void queued() {
+            queuedAt = System.nanoTime();
         }
 
         /**
@@ -204,14 +435,15 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
          */
         @Override
         public void run() {
-            String name = null;
+            startedAt = System.nanoTime();
             try {
                 GlobalSettings.reset();
 
                 ClientOptInput opts = configurator.toClientOptInput();
                 CodegenConfig config = opts.getConfig();
                 name = config.getName();
-                
+                parseNanos = System.nanoTime() - startedAt;
+
                 Path target = Paths.get(config.getOutputDir());
                 Path updated = rootDir.resolve(target);
                 config.setOutputDir(updated.toString());
@@ -222,14 +454,27 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
 
                 System.out.printf(Locale.ROOT, "[%s] Generating %s (outputs to %s)…%n", Thread.currentThread().getName(), name, updated.toString());
 
-                DefaultGenerator defaultGenerator = new DefaultGenerator();
+                LongAdder render = new LongAdder();
+                DefaultGenerator defaultGenerator = new DefaultGenerator() {
+                    @Override
+                    protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions options, TemplatingEngineAdapter engineAdapter, TemplatePathLocator[] templateLoaders) {
+                        return new TimedTemplateProcessor(super.createTemplateProcessor(options, engineAdapter, templateLoaders), render);
+                    }
+                };
                 defaultGenerator.opts(opts);
 
-                defaultGenerator.generate();
+                long generateStart = System.nanoTime();
+                files = defaultGenerator.generate().size();
+                renderNanos = render.sum();
+                processNanos = Math.max(0, System.nanoTime() - generateStart - renderNanos);
 
-                System.out.printf(Locale.ROOT, "[%s] Finished generating %s…%n", Thread.currentThread().getName(), name);
+                status = SUCCESS;
+                System.out.printf(Locale.ROOT, "[%s] Finished generating %s in %d ms (parse %d ms, process %d ms, render %d ms)…%n", Thread.currentThread().getName(), name,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), TimeUnit.NANOSECONDS.toMillis(parseNanos),
+                        TimeUnit.NANOSECONDS.toMillis(processNanos), TimeUnit.NANOSECONDS.toMillis(renderNanos));
                 successes.incrementAndGet();
             } catch (Throwable e) {
+                status = FAILURE;
                 failures.incrementAndGet();
                 String failedOn = name;
                 if (StringUtils.isEmpty(failedOn)) {
@@ -241,10 +486,29 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
                     System.exit(1);
                 }
             } finally {
+                totalNanos = System.nanoTime() - startedAt;
                 GlobalSettings.reset();
             }
         }
 
+        Map<String, Object> toReport() {
+            Map<String, Object> job = new LinkedHashMap<>();
+            job.put("config", config);
+            job.put("generator", name);
+            job.put("status", status != null ? status : TIMEOUT);
+            job.put("inputSpecBytes", specBytes);
+            job.put("memoryMb", memoryMb);
+            if (startedAt != 0) {
+                job.put("queuedMillis", TimeUnit.NANOSECONDS.toMillis(startedAt - queuedAt));
+                job.put("parseMillis", TimeUnit.NANOSECONDS.toMillis(parseNanos));
+                job.put("processMillis", TimeUnit.NANOSECONDS.toMillis(processNanos));
+                job.put("renderMillis", TimeUnit.NANOSECONDS.toMillis(renderNanos));
+                job.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(totalNanos));
+                job.put("files", files);
+            }
+            return job;
+        }
+
         private void cleanPreviousFiles(final String name, Path outDir) throws IOException {
             System.out.printf(Locale.ROOT, "[%s] Cleaning previous contents for %s in %s…%n", Thread.currentThread().getName(), name, outDir.toString());
             Path filesMeta = Paths.get(outDir.toAbsolutePath().toString(), ".openapi-generator", "FILES");
@@ -268,6 +532,61 @@ public class GenerateBatch extends OpenApiGeneratorCommand {
         }
     }
 
+    /**
+     * Records the time spent rendering templates and writing files.
+     */
+    private static class TimedTemplateProcessor implements TemplateProcessor, AutoCloseable {
+        private final TemplateProcessor delegate;
+        private final LongAdder nanos;
+
+        TimedTemplateProcessor(TemplateProcessor delegate, LongAdder nanos) {
+            this.delegate = delegate;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public File write(Map<String, Object> data, String template, File target) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return delegate.write(data, template, target);
+            } finally {
+                nanos.add(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public File writeToFile(String filename, byte[] contents) throws IOException {
+            long start = System.nanoTime();
+            try {
+                return delegate.writeToFile(filename, contents);
+            } finally {
+                nanos.add(System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        public void ignore(Path path, String context) {
+            delegate.ignore(path, context);
+        }
+
+        @Override
+        public void skip(Path path, String context) {
+            delegate.skip(path, context);
+        }
+
+        @Override
+        public void error(Path path, String context) {
+            delegate.error(path, context);
+        }
+
+        @Override
+        public void close() throws Exception {
+            if (delegate instanceof AutoCloseable) {
+                ((AutoCloseable) delegate).close();
+            }
+        }
+    }
+
     static SimpleModule getCustomDeserializationModel(final File includesDir) {
         // Create a module which loads our config files, but supports a special "!include" key which can point to an existing config file.
         // This allows us to create a sort of meta-config which holds configs which are otherwise required at CLI time (via generate task).
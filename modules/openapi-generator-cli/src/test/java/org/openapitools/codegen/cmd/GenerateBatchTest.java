@@ -12,11 +12,12 @@ import org.testng.annotations.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.testng.Assert.*;
 
@@ -101,6 +102,76 @@ public class GenerateBatchTest {
         fail("Expected an exception when trying to load a YAML include from a JSON file");
     }
 
+    @Test
+    public void testScheduleOrdersByExpectedCost() {
+        Path spec = workingDirectory.resolve(SPEC_FILE.substring("batch/".length()));
+        List<GenerateBatch.GenerationRunner> runners = new ArrayList<>();
+        for (String config : Arrays.asList("small.json", "unknown.json", "remote.json", "slow.json")) {
+            CodegenConfigurator configurator = new CodegenConfigurator().setInputSpec(config.equals("remote.json") ? "https://localhost/openapi.yaml" : spec.toString());
+            runners.add(new GenerateBatch.GenerationRunner(config, configurator, workingDirectory, false, false));
+        }
+        long specBytes = spec.toFile().length();
+        Map<String, Long> history = new HashMap<>();
+        history.put("small.json", 10L);
+        history.put("slow.json", 100_000L);
+
+        GenerateBatch.schedule(runners, history, 1);
+
+        assertEquals(runners.stream().map(GenerateBatch.GenerationRunner::getConfig).collect(Collectors.toList()),
+                Arrays.asList("remote.json", "slow.json", "unknown.json", "small.json"));
+        // estimated from the average duration per byte of the generators with a previous duration
+        assertEquals(runners.get(2).getExpectedCost(), (long) Math.ceil(specBytes * (100_010.0 / (2 * specBytes))));
+        // no generator is admitted with more memory than is available
+        assertTrue(runners.stream().allMatch(runner -> runner.getMemoryMb() == 1));
+    }
+
+    @Test
+    public void testAdmissionLetsSmallerGeneratorsGoFirst() throws IOException, InterruptedException {
+        Path spec = workingDirectory.resolve(SPEC_FILE.substring("batch/".length()));
+        Path largeSpec = Files.createTempFile("batch-large-spec", ".yaml");
+        largeSpec.toFile().deleteOnExit();
+        Files.write(largeSpec, new byte[1024 * 1024]);
+        List<GenerateBatch.GenerationRunner> runners = new ArrayList<>();
+        for (String config : Arrays.asList("small.json", "large.json", "other.json")) {
+            CodegenConfigurator configurator = new CodegenConfigurator().setInputSpec(config.equals("large.json") ? largeSpec.toString() : spec.toString());
+            runners.add(new GenerateBatch.GenerationRunner(config, configurator, workingDirectory, false, false));
+        }
+        Map<String, Long> history = new HashMap<>();
+        history.put("small.json", 3L);
+        history.put("large.json", 2L);
+        history.put("other.json", 1L);
+        GenerateBatch.schedule(runners, history, 1024);
+        long memoryMb = runners.get(0).getMemoryMb() + runners.get(1).getMemoryMb() - 1;
+
+        GenerateBatch.Admission admission = new GenerateBatch.Admission(runners, memoryMb, 2);
+
+        GenerateBatch.GenerationRunner small = admission.next(System.nanoTime());
+        assertEquals(small.getConfig(), "small.json");
+        // the large generator doesn't fit next to the small one, the other generator does
+        assertEquals(admission.next(System.nanoTime()).getConfig(), "other.json");
+        // no thread is left
+        assertNull(admission.next(System.nanoTime()));
+
+        admission.release(small);
+        assertNull(admission.next(System.nanoTime()));
+        admission.release(runners.get(2));
+        assertEquals(admission.next(System.nanoTime()).getConfig(), "large.json");
+        assertNull(admission.next(System.nanoTime()));
+    }
+
+    @Test
+    public void testReadHistory() throws IOException {
+        File report = File.createTempFile("batch-report", ".json");
+        report.deleteOnExit();
+        Files.write(report.toPath(), ("{\"jobs\":[{\"config\":\"a.json\",\"status\":\"success\",\"totalMillis\":42},"
+                + "{\"config\":\"b.json\",\"status\":\"failure\",\"totalMillis\":1}]}").getBytes(StandardCharsets.UTF_8));
+
+        Map<String, Long> history = GenerateBatch.readHistory(report.toString());
+
+        assertEquals(history, Collections.singletonMap("a.json", 42L));
+        assertTrue(GenerateBatch.readHistory(report + ".missing").isEmpty());
+    }
+
     private File getIncludesDir() {
         // The includes directory would be "batch" under resources here, as everything is relative to this directory.
         return workingDirectory.toFile();
@@ -11,4 +11,14 @@ public interface TemplatePathLocator {
      * @return String Full template file path
      */
     String getFullTemplatePath(String relativeTemplateFile);
+
+    /**
+     * Gets a key describing the locations searched by this locator. Two locators returning equal keys must resolve
+     * every relative template file to the same full path.
+     *
+     * @return The resolution key, or null if resolution can't be described by a key
+     */
+    default String getResolutionKey() {
+        return null;
+    }
 }
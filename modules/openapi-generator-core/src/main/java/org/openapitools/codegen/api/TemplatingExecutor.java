@@ -23,4 +23,14 @@ public interface TemplatingExecutor {
      * @return The {@link Path} to the template
      */
     Path getFullTemplatePath(String name);
+
+    /**
+     * Gets a key describing how template names are resolved. Executors returning equal keys must resolve every
+     * template name to the same template, which allows compiled templates to be shared between them.
+     *
+     * @return The resolution key, or null if compiled templates must not be shared with other executors
+     */
+    default String getTemplateResolutionKey() {
+        return null;
+    }
 }
\ No newline at end of file
@@ -44,6 +44,7 @@ public class WorkflowSettings {
     public static final boolean DEFAULT_VALIDATE_SPEC = true;
     public static final boolean DEFAULT_ENABLE_POST_PROCESS_FILE = false;
     public static final boolean DEFAULT_ENABLE_MINIMAL_UPDATE = false;
+    public static final int DEFAULT_PARALLELISM = 1;
     public static final boolean DEFAULT_STRICT_SPEC_BEHAVIOR = true;
     public static final boolean DEFAULT_GENERATE_ALIAS_AS_MODEL = false;
     public static final String DEFAULT_TEMPLATING_ENGINE_NAME = null; // this is set by the generator
@@ -59,6 +60,7 @@ public class WorkflowSettings {
     private boolean validateSpec = DEFAULT_VALIDATE_SPEC;
     private boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
     private boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+    private int parallelism = DEFAULT_PARALLELISM;
     private boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
     private boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
     private String templateDir;
@@ -77,6 +79,7 @@ public class WorkflowSettings {
         this.validateSpec = builder.validateSpec;
         this.enablePostProcessFile = builder.enablePostProcessFile;
         this.enableMinimalUpdate = builder.enableMinimalUpdate;
+        this.parallelism = builder.parallelism;
         this.strictSpecBehavior = builder.strictSpecBehavior;
         this.templateDir = builder.templateDir;
         this.templatingEngineName = builder.templatingEngineName;
@@ -109,6 +112,7 @@ public class WorkflowSettings {
         builder.validateSpec = copy.isValidateSpec();
         builder.enablePostProcessFile = copy.isEnablePostProcessFile();
         builder.enableMinimalUpdate = copy.isEnableMinimalUpdate();
+        builder.parallelism = copy.getParallelism();
         builder.generateAliasAsModel = copy.isGenerateAliasAsModel();
         builder.strictSpecBehavior = copy.isStrictSpecBehavior();
         builder.templatingEngineName = copy.getTemplatingEngineName();
@@ -227,6 +231,16 @@ public class WorkflowSettings {
         return enableMinimalUpdate;
     }
 
+    /**
+     * Gets the number of threads used to render model and API files. A value of 1 (the default) renders all files on the
+     * calling thread. The order of generated files is the same regardless of this setting.
+     *
+     * @return the number of rendering threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
     /**
      * Indicates whether or not the generation should convert aliases (primitives defined as schema for use within documents) as models.
      *
@@ -307,6 +321,7 @@ public class WorkflowSettings {
         private Boolean validateSpec = DEFAULT_VALIDATE_SPEC;
         private Boolean enablePostProcessFile = DEFAULT_ENABLE_POST_PROCESS_FILE;
         private Boolean enableMinimalUpdate = DEFAULT_ENABLE_MINIMAL_UPDATE;
+        private Integer parallelism = DEFAULT_PARALLELISM;
         private Boolean strictSpecBehavior = DEFAULT_STRICT_SPEC_BEHAVIOR;
         private Boolean generateAliasAsModel = DEFAULT_GENERATE_ALIAS_AS_MODEL;
         private String templateDir;
@@ -436,6 +451,17 @@ public class WorkflowSettings {
             return this;
         }
 
+        /**
+         * Sets the {@code parallelism} and returns a reference to this Builder so that the methods can be chained together.
+         *
+         * @param parallelism the {@code parallelism} to set. Values lower than 1 fall back to the default.
+         * @return a reference to this Builder
+         */
+        public Builder withParallelism(Integer parallelism) {
+            this.parallelism = parallelism != null && parallelism > 0 ? parallelism : Integer.valueOf(DEFAULT_PARALLELISM);
+            return this;
+        }
+
         /**
          * Sets the {@code strictSpecBehavior} and returns a reference to this Builder so that the methods can be chained together.
          *
@@ -580,6 +606,7 @@ public class WorkflowSettings {
                 ", validateSpec=" + validateSpec +
                 ", enablePostProcessFile=" + enablePostProcessFile +
                 ", enableMinimalUpdate=" + enableMinimalUpdate +
+                ", parallelism=" + parallelism +
                 ", strictSpecBehavior=" + strictSpecBehavior +
                 ", templateDir='" + templateDir + '\'' +
                 ", templatingEngineName='" + templatingEngineName + '\'' +
@@ -602,6 +629,7 @@ public class WorkflowSettings {
                 isValidateSpec() == that.isValidateSpec() &&
                 isEnablePostProcessFile() == that.isEnablePostProcessFile() &&
                 isEnableMinimalUpdate() == that.isEnableMinimalUpdate() &&
+                getParallelism() == that.getParallelism() &&
                 isStrictSpecBehavior() == that.isStrictSpecBehavior() &&
                 isGenerateAliasAsModel() == that.isGenerateAliasAsModel() &&
                 Objects.equals(getInputSpec(), that.getInputSpec()) &&
@@ -626,6 +654,7 @@ public class WorkflowSettings {
                 isGenerateAliasAsModel(),
                 isEnablePostProcessFile(),
                 isEnableMinimalUpdate(),
+                getParallelism(),
                 isStrictSpecBehavior(),
                 getTemplateDir(),
                 getTemplatingEngineName(),
@@ -35,6 +35,7 @@ public class WorkflowSettingsTest {
                 .withValidateSpec(null)
                 .withEnablePostProcessFile(null)
                 .withEnableMinimalUpdate(null)
+                .withParallelism(null)
                 .withStrictSpecBehavior(null)
                 .build();
 
@@ -46,6 +47,7 @@ public class WorkflowSettingsTest {
         assertTrue(settings.isValidateSpec());
         assertFalse(settings.isEnablePostProcessFile());
         assertFalse(settings.isEnableMinimalUpdate());
+        assertEquals(settings.getParallelism(), 1);
         assertTrue(settings.isStrictSpecBehavior());
     }
 
@@ -78,6 +80,7 @@ public class WorkflowSettingsTest {
                 .withValidateSpec(false)
                 .withEnablePostProcessFile(true)
                 .withEnableMinimalUpdate(true)
+                .withParallelism(4)
                 .withStrictSpecBehavior(false)
                 .build();
 
@@ -105,6 +108,9 @@ public class WorkflowSettingsTest {
         assertNotEquals(defaultSettings.isEnableMinimalUpdate(), newSettings.isEnableMinimalUpdate());
         assertTrue(newSettings.isEnableMinimalUpdate());
 
+        assertNotEquals(defaultSettings.getParallelism(), newSettings.getParallelism());
+        assertEquals(newSettings.getParallelism(), 4);
+
         assertNotEquals(defaultSettings.isStrictSpecBehavior(), newSettings.isStrictSpecBehavior());
         assertFalse(newSettings.isStrictSpecBehavior());
     }
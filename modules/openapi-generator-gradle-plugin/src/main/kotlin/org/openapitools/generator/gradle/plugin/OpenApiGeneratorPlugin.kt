@@ -148,6 +148,7 @@ class OpenApiGeneratorPlugin : Plugin<Project> {
                     configOptions.set(generate.configOptions)
                     logToStderr.set(generate.logToStderr)
                     enablePostProcessFile.set(generate.enablePostProcessFile)
+                    parallelism.set(generate.parallelism)
                     skipValidateSpec.set(generate.skipValidateSpec)
                     generateAliasAsModel.set(generate.generateAliasAsModel)
                     engine.set(generate.engine)
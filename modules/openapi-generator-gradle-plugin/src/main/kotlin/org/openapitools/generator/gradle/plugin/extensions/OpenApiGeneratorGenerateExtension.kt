@@ -360,6 +360,13 @@ open class OpenApiGeneratorGenerateExtension(project: Project) {
      */
     val enablePostProcessFile = project.objects.property<Boolean>()
 
+    /**
+     * The number of threads used to render model and API files. Defaults to 1, which renders all files sequentially.
+     * The order of generated files does not depend on this setting. Values above 1 require a generator whose
+     * templates, lambdas and hooks are thread-safe.
+     */
+    val parallelism = project.objects.property<Int>()
+
     /**
      * To skip spec validation. When true, we will skip the default behavior of validating a spec before generation.
      */
@@ -539,6 +539,15 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
     @Input
     val enablePostProcessFile = project.objects.property<Boolean>()
 
+    /**
+     * The number of threads used to render model and API files. Defaults to 1, which renders all files sequentially.
+     * The order of generated files does not depend on this setting. Values above 1 require a generator whose
+     * templates, lambdas and hooks are thread-safe.
+     */
+    @Optional
+    @Input
+    val parallelism = project.objects.property<Int>()
+
     /**
      * To skip spec validation. When true, we will skip the default behavior of validating a spec before generation.
      */
@@ -814,6 +823,10 @@ open class GenerateTask @Inject constructor(private val objectFactory: ObjectFac
                 configurator.setEnablePostProcessFile(value)
             }
 
+            parallelism.ifNotEmpty { value ->
+                configurator.setParallelism(value)
+            }
+
             skipValidateSpec.ifNotEmpty { value ->
                 configurator.setValidateSpec(!value)
             }
@@ -17,6 +17,8 @@
 
 package org.openapitools.codegen.plugin;
 
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import io.swagger.parser.OpenAPIParser;
@@ -29,6 +31,7 @@ import lombok.Setter;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecution;
@@ -40,6 +43,7 @@ import org.openapitools.codegen.*;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
 import org.openapitools.codegen.config.MergedSpecBuilder;
+import org.openapitools.codegen.utils.ImplementationVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sonatype.plexus.build.incremental.BuildContext;
@@ -47,11 +51,16 @@ import org.sonatype.plexus.build.incremental.DefaultBuildContext;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 import static org.openapitools.codegen.config.CodegenConfiguratorUtils.*;
@@ -65,6 +74,9 @@ public class CodeGenMojo extends AbstractMojo {
 
     private final Logger LOGGER = LoggerFactory.getLogger(CodeGenMojo.class);
 
+    // file part of $ref values which point to another document, in YAML or JSON
+    private static final Pattern EXTERNAL_REF = Pattern.compile("[\"']?\\$ref[\"']?\\s*:\\s*[\"']?([^\"'#\\s,}]+)");
+
     /**
      * The build context is only avail when running from within eclipse.
      * It is used to update the eclipse-m2e-layer when the plugin is executed inside the IDE.
@@ -278,6 +290,13 @@ public class CodeGenMojo extends AbstractMojo {
     @Parameter(name = "enablePostProcessFile", property = "openapi.generator.maven.plugin.enablePostProcessFile")
     private Boolean enablePostProcessFile;
 
+    /**
+     * Number of threads used to render model and API files. Values above 1 require a generator whose templates,
+     * lambdas and hooks are thread-safe.
+     */
+    @Parameter(name = "parallelism", property = "openapi.generator.maven.plugin.parallelism")
+    private Integer parallelism;
+
     /**
      * To skip spec validation
      */
@@ -580,11 +599,13 @@ public class CodeGenMojo extends AbstractMojo {
                 }
             }
 
+            String inputSpecHash = null;
             if (Boolean.TRUE.equals(skipIfSpecIsUnchanged)) {
                 final File storedInputSpecHashFile = getHashFile(inputSpecFile);
                 if (storedInputSpecHashFile.exists()) {
                     String storedInputSpecHash = Files.asCharSource(storedInputSpecHashFile, StandardCharsets.UTF_8).read();
-                    if (storedInputSpecHash.equals(calculateInputSpecHash(inputSpec))) {
+                    inputSpecHash = calculateInputSpecHash(inputSpec);
+                    if (storedInputSpecHash.equals(inputSpecHash)) {
                         getLog().info("Code generation is skipped because input was unchanged");
                         return;
                     }
@@ -662,6 +683,10 @@ public class CodeGenMojo extends AbstractMojo {
                 configurator.setEnablePostProcessFile(enablePostProcessFile);
             }
 
+            if (parallelism != null) {
+                configurator.setParallelism(parallelism);
+            }
+
             if (generateAliasAsModel  != null) {
                 configurator.setGenerateAliasAsModel(generateAliasAsModel);
             }
@@ -976,7 +1001,8 @@ public class CodeGenMojo extends AbstractMojo {
                 }
             }
 
-            Files.asCharSink(storedInputSpecHashFile, StandardCharsets.UTF_8).write(calculateInputSpecHash(inputSpec));
+            Files.asCharSink(storedInputSpecHashFile, StandardCharsets.UTF_8).write(
+                    inputSpecHash != null ? inputSpecHash : calculateInputSpecHash(inputSpec));
         } catch (Exception e) {
             // Maven logs exceptions thrown by plugins only if invoked with -e
             // I find it annoying to jump through hoops to get basic diagnostic information,
@@ -991,21 +1017,113 @@ public class CodeGenMojo extends AbstractMojo {
     }
 
     /**
-     * Calculate an SHA256 hash for the openapi specification. 
-     * If the specification is hosted on a remote resource it is downloaded first.
+     * Calculate an SHA256 hash over every input of the generation: the openapi specification and the local files it
+     * references, the custom templates, the resolved parameter values of the mojo and the plugin version.
+     * If the specification is hosted on a remote resource or references remote files, it is parsed and hashed as a
+     * whole, which requires downloading it.
      *
      * @param inputSpec - Openapi specification input file. Can denote a URL or file path.
-     * @return openapi specification hash
+     * @return hash of the generation inputs
      */
-    private String calculateInputSpecHash(String inputSpec) {
-        final ParseOptions parseOptions = new ParseOptions();
-        parseOptions.setResolve(true);
-        
+    private String calculateInputSpecHash(String inputSpec) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        final File inputSpecFile = new File(inputSpec);
         final URL remoteUrl = inputSpecRemoteUrl();
-        return Hashing.sha256().hashBytes(
-            new OpenAPIParser().readLocation(remoteUrl == null ? inputSpec : remoteUrl.toString(), null, parseOptions)
-                .getOpenAPI().toString().getBytes(StandardCharsets.UTF_8)
-        ).toString();
+        if (remoteUrl != null || !inputSpecFile.isFile() || !hashSpecFiles(inputSpecFile.toPath(), hasher)) {
+            final ParseOptions parseOptions = new ParseOptions();
+            parseOptions.setResolve(true);
+            hasher.putString(new OpenAPIParser().readLocation(remoteUrl == null ? inputSpec : remoteUrl.toString(), null, parseOptions)
+                    .getOpenAPI().toString(), StandardCharsets.UTF_8);
+        }
+
+        if (templateDirectory != null && templateDirectory.isDirectory()) {
+            final List<Path> templates;
+            try (Stream<Path> walk = java.nio.file.Files.walk(templateDirectory.toPath())) {
+                templates = walk.filter(java.nio.file.Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            hashFiles(templateDirectory.toPath(), templates, hasher);
+        }
+        if (configurationFile != null && new File(configurationFile).isFile()) {
+            hasher.putBytes(Files.asByteSource(new File(configurationFile)).hash(Hashing.sha256()).asBytes());
+        }
+
+        // the parameter values as injected into the mojo, after the expressions of the pom have been evaluated
+        for (org.apache.maven.plugin.descriptor.Parameter parameter : mojo.getMojoDescriptor().getParameters()) {
+            if (!parameter.isEditable()) {
+                continue;
+            }
+            Object value;
+            try {
+                value = FieldUtils.readField(this, parameter.getName(), true);
+            } catch (IllegalAccessException | IllegalArgumentException e) {
+                value = null;
+            }
+            if (value instanceof Map) {
+                value = new TreeMap<>((Map<?, ?>) value);
+            }
+            hasher.putString(parameter.getName(), StandardCharsets.UTF_8).putByte((byte) 0)
+                    .putString(String.valueOf(value), StandardCharsets.UTF_8).putByte((byte) 0);
+        }
+        final Map<String, String> properties = new TreeMap<>();
+        for (Properties source : Arrays.asList(project.getProperties(), System.getProperties())) {
+            for (String name : source.stringPropertyNames()) {
+                if (name.startsWith("openapi.generator.maven.plugin.") || name.startsWith("codegen.")) {
+                    properties.put(name, source.getProperty(name));
+                }
+            }
+        }
+        hasher.putString(properties.toString(), StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(mojo.getMojoDescriptor().getPluginDescriptor().getVersion()), StandardCharsets.UTF_8);
+        hasher.putString(String.valueOf(ImplementationVersion.read()), StandardCharsets.UTF_8);
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Hashes a local specification file and the local files it references through {@code $ref}, without parsing them.
+     *
+     * @return false if a remote file is referenced, so that the specification has to be resolved to be hashed
+     */
+    private static boolean hashSpecFiles(Path inputSpecFile, Hasher hasher) throws IOException {
+        final Set<Path> files = new TreeSet<>();
+        final Deque<Path> pending = new ArrayDeque<>();
+        pending.add(inputSpecFile.toAbsolutePath().normalize());
+        while (!pending.isEmpty()) {
+            final Path file = pending.pop();
+            if (!files.add(file) || !java.nio.file.Files.isRegularFile(file)) {
+                continue;
+            }
+            final Matcher matcher = EXTERNAL_REF.matcher(java.nio.file.Files.readString(file, StandardCharsets.UTF_8));
+            while (matcher.find()) {
+                final String ref = matcher.group(1);
+                if (ref.contains("://")) {
+                    return false;
+                }
+                pending.add(file.resolveSibling(URLDecoder.decode(ref, StandardCharsets.UTF_8)).normalize());
+            }
+        }
+        hashFiles(inputSpecFile.toAbsolutePath().normalize().getParent(), new ArrayList<>(files), hasher);
+        return true;
+    }
+
+    /**
+     * Hashes files in parallel, combining their names relative to the given root and their hashes in list order.
+     */
+    private static void hashFiles(Path root, List<Path> files, Hasher hasher) {
+        final List<HashCode> hashes = files.parallelStream()
+                .map(file -> {
+                    try {
+                        return java.nio.file.Files.isRegularFile(file)
+                                ? Files.asByteSource(file.toFile()).hash(Hashing.sha256())
+                                : HashCode.fromInt(0);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .collect(Collectors.toList());
+        for (int i = 0; i < files.size(); i++) {
+            hasher.putString(FilenameUtils.separatorsToUnix(root.relativize(files.get(i)).toString()), StandardCharsets.UTF_8);
+            hasher.putBytes(hashes.get(i).asBytes());
+        }
     }
 
     /**
@@ -255,6 +255,65 @@ public class CodeGenMojoTest extends BaseTestCase {
         assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
     }
 
+    public void test_skipIfSpecIsUnchanged_recognizesUpdatesInTemplateDirectory() throws Exception {
+
+        //GIVEN
+        final Path tempDir = newTempFolder();
+        final Path generatedDir = tempDir.resolve("target/generated-sources/issue-16489");
+        final Path templateDir = Files.createDirectories(tempDir.resolve("templates"));
+        Files.writeString(templateDir.resolve("licenseInfo.mustache"), "/* first */");
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/issue-16489", null);
+        setVariableValueToObject(mojo, "templateDirectory", templateDir.toFile());
+        mojo.execute(); // Perform an initial generation
+        FileUtils.deleteDirectory(generatedDir.resolve("src").toFile());    // Remove the generated source
+        mojo.execute(); // Nothing changed
+        assertFalse("Src directory should not have been regenerated", Files.exists(generatedDir.resolve("src")));
+        Files.writeString(templateDir.resolve("licenseInfo.mustache"), "/* second */");
+
+        // WHEN
+        mojo.execute(); // Execute the mojo again
+
+        // THEN
+        assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
+    }
+
+    public void test_skipIfSpecIsUnchanged_recognizesUpdatesInConfigurationProperties() throws Exception {
+
+        //GIVEN
+        final Path tempDir = newTempFolder();
+        final Path generatedDir = tempDir.resolve("target/generated-sources/issue-16489");
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/issue-16489", null);
+        mojo.execute(); // Perform an initial generation
+        FileUtils.deleteDirectory(generatedDir.resolve("src").toFile());    // Remove the generated source
+        final MavenProject project = (MavenProject) getVariableValueFromObject(mojo, "project");
+        project.getProperties().setProperty("openapi.generator.maven.plugin.modelNameSuffix", "Dto");
+
+        // WHEN
+        mojo.execute(); // Execute the mojo again
+
+        // THEN
+        assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
+    }
+
+    public void test_skipIfSpecIsUnchanged_recognizesUpdatesInParameterValues() throws Exception {
+
+        //GIVEN
+        final Path tempDir = newTempFolder();
+        final Path generatedDir = tempDir.resolve("target/generated-sources/issue-16489");
+        final CodeGenMojo mojo = loadMojo(tempDir, "src/test/resources/issue-16489", null);
+        mojo.execute(); // Perform an initial generation
+        FileUtils.deleteDirectory(generatedDir.resolve("src").toFile());    // Remove the generated source
+        mojo.execute(); // Nothing changed
+        assertFalse("Src directory should not have been regenerated", Files.exists(generatedDir.resolve("src")));
+        setVariableValueToObject(mojo, "modelNameSuffix", "Dto"); // as resolved from an expression in the pom
+
+        // WHEN
+        mojo.execute(); // Execute the mojo again
+
+        // THEN
+        assertTrue("Src directory should have been regenerated", Files.exists(generatedDir.resolve("src")));
+    }
+
     protected CodeGenMojo loadMojo(Path temporaryFolder, String projectRoot, String profile) throws Exception {
         return loadMojo(temporaryFolder, projectRoot, profile, "default");
     }
@@ -1,6 +1,6 @@
 package org.openapitools.codegen.online.configuration;
 
-import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigIndex;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
 import org.springframework.stereotype.Component;
@@ -19,13 +19,12 @@ public class ParameterAllowableValuesPlugin implements ParameterBuilderPlugin {
     private static List<String> servers = new ArrayList<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        for (CodegenConfigIndex.Entry generator : CodegenConfigLoader.getAllEntries()) {
+            if (generator.getType() == CodegenType.CLIENT
+                    || generator.getType() == CodegenType.DOCUMENTATION) {
+                clients.add(generator.getName());
+            } else if (generator.getType() == CodegenType.SERVER) {
+                servers.add(generator.getName());
             }
         }
 
@@ -22,6 +22,6 @@ import lombok.Setter;
 
 @Getter @Setter 
 public class Generated {
-    private String filename;
+    private GeneratedArchive archive;
     private String friendlyName;
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.model;
+
+import org.apache.commons.io.output.ByteArrayOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A generated archive held in memory.
+ * <p>
+ * The contents are kept in the chunks they have been written in, so that the archive is neither copied into a single
+ * array once it has been written, nor when it is downloaded.
+ */
+public final class GeneratedArchive {
+    private final ByteArrayOutputStream contents;
+
+    private GeneratedArchive(ByteArrayOutputStream contents) {
+        this.contents = contents;
+    }
+
+    /**
+     * Writes a new archive.
+     *
+     * @param writer Writes the contents of the archive to the given stream
+     * @return The archive
+     * @throws IOException If the contents can't be written
+     */
+    public static GeneratedArchive write(Writer writer) throws IOException {
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        writer.writeTo(contents);
+        contents.close();
+        return new GeneratedArchive(contents);
+    }
+
+    /**
+     * @return The size of the archive in bytes
+     */
+    public int size() {
+        return contents.size();
+    }
+
+    /**
+     * Opens a stream reading the archive. The archive may be read by several streams at the same time.
+     *
+     * @return A new stream reading the archive from the beginning
+     */
+    public InputStream openStream() {
+        return contents.toInputStream();
+    }
+
+    /**
+     * Writes the contents of an archive.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
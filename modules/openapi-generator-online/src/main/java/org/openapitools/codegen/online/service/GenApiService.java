@@ -17,18 +17,18 @@
 
 package org.openapitools.codegen.online.service;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.CliOption;
-import org.openapitools.codegen.CodegenConfig;
+import org.openapitools.codegen.CodegenConfigIndex;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.CodegenType;
 import org.openapitools.codegen.online.api.GenApiDelegate;
 import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratedArchive;
 import org.openapitools.codegen.online.model.GeneratorInput;
 import org.openapitools.codegen.online.model.ResponseCode;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -39,12 +39,6 @@ import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.*;
 
 @Service
@@ -52,16 +46,14 @@ public class GenApiService implements GenApiDelegate {
 
     private static List<String> clients = new ArrayList<>();
     private static List<String> servers = new ArrayList<>();
-    private static Map<String, Generated> fileMap = new HashMap<>();
 
     static {
-        List<CodegenConfig> extensions = CodegenConfigLoader.getAll();
-        for (CodegenConfig config : extensions) {
-            if (config.getTag().equals(CodegenType.CLIENT)
-                    || config.getTag().equals(CodegenType.DOCUMENTATION)) {
-                clients.add(config.getName());
-            } else if (config.getTag().equals(CodegenType.SERVER)) {
-                servers.add(config.getName());
+        for (CodegenConfigIndex.Entry generator : CodegenConfigLoader.getAllEntries()) {
+            if (generator.getType() == CodegenType.CLIENT
+                    || generator.getType() == CodegenType.DOCUMENTATION) {
+                clients.add(generator.getName());
+            } else if (generator.getType() == CodegenType.SERVER) {
+                servers.add(generator.getName());
             }
         }
 
@@ -72,6 +64,9 @@ public class GenApiService implements GenApiDelegate {
     @Autowired
     private NativeWebRequest request;
 
+    @Autowired
+    private GeneratedArchiveCache cache;
+
     @Override
     public Optional<NativeWebRequest> getRequest() {
         return Optional.ofNullable(request);
@@ -79,39 +74,27 @@ public class GenApiService implements GenApiDelegate {
 
     @Override
     public ResponseEntity<Resource> downloadFile(String fileId) {
-        Generated g = fileMap.get(fileId);
-        System.out.println("looking for fileId " + fileId);
-        System.out.println("got filename " + g.getFilename());
-
-        File file = new File(g.getFilename());
-        Path path = Paths.get(file.getAbsolutePath());
-        ByteArrayResource resource;
-        try {
-            resource = new ByteArrayResource(Files.readAllBytes(path));
-        } catch (FileNotFoundException e) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found", e);
-        } catch (IOException e) {
-            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "I/O error while reading file", e);
-        }
-        try {
-            FileUtils.deleteDirectory(file.getParentFile());
-        } catch (IOException e) {
-            System.out.println("failed to delete file " + file.getAbsolutePath());
+        // a fileId can be used just once
+        Generated g = cache.removeDownload(fileId);
+        if (g == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "File not found or expired");
         }
+
+        GeneratedArchive archive = g.getArchive();
         return ResponseEntity
                 .ok()
                 .contentType(MediaType.valueOf("application/zip"))
+                .contentLength(archive.size())
                 .header("Content-Disposition",
                         "attachment; filename=\"" + g.getFriendlyName() + "-generated.zip\"")
                 .header("Accept-Range", "bytes")
-                //.header("Content-Length", bytes.length)
-                .body(resource);
+                .body(new InputStreamResource(archive.openStream()));
     }
 
     @Override
     public ResponseEntity<ResponseCode> generateClient(String language, GeneratorInput generatorInput) {
-        String filename = Generator.generateClient(language, generatorInput);
-        return getResponse(filename, language + "-client");
+        GeneratedArchive archive = Generator.generateClient(language, generatorInput, cache);
+        return getResponse(archive, language + "-client");
     }
 
     @Override
@@ -151,13 +134,12 @@ public class GenApiService implements GenApiDelegate {
         if (framework == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Framework is required");
         }
-        String filename = Generator.generateServer(framework, generatorInput);
-        System.out.println("generated name: " + filename);
+        GeneratedArchive archive = Generator.generateServer(framework, generatorInput, cache);
 
-        return getResponse(filename, framework + "-server");
+        return getResponse(archive, framework + "-server");
     }
 
-    private ResponseEntity<ResponseCode> getResponse(String filename, String friendlyName) {
+    private ResponseEntity<ResponseCode> getResponse(GeneratedArchive archive, String friendlyName) {
         String host = System.getenv("GENERATOR_HOST");
 
         UriComponentsBuilder uriBuilder;
@@ -167,13 +149,8 @@ public class GenApiService implements GenApiDelegate {
             uriBuilder = ServletUriComponentsBuilder.fromCurrentContextPath();
         }
 
-        if (filename != null) {
-            String code = UUID.randomUUID().toString();
-            Generated g = new Generated();
-            g.setFilename(filename);
-            g.setFriendlyName(friendlyName);
-            fileMap.put(code, g);
-            System.out.println(code + ", " + filename);
+        if (archive != null) {
+            String code = cache.addDownload(archive, friendlyName);
             String link = uriBuilder.path("/api/gen/download/").path(code).toUriString();
             return ResponseEntity.ok().body(new ResponseCode(code, link));
         } else {
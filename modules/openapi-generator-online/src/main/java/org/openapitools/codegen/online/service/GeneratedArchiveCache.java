@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.online.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratedArchive;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Caches generated archives by a key identifying the generation inputs, and the pending downloads of archives.
+ * <p>
+ * The archives are bounded by their total size and expire after a fixed time. Concurrent requests for the same key
+ * are coalesced, so that only one of them generates the archive. A pending download holds on to its archive, so that
+ * it can be downloaded even if the archive has been evicted from the cache in the meantime. Cache statistics are
+ * published as the {@code generator.archives} and {@code generator.downloads} cache metrics.
+ */
+@Component
+public class GeneratedArchiveCache {
+    // pending downloads share their archives with the archive cache, and are usually downloaded right away
+    private static final long MAXIMUM_DOWNLOADS = 10_000;
+
+    private final AsyncCache<String, GeneratedArchive> archives;
+    private final Cache<String, Download> downloads;
+
+    public GeneratedArchiveCache(@Value("${generator.cache.maximum-size:256MB}") DataSize maximumSize,
+                                 @Value("${generator.cache.expire-after-write:30m}") Duration expireAfterWrite,
+                                 @Value("${generator.cache.download-expire-after-write:10m}") Duration downloadExpireAfterWrite,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        this.archives = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String key, GeneratedArchive archive) -> archive.size())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.downloads = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_DOWNLOADS)
+                .expireAfterWrite(downloadExpireAfterWrite)
+                .recordStats()
+                .build();
+        meterRegistry.ifAvailable(registry -> {
+            CaffeineCacheMetrics.monitor(registry, archives.synchronous(), "generator.archives");
+            CaffeineCacheMetrics.monitor(registry, downloads, "generator.downloads");
+        });
+    }
+
+    /**
+     * Gets a cached archive, or generates it on the calling thread. Concurrent calls for the same key wait for a single
+     * generation, without blocking calls for other keys.
+     *
+     * @param key       The key identifying the generation inputs
+     * @param generator Generates the archive if it isn't cached
+     * @return The archive
+     */
+    public GeneratedArchive get(String key, Supplier<GeneratedArchive> generator) {
+        CompletableFuture<GeneratedArchive> generation = new CompletableFuture<>();
+        CompletableFuture<GeneratedArchive> archive = archives.get(key, (k, executor) -> generation);
+        if (archive == generation) {
+            // a failed generation is removed from the cache, so that the next request tries again
+            try {
+                generation.complete(generator.get());
+            } catch (RuntimeException | Error e) {
+                generation.completeExceptionally(e);
+            }
+        }
+        try {
+            return archive.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Registers a download of a generated archive.
+     *
+     * @param archive      The generated archive
+     * @param friendlyName The name of the generated target, used to name the downloaded file
+     * @return The id of the download, which can be used once
+     */
+    public String addDownload(GeneratedArchive archive, String friendlyName) {
+        String fileId = UUID.randomUUID().toString();
+        downloads.put(fileId, new Download(archive, friendlyName));
+        return fileId;
+    }
+
+    /**
+     * Removes a download.
+     *
+     * @param fileId The id of the download
+     * @return The generated archive, or null if the download is unknown or has expired
+     */
+    public Generated removeDownload(String fileId) {
+        Download download = downloads.asMap().remove(fileId);
+        if (download == null) {
+            return null;
+        }
+        Generated g = new Generated();
+        g.setArchive(download.archive);
+        g.setFriendlyName(download.friendlyName);
+        return g;
+    }
+
+    private static final class Download {
+        private final GeneratedArchive archive;
+        private final String friendlyName;
+
+        Download(GeneratedArchive archive, String friendlyName) {
+            this.archive = archive;
+            this.friendlyName = friendlyName;
+        }
+    }
+}
@@ -18,7 +18,12 @@
 package org.openapitools.codegen.online.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.commons.io.FileUtils;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.core.models.AuthorizationValue;
 import io.swagger.v3.parser.core.models.ParseOptions;
@@ -27,22 +32,40 @@ import org.openapitools.codegen.ClientOptInput;
 import org.openapitools.codegen.CodegenConfig;
 import org.openapitools.codegen.CodegenConfigLoader;
 import org.openapitools.codegen.DefaultGenerator;
+import org.openapitools.codegen.ZipTemplateManager;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.online.model.GeneratedArchive;
 import org.openapitools.codegen.online.model.GeneratorInput;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.openapitools.codegen.utils.ImplementationVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.ZipOutputStream;
 
 public class Generator {
     private static Logger LOGGER = LoggerFactory.getLogger(Generator.class);
+    // serializes equal specifications and options to equal bytes, regardless of the order of their properties
+    private static final ObjectMapper CANONICAL_MAPPER = Json.mapper().copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
 
     public static Map<String, CliOption> getOptions(String language) {
         CodegenConfig config;
@@ -73,15 +96,25 @@ public class Generator {
         }
     }
 
-    public static String generateClient(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.CLIENT);
+    /**
+     * Generates a client, unless the same client has been generated already.
+     *
+     * @return The generated archive
+     */
+    public static GeneratedArchive generateClient(String language, GeneratorInput opts, GeneratedArchiveCache cache) {
+        return generate(language, opts, Type.CLIENT, cache);
     }
 
-    public static String generateServer(String language, GeneratorInput opts) {
-        return generate(language, opts, Type.SERVER);
+    /**
+     * Generates a server, unless the same server has been generated already.
+     *
+     * @return The generated archive
+     */
+    public static GeneratedArchive generateServer(String language, GeneratorInput opts, GeneratedArchiveCache cache) {
+        return generate(language, opts, Type.SERVER, cache);
     }
 
-    private static String generate(String language, GeneratorInput opts, Type type) {
+    private static GeneratedArchive generate(String language, GeneratorInput opts, Type type, GeneratedArchiveCache cache) {
         LOGGER.debug(String.format(Locale.ROOT,"generate %s for %s", type.getTypeName(), language));
         if (opts == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "No options were supplied");
@@ -124,8 +157,6 @@ public class Generator {
         String destPath = language + "-" + type.getTypeName();
 
         ClientOptInput clientOptInput = new ClientOptInput();
-        String outputFolder = getTmpFolder().getAbsolutePath() + File.separator + destPath;
-        String outputFilename = outputFolder + "-bundle.zip";
 
         clientOptInput.openAPI(openapi);
 
@@ -151,38 +182,70 @@ public class Generator {
             }
         }
 
-        codegenConfig.setOutputDir(outputFolder);
-
         clientOptInput.config(codegenConfig);
 
+        String key = cacheKey(openapi, language, type, opts);
+        return cache.get(key, () -> generateArchive(clientOptInput, destPath));
+    }
+
+    private static GeneratedArchive generateArchive(ClientOptInput clientOptInput, String destPath) {
+        File tmpFolder = getTmpFolder();
+        String outputFolder = tmpFolder.getAbsolutePath() + File.separator + destPath;
+        clientOptInput.getConfig().setOutputDir(outputFolder);
+
+        // generated files are written straight into the archive, the output folder only receives files written
+        // directly by a generator
         try {
-            List<File> files = new DefaultGenerator().opts(clientOptInput).generate();
-            if (files.size() > 0) {
-                List<File> filesToAdd = new ArrayList<>();
-                LOGGER.debug("adding to {}", outputFolder);
-                filesToAdd.add(new File(outputFolder));
-                ZipUtil zip = new ZipUtil();
-                zip.compressFiles(filesToAdd, outputFilename);
-            } else {
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
-                        "A target generation was attempted, but no files were created!");
-            }
-            for (File file : files) {
-                try {
-                    file.delete();
-                } catch (Exception e) {
-                    LOGGER.error("unable to delete file " + file.getAbsolutePath(), e);
+            return GeneratedArchive.write(archive -> {
+                try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+                    DefaultGenerator generator = new DefaultGenerator() {
+                        @Override
+                        protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions options, TemplatingEngineAdapter engineAdapter, TemplatePathLocator[] templateLoaders) {
+                            return new ZipTemplateManager(options, engineAdapter, templateLoaders, zip, Paths.get(outputFolder), destPath);
+                        }
+                    };
+                    // the template processor adds the files written to the output folder once generation has finished
+                    List<File> files = generator.opts(clientOptInput).generate();
+                    if (files.isEmpty()) {
+                        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                                "A target generation was attempted, but no files were created!");
+                    }
                 }
-            }
-            try {
-                new File(outputFolder).delete();
-            } catch (Exception e) {
-                LOGGER.error("unable to delete output folder " + outputFolder, e);
-            }
+            });
         } catch (Exception e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Unable to build target: " + e.getMessage(), e);
+        } finally {
+            if (!FileUtils.deleteQuietly(tmpFolder)) {
+                LOGGER.error("unable to delete output folder {}", tmpFolder.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Computes a key identifying the generated archive from everything the generation depends on: the parsed
+     * specification, the generator and its options, and the version of OpenAPI Generator.
+     */
+    private static String cacheKey(OpenAPI openapi, String language, Type type, GeneratorInput opts) {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("version", ImplementationVersion.read());
+        inputs.put("generator", language);
+        inputs.put("type", type.getTypeName());
+        inputs.put("options", opts.getOptions());
+        inputs.put("openapiNormalizer", opts.getOpenapiNormalizer());
+        inputs.put("spec", openapi);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                CANONICAL_MAPPER.writeValue(out, inputs);
+            }
+            StringBuilder key = new StringBuilder();
+            for (byte b : digest.digest()) {
+                key.append(String.format(Locale.ROOT, "%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Unable to compute cache key", e);
         }
-        return outputFilename;
     }
 
     private static File getTmpFolder() {
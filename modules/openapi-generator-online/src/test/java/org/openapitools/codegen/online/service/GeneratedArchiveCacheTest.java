@@ -0,0 +1,142 @@
+package org.openapitools.codegen.online.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.apache.commons.io.IOUtils;
+import org.openapitools.codegen.online.model.Generated;
+import org.openapitools.codegen.online.model.GeneratedArchive;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GeneratedArchiveCacheTest {
+
+    private static GeneratedArchiveCache cache(MeterRegistry registry) {
+        return cache(registry, Duration.ofMinutes(1));
+    }
+
+    private static GeneratedArchiveCache cache(MeterRegistry registry, Duration expireAfterWrite) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (registry != null) {
+            beanFactory.addBean("meterRegistry", registry);
+        }
+        return new GeneratedArchiveCache(DataSize.ofKilobytes(1), expireAfterWrite, Duration.ofMinutes(1), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    public void concurrentRequestsAreGeneratedOnce() throws Exception {
+        GeneratedArchiveCache cache = cache(null);
+        AtomicInteger generations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<GeneratedArchive>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(() -> cache.get("key", () -> {
+                    generations.incrementAndGet();
+                    started.countDown();
+                    sleep();
+                    return archive(1, 2, 3);
+                })));
+            }
+            for (Future<GeneratedArchive> result : results) {
+                assertArrayEquals(new byte[]{1, 2, 3}, bytes(result.get(10, TimeUnit.SECONDS)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, generations.get());
+    }
+
+    @Test
+    public void failedGenerationsAreRetried() {
+        GeneratedArchiveCache cache = cache(null);
+
+        assertThrows(IllegalStateException.class, () -> cache.get("key", () -> {
+            throw new IllegalStateException("generation failed");
+        }));
+        assertArrayEquals(new byte[]{1}, assertDoesNotThrow(() -> bytes(cache.get("key", () -> archive(1)))));
+    }
+
+    @Test
+    public void downloadsCanBeUsedOnce() throws IOException {
+        GeneratedArchiveCache cache = cache(null);
+        String fileId = cache.addDownload(cache.get("key", () -> archive(1)), "java-client");
+
+        Generated generated = cache.removeDownload(fileId);
+
+        assertNotNull(generated);
+        assertEquals("java-client", generated.getFriendlyName());
+        assertArrayEquals(new byte[]{1}, bytes(generated.getArchive()));
+        assertNull(cache.removeDownload(fileId));
+        assertNull(cache.removeDownload("unknown"));
+    }
+
+    @Test
+    public void downloadsOutliveEvictedArchives() throws Exception {
+        GeneratedArchiveCache cache = cache(null, Duration.ofMillis(1));
+        AtomicInteger generations = new AtomicInteger();
+        Supplier<GeneratedArchive> generator = () -> {
+            generations.incrementAndGet();
+            return archive(1);
+        };
+        String fileId = cache.addDownload(cache.get("key", generator), "java-client");
+
+        Thread.sleep(50L);
+        cache.get("key", generator);
+
+        assertEquals(2, generations.get());
+        Generated generated = cache.removeDownload(fileId);
+        assertNotNull(generated);
+        assertArrayEquals(new byte[]{1}, bytes(generated.getArchive()));
+    }
+
+    @Test
+    public void publishesMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        GeneratedArchiveCache cache = cache(registry);
+        cache.get("key", () -> archive(1));
+        cache.get("key", () -> archive(2));
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "generator.archives").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "generator.archives").tag("result", "miss").functionCounter().count());
+    }
+
+    private static GeneratedArchive archive(int... contents) {
+        try {
+            return GeneratedArchive.write(out -> {
+                for (int b : contents) {
+                    out.write(b);
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] bytes(GeneratedArchive archive) throws IOException {
+        try (InputStream in = archive.openStream()) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(200L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
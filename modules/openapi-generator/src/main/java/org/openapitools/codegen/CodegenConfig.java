@@ -214,6 +214,15 @@ public interface CodegenConfig {
 
     void postProcess();
 
+    /**
+     * Executes the file post-processors deferred while generating files, if the generator batches them.
+     *
+     * @return Whether all post-processor executions passed (true) or at least one failed (false)
+     */
+    default boolean executePostProcessFileBatches() {
+        return true;
+    }
+
     Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs);
 
     ModelsMap postProcessModels(ModelsMap objs);
@@ -332,6 +341,28 @@ public interface CodegenConfig {
 
     public void setEnableMinimalUpdate(boolean isEnableMinimalUpdate);
 
+    /**
+     * Get the number of threads used to render model and API files.
+     * <p>
+     * With more than one thread, templates, template lambdas and {@link #postProcessFile(File, String)} of this
+     * generator may be invoked concurrently, the latter never by two threads at the same time. Generators which keep
+     * mutable state while rendering must be thread-safe, or render on a single thread.
+     *
+     * @return number of rendering threads, 1 by default
+     */
+    default int getParallelism() {
+        return 1;
+    }
+
+    /**
+     * Set the number of threads used to render model and API files. Ignored by generators which do not support
+     * parallel rendering.
+     *
+     * @param parallelism number of rendering threads
+     */
+    default void setParallelism(int parallelism) {
+    }
+
     boolean isStrictSpecBehavior();
 
     void setStrictSpecBehavior(boolean strictSpecBehavior);
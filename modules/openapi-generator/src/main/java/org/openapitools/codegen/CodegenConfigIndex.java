@@ -0,0 +1,243 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.apache.commons.lang3.StringUtils;
+import org.openapitools.codegen.meta.GeneratorMetadata;
+import org.openapitools.codegen.meta.Stability;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * An index of generators, mapping each generator name to its implementing class along with its type and stability.
+ * <p>
+ * The index of the built-in generators is written to {@link #INDEX_RESOURCE} at build time by {@link #main(String[])}.
+ * This allows {@link CodegenConfigLoader} to instantiate only the requested generator, and to list generators without
+ * instantiating every {@link CodegenConfig} registered with the {@link ServiceLoader}.
+ */
+public final class CodegenConfigIndex {
+    public static final String INDEX_RESOURCE = "META-INF/openapi-generator/generator-index";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigIndex.class);
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final Map<String, Entry> entriesByClassName = new HashMap<>();
+
+    private CodegenConfigIndex() {
+    }
+
+    /**
+     * Reads all generator indexes available to the given class loader.
+     *
+     * @param classLoader The class loader to read the indexes from
+     * @return The combined index, which is empty if no index is available
+     */
+    public static CodegenConfigIndex load(ClassLoader classLoader) {
+        CodegenConfigIndex index = new CodegenConfigIndex();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_RESOURCE);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (StringUtils.isNotBlank(line) && !line.startsWith("#")) {
+                            index.add(Entry.parse(line));
+                        }
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Unable to read the generator index, falling back to loading all generators: {}", e.getMessage());
+            return new CodegenConfigIndex();
+        }
+        return index;
+    }
+
+    private void add(Entry entry) {
+        // the first index on the classpath wins, similar to class loading
+        if (entries.putIfAbsent(entry.getName(), entry) == null) {
+            entriesByClassName.put(entry.getClassName(), entry);
+        }
+    }
+
+    /**
+     * @param name The generator name
+     * @return The index entry for the given generator name, or null if the generator isn't indexed
+     */
+    public Entry get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * @param className The fully qualified class name of a generator
+     * @return Whether the given generator class is indexed
+     */
+    public boolean containsClass(String className) {
+        return entriesByClassName.containsKey(className);
+    }
+
+    /**
+     * @param className The fully qualified class name of a generator
+     * @return The index entry for the given generator class, or null if the generator class isn't indexed
+     */
+    public Entry getByClassName(String className) {
+        return entriesByClassName.get(className);
+    }
+
+    /**
+     * @return All index entries, ordered by generator name
+     */
+    public List<Entry> getEntries() {
+        return new ArrayList<>(entries.values());
+    }
+
+    /**
+     * Writes the index of all generators registered with the {@link ServiceLoader} to {@link #INDEX_RESOURCE}.
+     *
+     * @param args The output directory, usually the build output directory of the module declaring the generators
+     * @throws IOException If the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: CodegenConfigIndex <output directory>");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for (CodegenConfig config : ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader())) {
+            entries.add(Entry.of(config));
+        }
+        entries.sort(Comparator.comparing(Entry::getName));
+
+        Path target = Paths.get(args[0]).resolve(INDEX_RESOURCE);
+        Files.createDirectories(target.getParent());
+        try (Writer writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+            writer.write("# name, class, type, stability. Generated at build time by " + CodegenConfigIndex.class.getName() + "\n");
+            for (Entry entry : entries) {
+                writer.write(entry.format());
+                writer.write("\n");
+            }
+        }
+        LOGGER.info("Wrote index of {} generators to {}", entries.size(), target);
+    }
+
+    /**
+     * An indexed generator.
+     */
+    public static final class Entry {
+        private static final String SEPARATOR = "\t";
+
+        private final String name;
+        private final String className;
+        private final CodegenType type;
+        private final Stability stability;
+
+        Entry(String name, String className, CodegenType type, Stability stability) {
+            this.name = name;
+            this.className = className;
+            this.type = type;
+            this.stability = stability;
+        }
+
+        /**
+         * Creates the index entry describing the given generator.
+         *
+         * @param config The generator
+         * @return The index entry
+         */
+        public static Entry of(CodegenConfig config) {
+            GeneratorMetadata meta = config.getGeneratorMetadata();
+            return new Entry(config.getName(), config.getClass().getName(), config.getTag(), meta != null ? meta.getStability() : null);
+        }
+
+        static Entry parse(String line) {
+            String[] parts = line.split(SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid generator index entry: " + line);
+            }
+            return new Entry(parts[0], parts[1],
+                    parts[2].isEmpty() ? null : CodegenType.valueOf(parts[2]),
+                    parts[3].isEmpty() ? null : Stability.valueOf(parts[3]));
+        }
+
+        String format() {
+            return String.join(SEPARATOR, name, className,
+                    type != null ? type.name() : "",
+                    stability != null ? stability.name() : "");
+        }
+
+        /**
+         * @return The generator name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The fully qualified class name of the generator
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return The generator type, or null if the generator doesn't declare one
+         */
+        public CodegenType getType() {
+            return type;
+        }
+
+        /**
+         * @return The stability of the generator, or null if the generator doesn't provide metadata
+         */
+        public Stability getStability() {
+            return stability;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Entry)) return false;
+            Entry entry = (Entry) o;
+            return Objects.equals(name, entry.name) &&
+                    Objects.equals(className, entry.className) &&
+                    type == entry.type &&
+                    stability == entry.stability;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, className, type, stability);
+        }
+
+        @Override
+        public String toString() {
+            return format();
+        }
+    }
+}
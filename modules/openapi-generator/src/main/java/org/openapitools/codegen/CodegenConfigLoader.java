@@ -17,24 +17,50 @@
 
 package org.openapitools.codegen;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ServiceLoader;
 
 public class CodegenConfigLoader {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CodegenConfigLoader.class);
+
+    private static volatile CodegenConfigIndex index;
+
     /**
      * Tries to load config class with SPI first, then with class name directly from classpath
+     * <p>
+     * Generators are looked up in the order they are registered with the {@link ServiceLoader}, so the first generator
+     * on the classpath with the given name wins. Generators listed in the {@link CodegenConfigIndex} are only
+     * instantiated if their indexed name matches, other generators, e.g. custom generators on the classpath, are
+     * instantiated to read their name.
      *
      * @param name name of config, or full qualified class name in classpath
      * @return config class
      */
     public static CodegenConfig forName(String name) {
-        ServiceLoader<CodegenConfig> loader = ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader());
+        return forName(name, getIndex(), providers());
+    }
 
+    static CodegenConfig forName(String name, CodegenConfigIndex index, Iterable<ServiceLoader.Provider<CodegenConfig>> providers) {
         StringBuilder availableConfigs = new StringBuilder();
 
-        for (CodegenConfig config : loader) {
+        for (ServiceLoader.Provider<CodegenConfig> provider : providers) {
+            CodegenConfigIndex.Entry entry = index.getByClassName(provider.type().getName());
+            if (entry != null && !entry.getName().equals(name)) {
+                availableConfigs.append(entry.getName()).append("\n");
+                continue;
+            }
+
+            CodegenConfig config = provider.get();
             if (config.getName().equals(name)) {
+                CodegenConfigIndex.Entry shadowed = index.get(name);
+                if (entry == null && shadowed != null) {
+                    LOGGER.warn("Using generator {} for '{}', which is registered before the built-in generator {} of the same name",
+                            provider.type().getName(), name, shadowed.getClassName());
+                }
                 return config;
             }
 
@@ -43,7 +69,7 @@ public class CodegenConfigLoader {
 
         // else try to load directly
         try {
-            return (CodegenConfig) Class.forName(name).getDeclaredConstructor().newInstance();
+            return newInstance(name);
         } catch (Exception e) {
             throw new GeneratorNotFoundException("Can't load config class with name '".concat(name) + "'\nAvailable:\n" + availableConfigs, e);
         }
@@ -57,4 +83,38 @@ public class CodegenConfigLoader {
         }
         return output;
     }
+
+    /**
+     * Describes all available generators, without instantiating the indexed ones.
+     *
+     * @return The name, type and stability of each available generator
+     */
+    public static List<CodegenConfigIndex.Entry> getAllEntries() {
+        List<CodegenConfigIndex.Entry> output = getIndex().getEntries();
+        for (ServiceLoader.Provider<CodegenConfig> provider : providers()) {
+            if (!getIndex().containsClass(provider.type().getName())) {
+                output.add(CodegenConfigIndex.Entry.of(provider.get()));
+            }
+        }
+        return output;
+    }
+
+    static CodegenConfigIndex getIndex() {
+        if (index == null) {
+            synchronized (CodegenConfigLoader.class) {
+                if (index == null) {
+                    index = CodegenConfigIndex.load(CodegenConfig.class.getClassLoader());
+                }
+            }
+        }
+        return index;
+    }
+
+    private static Iterable<ServiceLoader.Provider<CodegenConfig>> providers() {
+        return ServiceLoader.load(CodegenConfig.class, CodegenConfig.class.getClassLoader()).stream()::iterator;
+    }
+
+    private static CodegenConfig newInstance(String className) throws ReflectiveOperationException {
+        return (CodegenConfig) Class.forName(className).getDeclaredConstructor().newInstance();
+    }
 }
@@ -34,6 +34,10 @@ public class CodegenConstants {
     public static final String API_DOCS = "apiDocs";
 
     public static final String SKIP_FORM_MODEL = "skipFormModel";
+    public static final String POST_PROCESS_FILE_BATCH = "postProcessFileBatch";
+    public static final String POST_PROCESS_FILE_BATCH_THREADS = "postProcessFileBatchThreads";
+    public static final String POST_PROCESS_FILE_MAX_COMMAND_LENGTH = "postProcessFileMaxCommandLength";
+    public static final String INCREMENTAL_GENERATION = "incrementalGeneration";
     /* /end System Properties */
 
     public static final String API_NAME = "apiName";
@@ -46,6 +50,10 @@ public class CodegenConstants {
 
     public static final String AUTOSET_CONSTANTS = "autosetConstants";
 
+    public static final String EAGER_JSON_SCHEMAS = "eagerJsonSchemas";
+    public static final String EAGER_JSON_SCHEMAS_DESC = "Compute the JSON of schemas (modelJson, jsonSchema) when models, properties, parameters and responses are created, " +
+            "rather than when a template first renders it. Set to true for templates rendering schemas as they were before examples were added to them.";
+
     public static final String MODEL_PACKAGE = "modelPackage";
     public static final String MODEL_PACKAGE_DESC = "package for generated models";
 
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.models.ExternalDocumentation;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -75,7 +76,12 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     @Getter @Setter
     public String title;
     @Getter @Setter
-    public String description, classVarName, modelJson, dataType, xmlPrefix, xmlNamespace, xmlName;
+    public String description, classVarName, dataType, xmlPrefix, xmlNamespace, xmlName;
+    /**
+     * JSON of the model schema, computed on first access. Read it through the getter, which computes it.
+     */
+    private volatile String modelJson;
+    private volatile Supplier<String> modelJsonSupplier;
     @Getter @Setter
     public String classFilename; // store the class file name, mainly used for import
     @Getter @Setter
@@ -860,6 +866,35 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         this.isEnum = isEnum;
     }
 
+    public String getModelJson() {
+        Supplier<String> supplier = modelJsonSupplier;
+        if (supplier != null) {
+            synchronized (this) {
+                supplier = modelJsonSupplier;
+                if (supplier != null) {
+                    modelJson = supplier.get();
+                    modelJsonSupplier = null;
+                }
+            }
+        }
+        return modelJson;
+    }
+
+    public synchronized void setModelJson(String modelJson) {
+        this.modelJson = modelJson;
+        this.modelJsonSupplier = null;
+    }
+
+    /**
+     * Sets a function computing the JSON of the model schema when it is first requested, as few templates use it.
+     *
+     * @param modelJsonSupplier computes the JSON of the model schema
+     */
+    public synchronized void setModelJsonSupplier(Supplier<String> modelJsonSupplier) {
+        this.modelJson = null;
+        this.modelJsonSupplier = modelJsonSupplier;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -931,7 +966,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
                 Objects.equals(title, that.title) &&
                 Objects.equals(description, that.description) &&
                 Objects.equals(classVarName, that.classVarName) &&
-                Objects.equals(modelJson, that.modelJson) &&
+                Objects.equals(getModelJson(), that.getModelJson()) &&
                 Objects.equals(dataType, that.dataType) &&
                 Objects.equals(xmlPrefix, that.xmlPrefix) &&
                 Objects.equals(xmlNamespace, that.xmlNamespace) &&
@@ -976,7 +1011,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
     public int hashCode() {
         return Objects.hash(getParent(), getParentSchema(), getInterfaces(), getAllParents(), getParentModel(),
                 getInterfaceModels(), getChildren(), anyOf, oneOf, allOf, getName(), getSchemaName(), getClassname(), getTitle(),
-                getDescription(), getClassVarName(), getModelJson(), getDataType(), getXmlPrefix(), getXmlNamespace(),
+                getDescription(), getClassVarName(), getDataType(), getXmlPrefix(), getXmlNamespace(),
                 getXmlName(), getClassFilename(), getUnescapedDescription(), getDiscriminator(), getDefaultValue(),
                 getArrayModelType(), isAlias, isString, isInteger, isLong, isNumber, isNumeric, isFloat, isDouble,
                 isDate, isDateTime, isNull, hasValidation, isShort, isUnboundedInteger, isBoolean,
@@ -1012,7 +1047,7 @@ public class CodegenModel implements IJsonSchemaValidationProperties {
         sb.append(", title='").append(title).append('\'');
         sb.append(", description='").append(description).append('\'');
         sb.append(", classVarName='").append(classVarName).append('\'');
-        sb.append(", modelJson='").append(modelJson).append('\'');
+        sb.append(", modelJson='").append(getModelJson()).append('\'');
         sb.append(", dataType='").append(dataType).append('\'');
         sb.append(", xmlPrefix='").append(xmlPrefix).append('\'');
         sb.append(", xmlNamespace='").append(xmlNamespace).append('\'');
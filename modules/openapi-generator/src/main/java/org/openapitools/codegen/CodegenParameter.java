@@ -23,6 +23,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import io.swagger.v3.oas.models.examples.Example;
 import lombok.Getter;
@@ -46,7 +47,11 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
     public String nameInSnakeCase; // property name in upper snake case
     public String example; // example value (x-example)
     public Map<String, Example> examples;
-    public String jsonSchema;
+    /**
+     * JSON schema of the parameter, computed on first access. Read it through the getter, which computes it.
+     */
+    private volatile String jsonSchema;
+    private volatile Supplier<String> jsonSchemaSupplier;
     public boolean isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal, isByteArray, isBinary,
             isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isPassword, isFreeFormObject, isAnyType, isShort, isUnboundedInteger;
     public boolean isArray, isMap;
@@ -140,6 +145,39 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
 
     private boolean schemaIsFromAdditionalProperties;
 
+    public String getJsonSchema() {
+        Supplier<String> supplier = jsonSchemaSupplier;
+        if (supplier != null) {
+            synchronized (this) {
+                supplier = jsonSchemaSupplier;
+                if (supplier != null) {
+                    jsonSchema = supplier.get();
+                    jsonSchemaSupplier = null;
+                }
+            }
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    boolean hasJsonSchema() {
+        return jsonSchemaSupplier != null || jsonSchema != null;
+    }
+
+    /**
+     * Sets a function computing the JSON schema of the parameter when it is first requested, as few templates use it.
+     *
+     * @param jsonSchemaSupplier computes the JSON schema of the parameter
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchemaSupplier) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchemaSupplier;
+    }
+
     public CodegenParameter copy() {
         CodegenParameter output = new CodegenParameter();
         output.isFile = this.isFile;
@@ -178,6 +216,8 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         output.uniqueItems = this.uniqueItems;
         output.setUniqueItemsBoolean(this.uniqueItemsBoolean);
         output.multipleOf = this.multipleOf;
+        // the value is set before the supplier is cleared, read them in the opposite order
+        output.jsonSchemaSupplier = this.jsonSchemaSupplier;
         output.jsonSchema = this.jsonSchema;
         output.defaultValue = this.defaultValue;
         output.enumDefaultValue = this.enumDefaultValue;
@@ -285,7 +325,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 paramName, dataType, datatypeWithEnum, dataFormat, collectionFormat, description,
                 unescapedDescription, baseType, containerType, containerTypeMapped, defaultValue,
                 enumDefaultValue, enumName, style, isDeepObject, isMatrix, isAllowEmptyValue, example, examples,
-                jsonSchema, isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal,
+                isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal,
                 isByteArray, isBinary, isBoolean, isDate, isDateTime, isUuid, isUri, isEmail, isPassword,
                 isFreeFormObject, isAnyType, isArray, isMap, isOptional, isFile, isEnum, isEnumRef, _enum, allowableValues,
                 items, mostInnerItems, additionalProperties, vars, requiredVars, vendorExtensions, hasValidation,
@@ -382,7 +422,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
                 Objects.equals(isAllowEmptyValue, that.isAllowEmptyValue) &&
                 Objects.equals(example, that.example) &&
                 Objects.equals(examples, that.examples) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema()) &&
                 Objects.equals(_enum, that._enum) &&
                 Objects.equals(allowableValues, that.allowableValues) &&
                 Objects.equals(items, that.items) &&
@@ -447,7 +487,7 @@ public class CodegenParameter implements IJsonSchemaValidationProperties {
         sb.append(", allowEmptyValue='").append(isAllowEmptyValue).append('\'');
         sb.append(", example='").append(example).append('\'');
         sb.append(", examples='").append(examples).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", isString=").append(isString);
         sb.append(", isNumeric=").append(isNumeric);
         sb.append(", isInteger=").append(isInteger);
@@ -26,6 +26,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperties {
     /**
@@ -104,8 +105,11 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
     @Getter @Setter
     public String example;
 
-    @Getter @Setter
-    public String jsonSchema;
+    /**
+     * JSON schema of the property, computed on first access. Read it through the getter, which computes it.
+     */
+    private volatile String jsonSchema;
+    private volatile Supplier<String> jsonSchemaSupplier;
     /**
      * The value of the 'minimum' attribute in the OpenAPI schema.
      * The value of "minimum" MUST be a number, representing an inclusive lower limit for a numeric instance.
@@ -598,6 +602,35 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         return ref;
     }
 
+    public String getJsonSchema() {
+        Supplier<String> supplier = jsonSchemaSupplier;
+        if (supplier != null) {
+            synchronized (this) {
+                supplier = jsonSchemaSupplier;
+                if (supplier != null) {
+                    jsonSchema = supplier.get();
+                    jsonSchemaSupplier = null;
+                }
+            }
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets a function computing the JSON schema of the property when it is first requested, as few templates use it.
+     *
+     * @param jsonSchemaSupplier computes the JSON schema of the property
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchemaSupplier) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchemaSupplier;
+    }
+
     @Override
     public CodegenProperty clone() {
         try {
@@ -987,7 +1020,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         sb.append(", minLength=").append(minLength);
         sb.append(", pattern='").append(pattern).append('\'');
         sb.append(", example='").append(example).append('\'');
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", minimum='").append(minimum).append('\'');
         sb.append(", maximum='").append(maximum).append('\'');
         sb.append(", exclusiveMinimum=").append(exclusiveMinimum);
@@ -1176,7 +1209,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
                 Objects.equals(minLength, that.minLength) &&
                 Objects.equals(pattern, that.pattern) &&
                 Objects.equals(example, that.example) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema()) &&
                 Objects.equals(minimum, that.minimum) &&
                 Objects.equals(maximum, that.maximum) &&
                 Objects.equals(_enum, that._enum) &&
@@ -1206,7 +1239,7 @@ public class CodegenProperty implements Cloneable, IJsonSchemaValidationProperti
         return Objects.hash(openApiType, baseName, complexType, getter, setter, description,
                 dataType, datatypeWithEnum, dataFormat, name, min, max, defaultValue,
                 defaultValueWithParam, baseType, containerType, containerTypeMapped, title, unescapedDescription,
-                maxLength, minLength, pattern, example, jsonSchema, minimum, maximum,
+                maxLength, minLength, pattern, example, minimum, maximum,
                 exclusiveMinimum, exclusiveMaximum, required, deprecated,
                 hasMoreNonReadOnly, isPrimitiveType, isModel, isContainer, isString, isNumeric,
                 isInteger, isLong, isNumber, isFloat, isDouble, isDecimal, isByteArray, isBinary, isFile,
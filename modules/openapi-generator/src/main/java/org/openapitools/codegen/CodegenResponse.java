@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 public class CodegenResponse implements IJsonSchemaValidationProperties {
     public final List<CodegenProperty> headers = new ArrayList<CodegenProperty>();
@@ -71,7 +72,11 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public boolean isNull;
     public boolean isVoid = false;
     public Object schema;
-    public String jsonSchema;
+    /**
+     * JSON schema of the response, computed on first access. Read it through the getter, which computes it.
+     */
+    private volatile String jsonSchema;
+    private volatile Supplier<String> jsonSchemaSupplier;
     public Map<String, Object> vendorExtensions = new HashMap<String, Object>();
     private Integer maxProperties;
     private Integer minProperties;
@@ -105,12 +110,41 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
     public CodegenProperty returnProperty;
     private boolean schemaIsFromAdditionalProperties;
 
+    public String getJsonSchema() {
+        Supplier<String> supplier = jsonSchemaSupplier;
+        if (supplier != null) {
+            synchronized (this) {
+                supplier = jsonSchemaSupplier;
+                if (supplier != null) {
+                    jsonSchema = supplier.get();
+                    jsonSchemaSupplier = null;
+                }
+            }
+        }
+        return jsonSchema;
+    }
+
+    public synchronized void setJsonSchema(String jsonSchema) {
+        this.jsonSchema = jsonSchema;
+        this.jsonSchemaSupplier = null;
+    }
+
+    /**
+     * Sets a function computing the JSON schema of the response when it is first requested, as few templates use it.
+     *
+     * @param jsonSchemaSupplier computes the JSON schema of the response
+     */
+    public synchronized void setJsonSchemaSupplier(Supplier<String> jsonSchemaSupplier) {
+        this.jsonSchema = null;
+        this.jsonSchemaSupplier = jsonSchemaSupplier;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(headers, code, message, examples, dataType, baseType, containerType, containerTypeMapped, hasHeaders,
                 isString, isNumeric, isInteger, isLong, isNumber, isFloat, isDouble, isDecimal, isByteArray, isBoolean, isDate,
                 isDateTime, isUuid, isEmail, isPassword, isModel, isFreeFormObject, isAnyType, isDefault, simpleType, primitiveType,
-                isMap, isOptional, isArray, isBinary, isFile, schema, jsonSchema, vendorExtensions, items, additionalProperties,
+                isMap, isOptional, isArray, isBinary, isFile, schema, vendorExtensions, items, additionalProperties,
                 vars, requiredVars, isNull, isVoid, hasValidation, isShort, isUnboundedInteger,
                 getMaxProperties(), getMinProperties(), uniqueItems, getMaxItems(), getMinItems(), getMaxLength(),
                 getMinLength(), exclusiveMinimum, exclusiveMaximum, getMinimum(), getMaximum(), getPattern(),
@@ -186,7 +220,7 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
                 Objects.equals(containerType, that.containerType) &&
                 Objects.equals(containerTypeMapped, that.containerTypeMapped) &&
                 Objects.equals(schema, that.schema) &&
-                Objects.equals(jsonSchema, that.jsonSchema) &&
+                Objects.equals(getJsonSchema(), that.getJsonSchema()) &&
                 Objects.equals(vendorExtensions, that.vendorExtensions) &&
                 Objects.equals(getMaxProperties(), that.getMaxProperties()) &&
                 Objects.equals(getMinProperties(), that.getMinProperties()) &&
@@ -601,7 +635,7 @@ public class CodegenResponse implements IJsonSchemaValidationProperties {
         sb.append(", isBinary=").append(isBinary);
         sb.append(", isFile=").append(isFile);
         sb.append(", schema=").append(schema);
-        sb.append(", jsonSchema='").append(jsonSchema).append('\'');
+        sb.append(", jsonSchema='").append(getJsonSchema()).append('\'');
         sb.append(", vendorExtensions=").append(vendorExtensions);
         sb.append(", maxProperties=").append(maxProperties);
         sb.append(", minProperties=").append(minProperties);
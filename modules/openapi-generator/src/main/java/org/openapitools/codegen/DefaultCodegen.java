@@ -20,6 +20,7 @@ package org.openapitools.codegen;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.base.CaseFormat;
 import com.google.common.collect.ImmutableMap;
 import com.samskivert.mustache.Mustache;
@@ -50,6 +51,7 @@ import org.apache.commons.text.StringEscapeUtils;
 import org.openapitools.codegen.CodegenDiscriminator.MappedModel;
 import org.openapitools.codegen.api.TemplatingEngineAdapter;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.openapitools.codegen.languages.PhpNextgenClientCodegen;
 import org.openapitools.codegen.languages.RustAxumServerCodegen;
@@ -67,6 +69,9 @@ import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.templating.mustache.*;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.OneOfImplementorAdditionalData;
+import org.openapitools.codegen.utils.PostProcessFileBatcher;
+import org.openapitools.codegen.utils.SchemaFingerprints;
+import org.openapitools.codegen.utils.StronglyConnectedComponents;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -81,6 +86,7 @@ import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -96,6 +102,11 @@ public class DefaultCodegen implements CodegenConfig {
 
     public static FeatureSet DefaultFeatureSet;
 
+    /**
+     * Global property setting the maximum number of properties cached by {@link #fromProperty(String, Schema, boolean, boolean)}.
+     */
+    public static final String PROPERTY_CACHE_SIZE_PROPERTY = "org.openapitools.codegen.propertycache.cachesize";
+
     // A cache of sanitized words. The sanitizeName() method is invoked many times with the same
     // arguments, this cache is used to optimized performance.
     private static final Cache<SanitizeNameOptions, String> sanitizedNameCache;
@@ -195,6 +206,10 @@ public class DefaultCodegen implements CodegenConfig {
     @Getter @Setter
     protected String apiNamePrefix = "", apiNameSuffix = "Api";
     protected String testPackage = "";
+    // compute the JSON of schemas (modelJson, jsonSchema) when models, properties, parameters and responses are
+    // created, instead of when templates first request it, for templates rendering them as they were at that time.
+    // See CodegenConstants.EAGER_JSON_SCHEMAS
+    @Getter @Setter protected boolean eagerJsonSchemas = false;
     @Setter protected String filesMetadataFilename = "FILES";
     @Setter protected String versionMetadataFilename = "VERSION";
     /*
@@ -294,6 +309,12 @@ public class DefaultCodegen implements CodegenConfig {
     // flag to indicate whether to only update files whose contents have changed
     protected boolean enableMinimalUpdate = false;
 
+    // number of threads used to render model and API files
+    protected int parallelism = 1;
+
+    // files scheduled for batched post-processing
+    private PostProcessFileBatcher postProcessFileBatcher;
+
     // acts strictly upon a spec, potentially modifying it to have consistent behavior across generators.
     protected boolean strictSpecBehavior = true;
     // flag to indicate whether enum value prefixes are removed
@@ -392,6 +413,7 @@ public class DefaultCodegen implements CodegenConfig {
         convertPropertyToBooleanAndWriteBack(CodegenConstants.DISALLOW_ADDITIONAL_PROPERTIES_IF_NOT_PRESENT, this::setDisallowAdditionalPropertiesIfNotPresent);
         convertPropertyToBooleanAndWriteBack(CodegenConstants.ENUM_UNKNOWN_DEFAULT_CASE, this::setEnumUnknownDefaultCase);
         convertPropertyToBooleanAndWriteBack(CodegenConstants.AUTOSET_CONSTANTS, this::setAutosetConstants);
+        convertPropertyToBooleanAndWriteBack(CodegenConstants.EAGER_JSON_SCHEMAS, this::setEagerJsonSchemas);
         }
 
 
@@ -702,13 +724,13 @@ public class DefaultCodegen implements CodegenConfig {
         final Map<String, List<CodegenProperty>> allVarsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getAllVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, allVarsDependencyMap));
+        setCircularReferencesOnProperties(models.keySet(), allVarsDependencyMap);
 
         // for vars
         final Map<String, List<CodegenProperty>> varsDependencyMap = models.entrySet().stream()
                 .collect(Collectors.toMap(Entry::getKey, entry -> getModelDependencies(entry.getValue().getVars())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, varsDependencyMap));
+        setCircularReferencesOnProperties(models.keySet(), varsDependencyMap);
 
         // for oneOf
         final Map<String, List<CodegenProperty>> oneOfDependencyMap = models.entrySet().stream()
@@ -716,7 +738,7 @@ public class DefaultCodegen implements CodegenConfig {
                         (entry.getValue().getComposedSchemas() != null && entry.getValue().getComposedSchemas().getOneOf() != null)
                                 ? entry.getValue().getComposedSchemas().getOneOf() : new ArrayList<CodegenProperty>())));
 
-        models.keySet().forEach(name -> setCircularReferencesOnProperties(name, oneOfDependencyMap));
+        setCircularReferencesOnProperties(models.keySet(), oneOfDependencyMap);
     }
 
     private List<CodegenProperty> getModelDependencies(List<CodegenProperty> vars) {
@@ -731,35 +753,24 @@ public class DefaultCodegen implements CodegenConfig {
                 .collect(Collectors.toList());
     }
 
-    private void setCircularReferencesOnProperties(final String root,
+    /**
+     * Flags the properties of the models which refer back to their model, directly or through other models.
+     * A property is circular if its model and the model it refers to are in the same strongly connected component
+     * of the dependency graph, i.e. if each of them can be reached from the other.
+     */
+    private void setCircularReferencesOnProperties(final Set<String> models,
                                                    final Map<String, List<CodegenProperty>> dependencyMap) {
-        dependencyMap.getOrDefault(root, new ArrayList<>())
-                .forEach(prop -> {
-                    final List<String> unvisited =
-                            Collections.singletonList(prop.isContainer ? prop.items.dataType : prop.dataType);
-                    prop.isCircularReference = isCircularReference(root,
-                            new HashSet<>(),
-                            new ArrayList<>(unvisited),
-                            dependencyMap);
-                });
-    }
-
-    private boolean isCircularReference(final String root,
-                                        final Set<String> visited,
-                                        final List<String> unvisited,
-                                        final Map<String, List<CodegenProperty>> dependencyMap) {
-        for (int i = 0; i < unvisited.size(); i++) {
-            final String next = unvisited.get(i);
-            if (!visited.contains(next)) {
-                if (next.equals(root)) {
-                    return true;
-                }
-                dependencyMap.getOrDefault(next, new ArrayList<>())
-                        .forEach(prop -> unvisited.add(prop.isContainer ? prop.items.dataType : prop.dataType));
-                visited.add(next);
-            }
-        }
-        return false;
+        final Map<String, Integer> components = StronglyConnectedComponents.of(dependencyMap.keySet(),
+                name -> dependencyMap.getOrDefault(name, Collections.emptyList()).stream()
+                        .map(this::getDependencyName)
+                        .collect(Collectors.toList()));
+
+        models.forEach(root -> dependencyMap.getOrDefault(root, Collections.emptyList())
+                .forEach(prop -> prop.isCircularReference = components.get(root).equals(components.get(getDependencyName(prop)))));
+    }
+
+    private String getDependencyName(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
     }
 
     // override with any special post-processing
@@ -937,6 +948,8 @@ public class DefaultCodegen implements CodegenConfig {
             LOGGER.warn(UNSUPPORTED_V310_SPEC_MSG);
         }
         this.openAPI = openAPI;
+        clearPropertyCache();
+        exampleCache = new ExampleCache();
         // Set global settings such that helper functions in ModelUtils can lookup the value
         // of the CLI option.
         ModelUtils.setDisallowAdditionalPropertiesIfNotPresent(getDisallowAdditionalPropertiesIfNotPresent());
@@ -2582,15 +2595,17 @@ public class DefaultCodegen implements CodegenConfig {
     }
 
     private static class NamedSchema {
-        private NamedSchema(String name, Schema s, boolean required, boolean schemaIsFromAdditionalProperties) {
+        private NamedSchema(String name, Schema s, int schemaFingerprint, boolean required, boolean schemaIsFromAdditionalProperties) {
             this.name = name;
             this.schema = s;
+            this.schemaFingerprint = schemaFingerprint;
             this.required = required;
             this.schemaIsFromAdditionalProperties = schemaIsFromAdditionalProperties;
         }
 
         private String name;
         private Schema schema;
+        private int schemaFingerprint;
         private boolean required;
         private boolean schemaIsFromAdditionalProperties;
 
@@ -2607,11 +2622,34 @@ public class DefaultCodegen implements CodegenConfig {
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, schema, required, schemaIsFromAdditionalProperties);
+            return Objects.hash(name, schemaFingerprint, required, schemaIsFromAdditionalProperties);
         }
     }
 
-    Map<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = new HashMap<>();
+    // Converted properties by schema. The keys are hashed by the fingerprints of their schemas, as the hash code of
+    // a schema traverses all its subschemas.
+    private final Cache<NamedSchema, CodegenProperty> schemaCodegenPropertyCache = Caffeine.newBuilder()
+            .maximumSize(Long.parseLong(GlobalSettings.getProperty(PROPERTY_CACHE_SIZE_PROPERTY, "100000")))
+            .recordStats()
+            .build();
+
+    // Examples rendered for operations by schema and media type, for the current document
+    private ExampleCache exampleCache = new ExampleCache();
+
+    /**
+     * Discards the properties converted by {@link #fromProperty(String, Schema, boolean, boolean)}, to be called after
+     * modifying schemas which have been converted before.
+     */
+    public void clearPropertyCache() {
+        schemaCodegenPropertyCache.invalidateAll();
+    }
+
+    /**
+     * @return the statistics of the cache of properties converted by {@link #fromProperty(String, Schema, boolean, boolean)}
+     */
+    public CacheStats getPropertyCacheStats() {
+        return schemaCodegenPropertyCache.stats();
+    }
 
     protected void updateModelForComposedSchema(CodegenModel m, Schema schema, Map<String, Schema> allDefinitions) {
         final Schema composed = schema;
@@ -3011,7 +3049,8 @@ public class DefaultCodegen implements CodegenConfig {
         m.classname = toModelName(name);
         m.classVarName = toVarName(name);
         m.classFilename = toModelFilename(name);
-        m.modelJson = Json.pretty(schema);
+        final Schema modelSchema = schema;
+        m.setModelJsonSupplier(jsonSchemaSupplier(() -> Json.pretty(modelSchema)));
         m.externalDocumentation = schema.getExternalDocs();
         if (schema.getExtensions() != null && !schema.getExtensions().isEmpty()) {
             m.getVendorExtensions().putAll(schema.getExtensions());
@@ -3846,8 +3885,8 @@ public class DefaultCodegen implements CodegenConfig {
             return null;
         }
         LOGGER.debug("debugging fromProperty for {}: {}", name, p);
-        NamedSchema ns = new NamedSchema(name, p, required, schemaIsFromAdditionalProperties);
-        CodegenProperty cpc = schemaCodegenPropertyCache.get(ns);
+        NamedSchema ns = new NamedSchema(name, p, SchemaFingerprints.of(p), required, schemaIsFromAdditionalProperties);
+        CodegenProperty cpc = schemaCodegenPropertyCache.getIfPresent(ns);
         if (cpc != null) {
             LOGGER.debug("Cached fromProperty for {} : {} required={}", name, p.getName(), required);
             return cpc;
@@ -3913,7 +3952,8 @@ public class DefaultCodegen implements CodegenConfig {
             property.example = "ERROR_TO_EXAMPLE_VALUE";
         }
 
-        property.jsonSchema = Json.pretty(Json.mapper().convertValue(p, TreeMap.class));
+        final Schema propertySchema = p;
+        property.setJsonSchemaSupplier(jsonSchemaSupplier(() -> Json.pretty(Json.mapper().convertValue(propertySchema, TreeMap.class))));
 
         if (p.getDeprecated() != null) {
             property.deprecated = p.getDeprecated();
@@ -4549,7 +4589,7 @@ public class DefaultCodegen implements CodegenConfig {
         // check skipOperationExample, which can be set to true to avoid out of memory errors for large spec
         if (!isSkipOperationExample() && operation.getResponses() != null) {
             // generate examples
-            ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI);
+            ExampleGenerator generator = new ExampleGenerator(schemas, this.openAPI, exampleCache);
             List<Map<String, String>> examples = new ArrayList<>();
 
             for (String statusCode : operation.getResponses().keySet()) {
@@ -4641,7 +4681,7 @@ public class DefaultCodegen implements CodegenConfig {
 
                     // add example
                     if (schemas != null && !isSkipOperationExample()) {
-                        op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
+                        op.requestBodyExamples = new ExampleGenerator(schemas, this.openAPI, exampleCache).generate(null, new ArrayList<>(getConsumesInfo(this.openAPI, operation)), bodyParam.baseType);
                     }
                 }
             }
@@ -4842,7 +4882,7 @@ public class DefaultCodegen implements CodegenConfig {
         // TODO need to revise and test examples in responses
         // ApiResponse does not support examples at the moment
         //r.examples = toExamples(response.getExamples());
-        r.jsonSchema = Json.pretty(response);
+        r.setJsonSchemaSupplier(jsonSchemaSupplier(() -> Json.pretty(response)));
         if (response.getExtensions() != null && !response.getExtensions().isEmpty()) {
             r.vendorExtensions.putAll(response.getExtensions());
         }
@@ -5119,11 +5159,11 @@ public class DefaultCodegen implements CodegenConfig {
         if (parameter.getDeprecated() != null) {
             codegenParameter.isDeprecated = parameter.getDeprecated();
         }
-        codegenParameter.jsonSchema = Json.pretty(parameter);
+        codegenParameter.setJsonSchemaSupplier(jsonSchemaSupplier(() -> Json.pretty(parameter)));
 
         if (GlobalSettings.getProperty("debugParser") != null) {
             LOGGER.info("working on Parameter {}", parameter.getName());
-            LOGGER.info("JSON schema: {}", codegenParameter.jsonSchema);
+            LOGGER.info("JSON schema: {}", codegenParameter.getJsonSchema());
         }
 
         if (parameter.getExtensions() != null && !parameter.getExtensions().isEmpty()) {
@@ -7330,7 +7370,7 @@ public class DefaultCodegen implements CodegenConfig {
         codegenParameter.isFormParam = Boolean.TRUE;
         codegenParameter.description = escapeText(codegenProperty.description);
         codegenParameter.unescapedDescription = codegenProperty.getDescription();
-        codegenParameter.jsonSchema = Json.pretty(propertySchema);
+        codegenParameter.setJsonSchemaSupplier(jsonSchemaSupplier(() -> Json.pretty(propertySchema)));
         codegenParameter.containerType = codegenProperty.containerType;
         codegenParameter.containerTypeMapped = codegenProperty.containerTypeMapped;
 
@@ -7976,9 +8016,23 @@ public class DefaultCodegen implements CodegenConfig {
         return "additional_properties";
     }
 
+    /**
+     * Returns the supplier of a JSON schema, or of its value computed right away if {@link #eagerJsonSchemas} is set.
+     *
+     * @param json computes the JSON schema
+     * @return the supplier to set on the codegen object
+     */
+    private Supplier<String> jsonSchemaSupplier(Supplier<String> json) {
+        if (eagerJsonSchemas) {
+            String value = json.get();
+            return () -> value;
+        }
+        return json;
+    }
+
     private void addJsonSchemaForBodyRequestInCaseItsNotPresent(CodegenParameter codegenParameter, RequestBody body) {
-        if (codegenParameter.jsonSchema == null)
-            codegenParameter.jsonSchema = Json.pretty(body);
+        if (!codegenParameter.hasJsonSchema())
+            codegenParameter.setJsonSchemaSupplier(jsonSchemaSupplier(() -> Json.pretty(body)));
     }
 
     protected void addOption(String key, String description, String defaultValue) {
@@ -8150,6 +8204,15 @@ public class DefaultCodegen implements CodegenConfig {
      * @return Whether the execution passed (true) or failed (false)
      */
     protected boolean executePostProcessor(String[] commandArr) {
+        if (commandArr.length > 1 && Boolean.parseBoolean(GlobalSettings.getProperty(CodegenConstants.POST_PROCESS_FILE_BATCH))) {
+            // the file to process is passed as the last argument
+            String file = commandArr[commandArr.length - 1];
+            if (new File(file).isFile()) {
+                getPostProcessFileBatcher().add(Arrays.asList(commandArr).subList(0, commandArr.length - 1), file);
+                return true;
+            }
+        }
+
         final String command = String.join(" ", commandArr);
         try {
             // we don't use the array variant here, because the command passed in by the user is often not only a single binary
@@ -8180,6 +8243,30 @@ public class DefaultCodegen implements CodegenConfig {
         return false;
     }
 
+    private synchronized PostProcessFileBatcher getPostProcessFileBatcher() {
+        if (postProcessFileBatcher == null) {
+            postProcessFileBatcher = new PostProcessFileBatcher();
+        }
+        return postProcessFileBatcher;
+    }
+
+    /**
+     * Executes the post-processors deferred by {@link #executePostProcessor(String[])} when batched post-processing is
+     * enabled with the global property {@link CodegenConstants#POST_PROCESS_FILE_BATCH}. Each post-processor is invoked
+     * with as many files as the command line permits.
+     *
+     * @return Whether all post-processor executions passed (true) or at least one failed (false)
+     */
+    @Override
+    public boolean executePostProcessFileBatches() {
+        PostProcessFileBatcher batcher;
+        synchronized (this) {
+            batcher = postProcessFileBatcher;
+            postProcessFileBatcher = null;
+        }
+        return batcher == null || batcher.execute();
+    }
+
     /**
      * Boolean value indicating the state of the option for post-processing file using environment variables.
      *
@@ -8218,6 +8305,24 @@ public class DefaultCodegen implements CodegenConfig {
         this.enableMinimalUpdate = enableMinimalUpdate;
     }
 
+    /**
+     * Get the number of threads used to render model and API files
+     */
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Set the number of threads used to render model and API files. A value of 1 renders all files on the calling thread.
+     *
+     * @param parallelism number of rendering threads
+     */
+    @Override
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
     /**
      * Indicates whether the codegen configuration should treat documents as strictly defined by the OpenAPI specification.
      *
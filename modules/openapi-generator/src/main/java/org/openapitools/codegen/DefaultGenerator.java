@@ -53,6 +53,7 @@ import org.openapitools.codegen.templating.TemplateManagerOptions;
 import org.openapitools.codegen.utils.ImplementationVersion;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.openapitools.codegen.utils.ProcessUtils;
+import org.openapitools.codegen.utils.SchemaGraph;
 import org.openapitools.codegen.utils.URLPathUtils;
 import org.openapitools.codegen.utils.SemVer;
 import org.slf4j.Logger;
@@ -65,7 +66,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -92,6 +94,11 @@ public class DefaultGenerator implements Generator {
     private Boolean generateModelTests = null;
     private Boolean generateModelDocumentation = null;
     private Boolean generateMetadata = true;
+    private Boolean incrementalGeneration = false;
+    private SpecDependencyIndex specIndex;
+    // built once the generator has finished modifying the document
+    private SchemaGraph schemaGraph;
+    private GenerationManifest manifest;
     private String basePath;
     private String basePathWithoutHost;
     private String contextPath;
@@ -105,6 +112,7 @@ public class DefaultGenerator implements Generator {
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
     private String generatorCheck = "spring";
     private String templateCheck = "apiController.mustache";
+    private ExecutorService renderExecutor;
 
 
     public DefaultGenerator() {
@@ -142,7 +150,7 @@ public class DefaultGenerator implements Generator {
 
             TemplatePathLocator commonTemplateLocator = new CommonTemplateContentLocator();
             TemplatePathLocator generatorTemplateLocator = new GeneratorTemplateContentLocator(this.config);
-            this.templateProcessor = new TemplateManager(
+            this.templateProcessor = createTemplateProcessor(
                     templateManagerOptions,
                     templatingEngine,
                     new TemplatePathLocator[]{generatorTemplateLocator, commonTemplateLocator}
@@ -166,6 +174,19 @@ public class DefaultGenerator implements Generator {
         return this;
     }
 
+    /**
+     * Creates the {@link TemplateProcessor} which compiles templates and writes the generated files. Override this to
+     * write generated files somewhere other than the output directory, e.g. into an archive.
+     *
+     * @param options         The options for reading and writing templates
+     * @param engineAdapter   The templating engine of the generator
+     * @param templateLoaders The locators resolving template names
+     * @return The template processor
+     */
+    protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions options, TemplatingEngineAdapter engineAdapter, TemplatePathLocator[] templateLoaders) {
+        return new TemplateManager(options, engineAdapter, templateLoaders);
+    }
+
     /**
      * Programmatically disable the output of .openapi-generator/VERSION, .openapi-generator-ignore,
      * or other metadata files used by OpenAPI Generator.
@@ -232,6 +253,7 @@ public class DefaultGenerator implements Generator {
         generateApiTests = GlobalSettings.getProperty(CodegenConstants.API_TESTS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.API_TESTS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_TESTS, true);
         generateApiDocumentation = GlobalSettings.getProperty(CodegenConstants.API_DOCS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.API_DOCS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.API_DOCS, true);
         generateRecursiveDependentModels = GlobalSettings.getProperty(CodegenConstants.GENERATE_RECURSIVE_DEPENDENT_MODELS) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.GENERATE_RECURSIVE_DEPENDENT_MODELS)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.GENERATE_RECURSIVE_DEPENDENT_MODELS, false);
+        incrementalGeneration = GlobalSettings.getProperty(CodegenConstants.INCREMENTAL_GENERATION) != null ? Boolean.valueOf(GlobalSettings.getProperty(CodegenConstants.INCREMENTAL_GENERATION)) : getGeneratorPropertyDefaultSwitch(CodegenConstants.INCREMENTAL_GENERATION, false);
 
         // Additional properties added for tests to exclude references in project related files
         config.additionalProperties().put(CodegenConstants.GENERATE_API_TESTS, generateApiTests);
@@ -402,7 +424,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "model-test");
+                            postProcessFile(written, "model-test");
                         }
                     }
                 }
@@ -423,7 +445,7 @@ public class DefaultGenerator implements Generator {
             if (written != null) {
                 files.add(written);
                 if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model-doc");
+                    postProcessFile(written, "model-doc");
                 }
             }
         }
@@ -443,7 +465,7 @@ public class DefaultGenerator implements Generator {
             if (written != null) {
                 files.add(written);
                 if (config.isEnablePostProcessFile() && !dryRun) {
-                    config.postProcessFile(written, "model");
+                    postProcessFile(written, "model");
                 }
             }
         }
@@ -554,6 +576,7 @@ public class DefaultGenerator implements Generator {
         }
         
         // generate files based on processed models
+        List<Callable<List<File>>> renderTasks = new ArrayList<>();
         for (String modelName : allProcessedModels.keySet()) {
             ModelsMap models = allProcessedModels.get(modelName);
             models.put("modelPackage", config.modelPackage());
@@ -578,20 +601,28 @@ public class DefaultGenerator implements Generator {
                     }
                     allModels.add(modelTemplate);
                 }
-
-                // to generate model files
-                generateModel(files, models, modelName);
-
-                // to generate model test files
-                generateModelTests(files, models, modelName);
-
-                // to generate model documentation files
-                generateModelDocumentation(files, models, modelName);
-
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate model '" + modelName + "'", e);
             }
+
+            renderTasks.add(incrementally("models/" + modelName, () -> specIndex.schemaInputs(modelName), () -> {
+                List<File> modelFiles = new ArrayList<>();
+                try {
+                    // to generate model files
+                    generateModel(modelFiles, models, modelName);
+
+                    // to generate model test files
+                    generateModelTests(modelFiles, models, modelName);
+
+                    // to generate model documentation files
+                    generateModelDocumentation(modelFiles, models, modelName);
+                } catch (Exception e) {
+                    throw new RuntimeException("Could not generate model '" + modelName + "'", e);
+                }
+                return modelFiles;
+            }));
         }
+        renderFiles(files, renderTasks);
         if (GlobalSettings.getProperty("debugModels") != null) {
             LOGGER.info("############ Model info ############");
             Json.prettyPrint(allModels);
@@ -663,6 +694,65 @@ public class DefaultGenerator implements Generator {
         return modelKeys;
     }
 
+    private void generateApi(List<File> files, OperationsMap operation, String tag) throws IOException {
+        for (String templateName : config.apiTemplateFiles().keySet()) {
+            File written = null;
+            if (config.templateOutputDirs().containsKey(templateName)) {
+                String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
+                String filename = config.apiFilename(templateName, tag, outputDir);
+                // do not overwrite apiController file for spring server
+                if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                    written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
+                } else {
+                    LOGGER.info("Implementation file {} is not overwritten", filename);
+                }
+            } else {
+                String filename = config.apiFilename(templateName, tag);
+                if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
+                    written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
+                } else {
+                    LOGGER.info("Implementation file {} is not overwritten", filename);
+                }
+            }
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && !dryRun) {
+                    postProcessFile(written, "api");
+                }
+            }
+        }
+
+        // to generate api test files
+        for (String templateName : config.apiTestTemplateFiles().keySet()) {
+            String filename = config.apiTestFilename(templateName, tag);
+            File apiTestFile = new File(filename);
+            // do not overwrite test file that already exists
+            if (apiTestFile.exists()) {
+                this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
+            } else {
+                File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
+                if (written != null) {
+                    files.add(written);
+                    if (config.isEnablePostProcessFile() && !dryRun) {
+                        postProcessFile(written, "api-test");
+                    }
+                }
+            }
+        }
+
+        // to generate api documentation files
+        for (String templateName : config.apiDocTemplateFiles().keySet()) {
+            String filename = config.apiDocFilename(templateName, tag);
+            File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
+            if (written != null) {
+                files.add(written);
+                if (config.isEnablePostProcessFile() && !dryRun) {
+                    postProcessFile(written, "api-doc");
+                }
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     void generateApis(List<File> files, List<OperationsMap> allOperations, List<ModelMap> allModels) {
         if (!generateApis) {
@@ -685,6 +775,7 @@ public class DefaultGenerator implements Generator {
             }
             paths = updatedPaths;
         }
+        List<Callable<List<File>>> renderTasks = new ArrayList<>();
         for (String tag : paths.keySet()) {
             try {
                 List<CodegenOperation> ops = paths.get(tag);
@@ -762,67 +853,21 @@ public class DefaultGenerator implements Generator {
 
                 addAuthenticationSwitches(operation);
 
-                for (String templateName : config.apiTemplateFiles().keySet()) {
-                    File written = null;
-                    if (config.templateOutputDirs().containsKey(templateName)) {
-                        String outputDir = config.getOutputDir() + File.separator + config.templateOutputDirs().get(templateName);
-                        String filename = config.apiFilename(templateName, tag, outputDir);
-                        // do not overwrite apiController file for spring server
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS, outputDir);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
-                    } else {
-                        String filename = config.apiFilename(templateName, tag);
-                        if (apiFilePreCheck(filename, generatorCheck, templateName, templateCheck)) {
-                            written = processTemplateToFile(operation, templateName, filename, generateApis, CodegenConstants.APIS);
-                        } else {
-                            LOGGER.info("Implementation file {} is not overwritten", filename);
-                        }
+                Set<String> opPaths = ops.stream().map(op -> op.path).collect(Collectors.toSet());
+                renderTasks.add(incrementally("apis/" + tag, () -> specIndex.pathInputs(opPaths), () -> {
+                    List<File> apiFiles = new ArrayList<>();
+                    try {
+                        generateApi(apiFiles, operation, tag);
+                    } catch (Exception e) {
+                        throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
                     }
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
-                        }
-                    }
-                }
-
-                // to generate api test files
-                for (String templateName : config.apiTestTemplateFiles().keySet()) {
-                    String filename = config.apiTestFilename(templateName, tag);
-                    File apiTestFile = new File(filename);
-                    // do not overwrite test file that already exists
-                    if (apiTestFile.exists()) {
-                        this.templateProcessor.skip(apiTestFile.toPath(), "Test files never overwrite an existing file of the same name.");
-                    } else {
-                        File written = processTemplateToFile(operation, templateName, filename, generateApiTests, CodegenConstants.API_TESTS, config.apiTestFileFolder());
-                        if (written != null) {
-                            files.add(written);
-                            if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
-                            }
-                        }
-                    }
-                }
-
-                // to generate api documentation files
-                for (String templateName : config.apiDocTemplateFiles().keySet()) {
-                    String filename = config.apiDocFilename(templateName, tag);
-                    File written = processTemplateToFile(operation, templateName, filename, generateApiDocumentation, CodegenConstants.API_DOCS);
-                    if (written != null) {
-                        files.add(written);
-                        if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
-                        }
-                    }
-                }
-
+                    return apiFiles;
+                }));
             } catch (Exception e) {
                 throw new RuntimeException("Could not generate api file for '" + tag + "'", e);
             }
         }
+        renderFiles(files, renderTasks);
         if (GlobalSettings.getProperty("debugOperations") != null) {
             LOGGER.info("############ Operation info ############");
             Json.prettyPrint(allOperations);
@@ -947,7 +992,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api");
+                            postProcessFile(written, "api");
                         }
                     }
                 }
@@ -964,7 +1009,7 @@ public class DefaultGenerator implements Generator {
                         if (written != null) {
                             files.add(written);
                             if (config.isEnablePostProcessFile() && !dryRun) {
-                                config.postProcessFile(written, "api-test");
+                                postProcessFile(written, "api-test");
                             }
                         }
                     }
@@ -977,7 +1022,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "api-doc");
+                            postProcessFile(written, "api-doc");
                         }
                     }
                 }
@@ -1108,7 +1153,7 @@ public class DefaultGenerator implements Generator {
                 if (written != null) {
                     files.add(written);
                     if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "supporting-file");
+                        postProcessFile(written, "supporting-file");
                     }
                 }
             } catch (Exception e) {
@@ -1133,7 +1178,7 @@ public class DefaultGenerator implements Generator {
                     if (written != null) {
                         files.add(written);
                         if (config.isEnablePostProcessFile() && !dryRun) {
-                            config.postProcessFile(written, "openapi-generator-ignore");
+                            postProcessFile(written, "openapi-generator-ignore");
                         }
                     }
                 } catch (Exception e) {
@@ -1285,31 +1330,70 @@ public class DefaultGenerator implements Generator {
             }
         }
 
+        List<File> files;
+        try {
+            files = generateFiles();
+        } catch (RuntimeException e) {
+            try {
+                closeTemplateProcessor();
+            } catch (RuntimeException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+        closeTemplateProcessor();
+        return files;
+    }
+
+    /**
+     * Closes the template processor once generation has finished, e.g. to complete an archive it writes to.
+     */
+    private void closeTemplateProcessor() {
+        if (templateProcessor instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) templateProcessor).close();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException("Could not close the template processor", e);
+            }
+        }
+    }
+
+    private List<File> generateFiles() {
         configureGeneratorProperties();
         configureOpenAPIInfo();
 
         config.processOpenAPI(openAPI);
+        schemaGraph = SchemaGraph.of(openAPI);
 
         processUserDefinedTemplates();
 
         // generate .openapi-generator-ignore if the option openapiGeneratorIgnoreFile is enabled
         generateOpenapiGeneratorIgnoreFile();
 
+        loadGenerationManifest();
+
         List<File> files = new ArrayList<>();
-        // models
-        List<String> filteredSchemas = ModelUtils.getSchemasUsedOnlyInFormParam(openAPI);
         List<ModelMap> allModels = new ArrayList<>();
         List<ModelMap> aliasModels = new ArrayList<>();
-        generateModels(files, allModels, filteredSchemas, aliasModels);
-        // apis
         List<OperationsMap> allOperations = new ArrayList<>();
-        generateApis(files, allOperations, allModels);
-        // webhooks
         List<WebhooksMap> allWebhooks = new ArrayList<>();
-        generateWebhooks(files, allWebhooks, allModels);
+        try {
+            // models
+            List<String> filteredSchemas = new ArrayList<>(schemaGraph.getReferencedOnlyInFormParams());
+            generateModels(files, allModels, filteredSchemas, aliasModels);
+            // apis
+            generateApis(files, allOperations, allModels);
+            // webhooks
+            generateWebhooks(files, allWebhooks, allModels);
+        } finally {
+            shutdownRenderExecutor();
+        }
         // supporting files
         Map<String, Object> bundle = buildSupportFileBundle(allOperations, allModels, aliasModels, allWebhooks);
         generateSupportingFiles(files, bundle);
+        reportDuplicateFiles();
 
         if (dryRun) {
             boolean verbose = Boolean.parseBoolean(GlobalSettings.getProperty("verbose"));
@@ -1349,15 +1433,28 @@ public class DefaultGenerator implements Generator {
 
             LOGGER.error(sb.toString());
         } else {
+            generateManifestMetadata(files);
             // This exists here rather than in the method which generates supporting files to avoid accidentally adding files after this metadata.
             if (generateSupportingFiles) {
                 generateFilesMetadata(files);
             }
         }
 
+        // run post-processors deferred by batched file post-processing
+        if (config.isEnablePostProcessFile() && !dryRun && !config.executePostProcessFileBatches()) {
+            LOGGER.error("Batched file post-processing failed for some files, see the errors above. The generated files have been kept as they are.");
+        }
+
         // post-process
         config.postProcess();
 
+        if (config.getTemplatingEngine() instanceof MustacheEngineAdapter) {
+            LOGGER.debug("Compiled mustache template cache: {}", MustacheEngineAdapter.getTemplateCache());
+        }
+        if (config instanceof DefaultCodegen) {
+            LOGGER.debug("Converted property cache: {}", ((DefaultCodegen) config).getPropertyCacheStats());
+        }
+
         // reset GlobalSettings, so that the running thread can be reused for another generator-run
         GlobalSettings.reset();
 
@@ -1441,23 +1538,200 @@ public class DefaultGenerator implements Generator {
         return processTemplateToFile(templateData, templateName, outputFilename, shouldGenerate, skippedByOption, this.config.getOutputDir());
     }
 
-    private final Set<String> seenFiles = new HashSet<>();
+    /**
+     * Renders files by running the given tasks, and adds the rendered files to {@code files} in the order of the tasks.
+     * <p>
+     * The tasks are run on the calling thread, unless {@link CodegenConfig#getParallelism()} is greater than 1 in which
+     * case they are distributed over a bounded thread pool. Tasks may only read the already processed models and
+     * operations they were created with.
+     *
+     * @param files The list of generated files
+     * @param tasks The rendering tasks, each returning the files it has written
+     */
+    private void renderFiles(List<File> files, List<Callable<List<File>>> tasks) {
+        int parallelism = config.getParallelism();
+        if (parallelism <= 1 || dryRun || tasks.size() < 2) {
+            for (Callable<List<File>> task : tasks) {
+                try {
+                    files.addAll(task.call());
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return;
+        }
+
+        if (renderExecutor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            renderExecutor = Executors.newFixedThreadPool(parallelism, runnable -> {
+                Thread thread = new Thread(runnable, "openapi-generator-render-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            LOGGER.info("Rendering files using {} threads", parallelism);
+        }
+
+        List<Future<List<File>>> futures = new ArrayList<>(tasks.size());
+        for (Callable<List<File>> task : tasks) {
+            futures.add(renderExecutor.submit(task));
+        }
+        try {
+            for (Future<List<File>> future : futures) {
+                files.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while rendering files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            for (Future<List<File>> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Reads the manifest of the previous run when incremental generation is enabled.
+     */
+    private void loadGenerationManifest() {
+        manifest = null;
+        if (!incrementalGeneration) {
+            return;
+        }
+        if (dryRun || !generateMetadata) {
+            LOGGER.warn("Incremental generation requires generating metadata and is not supported for dry runs. Generating all files.");
+            return;
+        }
+        specIndex = new SpecDependencyIndex(openAPI);
+        String globalInputs = GenerationManifest.globalInputs(config, userDefinedTemplates, specIndex, ignoreProcessor);
+        manifest = GenerationManifest.load(absPath(new File(config.getOutputDir())), manifestMetadataFile(), globalInputs);
+    }
+
+    /**
+     * Wraps the rendering of a unit of files so that it is skipped when incremental generation is enabled and the
+     * inputs of the unit are the same as in the previous run.
+     *
+     * @param unit   the name of the unit in the manifest
+     * @param inputs computes the hash of the inputs of the unit
+     * @param task   renders the files of the unit
+     * @return the task to run
+     */
+    private Callable<List<File>> incrementally(String unit, Supplier<String> inputs, Callable<List<File>> task) {
+        if (manifest == null) {
+            return task;
+        }
+        final GenerationManifest manifest = this.manifest;
+        final String unitInputs = inputs.get();
+        return () -> {
+            List<File> unchanged = manifest.reuse(unit, unitInputs);
+            if (unchanged != null) {
+                LOGGER.info("Skipping {}, inputs unchanged since the last run", unit);
+                return unchanged;
+            }
+            List<File> written = task.call();
+            manifest.record(unit, unitInputs, written);
+            return written;
+        };
+    }
+
+    private File manifestMetadataFile() {
+        return new File(config.outputFolder() + File.separator + METADATA_DIR + File.separator + "MANIFEST");
+    }
+
+    /**
+     * Generates a file at .openapi-generator/MANIFEST recording the inputs of the files generated by the user's latest
+     * run, used by incremental generation.
+     *
+     * @param files The list tracking generated files
+     */
+    private void generateManifestMetadata(List<File> files) {
+        if (manifest == null) {
+            return;
+        }
+        try {
+            File written = this.templateProcessor.writeToFile(manifestMetadataFile().getPath(), manifest.toBytes());
+            if (written != null) {
+                files.add(written);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Could not generate metadata file '" + manifestMetadataFile() + "'", e);
+        }
+    }
+
+    /**
+     * Runs the file post-processing hook of the generator. Calls are serialized, as the hook may be invoked from
+     * several rendering threads and generators are not expected to make it thread-safe.
+     */
+    private void postProcessFile(File file, String fileType) {
+        synchronized (config) {
+            config.postProcessFile(file, fileType);
+        }
+    }
+
+    private void shutdownRenderExecutor() {
+        if (renderExecutor != null) {
+            renderExecutor.shutdownNow();
+            renderExecutor = null;
+        }
+    }
+
+    /**
+     * Logs the files written to the same path more than once, ignoring case, which not all operating systems can
+     * tell apart.
+     */
+    private void reportDuplicateFiles() {
+        if (duplicateFiles.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("Duplicate file paths detected. Not all operating systems can handle case sensitive file paths:");
+        duplicateFiles.forEach((path, seen) -> {
+            sb.append(System.lineSeparator()).append("  ").append(path);
+            if (!path.equals(seen)) {
+                sb.append(" (conflicts with ").append(seen).append(")");
+            }
+        });
+        LOGGER.warn(sb.toString());
+    }
+
+    Map<String, String> getDuplicateFiles() {
+        return duplicateFiles;
+    }
+
+    // written files by their case-folded absolute path, to detect paths which differ only by case
+    private final Map<String, String> seenFiles = new HashMap<>();
+    // paths written more than once, ignoring case, with the path they collide with
+    private final Map<String, String> duplicateFiles = new LinkedHashMap<>();
+    // absolute output directories by output directory
+    private final Map<String, Path> outputRoots = new ConcurrentHashMap<>();
 
     private File processTemplateToFile(Map<String, Object> templateData, String templateName, String outputFilename, boolean shouldGenerate, String skippedByOption, String intendedOutputDir) throws IOException {
         String adjustedOutputFilename = outputFilename.replaceAll("//", "/").replace('/', File.separatorChar);
         File target = new File(adjustedOutputFilename);
         if (ignoreProcessor.allowsFile(target)) {
             if (shouldGenerate) {
-                Path outDir = java.nio.file.Paths.get(intendedOutputDir).toAbsolutePath();
+                Path outDir = outputRoots.computeIfAbsent(intendedOutputDir, dir -> java.nio.file.Paths.get(dir).toAbsolutePath());
                 Path absoluteTarget = target.toPath().toAbsolutePath();
                 if (!absoluteTarget.startsWith(outDir)) {
                     throw new RuntimeException(String.format(Locale.ROOT, "Target files must be generated within the output directory; absoluteTarget=%s outDir=%s", absoluteTarget, outDir));
                 }
 
-                if (seenFiles.stream().filter(f -> f.toLowerCase(Locale.ROOT).equals(absoluteTarget.toString().toLowerCase(Locale.ROOT))).findAny().isPresent()) {
-                    LOGGER.warn("Duplicate file path detected. Not all operating systems can handle case sensitive file paths. path={}", absoluteTarget.toString());
+                String path = absoluteTarget.toString();
+                synchronized (seenFiles) {
+                    String seen = seenFiles.putIfAbsent(path.toLowerCase(Locale.ROOT), path);
+                    if (seen != null) {
+                        duplicateFiles.put(path, seen);
+                    }
                 }
-                seenFiles.add(absoluteTarget.toString());
                 return this.templateProcessor.write(templateData, templateName, target);
             } else {
                 this.templateProcessor.skip(target.toPath(), String.format(Locale.ROOT, "Skipped by %s options supplied by user.", skippedByOption));
@@ -1952,7 +2226,7 @@ public class DefaultGenerator implements Generator {
                 if (written != null) {
                     files.add(versionMetadataFile);
                     if (config.isEnablePostProcessFile() && !dryRun) {
-                        config.postProcessFile(written, "openapi-generator-version");
+                        postProcessFile(written, "openapi-generator-version");
                     }
                 }
             } catch (IOException e) {
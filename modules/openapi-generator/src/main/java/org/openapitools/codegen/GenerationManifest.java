@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import org.openapitools.codegen.api.TemplateDefinition;
+import org.openapitools.codegen.ignore.CodegenIgnoreProcessor;
+import org.openapitools.codegen.ignore.rules.Rule;
+import org.openapitools.codegen.utils.ImplementationVersion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records the inputs each unit of generated files (the files of one model or one API) was rendered from, so that the
+ * next run can skip rendering units whose inputs are unchanged. Inputs shared by all units (the generator and its
+ * version, options, templates, ignore rules and the global parts of the document) are recorded once; when they
+ * change, the previous manifest is discarded and everything is rendered again.
+ */
+class GenerationManifest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationManifest.class);
+
+    private final Path outputDir;
+    private final String globalInputs;
+    private final Map<String, Unit> previous;
+    private final Map<String, Unit> current = new ConcurrentHashMap<>();
+
+    private GenerationManifest(Path outputDir, String globalInputs, Map<String, Unit> previous) {
+        this.outputDir = outputDir;
+        this.globalInputs = globalInputs;
+        this.previous = previous;
+    }
+
+    /**
+     * Reads the manifest of the previous run, keeping its units only if it was generated from the same global inputs.
+     *
+     * @param outputDir    the output directory, which recorded files are relative to
+     * @param manifestFile the manifest of the previous run, which may not exist
+     * @param globalInputs the hash of the inputs shared by all units, see {@link #globalInputs}
+     * @return the manifest for this run
+     */
+    static GenerationManifest load(Path outputDir, File manifestFile, String globalInputs) {
+        Map<String, Unit> previous = new HashMap<>();
+        if (manifestFile.isFile()) {
+            try {
+                JsonNode root = Json.mapper().readTree(manifestFile);
+                if (globalInputs.equals(root.path("inputs").asText())) {
+                    root.path("units").fields().forEachRemaining(entry -> {
+                        List<String> files = new ArrayList<>();
+                        entry.getValue().path("files").forEach(f -> files.add(f.asText()));
+                        previous.put(entry.getKey(), new Unit(entry.getValue().path("inputs").asText(), files));
+                    });
+                } else {
+                    LOGGER.info("Generator, options or templates changed since the last run, generating all files");
+                }
+            } catch (IOException e) {
+                LOGGER.warn("Unable to read {}, generating all files", manifestFile, e);
+            }
+        }
+        return new GenerationManifest(outputDir, globalInputs, previous);
+    }
+
+    /**
+     * Hashes the inputs shared by all units.
+     */
+    static String globalInputs(CodegenConfig config, List<TemplateDefinition> userDefinedTemplates, SpecDependencyIndex spec, CodegenIgnoreProcessor ignoreProcessor) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        putValue(hasher, ImplementationVersion.read());
+        putValue(hasher, config.getClass().getName());
+        putValue(hasher, config.getLibrary());
+        hasher.putBytes(spec.getGlobalHash().asBytes());
+
+        Map<String, Object> properties = new TreeMap<>(config.additionalProperties());
+        // differ on every run, but never affect which files are generated
+        properties.remove("generatedDate");
+        properties.remove("generatedYear");
+        putValue(hasher, properties);
+        for (Map<String, String> mapping : Arrays.asList(config.typeMapping(), config.instantiationTypes(),
+                config.importMapping(), config.schemaMapping(), config.inlineSchemaNameMapping(),
+                config.inlineSchemaOption(), config.nameMapping(), config.parameterNameMapping(),
+                config.modelNameMapping(), config.enumNameMapping(), config.operationIdNameMapping(),
+                config.openapiNormalizer(), config.serverVariableOverrides(), config.reservedWordsMappings(),
+                config.templateOutputDirs(), config.apiTemplateFiles(), config.modelTemplateFiles(),
+                config.apiTestTemplateFiles(), config.modelTestTemplateFiles(), config.apiDocTemplateFiles(),
+                config.modelDocTemplateFiles())) {
+            putValue(hasher, mapping);
+        }
+        putValue(hasher, config.languageSpecificPrimitives());
+        putValue(hasher, config.openapiGeneratorIgnoreList());
+        putValue(hasher, userDefinedTemplates);
+        if (ignoreProcessor != null) {
+            // comments are parsed into rules that never match
+            Stream.concat(ignoreProcessor.getExclusionRules().stream(), ignoreProcessor.getInclusionRules().stream())
+                    .map(Rule::getDefinition)
+                    .filter(definition -> !definition.startsWith("#"))
+                    .forEach(definition -> putValue(hasher, definition));
+        }
+
+        try {
+            putFiles(hasher, config.templateDir());
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read templates for incremental generation", e);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Looks up the files of an unchanged unit.
+     *
+     * @param unit   the unit, e.g. the model or API name prefixed with its kind
+     * @param inputs the hash of the inputs of the unit
+     * @return the files generated for the unit by the previous run, or null if the unit must be rendered
+     */
+    List<File> reuse(String unit, String inputs) {
+        Unit last = previous.get(unit);
+        if (last == null || !last.inputs.equals(inputs)) {
+            return null;
+        }
+        List<File> files = new ArrayList<>(last.files.size());
+        for (String file : last.files) {
+            File existing = outputDir.resolve(file).toFile();
+            if (!existing.exists()) {
+                return null;
+            }
+            files.add(existing);
+        }
+        current.put(unit, last);
+        return files;
+    }
+
+    /**
+     * Records the files rendered for a unit.
+     */
+    void record(String unit, String inputs, List<File> files) {
+        List<String> relative = files.stream()
+                .filter(Objects::nonNull)
+                .map(f -> outputDir.relativize(f.toPath().toAbsolutePath()).normalize().toString().replace(File.separatorChar, '/'))
+                .collect(Collectors.toList());
+        current.put(unit, new Unit(inputs, relative));
+    }
+
+    /**
+     * @return the manifest of this run, to be read by {@link #load} on the next run
+     */
+    byte[] toBytes() throws IOException {
+        ObjectNode root = Json.mapper().createObjectNode();
+        root.put("inputs", globalInputs);
+        ObjectNode units = root.putObject("units");
+        new TreeMap<>(current).forEach((name, unit) -> {
+            ObjectNode node = units.putObject(name);
+            node.put("inputs", unit.inputs);
+            ArrayNode files = node.putArray("files");
+            unit.files.forEach(files::add);
+        });
+        return Json.pretty().writeValueAsBytes(root);
+    }
+
+    private static void putValue(Hasher hasher, Object value) {
+        if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            hasher.putInt(map.size());
+            map.entrySet().stream()
+                    .sorted(Comparator.comparing(e -> String.valueOf(e.getKey())))
+                    .forEach(e -> {
+                        putValue(hasher, String.valueOf(e.getKey()));
+                        putValue(hasher, e.getValue());
+                    });
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            hasher.putInt(collection.size());
+            Stream<?> elements = value instanceof Set ? collection.stream().sorted(Comparator.comparing(String::valueOf)) : collection.stream();
+            elements.forEach(e -> putValue(hasher, e));
+        } else if (value == null || value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum || value instanceof TemplateDefinition) {
+            hasher.putString(String.valueOf(value), StandardCharsets.UTF_8).putByte((byte) 0);
+        } else {
+            // other objects, such as template lambdas, have no stable representation
+            hasher.putByte((byte) 1);
+        }
+    }
+
+    private static void putFiles(Hasher hasher, String location) throws IOException {
+        if (location == null) {
+            return;
+        }
+        Path path = new File(location).toPath();
+        if (Files.isRegularFile(path)) {
+            hasher.putBytes(Files.readAllBytes(path));
+        } else if (Files.isDirectory(path)) {
+            List<Path> files;
+            try (Stream<Path> walk = Files.walk(path)) {
+                files = walk.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                putValue(hasher, path.relativize(file).toString());
+                hasher.putBytes(Files.readAllBytes(file));
+            }
+        }
+    }
+
+    private static final class Unit {
+        private final String inputs;
+        private final List<String> files;
+
+        Unit(String inputs, List<String> files) {
+            this.inputs = inputs;
+            this.files = files;
+        }
+    }
+}
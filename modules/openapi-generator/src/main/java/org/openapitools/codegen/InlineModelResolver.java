@@ -17,10 +17,13 @@
 
 package org.openapitools.codegen;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.*;
 import io.swagger.v3.oas.models.PathItem.HttpMethod;
@@ -35,12 +38,14 @@ import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 
 public class InlineModelResolver {
     private OpenAPI openAPI;
     private Map<String, Schema> addedModels = new HashMap<>();
-    private Map<String, String> generatedSignature = new HashMap<>();
+    private Map<HashCode, String> generatedSignature = new HashMap<>();
     private Map<String, String> inlineSchemaNameMapping = new HashMap<>();
     private Map<String, String> inlineSchemaOptions = new HashMap<>();
     private Set<String> inlineSchemaNameMappingValues = new HashSet<>();
@@ -52,6 +57,10 @@ public class InlineModelResolver {
     // serialized consistently for lookup of existing models
     private static ObjectMapper structureMapper;
 
+    // signature computed by the last unsuccessful lookup, reused when the same model is added next
+    private Schema lastSignedModel;
+    private HashCode lastSignature;
+
     // a set to keep track of names generated for inline schemas
     private Set<String> uniqueNames = new HashSet<>();
 
@@ -719,11 +728,14 @@ public class InlineModelResolver {
         }
 
         try {
-            String json = structureMapper.writeValueAsString(model);
-            if (generatedSignature.containsKey(json)) {
-                return generatedSignature.get(json);
+            HashCode signature = signature(model);
+            String existing = generatedSignature.get(signature);
+            if (existing == null) {
+                lastSignedModel = model;
+                lastSignature = signature;
             }
-        } catch (JsonProcessingException e) {
+            return existing;
+        } catch (IOException e) {
             e.printStackTrace();
         }
 
@@ -732,13 +744,28 @@ public class InlineModelResolver {
 
     private void addGenerated(String name, Schema model) {
         try {
-            String json = structureMapper.writeValueAsString(model);
-            generatedSignature.put(json, name);
-        } catch (JsonProcessingException e) {
+            HashCode signature = model == lastSignedModel ? lastSignature : signature(model);
+            lastSignedModel = null;
+            lastSignature = null;
+            generatedSignature.put(signature, name);
+        } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Computes a 128-bit digest of the structure of a schema, i.e. of its serialization with sorted properties.
+     * Schemas with the same serialization have the same signature. The serialization is streamed into the hash
+     * instead of being kept as a lookup key.
+     */
+    private static HashCode signature(Schema model) throws IOException {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        try (OutputStream out = Funnels.asOutputStream(hasher)) {
+            structureMapper.writeValue(out, model);
+        }
+        return hasher.hash();
+    }
+
     /**
      * Sanitizes the input so that it's valid name for a class or interface
      * <p>
@@ -32,6 +32,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 public class OpenAPINormalizer {
@@ -125,6 +127,11 @@ public class OpenAPINormalizer {
 
     // ============= end of rules =============
 
+    // time spent in each rule (in nanoseconds), excluding the time spent in rules nested in it
+    private final Map<String, Long> ruleTimings = new TreeMap<>();
+    // time spent in all rules so far, to exclude nested rules from the time of a rule
+    private long ruleNanos;
+
     /**
      * Initializes OpenAPI Normalizer with a set of rules
      *
@@ -284,9 +291,86 @@ public class OpenAPINormalizer {
             this.openAPI.getComponents().setSchemas(new HashMap<String, Schema>());
         }
 
+        long start = System.nanoTime();
         normalizeInfo();
         normalizePaths();
         normalizeComponentsSchemas();
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("OpenAPI normalized in {} ms, {} ms of which in rules", (System.nanoTime() - start) / 1_000_000, ruleNanos / 1_000_000);
+            for (Map.Entry<String, Long> timing : ruleTimings.entrySet()) {
+                LOGGER.debug("  rule {}: {} ms", timing.getKey(), timing.getValue() / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Get the time spent in each enabled rule during normalization. The time is recorded only when debug logging is
+     * enabled for the normalizer.
+     *
+     * @return the time in nanoseconds by rule name
+     */
+    public Map<String, Long> getRuleTimings() {
+        return Collections.unmodifiableMap(ruleTimings);
+    }
+
+    /**
+     * Applies a rule to a schema if the rule is enabled, and records the time spent in it when debug logging is enabled.
+     *
+     * @param ruleName the name of the rule
+     * @param process  the rule
+     * @param schema   Schema
+     * @return the schema returned by the rule
+     */
+    private Schema applyRule(String ruleName, UnaryOperator<Schema> process, Schema schema) {
+        if (!getRule(ruleName)) {
+            return schema;
+        }
+
+        if (!LOGGER.isDebugEnabled()) {
+            return process.apply(schema);
+        }
+
+        long start = System.nanoTime();
+        long before = ruleNanos;
+        try {
+            return process.apply(schema);
+        } finally {
+            recordRule(ruleName, start, before);
+        }
+    }
+
+    /**
+     * Runs a rule on a target if the rule is enabled, and records the time spent in it when debug logging is enabled.
+     *
+     * @param ruleName the name of the rule
+     * @param process  the rule
+     * @param target   the target of the rule, e.g. an operation
+     * @param <T>      the type of the target
+     */
+    private <T> void runRule(String ruleName, Consumer<T> process, T target) {
+        if (!getRule(ruleName)) {
+            return;
+        }
+
+        if (!LOGGER.isDebugEnabled()) {
+            process.accept(target);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long before = ruleNanos;
+        try {
+            process.accept(target);
+        } finally {
+            recordRule(ruleName, start, before);
+        }
+    }
+
+    private void recordRule(String ruleName, long start, long before) {
+        long elapsed = System.nanoTime() - start;
+        ruleTimings.merge(ruleName, elapsed - (ruleNanos - before), Long::sum);
+        ruleNanos = before + elapsed;
     }
 
     /**
@@ -353,13 +437,13 @@ public class OpenAPINormalizer {
      * @param operation Operation
      */
     private void normalizeOperation(Operation operation) {
-        processRemoveXInternalFromOperation(operation);
+        runRule(REMOVE_X_INTERNAL, this::processRemoveXInternalFromOperation, operation);
 
-        processKeepOnlyFirstTagInOperation(operation);
+        runRule(KEEP_ONLY_FIRST_TAG_IN_OPERATION, this::processKeepOnlyFirstTagInOperation, operation);
 
-        processSetTagsForAllOperations(operation);
+        runRule(SET_TAGS_FOR_ALL_OPERATIONS, this::processSetTagsForAllOperations, operation);
 
-        processSetTagsToOperationId(operation);
+        runRule(SET_TAGS_TO_OPERATIONID, this::processSetTagsToOperationId, operation);
     }
 
     /**
@@ -379,7 +463,7 @@ public class OpenAPINormalizer {
             } else if (mediaType.getSchema() == null) {
                 continue;
             } else {
-                Schema newSchema = normalizeSchema(mediaType.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(mediaType.getSchema(), newVisitedSchemas());
                 mediaType.setSchema(newSchema);
             }
         }
@@ -427,7 +511,7 @@ public class OpenAPINormalizer {
             }
 
             if (parameter.getSchema() != null) {
-                Schema newSchema = normalizeSchema(parameter.getSchema(), new HashSet<>());
+                Schema newSchema = normalizeSchema(parameter.getSchema(), newVisitedSchemas());
                 parameter.setSchema(newSchema);
             }
         }
@@ -466,7 +550,7 @@ public class OpenAPINormalizer {
 
         for (String headerKey : headers.keySet()) {
             Header h = headers.get(headerKey);
-            Schema updatedHeader = normalizeSchema(h.getSchema(), new HashSet<>());
+            Schema updatedHeader = normalizeSchema(h.getSchema(), newVisitedSchemas());
             h.setSchema(updatedHeader);
         }
     }
@@ -497,7 +581,7 @@ public class OpenAPINormalizer {
                 fixSelfReferenceSchema(schemaName, schema);
 
                 // normalize the schemas
-                schemas.put(schemaName, normalizeSchema(schema, new HashSet<>()));
+                schemas.put(schemaName, normalizeSchema(schema, newVisitedSchemas()));
             }
         }
     }
@@ -551,11 +635,21 @@ public class OpenAPINormalizer {
         }
     }
 
+    /**
+     * Creates a set of visited schemas. Schemas are compared by identity, as structurally equal schemas at different
+     * places of the spec must be normalized separately and as comparing them by value would traverse them.
+     *
+     * @return an empty set of visited schemas
+     */
+    private static Set<Schema> newVisitedSchemas() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
     /**
      * Normalizes a schema
      *
      * @param schema         Schema
-     * @param visitedSchemas a set of visited schemas
+     * @param visitedSchemas a set of visited schemas, compared by identity
      * @return Schema
      */
     public Schema normalizeSchema(Schema schema, Set<Schema> visitedSchemas) {
@@ -631,27 +725,28 @@ public class OpenAPINormalizer {
     }
 
     private Schema normalizeArraySchema(Schema schema) {
-        Schema result = processNormalize31Spec(schema, new HashSet<>());
-        return processSetArraytoNullable(result);
+        Set<Schema> visitedSchemas = newVisitedSchemas();
+        Schema result = applyRule(NORMALIZE_31SPEC, s -> processNormalize31Spec(s, visitedSchemas), schema);
+        return applyRule(SET_CONTAINER_TO_NULLABLE, this::processSetArraytoNullable, result);
     }
 
     private Schema normalizeMapSchema(Schema schema) {
-        return processSetMapToNullable(schema);
+        return applyRule(SET_CONTAINER_TO_NULLABLE, this::processSetMapToNullable, schema);
     }
 
     private Schema normalizeSimpleSchema(Schema schema, Set<Schema> visitedSchemas) {
-        Schema result = processNormalize31Spec(schema, visitedSchemas);
-        return processSetPrimitiveTypesToNullable(result);
+        Schema result = applyRule(NORMALIZE_31SPEC, s -> processNormalize31Spec(s, visitedSchemas), schema);
+        return applyRule(SET_PRIMITIVE_TYPES_TO_NULLABLE, this::processSetPrimitiveTypesToNullable, result);
     }
 
     private void normalizeBooleanSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processSimplifyBooleanEnum(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        runRule(SIMPLIFY_BOOLEAN_ENUM, this::processSimplifyBooleanEnum, schema);
+        applyRule(SET_PRIMITIVE_TYPES_TO_NULLABLE, this::processSetPrimitiveTypesToNullable, schema);
     }
 
     private void normalizeIntegerSchema(Schema schema, Set<Schema> visitedSchemas) {
-        processAddUnsignedToIntegerWithInvalidMaxValue(schema);
-        processSetPrimitiveTypesToNullable(schema);
+        runRule(ADD_UNSIGNED_TO_INTEGER_WITH_INVALID_MAX_VALUE, this::processAddUnsignedToIntegerWithInvalidMaxValue, schema);
+        applyRule(SET_PRIMITIVE_TYPES_TO_NULLABLE, this::processSetPrimitiveTypesToNullable, schema);
     }
 
     private void normalizeProperties(Map<String, Schema> properties, Set<Schema> visitedSchemas) {
@@ -660,7 +755,7 @@ public class OpenAPINormalizer {
         }
         for (Map.Entry<String, Schema> propertiesEntry : properties.entrySet()) {
             Schema property = propertiesEntry.getValue();
-            Schema newProperty = normalizeSchema(property, new HashSet<>());
+            Schema newProperty = normalizeSchema(property, newVisitedSchemas());
             propertiesEntry.setValue(newProperty);
         }
     }
@@ -709,7 +804,7 @@ public class OpenAPINormalizer {
         }
 
         // process rules here
-        processUseAllOfRefAsParent(schema);
+        runRule(REF_AS_PARENT_IN_ALLOF, this::processUseAllOfRefAsParent, schema);
 
         return schema;
     }
@@ -729,14 +824,15 @@ public class OpenAPINormalizer {
             normalizeSchema((Schema) item, visitedSchemas);
         }
         // process rules here
-        schema = processRefactorAllOfWithPropertiesOnly(schema);
+        schema = applyRule(REFACTOR_ALLOF_WITH_PROPERTIES_ONLY, this::processRefactorAllOfWithPropertiesOnly, schema);
 
         return schema;
     }
 
     private Schema normalizeOneOf(Schema schema, Set<Schema> visitedSchemas) {
         // simplify first as the schema may no longer be a oneOf after processing the rule below
-        schema = processSimplifyOneOf(schema);
+        Schema original = schema;
+        schema = applyRule(SIMPLIFY_ONEOF_ANYOF, this::processSimplifyOneOf, schema);
 
         // if it's still a oneOf, loop through the sub-schemas
         if (schema.getOneOf() != null) {
@@ -756,6 +852,9 @@ public class OpenAPINormalizer {
             }
         } else {
             // normalize it as it's no longer an oneOf
+            if (schema == original) {
+                visitedSchemas.remove(schema);
+            }
             schema = normalizeSchema(schema, visitedSchemas);
         }
 
@@ -780,10 +879,19 @@ public class OpenAPINormalizer {
         }
 
         // process rules here
-        schema = processSimplifyAnyOf(schema);
+        Schema original = schema;
+        schema = applyRule(SIMPLIFY_ONEOF_ANYOF, this::processSimplifyAnyOf, schema);
 
         // last rule to process as the schema may become String schema (not "anyOf") after the completion
-        return normalizeSchema(processSimplifyAnyOfStringAndEnumString(schema), visitedSchemas);
+        schema = applyRule(SIMPLIFY_ANYOF_STRING_AND_ENUM_STRING, this::processSimplifyAnyOfStringAndEnumString, schema);
+        if (schema == original) {
+            if (ModelUtils.hasAnyOf(schema)) {
+                return schema; // still an anyOf, which has been normalized above
+            }
+            // normalize it as it's no longer an anyOf
+            visitedSchemas.remove(schema);
+        }
+        return normalizeSchema(schema, visitedSchemas);
     }
 
     private Schema normalizeComplexComposedSchema(Schema schema, Set<Schema> visitedSchemas) {
@@ -792,7 +900,7 @@ public class OpenAPINormalizer {
             normalizeProperties(schema.getProperties(), visitedSchemas);
         }
 
-        processRemoveAnyOfOneOfAndKeepPropertiesOnly(schema);
+        runRule(REMOVE_ANYOF_ONEOF_AND_KEEP_PROPERTIES_ONLY, this::processRemoveAnyOfOneOfAndKeepPropertiesOnly, schema);
 
         return normalizeSchema(schema, visitedSchemas);
     }
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Content hashes of the paths and components of an OpenAPI document, together with the references between them.
+ * Incremental generation uses it to tell which generated files are affected by a change to the document.
+ * <p>
+ * Everything that isn't a path, a webhook or a reusable component (info, servers, security, tags, security schemes,
+ * extensions) is folded into a single {@link #getGlobalHash() global hash}, as it may end up in any generated file.
+ */
+class SpecDependencyIndex {
+    private static final List<String> COMPONENT_TYPES = Arrays.asList(
+            "schemas", "responses", "parameters", "examples", "requestBodies", "headers", "links", "callbacks", "pathItems");
+    private static final String COMPONENT_REF_PREFIX = "#/components/";
+    private static final String SCHEMAS = "components/schemas/";
+
+    private static final ObjectMapper MAPPER = Json.mapper().copy()
+            .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private final Map<String, HashCode> nodeHashes = new HashMap<>();
+    private final Map<String, Set<String>> references = new HashMap<>();
+    private final Map<String, Set<String>> referrers = new HashMap<>();
+    // schemas composing each schema with allOf and the reverse, and the schemas declaring a discriminator
+    private final Map<String, Set<String>> allOfChildren = new HashMap<>();
+    private final Map<String, Set<String>> allOfParents = new HashMap<>();
+    private final Set<String> discriminators = new HashSet<>();
+    private final HashCode globalHash;
+
+    SpecDependencyIndex(OpenAPI openAPI) {
+        ObjectNode root = MAPPER.valueToTree(openAPI);
+        indexSection("paths/", root.remove("paths"));
+        indexSection("webhooks/", root.remove("webhooks"));
+        JsonNode components = root.get("components");
+        if (components instanceof ObjectNode) {
+            for (String type : COMPONENT_TYPES) {
+                indexSection("components/" + type + "/", ((ObjectNode) components).remove(type));
+            }
+        }
+        globalHash = hash(root);
+
+        references.forEach((node, targets) -> targets.forEach(target ->
+                referrers.computeIfAbsent(target, k -> new HashSet<>()).add(node)));
+    }
+
+    /**
+     * @return the hash of everything in the document that isn't tracked per node
+     */
+    HashCode getGlobalHash() {
+        return globalHash;
+    }
+
+    /**
+     * Hashes the inputs of a model: the schema, every schema it transitively references, and the schemas directly
+     * referencing it (e.g. children composing it with allOf, or a parent listing it in oneOf). The model of a schema
+     * with a discriminator, or inheriting one, also depends on every schema transitively composing it with allOf, as
+     * its discriminator mapping lists them.
+     *
+     * @param schemaName name of the schema under components/schemas
+     * @return the hash of the model inputs
+     */
+    String schemaInputs(String schemaName) {
+        String node = SCHEMAS + schemaName;
+        Set<String> inputs = closure(Collections.singleton(node));
+        for (String referrer : referrers.getOrDefault(node, Collections.emptySet())) {
+            if (referrer.startsWith(SCHEMAS)) {
+                inputs.add(referrer);
+            }
+        }
+        if (!Collections.disjoint(discriminators, closure(Collections.singleton(node), allOfParents))) {
+            inputs.addAll(closure(Collections.singleton(node), allOfChildren));
+        }
+        return hashOf(inputs);
+    }
+
+    /**
+     * Hashes the inputs of an API: the given path items and every component they transitively reference.
+     *
+     * @param paths path templates as they appear under paths in the document
+     * @return the hash of the API inputs
+     */
+    String pathInputs(Collection<String> paths) {
+        Set<String> nodes = new HashSet<>();
+        for (String path : paths) {
+            nodes.add("paths/" + path);
+        }
+        return hashOf(closure(nodes));
+    }
+
+    private void indexSection(String prefix, JsonNode section) {
+        if (section == null) {
+            return;
+        }
+        section.fields().forEachRemaining(entry -> {
+            String node = prefix + entry.getKey();
+            nodeHashes.put(node, hash(entry.getValue()));
+            Set<String> targets = new HashSet<>();
+            collectReferences(entry.getValue(), targets);
+            references.put(node, targets);
+            if (node.startsWith(SCHEMAS)) {
+                indexComposition(node, entry.getValue());
+            }
+        });
+    }
+
+    private void indexComposition(String node, JsonNode schema) {
+        if (schema.has("discriminator")) {
+            discriminators.add(node);
+        }
+        JsonNode allOf = schema.get("allOf");
+        if (allOf == null) {
+            return;
+        }
+        for (JsonNode item : allOf) {
+            JsonNode ref = item.get("$ref");
+            if (ref != null && ref.isTextual() && ref.textValue().startsWith(COMPONENT_REF_PREFIX)) {
+                String parent = unescape(ref.textValue().substring(2));
+                allOfChildren.computeIfAbsent(parent, k -> new HashSet<>()).add(node);
+                allOfParents.computeIfAbsent(node, k -> new HashSet<>()).add(parent);
+            } else if (item.has("discriminator")) {
+                discriminators.add(node);
+            }
+        }
+    }
+
+    private static void collectReferences(JsonNode node, Set<String> targets) {
+        if (node.isTextual()) {
+            String text = node.textValue();
+            if (text.startsWith(COMPONENT_REF_PREFIX)) {
+                targets.add(unescape(text.substring(2)));
+            }
+        } else {
+            for (JsonNode child : node) {
+                collectReferences(child, targets);
+            }
+        }
+    }
+
+    // JSON pointer escaping, see RFC 6901
+    private static String unescape(String pointer) {
+        return pointer.replace("~1", "/").replace("~0", "~");
+    }
+
+    private Set<String> closure(Set<String> nodes) {
+        return closure(nodes, references);
+    }
+
+    private static Set<String> closure(Set<String> nodes, Map<String, Set<String>> edges) {
+        Set<String> visited = new HashSet<>();
+        Deque<String> pending = new ArrayDeque<>(nodes);
+        while (!pending.isEmpty()) {
+            String node = pending.pop();
+            if (visited.add(node)) {
+                pending.addAll(edges.getOrDefault(node, Collections.emptySet()));
+            }
+        }
+        return visited;
+    }
+
+    private String hashOf(Set<String> nodes) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (String node : new TreeSet<>(nodes)) {
+            hasher.putString(node, StandardCharsets.UTF_8).putByte((byte) 0);
+            HashCode nodeHash = nodeHashes.get(node);
+            if (nodeHash != null) {
+                hasher.putBytes(nodeHash.asBytes());
+            }
+        }
+        return hasher.hash().toString();
+    }
+
+    private static HashCode hash(JsonNode node) {
+        try {
+            return Hashing.murmur3_128().hashBytes(MAPPER.writeValueAsBytes(node));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not hash the OpenAPI document", e);
+        }
+    }
+}
@@ -12,19 +12,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
  * Manages the lookup, compilation, and writing of template files
  */
-public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
+public class TemplateManager implements TemplatingExecutor, TemplateProcessor, AutoCloseable {
     private final TemplateManagerOptions options;
     private final TemplatingEngineAdapter engineAdapter;
     private final TemplatePathLocator[] templateLoaders;
 
+    // Template names resolved by the template loaders, per resolution key. Unresolved names map to an empty string.
+    private final Map<String, Map<String, String>> resolvedTemplates = new ConcurrentHashMap<>();
+    // Template contents by location
+    private final Map<String, CachedTemplate> templateContents = new ConcurrentHashMap<>();
+
     private final Logger LOGGER = LoggerFactory.getLogger(TemplateManager.class);
 
     /**
@@ -44,11 +51,7 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
     }
 
     private String getFullTemplateFile(String name) {
-        String template = Arrays.stream(this.templateLoaders)
-                .map(i -> i.getFullTemplatePath(name))
-                .filter(Objects::nonNull)
-                .findFirst()
-                .orElse("");
+        String template = resolveTemplate(name);
 
         if (StringUtils.isEmpty(template)) {
             throw new TemplateNotFoundException(name);
@@ -61,6 +64,35 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return template;
     }
 
+    /**
+     * Resolves a template name using the template loaders. Results are cached for the lifetime of this instance, as
+     * every lookup probes several locations on the file system and the classpath.
+     */
+    private String resolveTemplate(String name) {
+        String resolutionKey = getTemplateResolutionKey();
+        if (name == null || resolutionKey == null) {
+            return locateTemplate(name);
+        }
+        return resolvedTemplates
+                .computeIfAbsent(resolutionKey, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(name, this::locateTemplate);
+    }
+
+    private String locateTemplate(String name) {
+        return Arrays.stream(this.templateLoaders)
+                .map(i -> i.getFullTemplatePath(name))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse("");
+    }
+
+    /**
+     * Releases resources held for writing once generation has finished. Does nothing by default.
+     */
+    @Override
+    public void close() {
+    }
+
     /**
      * returns the template content by name
      *
@@ -69,7 +101,22 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
      */
     @Override
     public String getFullTemplateContents(String name) {
-        return readTemplate(getFullTemplateFile(name));
+        String location = getFullTemplateFile(name);
+        CachedTemplate cached = templateContents.get(location);
+        if (cached == null || !cached.isCurrent()) {
+            cached = loadTemplate(location);
+            templateContents.put(location, cached);
+        }
+        return cached.contents;
+    }
+
+    private CachedTemplate loadTemplate(String location) {
+        // embedded templates take precedence, see getInputStream
+        URL resource = this.getClass().getClassLoader().getResource(getCPResourcePath(location));
+        File file = resource == null ? new File(location) : null;
+        long lastModified = file != null ? file.lastModified() : 0L;
+        long length = file != null ? file.length() : 0L;
+        return new CachedTemplate(readTemplate(location), file, lastModified, length);
     }
 
     /**
@@ -83,6 +130,24 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         return Paths.get(getFullTemplateFile(name));
     }
 
+    /**
+     * Gets a key describing how template names are resolved, combined from the keys of all template loaders.
+     *
+     * @return The resolution key, or null if any of the template loaders can't describe its resolution
+     */
+    @Override
+    public String getTemplateResolutionKey() {
+        StringJoiner key = new StringJoiner("\n");
+        for (TemplatePathLocator loader : this.templateLoaders) {
+            String loaderKey = loader.getResolutionKey();
+            if (loaderKey == null) {
+                return null;
+            }
+            key.add(loaderKey);
+        }
+        return key.toString();
+    }
+
     /**
      * Gets a normalized classpath resource location according to OS-specific file separator
      *
@@ -113,9 +178,7 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
             if (reader == null) {
                 throw new RuntimeException("no file found");
             }
-            try (Scanner s = new Scanner(reader).useDelimiter("\\A")) {
-                return s.hasNext() ? s.next() : "";
-            }
+            return IOUtils.toString(reader);
         } catch (Exception e) {
             LOGGER.error("{}", e.getMessage(), e);
         }
@@ -212,25 +275,11 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
         File outputFile = Paths.get(filename).toFile();
 
         if (this.options.isMinimalUpdate()) {
-            String tempFilename = filename + ".tmp";
-            File tempFile = null;
-            try {
-                tempFile = writeToFileRaw(tempFilename, contents);
-                if (!filesEqual(tempFile, outputFile)) {
-                    LOGGER.info("writing file {}", filename);
-                    Files.move(tempFile.toPath(), outputFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                    tempFile = null;
-                } else {
-                    LOGGER.info("skipping unchanged file {}", filename);
-                }
-            } finally {
-                if (tempFile != null && tempFile.exists()) {
-                    try {
-                        Files.delete(tempFile.toPath());
-                    } catch (Exception ex) {
-                        LOGGER.error("Error removing temporary file {}", tempFile, ex);
-                    }
-                }
+            if (contentEquals(outputFile, contents)) {
+                LOGGER.info("skipping unchanged file {}", filename);
+            } else {
+                LOGGER.info("writing file {}", filename);
+                writeBytes(outputFile, contents);
             }
         } else {
             LOGGER.info("writing file {}", filename);
@@ -248,16 +297,60 @@ public class TemplateManager implements TemplatingExecutor, TemplateProcessor {
             return output;
         }
 
+        writeBytes(output, contents);
+
+        return output;
+    }
+
+    private void writeBytes(File output, byte[] contents) throws IOException {
         if (output.getParent() != null && !new File(output.getParent()).exists()) {
             File parent = Paths.get(output.getParent()).toFile();
             parent.mkdirs();
         }
         Files.write(output.toPath(), contents);
+    }
 
-        return output;
+    /**
+     * Compares an existing file to the given contents without reading the whole file into memory. Files of a
+     * different size are never read.
+     */
+    private static boolean contentEquals(File file, byte[] contents) throws IOException {
+        if (!file.isFile() || file.length() != contents.length) {
+            return false;
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            int offset = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                if (offset + read > contents.length
+                        || !Arrays.equals(buffer, 0, read, contents, offset, offset + read)) {
+                    return false;
+                }
+                offset += read;
+            }
+            return offset == contents.length;
+        }
     }
 
-    private boolean filesEqual(File file1, File file2) throws IOException {
-        return file1.exists() && file2.exists() && Arrays.equals(Files.readAllBytes(file1.toPath()), Files.readAllBytes(file2.toPath()));
+    /**
+     * The contents of a template. Templates read from the file system are reloaded once the file has been modified.
+     */
+    private static final class CachedTemplate {
+        private final String contents;
+        private final File file;
+        private final long lastModified;
+        private final long length;
+
+        CachedTemplate(String contents, File file, long lastModified, long length) {
+            this.contents = contents;
+            this.file = file;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        boolean isCurrent() {
+            return file == null || (file.lastModified() == lastModified && file.length() == length);
+        }
     }
 }
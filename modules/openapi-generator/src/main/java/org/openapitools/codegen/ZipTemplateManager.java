@@ -0,0 +1,183 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Manages templates for a generator writing generated files into a ZIP archive rather than to the file system.
+ * <p>
+ * Files are stored in the archive relative to the output directory, which is never written to by this manager. As
+ * entries can't be replaced once they have been written to the archive, generated files are held in memory and the
+ * archive is written when the manager is closed. Like writing to the file system, the last write to a path wins, unless
+ * overwriting files is skipped. The files returned by the write methods don't exist on the file system.
+ */
+public class ZipTemplateManager extends TemplateManager {
+    private final Logger LOGGER = LoggerFactory.getLogger(ZipTemplateManager.class);
+
+    private final TemplateManagerOptions options;
+    private final ZipOutputStream zip;
+    private final Path outputDir;
+    private final String entryPrefix;
+    // entry contents by entry name, in the order the entries were first written
+    private final Map<String, byte[]> entries = new LinkedHashMap<>();
+    private boolean closed;
+
+    /**
+     * Constructs a new instance of a {@link ZipTemplateManager}
+     *
+     * @param options         The {@link TemplateManagerOptions} for reading and writing templates
+     * @param engineAdapter   The adaptor to underlying templating engine
+     * @param templateLoaders Loaders which define where we look for templates
+     * @param zip             The archive to write generated files to. The caller is responsible for closing it.
+     * @param outputDir       The output directory of the generator
+     * @param entryPrefix     The directory within the archive files are written to, or an empty string
+     */
+    public ZipTemplateManager(
+            TemplateManagerOptions options,
+            TemplatingEngineAdapter engineAdapter,
+            TemplatePathLocator[] templateLoaders,
+            ZipOutputStream zip,
+            Path outputDir,
+            String entryPrefix) {
+        super(options, engineAdapter, templateLoaders);
+        this.options = options;
+        this.zip = zip;
+        this.outputDir = outputDir.toAbsolutePath().normalize();
+        if (entryPrefix == null || entryPrefix.isEmpty()) {
+            this.entryPrefix = "";
+        } else {
+            this.entryPrefix = entryPrefix.endsWith("/") ? entryPrefix : entryPrefix + "/";
+        }
+    }
+
+    /**
+     * Holds bytes as the archive entry for the file, replacing previous contents of the entry
+     *
+     * @param filename The name of file to write, within the output directory
+     * @param contents The contents bytes.  Typically, this is a UTF-8 formatted string.
+     * @return File representing the written file, which doesn't exist on the file system.
+     * @throws IOException If the archive has already been written, or the file is outside of the output directory.
+     */
+    @Override
+    public File writeToFile(String filename, byte[] contents) throws IOException {
+        Path path = Paths.get(filename);
+        String entryName = getEntryName(path);
+        synchronized (entries) {
+            if (closed) {
+                throw new IOException("Unable to write " + filename + ", as the archive has already been written");
+            }
+            if (options.isSkipOverwrite() && entries.containsKey(entryName)) {
+                LOGGER.info("skip overwrite of file {}", filename);
+            } else {
+                LOGGER.debug("writing archive entry {}", entryName);
+                entries.put(entryName, contents);
+            }
+        }
+        return path.toFile();
+    }
+
+    /**
+     * Adds the files within a directory which haven't been written to the archive yet. Some generators write files
+     * directly rather than through the template processor.
+     *
+     * @param directory The directory, usually the output directory of the generator
+     * @throws IOException If the directory can't be read or the archive has already been written
+     */
+    public void addFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(directory)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            boolean written;
+            synchronized (entries) {
+                written = entries.containsKey(getEntryName(file));
+            }
+            if (!written) {
+                writeToFile(file.toString(), Files.readAllBytes(file));
+            }
+        }
+    }
+
+    /**
+     * @return The names of all entries of the archive, in the order they were first written
+     */
+    public Set<String> getEntryNames() {
+        synchronized (entries) {
+            return Collections.unmodifiableSet(new LinkedHashSet<>(entries.keySet()));
+        }
+    }
+
+    /**
+     * Writes the held entries to the archive, after adding the files a generator wrote directly to the output
+     * directory. Files can't be written afterwards.
+     *
+     * @throws UncheckedIOException If the output directory can't be read or an entry can't be written
+     */
+    @Override
+    public void close() {
+        try {
+            synchronized (entries) {
+                if (closed) {
+                    return;
+                }
+                addFiles(outputDir);
+                closed = true;
+                for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                    zip.putNextEntry(new ZipEntry(entry.getKey()));
+                    zip.write(entry.getValue());
+                    zip.closeEntry();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write archive for " + outputDir, e);
+        }
+    }
+
+    private String getEntryName(Path path) throws IOException {
+        Path relative = outputDir.relativize(path.toAbsolutePath().normalize());
+        if (relative.toString().isEmpty() || relative.startsWith("..")) {
+            throw new IOException("Unable to write " + path + " to archive, as it is not within the output directory " + outputDir);
+        }
+        return entryPrefix + relative.toString().replace(File.separatorChar, '/');
+    }
+}
@@ -82,6 +82,7 @@ public class CodegenConfigurator {
     private Map<String, String> reservedWordsMappings = new HashMap<>();
     private Map<String, String> serverVariables = new HashMap<>();
     private String auth;
+    private ParsedSpecCache parsedSpecCache;
 
     private List<TemplateDefinition> userDefinedTemplates = new ArrayList<>();
 
@@ -352,11 +353,27 @@ public class CodegenConfigurator {
         return this;
     }
 
+    /**
+     * Shares the parsed input spec with other configurators using the same cache, rather than parsing it again.
+     *
+     * @param parsedSpecCache The cache of parsed input specs, or null to parse the input spec on each call to {@link #toContext()}
+     * @return The configurator
+     */
+    public CodegenConfigurator setParsedSpecCache(ParsedSpecCache parsedSpecCache) {
+        this.parsedSpecCache = parsedSpecCache;
+        return this;
+    }
+
     public CodegenConfigurator setEnableMinimalUpdate(boolean enableMinimalUpdate) {
         workflowSettingsBuilder.withEnableMinimalUpdate(enableMinimalUpdate);
         return this;
     }
 
+    public CodegenConfigurator setParallelism(int parallelism) {
+        workflowSettingsBuilder.withParallelism(parallelism);
+        return this;
+    }
+
     public CodegenConfigurator setEnablePostProcessFile(boolean enablePostProcessFile) {
         workflowSettingsBuilder.withEnablePostProcessFile(enablePostProcessFile);
         return this;
@@ -488,6 +505,10 @@ public class CodegenConfigurator {
         return this;
     }
 
+    public String getInputSpec() {
+        return inputSpec;
+    }
+
     public CodegenConfigurator setInputSpec(String inputSpec) {
         this.inputSpec = inputSpec;
         workflowSettingsBuilder.withInputSpec(inputSpec);
@@ -683,7 +704,9 @@ public class CodegenConfigurator {
         final List<AuthorizationValue> authorizationValues = AuthParser.parse(this.auth);
         ParseOptions options = new ParseOptions();
         options.setResolve(true);
-        SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+        SwaggerParseResult result = parsedSpecCache != null
+                ? parsedSpecCache.parse(inputSpec, this.auth, authorizationValues, options)
+                : new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
 
         // TODO: Move custom validations to a separate type as part of a "Workflow"
         Set<String> validationMessages = new HashSet<>(null != result.getMessages() ? result.getMessages() : new ArrayList<>());
@@ -762,6 +785,7 @@ public class CodegenConfigurator {
         config.setSkipOperationExample(workflowSettings.isSkipOperationExample());
         config.setEnablePostProcessFile(workflowSettings.isEnablePostProcessFile());
         config.setEnableMinimalUpdate(workflowSettings.isEnableMinimalUpdate());
+        config.setParallelism(workflowSettings.getParallelism());
         config.setStrictSpecBehavior(workflowSettings.isStrictSpecBehavior());
 
         TemplatingEngineAdapter templatingEngine = TemplatingEngineLoader.byIdentifier(workflowSettings.getTemplatingEngineName());
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.config;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.parser.core.models.AuthorizationValue;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.utils.OpenAPICopier;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Parses each distinct input spec once, for use by several generators such as the jobs of a batch.
+ * <p>
+ * Each caller receives its own structural copy of the parsed document, as generators modify the document while
+ * processing it. Concurrent requests for the same input spec wait for a single parse.
+ */
+public class ParsedSpecCache {
+    private final Map<String, CompletableFuture<ParsedSpec>> specs = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicLong savedNanos = new AtomicLong();
+
+    /**
+     * Parses and resolves an input spec, unless it has been parsed already.
+     *
+     * @param inputSpec           The location of the input spec
+     * @param auth                The authorization string used to fetch remote input specs, part of the cache key
+     * @param authorizationValues The parsed authorization values
+     * @param options             The parse options, which must be the same for all calls
+     * @return A copy of the parse result, which may be modified by the caller
+     */
+    public SwaggerParseResult parse(String inputSpec, String auth, List<AuthorizationValue> authorizationValues, ParseOptions options) {
+        requests.incrementAndGet();
+        String key = key(inputSpec) + "\n" + (auth == null ? "" : auth);
+
+        CompletableFuture<ParsedSpec> future = new CompletableFuture<>();
+        CompletableFuture<ParsedSpec> existing = specs.putIfAbsent(key, future);
+        boolean parsed = existing == null;
+        if (parsed) {
+            try {
+                long start = System.nanoTime();
+                SwaggerParseResult result = new OpenAPIParser().readLocation(inputSpec, authorizationValues, options);
+                future.complete(new ParsedSpec(result, System.nanoTime() - start));
+            } catch (Throwable e) {
+                // also complete on errors (e.g. a StackOverflowError on deeply recursive specs), as other jobs wait for it
+                future.completeExceptionally(e);
+                throw e;
+            }
+            existing = future;
+        }
+
+        ParsedSpec spec;
+        try {
+            spec = existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        SwaggerParseResult copy = new SwaggerParseResult()
+                .messages(spec.result.getMessages() == null ? null : new ArrayList<>(spec.result.getMessages()))
+                .openapi31(spec.result.isOpenapi31());
+        copy.setOpenAPI(OpenAPICopier.copy(spec.result.getOpenAPI()));
+        if (!parsed) {
+            savedNanos.addAndGet(Math.max(0, spec.parseNanos - (System.nanoTime() - start)));
+        }
+        return copy;
+    }
+
+    /**
+     * @return The number of distinct input specs parsed
+     */
+    public int getParseCount() {
+        return specs.size();
+    }
+
+    /**
+     * @return The number of input specs requested, including those served from the cache
+     */
+    public int getRequestCount() {
+        return requests.get();
+    }
+
+    /**
+     * @return The parse time saved by serving copies of parsed input specs, in nanoseconds
+     */
+    public long getSavedNanos() {
+        return savedNanos.get();
+    }
+
+    private static String key(String inputSpec) {
+        File file = new File(inputSpec);
+        if (file.exists()) {
+            return file.toPath().toAbsolutePath().normalize().toString();
+        }
+        return inputSpec;
+    }
+
+    private static final class ParsedSpec {
+        private final SwaggerParseResult result;
+        private final long parseNanos;
+
+        ParsedSpec(SwaggerParseResult result, long parseNanos) {
+            this.result = result;
+            this.parseNanos = parseNanos;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.openapitools.codegen.examples;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rendered examples by schema identity and media type, shared by the {@link ExampleGenerator}s of a generation run so
+ * that a schema referenced by many operations is only rendered once per media type.
+ */
+public class ExampleCache {
+    private final Map<Key, Entry> examples = new ConcurrentHashMap<>();
+
+    /**
+     * @param schema    the schema
+     * @param mediaType the media type of the example
+     * @return the cached example, or null if there is none or it is outdated
+     */
+    String get(Schema schema, String mediaType) {
+        Entry entry = examples.get(new Key(schema, mediaType));
+        if (entry == null) {
+            return null;
+        }
+        for (Schema unnamed : entry.unnamedSchemas) {
+            if (unnamed.getName() != null) {
+                return null;
+            }
+        }
+        return entry.example;
+    }
+
+    /**
+     * Caches an example.
+     *
+     * @param schema         the schema
+     * @param mediaType      the media type of the example
+     * @param example        the example
+     * @param unnamedSchemas schemas which had no name when the example was rendered. The example is outdated once any
+     *                       of them is named, as names decide which nested models are rendered.
+     */
+    void put(Schema schema, String mediaType, String example, Collection<Schema> unnamedSchemas) {
+        examples.put(new Key(schema, mediaType), new Entry(example, new ArrayList<>(unnamedSchemas)));
+    }
+
+    void put(Schema schema, String mediaType, String example) {
+        put(schema, mediaType, example, Collections.emptyList());
+    }
+
+    private static final class Entry {
+        private final String example;
+        private final List<Schema> unnamedSchemas;
+
+        Entry(String example, List<Schema> unnamedSchemas) {
+            this.example = example;
+            this.unnamedSchemas = unnamedSchemas;
+        }
+    }
+
+    private static final class Key {
+        private final Schema schema;
+        private final String mediaType;
+
+        Key(Schema schema, String mediaType) {
+            this.schema = schema;
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return schema == other.schema && mediaType.equals(other.mediaType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(schema) + mediaType.hashCode();
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.Function;
 
 public class ExampleGenerator {
     private final Logger LOGGER = LoggerFactory.getLogger(ExampleGenerator.class);
@@ -50,10 +51,21 @@ public class ExampleGenerator {
     protected Map<String, Schema> examples;
     private OpenAPI openAPI;
     private Random random;
+    private final ExampleCache cache;
 
     public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI) {
+        this(examples, openAPI, new ExampleCache());
+    }
+
+    /**
+     * @param examples the schemas by name
+     * @param openAPI  the document
+     * @param cache    examples already rendered during this generation run
+     */
+    public ExampleGenerator(Map<String, Schema> examples, OpenAPI openAPI, ExampleCache cache) {
         this.examples = examples;
         this.openAPI = openAPI;
+        this.cache = cache;
         // use a fixed seed to make the "random" numbers reproducible.
         this.random = new Random("ExampleGenerator".hashCode());
         dateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
@@ -119,7 +131,7 @@ public class ExampleGenerator {
                         output.add(kv);
                     }
                 } else if (property != null && mediaType.startsWith(MIME_TYPE_XML)) {
-                    String example = new XmlExampleGenerator(this.examples).toXml(property);
+                    String example = xmlExample(property, mediaType, xml -> xml.toXml(property));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -158,7 +170,15 @@ public class ExampleGenerator {
                 if (modelName != null && (mediaType.startsWith(MIME_TYPE_JSON) || mediaType.contains("*/*"))) {
                     final Schema schema = this.examples.get(modelName);
                     if (schema != null) {
-                        String example = Json.pretty(resolveModelToExample(modelName, mediaType, schema, processedModels));
+                        String example = cache.get(schema, mediaType);
+                        if (example == null) {
+                            Object resolved = resolveModelToExample(modelName, mediaType, schema, processedModels);
+                            example = Json.pretty(resolved);
+                            // once stored on the schema, the example of a model no longer changes
+                            if (example != null && resolved != null && resolved == schema.getExample()) {
+                                cache.put(schema, mediaType, example);
+                            }
+                        }
 
                         if (example != null) {
                             kv.put(EXAMPLE, example);
@@ -168,7 +188,7 @@ public class ExampleGenerator {
                     }
                 } else if (modelName != null && mediaType.startsWith(MIME_TYPE_XML)) {
                     final Schema schema = this.examples.get(modelName);
-                    String example = new XmlExampleGenerator(this.examples).toXml(schema, 0, Collections.emptySet());
+                    String example = schema == null ? "" : xmlExample(schema, mediaType, xml -> xml.toXml(schema, 0, Collections.emptySet()));
                     if (example != null) {
                         kv.put(EXAMPLE, example);
                         kv.put(GENERATED_CONTENT_TYPE, MIME_TYPE_XML);
@@ -225,6 +245,18 @@ public class ExampleGenerator {
         return output;
     }
 
+    private String xmlExample(Schema schema, String mediaType, Function<XmlExampleGenerator, String> render) {
+        String example = cache.get(schema, mediaType);
+        if (example == null) {
+            XmlExampleGenerator xmlExampleGenerator = new XmlExampleGenerator(this.examples);
+            example = render.apply(xmlExampleGenerator);
+            if (example != null) {
+                cache.put(schema, mediaType, example, xmlExampleGenerator.getUnnamedSchemas());
+            }
+        }
+        return example;
+    }
+
     private Object resolvePropertyToExample(String propertyName, String mediaType, Schema property, Set<String> processedModels) {
         if (property == null) {
             LOGGER.error("Property schema shouldn't be null. Please report the issue to the openapi-generator team.");
@@ -34,6 +34,8 @@ public class XmlExampleGenerator {
     public static String TAG_END = "</";
     private static String EMPTY = "";
     protected Map<String, Schema> examples;
+    // models rendered without a name, which affects the output when they are nested
+    private final Set<Schema> unnamedSchemas = Collections.newSetFromMap(new IdentityHashMap<>());
 
     public XmlExampleGenerator(Map<String, Schema> examples) {
         this.examples = examples;
@@ -59,6 +61,9 @@ public class XmlExampleGenerator {
 
     protected String modelImplToXml(Schema schema, int indent, Collection<String> path) {
         final String modelName = schema.getName();
+        if (modelName == null) {
+            unnamedSchemas.add(schema);
+        }
         if (path.contains(modelName)) {
             return EMPTY;
         }
@@ -115,6 +120,13 @@ public class XmlExampleGenerator {
         return sb.toString();
     }
 
+    /**
+     * @return the models rendered so far which had no name
+     */
+    Set<Schema> getUnnamedSchemas() {
+        return unnamedSchemas;
+    }
+
     @SuppressWarnings("static-method")
     protected String quote(String string) {
         return "\"" + string + "\"";
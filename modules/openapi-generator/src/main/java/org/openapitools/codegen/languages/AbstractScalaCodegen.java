@@ -29,6 +29,7 @@ import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.openapitools.codegen.*;
 import org.openapitools.codegen.model.ModelsMap;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
 import org.openapitools.codegen.utils.CamelizeOption;
 import org.openapitools.codegen.utils.ModelUtils;
 import org.slf4j.Logger;
@@ -49,6 +50,28 @@ import static org.openapitools.codegen.utils.StringUtils.underscore;
 public abstract class AbstractScalaCodegen extends DefaultCodegen {
     private final Logger LOGGER = LoggerFactory.getLogger(AbstractScalaCodegen.class);
 
+    private static final Mustache.Escaper SCALA = new Mustache.Escaper() {
+        @Override
+        public String escape(String text) {
+            // Fix included as suggested by akkie in #6393
+            // The given text is a reserved word which is escaped by enclosing it with grave accents. If we would
+            // escape that with the default Mustache `HTML` escaper, then the escaper would also escape our grave
+            // accents. So we remove the grave accents before the escaping and add it back after the escaping.
+            if (text.startsWith("`") && text.endsWith("`")) {
+                String unescaped = text.substring(1, text.length() - 1);
+                return "`" + Escapers.HTML.escape(unescaped) + "`";
+            }
+
+            // All none reserved words will be escaped with the default Mustache `HTML` escaper
+            return Escapers.HTML.escape(text);
+        }
+    };
+
+    static {
+        // stateless, so templates compiled with it can be shared between generator runs
+        MustacheEngineAdapter.registerSharedCompilerSetting(SCALA);
+    }
+
     @Getter protected String modelPropertyNaming = CodegenConstants.ENUM_PROPERTY_NAMING_TYPE.camelCase.name();
     @Setter protected String invokerPackage = "org.openapitools.client";
     @Getter @Setter
@@ -324,23 +347,6 @@ public abstract class AbstractScalaCodegen extends DefaultCodegen {
 
     @Override
     public Mustache.Compiler processCompiler(Mustache.Compiler compiler) {
-        Mustache.Escaper SCALA = new Mustache.Escaper() {
-            @Override
-            public String escape(String text) {
-                // Fix included as suggested by akkie in #6393
-                // The given text is a reserved word which is escaped by enclosing it with grave accents. If we would
-                // escape that with the default Mustache `HTML` escaper, then the escaper would also escape our grave
-                // accents. So we remove the grave accents before the escaping and add it back after the escaping.
-                if (text.startsWith("`") && text.endsWith("`")) {
-                    String unescaped = text.substring(1, text.length() - 1);
-                    return "`" + Escapers.HTML.escape(unescaped) + "`";
-                }
-
-                // All none reserved words will be escaped with the default Mustache `HTML` escaper
-                return Escapers.HTML.escape(text);
-            }
-        };
-
         return compiler.withEscaper(SCALA);
     }
 
@@ -39,6 +39,9 @@ public class ConfluenceWikiCodegen extends DefaultCodegen implements CodegenConf
     public ConfluenceWikiCodegen() {
         super();
 
+        // templates render jsonSchema of response schemas
+        eagerJsonSchemas = true;
+
         // TODO: ConfluenceWiki maintainer review
         modifyFeatureSet(features -> features
                 .documentationFeatures(EnumSet.noneOf(DocumentationFeature.class))
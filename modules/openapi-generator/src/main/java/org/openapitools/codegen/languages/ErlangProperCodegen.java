@@ -452,7 +452,7 @@ public class ErlangProperCodegen extends DefaultCodegen implements CodegenConfig
             this.title = cm.title;
             this.description = cm.description;
             this.classVarName = cm.classVarName;
-            this.modelJson = cm.modelJson;
+            this.setModelJsonSupplier(cm::getModelJson);
             this.dataType = cm.dataType;
             this.xmlPrefix = cm.xmlPrefix;
             this.xmlNamespace = cm.xmlNamespace;
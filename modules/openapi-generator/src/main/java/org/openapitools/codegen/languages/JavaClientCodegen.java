@@ -74,6 +74,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     public static final String USE_ABSTRACTION_FOR_FILES = "useAbstractionForFiles";
     public static final String DYNAMIC_OPERATIONS = "dynamicOperations";
     public static final String SUPPORT_STREAMING = "supportStreaming";
+    public static final String USE_STREAMING_TYPE_ADAPTERS = "useStreamingTypeAdapters";
+    public static final String USE_STREAMING_JSON_BODIES = "useStreamingJsonBodies";
     public static final String SUPPORT_URL_QUERY = "supportUrlQuery";
     public static final String GRADLE_PROPERTIES = "gradleProperties";
     public static final String ERROR_OBJECT_TYPE = "errorObjectType";
@@ -132,6 +134,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
     @Setter protected boolean useAbstractionForFiles = false;
     @Setter protected boolean dynamicOperations = false;
     @Setter protected boolean supportStreaming = false;
+    @Setter protected boolean useStreamingTypeAdapters = false;
+    @Setter protected boolean useStreamingJsonBodies = false;
     @Setter protected boolean withAWSV4Signature = false;
     @Setter protected String gradleProperties;
     @Setter protected String errorObjectType;
@@ -230,6 +234,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         cliOptions.add(CliOption.newBoolean(USE_ABSTRACTION_FOR_FILES, "Use alternative types instead of java.io.File to allow passing bytes without a file on disk. Available on resttemplate, webclient, restclient, libraries"));
         cliOptions.add(CliOption.newBoolean(DYNAMIC_OPERATIONS, "Generate operations dynamically at runtime from an OAS", this.dynamicOperations));
         cliOptions.add(CliOption.newBoolean(SUPPORT_STREAMING, "Support streaming endpoint (beta)", this.supportStreaming));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_TYPE_ADAPTERS, "Validate and deserialize models while reading the JSON stream instead of reading it into a JsonElement tree first. Only okhttp-gson supports this option.", this.useStreamingTypeAdapters));
+        cliOptions.add(CliOption.newBoolean(USE_STREAMING_JSON_BODIES, "Stream JSON request and response bodies instead of buffering them, and generate a `...Stream` variant of operations returning an array. Request bodies are sent without a Content-Length, and the async response interceptor receives the response as an InputStream. Only native supports this option.", this.useStreamingJsonBodies));
         cliOptions.add(CliOption.newBoolean(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT, CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT_DESC + " (only available for okhttp-gson library)", this.withAWSV4Signature));
         cliOptions.add(CliOption.newString(GRADLE_PROPERTIES, "Append additional Gradle properties to the gradle.properties file"));
         cliOptions.add(CliOption.newString(ERROR_OBJECT_TYPE, "Error Object type. (This option is for okhttp-gson only)"));
@@ -389,6 +395,8 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         convertPropertyToBooleanAndWriteBack(USE_ABSTRACTION_FOR_FILES, this::setUseAbstractionForFiles);
         convertPropertyToBooleanAndWriteBack(DYNAMIC_OPERATIONS, this::setDynamicOperations);
         convertPropertyToBooleanAndWriteBack(SUPPORT_STREAMING, this::setSupportStreaming);
+        convertPropertyToBooleanAndWriteBack(USE_STREAMING_TYPE_ADAPTERS, this::setUseStreamingTypeAdapters);
+        convertPropertyToBooleanAndWriteBack(USE_STREAMING_JSON_BODIES, this::setUseStreamingJsonBodies);
         convertPropertyToBooleanAndWriteBack(CodegenConstants.WITH_AWSV4_SIGNATURE_COMMENT, this::setWithAWSV4Signature);
         convertPropertyToStringAndWriteBack(GRADLE_PROPERTIES, this::setGradleProperties);
         convertPropertyToStringAndWriteBack(ERROR_OBJECT_TYPE, this::setErrorObjectType);
@@ -983,6 +991,49 @@ public class JavaClientCodegen extends AbstractJavaCodegen
         return codegenModel;
     }
 
+    @Override
+    public Map<String, ModelsMap> postProcessAllModels(Map<String, ModelsMap> objs) {
+        objs = super.postProcessAllModels(objs);
+        if (OKHTTP_GSON.equals(getLibrary())) {
+            addRequiredFieldsToComposedSchemas(objs);
+        }
+        return objs;
+    }
+
+    /**
+     * Lists the required properties of the models a oneOf/anyOf model is composed of, so that JSON objects lacking one
+     * of them are rejected for that model before trying to deserialize them.
+     * Only plain models are listed, as only their validation is guaranteed to fail on a missing required property.
+     */
+    private void addRequiredFieldsToComposedSchemas(Map<String, ModelsMap> objs) {
+        Map<String, CodegenModel> modelsByClassname = new HashMap<>();
+        for (CodegenModel model : getAllModels(objs).values()) {
+            modelsByClassname.put(model.classname, model);
+        }
+        for (CodegenModel model : modelsByClassname.values()) {
+            CodegenComposedSchemas composedSchemas = model.getComposedSchemas();
+            if (composedSchemas == null) {
+                continue;
+            }
+            for (List<CodegenProperty> schemas : Arrays.asList(composedSchemas.getOneOf(), composedSchemas.getAnyOf())) {
+                if (schemas == null) {
+                    continue;
+                }
+                for (CodegenProperty schema : schemas) {
+                    CodegenModel schemaModel = modelsByClassname.get(schema.dataType);
+                    if (schemaModel != null && !schemaModel.isEnum && !schemaModel.hasChildren
+                            && schemaModel.oneOf.isEmpty() && schemaModel.anyOf.isEmpty()) {
+                        List<String> requiredFields = new ArrayList<>();
+                        for (CodegenProperty requiredVar : schemaModel.requiredVars) {
+                            requiredFields.add(requiredVar.baseName);
+                        }
+                        schema.vendorExtensions.put("x-required-fields", requiredFields);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public ModelsMap postProcessModelsEnum(ModelsMap objs) {
         objs = super.postProcessModelsEnum(objs);
@@ -63,6 +63,9 @@ public class PhpSlim4ServerCodegen extends AbstractPhpCodegen {
     public PhpSlim4ServerCodegen() {
         super();
 
+        // templates render modelJson and jsonSchema of models and parameters
+        eagerJsonSchemas = true;
+
         // PDS skeleton recommends tests folder
         // https://github.com/php-pds/skeleton
         this.testBasePath = "tests";
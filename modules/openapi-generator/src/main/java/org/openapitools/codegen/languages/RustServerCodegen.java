@@ -96,6 +96,9 @@ public class RustServerCodegen extends AbstractRustCodegen implements CodegenCon
     public RustServerCodegen() {
         super();
 
+        // templates render jsonSchema of multipart parameters
+        eagerJsonSchemas = true;
+
         modifyFeatureSet(features -> features
                 .includeDocumentationFeatures(DocumentationFeature.Readme)
                 .wireFormatFeatures(EnumSet.of(WireFormatFeature.JSON, WireFormatFeature.XML, WireFormatFeature.Custom))
@@ -56,6 +56,9 @@ public class StaticHtml2Generator extends DefaultCodegen implements CodegenConfi
     public StaticHtml2Generator() {
         super();
 
+        // templates render modelJson and jsonSchema of models and parameters
+        eagerJsonSchemas = true;
+
         modifyFeatureSet(features -> features
                 .documentationFeatures(EnumSet.allOf(DocumentationFeature.class))
                 .dataTypeFeatures(EnumSet.allOf(DataTypeFeature.class))
@@ -47,4 +47,14 @@ public class CommonTemplateContentLocator implements TemplatePathLocator {
         }
         return null;
     }
+
+    /**
+     * Gets a key describing the common resource location searched by this locator.
+     *
+     * @return The resolution key
+     */
+    @Override
+    public String getResolutionKey() {
+        return "common" + File.pathSeparator + this.resourceLocation;
+    }
 }
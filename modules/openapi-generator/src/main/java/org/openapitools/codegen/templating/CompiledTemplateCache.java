@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.templating;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openapitools.codegen.TemplateManager;
+import org.openapitools.codegen.config.GlobalSettings;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of compiled templates, shared between threads and generator runs within the same JVM.
+ * <p>
+ * Entries are keyed by the resolved template path, the resolution key of the executor which located the template
+ * and an engine specific configuration key. Templates are recompiled once any of the template names they were built
+ * from resolves to a different location, or a file they were read from has been modified.
+ *
+ * @param <T> The type of compiled template
+ */
+public class CompiledTemplateCache<T> {
+    public static final String CACHE_SIZE_PROPERTY = "org.openapitools.codegen.templating.cache.size";
+
+    private final Cache<Key, Entry<T>> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Constructs a new instance of {@link CompiledTemplateCache}, sized according to {@link #CACHE_SIZE_PROPERTY}.
+     */
+    public CompiledTemplateCache() {
+        this(Long.parseLong(GlobalSettings.getProperty(CACHE_SIZE_PROPERTY, "2000")));
+    }
+
+    /**
+     * Constructs a new instance of {@link CompiledTemplateCache}.
+     *
+     * @param maximumSize The maximum number of compiled templates to retain
+     */
+    public CompiledTemplateCache(long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Gets the compiled template for the given key, compiling it if it is not cached or any of its sources changed.
+     *
+     * @param key      The cache key
+     * @param resolver Resolves a template name to its current location, used to detect templates which now resolve
+     *                 to a different location (e.g. an override added to a user defined template directory)
+     * @param compile  Compiles the template. Templates contributing to it should be registered on the provided entry.
+     * @return The cache entry holding the compiled template
+     */
+    public Entry<T> get(Key key, Function<String, String> resolver, Function<Entry<T>, T> compile) {
+        Entry<T> entry = cache.getIfPresent(key);
+        if (entry != null && entry.isUpToDate(resolver)) {
+            hits.increment();
+            return entry;
+        }
+
+        return cache.asMap().compute(key, (k, existing) -> {
+            if (existing != null) {
+                if (existing != entry && existing.isUpToDate(resolver)) {
+                    // compiled by a concurrent caller
+                    hits.increment();
+                    return existing;
+                }
+                invalidations.increment();
+            }
+            misses.increment();
+            Entry<T> created = new Entry<>();
+            created.template = compile.apply(created);
+            return created;
+        });
+    }
+
+    /**
+     * Removes all compiled templates and resets the statistics.
+     */
+    public void clear() {
+        cache.invalidateAll();
+        hits.reset();
+        misses.reset();
+        invalidations.reset();
+    }
+
+    /**
+     * @return The number of lookups served by an up-to-date compiled template
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return The number of lookups which required the template to be compiled
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * @return The number of compiled templates discarded because one of their sources changed
+     */
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * @return The number of compiled templates currently retained
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "size=%d, hits=%d, misses=%d, invalidations=%d",
+                size(), getHitCount(), getMissCount(), getInvalidationCount());
+    }
+
+    /**
+     * Identifies a compiled template.
+     */
+    public static final class Key {
+        private final String resolutionKey;
+        private final String templatePath;
+        private final Object engineKey;
+
+        /**
+         * @param resolutionKey The template resolution key of the executor locating the template and its partials
+         * @param templatePath  The resolved path of the template
+         * @param engineKey     A key describing the engine configuration the template is compiled with
+         */
+        public Key(String resolutionKey, String templatePath, Object engineKey) {
+            this.resolutionKey = resolutionKey;
+            this.templatePath = templatePath;
+            this.engineKey = engineKey;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return Objects.equals(resolutionKey, key.resolutionKey) &&
+                    Objects.equals(templatePath, key.templatePath) &&
+                    Objects.equals(engineKey, key.engineKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resolutionKey, templatePath, engineKey);
+        }
+    }
+
+    /**
+     * A compiled template along with the templates it was compiled from.
+     *
+     * @param <T> The type of compiled template
+     */
+    public static final class Entry<T> {
+        private final List<Source> sources = new CopyOnWriteArrayList<>();
+        private volatile T template;
+
+        /**
+         * @return The compiled template
+         */
+        public T getTemplate() {
+            return template;
+        }
+
+        /**
+         * Registers a template which contributed to this compiled template. Every lookup is recorded, including
+         * embedded (classpath) templates, so that the compiled template is discarded once the name resolves to another
+         * location. Templates read from the file system are also checked for modifications.
+         *
+         * @param name     The template name, as passed to the resolver
+         * @param location The resolved template location
+         */
+        public void addSource(String name, String location) {
+            if (name == null || location == null) {
+                return;
+            }
+            FileStamp stamp = null;
+            if (getClass().getClassLoader().getResource(TemplateManager.getCPResourcePath(location)) == null) {
+                File file = new File(location);
+                if (file.isFile()) {
+                    stamp = new FileStamp(file);
+                }
+            }
+            sources.add(new Source(name, location, stamp));
+        }
+
+        boolean isUpToDate(Function<String, String> resolver) {
+            for (Source source : sources) {
+                if (!source.isCurrent(resolver)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class Source {
+        private final String name;
+        private final String location;
+        private final FileStamp stamp;
+
+        Source(String name, String location, FileStamp stamp) {
+            this.name = name;
+            this.location = location;
+            this.stamp = stamp;
+        }
+
+        boolean isCurrent(Function<String, String> resolver) {
+            if (stamp != null && !stamp.isCurrent()) {
+                return false;
+            }
+            try {
+                return location.equals(resolver.apply(name));
+            } catch (RuntimeException e) {
+                // the template no longer resolves
+                return false;
+            }
+        }
+    }
+
+    private static final class FileStamp {
+        private final File file;
+        private final long lastModified;
+        private final long length;
+
+        FileStamp(File file) {
+            this.file = file;
+            this.lastModified = file.lastModified();
+            this.length = file.length();
+        }
+
+        boolean isCurrent() {
+            return file.lastModified() == lastModified && file.length() == length;
+        }
+    }
+}
@@ -100,4 +100,19 @@ public class GeneratorTemplateContentLocator implements TemplatePathLocator {
 
         return null;
     }
+
+    /**
+     * Gets a key describing the template directories and library used to resolve templates for the generator.
+     *
+     * @return The resolution key
+     */
+    @Override
+    public String getResolutionKey() {
+        CodegenConfig config = this.codegenConfig;
+        return String.join(File.pathSeparator, "generator",
+                String.valueOf(config.templateDir()),
+                String.valueOf(config.embeddedTemplateDir()),
+                StringUtils.defaultString(config.getLibrary()));
+    }
+
 }
@@ -20,7 +20,8 @@ import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.Jackson2Helper;
 import com.github.jknack.handlebars.Template;
-import com.github.jknack.handlebars.context.FieldValueResolver;
+import com.github.jknack.handlebars.ValueResolver;
+import com.github.jknack.handlebars.cache.ConcurrentMapTemplateCache;
 import com.github.jknack.handlebars.context.JavaBeanValueResolver;
 import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.context.MethodValueResolver;
@@ -30,7 +31,6 @@ import com.github.jknack.handlebars.io.AbstractTemplateLoader;
 import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
-import lombok.Setter;
 import org.openapitools.codegen.api.AbstractTemplatingEngineAdapter;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.openapitools.codegen.templating.handlebars.AccessAwareFieldValueResolver;
@@ -38,12 +38,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.lang.reflect.AccessibleObject;
 import java.util.Arrays;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     final Logger LOGGER = LoggerFactory.getLogger(HandlebarsEngineAdapter.class);
@@ -52,7 +49,19 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     // We use this as a simple lookup for valid file name extensions. This adapter will inspect .mustache (built-in) and infer the relevant handlebars filename
     private final String[] canCompileFromExtensions = {".handlebars",".hbs",".mustache"};
     private boolean infiniteLoops = false;
-    @Setter private boolean prettyPrint = false;
+    private boolean prettyPrint = false;
+
+    // resolvers are stateless apart from their per-class member caches, so all contexts share the same instances
+    private static final ValueResolver[] VALUE_RESOLVERS = {
+            MapValueResolver.INSTANCE,
+            JavaBeanValueResolver.INSTANCE,
+            MethodValueResolver.INSTANCE,
+            AccessAwareFieldValueResolver.INSTANCE
+    };
+
+    // the runtime is configured once and reused for every file, templates are resolved through the executor of the current thread
+    private volatile Handlebars handlebars;
+    private final ThreadLocal<TemplatingExecutor> currentExecutor = new ThreadLocal<>();
 
     /**
      * Provides an identifier used to load the adapter. This could be a name, uuid, or any other string.
@@ -67,35 +76,63 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
     @Override
     public String compileTemplate(TemplatingExecutor executor,
                                   Map<String, Object> bundle, String templateFile) throws IOException {
+        Context context = Context
+                .newBuilder(bundle)
+                .resolver(VALUE_RESOLVERS)
+                .build();
+
+        TemplatingExecutor previous = currentExecutor.get();
+        currentExecutor.set(executor);
+        try {
+            Template tmpl = getHandlebars().compile(templateFile);
+            return tmpl.apply(context);
+        } finally {
+            if (previous == null) {
+                currentExecutor.remove();
+            } else {
+                currentExecutor.set(previous);
+            }
+        }
+    }
+
+    private Handlebars getHandlebars() {
+        Handlebars result = handlebars;
+        if (result == null) {
+            synchronized (this) {
+                result = handlebars;
+                if (result == null) {
+                    handlebars = result = createHandlebars();
+                }
+            }
+        }
+        return result;
+    }
+
+    private Handlebars createHandlebars() {
         TemplateLoader loader = new AbstractTemplateLoader() {
             @Override
             public TemplateSource sourceAt(String location) {
+                TemplatingExecutor executor = currentExecutor.get();
+                if (executor == null) {
+                    throw new TemplateNotFoundException(location);
+                }
                 return findTemplate(executor, location);
             }
         };
 
-        Context context = Context
-                .newBuilder(bundle)
-                .resolver(
-                        MapValueResolver.INSTANCE,
-                        JavaBeanValueResolver.INSTANCE,
-                        MethodValueResolver.INSTANCE,
-                        AccessAwareFieldValueResolver.INSTANCE)
-                .build();
-
-        Handlebars handlebars = new Handlebars(loader);
-        handlebars.registerHelperMissing((obj, options) -> {
+        // sources are compared by content on lookup, so a changed template (or one resolved differently by another executor) is recompiled
+        Handlebars runtime = new Handlebars(loader).with(new ConcurrentMapTemplateCache().setReload(true));
+        runtime.registerHelperMissing((obj, options) -> {
             LOGGER.warn(String.format(Locale.ROOT, "Unregistered helper name '%s', processing template:%n%s", options.helperName, options.fn.text()));
             return "";
         });
-        handlebars.registerHelper("json", Jackson2Helper.INSTANCE);
-        StringHelpers.register(handlebars);
-        handlebars.registerHelpers(ConditionalHelpers.class);
-        handlebars.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
-        handlebars.setInfiniteLoops(infiniteLoops);
-        handlebars.setPrettyPrint(prettyPrint);
-        Template tmpl = handlebars.compile(templateFile);
-        return tmpl.apply(context);
+        runtime.registerHelper("json", Jackson2Helper.INSTANCE);
+        StringHelpers.register(runtime);
+        runtime.registerHelpers(ConditionalHelpers.class);
+        runtime.registerHelpers(org.openapitools.codegen.templating.handlebars.StringHelpers.class);
+        runtime.setInfiniteLoops(infiniteLoops);
+        runtime.setPrettyPrint(prettyPrint);
+        return runtime;
     }
 
     @SuppressWarnings("java:S108")
@@ -142,8 +179,19 @@ public class HandlebarsEngineAdapter extends AbstractTemplatingEngineAdapter {
      */
     public HandlebarsEngineAdapter infiniteLoops(boolean infiniteLoops) {
         this.infiniteLoops = infiniteLoops;
+        this.handlebars = null;
         return this;
     }
 
+    /**
+     * Enable/disable prettyPrint setting for the Handlebars engine.
+     *
+     * @param prettyPrint Whether to enable (true) or disable (false)
+     */
+    public void setPrettyPrint(boolean prettyPrint) {
+        this.prettyPrint = prettyPrint;
+        this.handlebars = null;
+    }
+
 }
 
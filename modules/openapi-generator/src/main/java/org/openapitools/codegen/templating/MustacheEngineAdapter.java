@@ -16,6 +16,7 @@
 
 package org.openapitools.codegen.templating;
 
+import com.samskivert.mustache.Escapers;
 import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 import lombok.Getter;
@@ -30,7 +31,10 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class MustacheEngineAdapter implements TemplatingEngineAdapter {
@@ -51,6 +55,27 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
     @Getter @Setter
     Mustache.Compiler compiler = Mustache.compiler();
 
+    /**
+     * Compiled templates shared by all instances, so that each template (and its partials) is parsed once per JVM
+     * rather than once per generated file.
+     */
+    @Getter
+    private static final CompiledTemplateCache<Template> templateCache = new CompiledTemplateCache<>();
+
+    // escapers and formatters are compared by identity, they don't override equals
+    private static final Set<Object> SHARED_COMPILER_SETTINGS = ConcurrentHashMap.newKeySet();
+
+    static {
+        Mustache.Compiler defaults = Mustache.compiler();
+        registerSharedCompilerSetting(defaults.formatter);
+        registerSharedCompilerSetting(defaults.escaper);
+        registerSharedCompilerSetting(Escapers.HTML);
+        registerSharedCompilerSetting(Escapers.NONE);
+    }
+
+    // partials are loaded lazily while a cached template executes, through the executor of the current thread
+    private static final ThreadLocal<ExecutionContext> CURRENT = new ThreadLocal<>();
+
     /**
      * Compiles a template into a string
      *
@@ -62,10 +87,6 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
      */
     @Override
     public String compileTemplate(TemplatingExecutor executor, Map<String, Object> bundle, String templateFile) throws IOException {
-        Template tmpl = compiler
-                .withLoader(name -> findTemplate(executor, name))
-                .defaultValue("")
-                .compile(executor.getFullTemplateContents(templateFile));
         StringWriter out = new StringWriter();
 
         // the value of bundle[MUSTACHE_PARENT_CONTEXT] is used a parent content in mustache.
@@ -77,7 +98,41 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
             // avoid NPE
             parent = new Object();
         }
-        tmpl.execute(bundle, parent, out);
+
+        String resolutionKey = executor.getTemplateResolutionKey();
+        Object compilerKey = compilerKey(compiler);
+        if (resolutionKey == null || compilerKey == null) {
+            // the executor can't describe how it resolves partials, or the compiler holds state of the generator run,
+            // so the compiled template can't be shared
+            Template tmpl = compiler
+                    .withLoader(name -> findTemplate(executor, name))
+                    .defaultValue("")
+                    .compile(executor.getFullTemplateContents(templateFile));
+            tmpl.execute(bundle, parent, out);
+            return out.toString();
+        }
+
+        String templatePath = executor.getFullTemplatePath(templateFile).toString();
+        CompiledTemplateCache.Key key = new CompiledTemplateCache.Key(resolutionKey, templatePath, compilerKey);
+        CompiledTemplateCache.Entry<Template> entry = templateCache.get(key, name -> executor.getFullTemplatePath(name).toString(), created -> {
+            created.addSource(templateFile, templatePath);
+            return compiler
+                    .withLoader(MustacheEngineAdapter::findCurrentTemplate)
+                    .defaultValue("")
+                    .compile(executor.getFullTemplateContents(templateFile));
+        });
+
+        ExecutionContext previous = CURRENT.get();
+        CURRENT.set(new ExecutionContext(this, executor, entry));
+        try {
+            entry.getTemplate().execute(bundle, parent, out);
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
         return out.toString();
     }
 
@@ -95,6 +150,62 @@ public class MustacheEngineAdapter implements TemplatingEngineAdapter {
         throw new TemplateNotFoundException(name);
     }
 
+    private static Reader findCurrentTemplate(String name) {
+        ExecutionContext context = CURRENT.get();
+        if (context == null) {
+            throw new TemplateNotFoundException(name);
+        }
+        for (String extension : context.adapter.extensions) {
+            String templateName = name + "." + extension;
+            try {
+                context.entry.addSource(templateName, context.executor.getFullTemplatePath(templateName).toString());
+                break;
+            } catch (Exception ignored) {
+                // reported by findTemplate below
+            }
+        }
+        return context.adapter.findTemplate(context.executor, name);
+    }
+
+    /**
+     * Registers an escaper or formatter which may be shared by compiled templates of different generator runs.
+     * Generators providing their own implementation should hold it in a constant and register it, otherwise their
+     * templates are compiled for every file.
+     *
+     * @param setting A stateless {@link Mustache.Escaper} or {@link Mustache.Formatter}
+     */
+    public static void registerSharedCompilerSetting(Object setting) {
+        SHARED_COMPILER_SETTINGS.add(setting);
+    }
+
+    /**
+     * Builds a key from the compiler settings which affect compilation and execution of a template. A compiled
+     * template executes with the escaper and formatter it was compiled with, so only registered (shared) instances
+     * can be part of the key.
+     *
+     * @return The key, or null if the compiler uses an escaper or formatter which isn't shared
+     */
+    private static Object compilerKey(Mustache.Compiler compiler) {
+        if (!SHARED_COMPILER_SETTINGS.contains(compiler.formatter) || !SHARED_COMPILER_SETTINGS.contains(compiler.escaper)) {
+            return null;
+        }
+        return Arrays.asList(compiler.standardsMode, compiler.strictSections, compiler.nullValue, compiler.missingIsNull,
+                compiler.emptyStringIsFalse, compiler.zeroIsFalse, compiler.formatter, compiler.escaper,
+                compiler.collector.getClass());
+    }
+
+    private static final class ExecutionContext {
+        private final MustacheEngineAdapter adapter;
+        private final TemplatingExecutor executor;
+        private final CompiledTemplateCache.Entry<Template> entry;
+
+        ExecutionContext(MustacheEngineAdapter adapter, TemplatingExecutor executor, CompiledTemplateCache.Entry<Template> entry) {
+            this.adapter = adapter;
+            this.executor = executor;
+            this.entry = entry;
+        }
+    }
+
     @Override
     public String[] getFileExtensions() {
         return extensions;
@@ -21,8 +21,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.core.util.AnnotationsUtils;
 import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.Operation;
-import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.callbacks.Callback;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.*;
@@ -134,24 +132,7 @@ public class ModelUtils {
      * @return schemas a list of used schemas
      */
     public static List<String> getAllUsedSchemas(OpenAPI openAPI) {
-        Map<String, List<String>> childrenMap = getChildrenMap(openAPI);
-        List<String> allUsedSchemas = new ArrayList<String>();
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if (!allUsedSchemas.contains(ref)) {
-                    allUsedSchemas.add(ref);
-                }
-                if (childrenMap.containsKey(ref)) {
-                    for (String child : childrenMap.get(ref)) {
-                        if (!allUsedSchemas.contains(child)) {
-                            allUsedSchemas.add(child);
-                        }
-                    }
-                }
-            }
-        });
-        return allUsedSchemas;
+        return SchemaGraph.of(openAPI).getUsedSchemas();
     }
 
     /**
@@ -161,35 +142,10 @@ public class ModelUtils {
      * @return schemas a list of unused schemas
      */
     public static List<String> getUnusedSchemas(OpenAPI openAPI) {
-        final Map<String, List<String>> childrenMap;
-        Map<String, List<String>> tmpChildrenMap;
-        try {
-            tmpChildrenMap = getChildrenMap(openAPI);
-        } catch (NullPointerException npe) {
-            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
-            // the stream used in getChildrenMap will raise an NPE. Rather than modify getChildrenMap which is used by getAllUsedSchemas,
-            // we'll catch here as a workaround for this edge case.
-            tmpChildrenMap = new HashMap<>();
-        }
-
-        childrenMap = tmpChildrenMap;
-        List<String> unusedSchemas = new ArrayList<String>();
-
-        if (openAPI != null) {
-            Map<String, Schema> schemas = getSchemas(openAPI);
-            unusedSchemas.addAll(schemas.keySet());
-
-            visitOpenAPI(openAPI, (s, t) -> {
-                if (s.get$ref() != null) {
-                    String ref = getSimpleRef(s.get$ref());
-                    unusedSchemas.remove(ref);
-                    if (childrenMap.containsKey(ref)) {
-                        unusedSchemas.removeAll(childrenMap.get(ref));
-                    }
-                }
-            });
+        if (openAPI == null) {
+            return new ArrayList<>();
         }
-        return unusedSchemas;
+        return SchemaGraph.of(openAPI).getUnusedSchemas();
     }
 
     /**
@@ -199,117 +155,7 @@ public class ModelUtils {
      * @return schemas a list of schemas
      */
     public static List<String> getSchemasUsedOnlyInFormParam(OpenAPI openAPI) {
-        List<String> schemasUsedInFormParam = new ArrayList<String>();
-        List<String> schemasUsedInOtherCases = new ArrayList<String>();
-
-        visitOpenAPI(openAPI, (s, t) -> {
-            if (s != null && s.get$ref() != null) {
-                String ref = getSimpleRef(s.get$ref());
-                if ("application/x-www-form-urlencoded".equalsIgnoreCase(t) ||
-                        "multipart/form-data".equalsIgnoreCase(t)) {
-                    schemasUsedInFormParam.add(ref);
-                } else {
-                    schemasUsedInOtherCases.add(ref);
-                }
-            }
-        });
-        return schemasUsedInFormParam.stream().filter(n -> !schemasUsedInOtherCases.contains(n)).collect(Collectors.toList());
-    }
-
-    /**
-     * Private method used by several methods ({@link #getAllUsedSchemas(OpenAPI)},
-     * {@link #getUnusedSchemas(OpenAPI)},
-     * {@link #getSchemasUsedOnlyInFormParam(OpenAPI)}, ...) to traverse all paths of an
-     * OpenAPI instance and call the visitor functional interface when a schema is found.
-     *
-     * @param openAPI specification
-     * @param visitor functional interface (can be defined as a lambda) called each time a schema is found.
-     */
-    private static void visitOpenAPI(OpenAPI openAPI, OpenAPISchemaVisitor visitor) {
-        Map<String, PathItem> paths = openAPI.getPaths();
-        List<String> visitedSchemas = new ArrayList<>();
-
-        if (paths != null) {
-            for (PathItem path : paths.values()) {
-                visitPathItem(path, openAPI, visitor, visitedSchemas);
-            }
-        }
-    }
-
-    private static void visitPathItem(PathItem pathItem, OpenAPI openAPI, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
-        List<Operation> allOperations = pathItem.readOperations();
-        if (allOperations != null) {
-            for (Operation operation : allOperations) {
-                //Params:
-                visitParameters(openAPI, operation.getParameters(), visitor, visitedSchemas);
-
-                //RequestBody:
-                RequestBody requestBody = getReferencedRequestBody(openAPI, operation.getRequestBody());
-                if (requestBody != null) {
-                    visitContent(openAPI, requestBody.getContent(), visitor, visitedSchemas);
-                }
-
-                //Responses:
-                if (operation.getResponses() != null) {
-                    for (ApiResponse r : operation.getResponses().values()) {
-                        ApiResponse apiResponse = getReferencedApiResponse(openAPI, r);
-                        if (apiResponse != null) {
-                            visitContent(openAPI, apiResponse.getContent(), visitor, visitedSchemas);
-                            if (apiResponse.getHeaders() != null) {
-                                for (Entry<String, Header> e : apiResponse.getHeaders().entrySet()) {
-                                    Header header = getReferencedHeader(openAPI, e.getValue());
-                                    if (header.getSchema() != null) {
-                                        visitSchema(openAPI, header.getSchema(), e.getKey(), visitedSchemas, visitor);
-                                    }
-                                    visitContent(openAPI, header.getContent(), visitor, visitedSchemas);
-                                }
-                            }
-                        }
-                    }
-                }
-
-                //Callbacks:
-                if (operation.getCallbacks() != null) {
-                    for (Callback c : operation.getCallbacks().values()) {
-                        Callback callback = getReferencedCallback(openAPI, c);
-                        if (callback != null) {
-                            for (PathItem p : callback.values()) {
-                                visitPathItem(p, openAPI, visitor, visitedSchemas);
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        //Params:
-        visitParameters(openAPI, pathItem.getParameters(), visitor, visitedSchemas);
-    }
-
-    private static void visitParameters(OpenAPI openAPI, List<Parameter> parameters, OpenAPISchemaVisitor visitor,
-                                        List<String> visitedSchemas) {
-        if (parameters != null) {
-            for (Parameter p : parameters) {
-                Parameter parameter = getReferencedParameter(openAPI, p);
-                if (parameter != null) {
-                    if (parameter.getSchema() != null) {
-                        visitSchema(openAPI, parameter.getSchema(), null, visitedSchemas, visitor);
-                    }
-                    visitContent(openAPI, parameter.getContent(), visitor, visitedSchemas);
-                } else {
-                    once(LOGGER).warn("Unreferenced parameter(s) found.");
-                }
-            }
-        }
-    }
-
-    private static void visitContent(OpenAPI openAPI, Content content, OpenAPISchemaVisitor visitor, List<String> visitedSchemas) {
-        if (content != null) {
-            for (Entry<String, MediaType> e : content.entrySet()) {
-                if (e.getValue().getSchema() != null) {
-                    visitSchema(openAPI, e.getValue().getSchema(), e.getKey(), visitedSchemas, visitor);
-                }
-            }
-        }
+        return new ArrayList<>(SchemaGraph.of(openAPI).getReferencedOnlyInFormParams());
     }
 
     /**
@@ -321,10 +167,10 @@ public class ModelUtils {
      * @param openAPI        the OpenAPI document that contains schema objects.
      * @param schema         the root schema object to be visited.
      * @param mimeType       the mime type. TODO: does not seem to be used in a meaningful way.
-     * @param visitedSchemas the list of referenced schemas that have been visited.
+     * @param visitedSchemas the set of referenced schemas that have been visited.
      * @param visitor        the visitor function which is invoked for every visited schema.
      */
-    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, List<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
+    private static void visitSchema(OpenAPI openAPI, Schema schema, String mimeType, Set<String> visitedSchemas, OpenAPISchemaVisitor visitor) {
         if (schema == null) {
             return;
         }
@@ -332,8 +178,7 @@ public class ModelUtils {
         visitor.visit(schema, mimeType);
         if (schema.get$ref() != null) {
             String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemas.contains(ref)) {
-                visitedSchemas.add(ref);
+            if (visitedSchemas.add(ref)) {
                 Schema referencedSchema = getSchemas(openAPI).get(ref);
                 if (referencedSchema != null) {
                     visitSchema(openAPI, referencedSchema, mimeType, visitedSchemas, visitor);
@@ -1070,7 +915,7 @@ public class ModelUtils {
      */
     public static List<Schema> getAllSchemas(OpenAPI openAPI) {
         List<Schema> allSchemas = new ArrayList<Schema>();
-        List<String> refSchemas = new ArrayList<String>();
+        Set<String> refSchemas = new HashSet<>();
         getSchemas(openAPI).forEach((key, schema) -> {
             // Invoke visitSchema to recursively visit all schema objects, included inlined and composed schemas.
             // Use the OpenAPISchemaVisitor visitor function
@@ -1249,6 +1094,7 @@ public class ModelUtils {
      * @param openAPI OpenAPI spec.
      * @param schema  Schema
      * @return boolean true if it has at least one self reference
+     * @see SchemaGraph#hasSelfReference(Schema)
      */
     public static boolean hasSelfReference(OpenAPI openAPI,
                                            Schema schema) {
@@ -1256,81 +1102,36 @@ public class ModelUtils {
     }
 
     /**
-     * Has self reference?
+     * Has self reference? Only the schemas reachable from the schema are visited, callers checking many schemas of
+     * the same document should query a {@link SchemaGraph} instead.
      *
      * @param openAPI            OpenAPI spec.
      * @param schema             Schema
-     * @param visitedSchemaNames A set of visited schema names
+     * @param visitedSchemaNames A set of visited schema names, reaching one of them again counts as a self reference.
+     *                           The names of the schemas visited by this call are added to it.
      * @return boolean true if it has at least one self reference
      */
     public static boolean hasSelfReference(OpenAPI openAPI,
                                            Schema schema,
                                            Set<String> visitedSchemaNames) {
-        if (visitedSchemaNames == null) {
-            visitedSchemaNames = new HashSet<String>();
-        }
-
-        if (schema.get$ref() != null) {
-            String ref = getSimpleRef(schema.get$ref());
-            if (!visitedSchemaNames.contains(ref)) {
-                visitedSchemaNames.add(ref);
-                Schema referencedSchema = getSchemas(openAPI).get(ref);
-                if (referencedSchema != null) {
-                    return hasSelfReference(openAPI, referencedSchema, visitedSchemaNames);
-                } else {
-                    LOGGER.error("Failed to obtain schema from `{}` in self reference check", ref);
-                    return false;
-                }
-            } else {
-                return true;
+        Map<String, Schema> schemas = getSchemas(openAPI);
+        Map<String, Boolean> visited = new HashMap<>();
+        if (visitedSchemaNames != null) {
+            for (String name : visitedSchemaNames) {
+                visited.put(name, Boolean.TRUE);
             }
         }
-        if (isComposedSchema(schema)) {
-            List<Schema> oneOf = schema.getOneOf();
-            if (oneOf != null) {
-                for (Schema s : oneOf) {
-                    if (hasSelfReference(openAPI, s, visitedSchemaNames)) {
-                        return true;
-                    }
-                }
-            }
-            List<Schema> allOf = schema.getAllOf();
-            if (allOf != null) {
-                for (Schema s : allOf) {
-                    if (hasSelfReference(openAPI, s, visitedSchemaNames)) {
-                        return true;
-                    }
-                }
-            }
-            List<Schema> anyOf = schema.getAnyOf();
-            if (anyOf != null) {
-                for (Schema s : anyOf) {
-                    if (hasSelfReference(openAPI, s, visitedSchemaNames)) {
-                        return true;
-                    }
-                }
-            }
-        } else if (isArraySchema(schema)) {
-            Schema itemsSchema = ModelUtils.getSchemaItems(schema);
-            if (itemsSchema != null) {
-                return hasSelfReference(openAPI, itemsSchema, visitedSchemaNames);
-            }
-        } else if (isMapSchema(schema)) {
-            Object additionalProperties = schema.getAdditionalProperties();
-            if (additionalProperties instanceof Schema) {
-                return hasSelfReference(openAPI, (Schema) additionalProperties, visitedSchemaNames);
-            }
-        } else if (schema.getNot() != null) {
-            return hasSelfReference(openAPI, schema.getNot(), visitedSchemaNames);
-        } else if (schema.getProperties() != null && !schema.getProperties().isEmpty()) {
-            // go through properties to see if there's any self-reference
-            for (Schema property : ((Map<String, Schema>) schema.getProperties()).values()) {
-                if (hasSelfReference(openAPI, property, visitedSchemaNames)) {
-                    return true;
-                }
+        boolean selfReference = SchemaGraph.hasSelfReference(schema, name -> {
+            Schema referencedSchema = schemas.get(name);
+            if (referencedSchema == null) {
+                LOGGER.error("Failed to obtain schema from `{}` in self reference check", name);
             }
+            return SchemaGraph.getReferenceNames(referencedSchema);
+        }, visited);
+        if (visitedSchemaNames != null) {
+            visitedSchemaNames.addAll(visited.keySet());
         }
-        return false;
+        return selfReference;
     }
 
     /**
@@ -1500,15 +1301,9 @@ public class ModelUtils {
     }
 
     public static Map<String, List<String>> getChildrenMap(OpenAPI openAPI) {
-        Map<String, Schema> allSchemas = getSchemas(openAPI);
-
-        Map<String, List<Entry<String, Schema>>> groupedByParent = allSchemas.entrySet().stream()
-                .filter(entry -> isComposedSchema(entry.getValue()))
-                .filter(entry -> getParentName((Schema) entry.getValue(), allSchemas) != null)
-                .collect(Collectors.groupingBy(entry -> getParentName((Schema) entry.getValue(), allSchemas)));
-
-        return groupedByParent.entrySet().stream()
-                .collect(Collectors.toMap(entry -> entry.getKey(), entry -> entry.getValue().stream().map(e -> e.getKey()).collect(Collectors.toList())));
+        Map<String, List<String>> childrenMap = new HashMap<>();
+        SchemaGraph.of(openAPI).getChildren().forEach((parent, children) -> childrenMap.put(parent, new ArrayList<>(children)));
+        return childrenMap;
     }
 
     /**
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates structural copies of parsed {@link OpenAPI} documents.
+ * <p>
+ * A copy shares no mutable state with the original, so that normalization and inline model resolution of the copy
+ * leave the original untouched. Objects referenced more than once in the original, such as resolved schemas, are
+ * referenced the same way in the copy. Copying is considerably cheaper than parsing and resolving the document again.
+ */
+public final class OpenAPICopier {
+    private static final String MODELS_PACKAGE = "io.swagger.v3.oas.models.";
+
+    private static final Map<Class<?>, PropertyDescriptor[]> PROPERTIES = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<Constructor<?>>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private final Map<Object, Object> copies = new IdentityHashMap<>();
+
+    private OpenAPICopier() {
+    }
+
+    /**
+     * Creates a structural copy of a document.
+     *
+     * @param openAPI The document to copy
+     * @return The copy, or null if the document is null
+     */
+    public static OpenAPI copy(OpenAPI openAPI) {
+        return (OpenAPI) new OpenAPICopier().copyValue(openAPI);
+    }
+
+    private Object copyValue(Object value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        Object copy = copies.get(value);
+        if (copy != null) {
+            return copy;
+        }
+
+        if (value instanceof JsonNode) {
+            copy = ((JsonNode) value).deepCopy();
+            copies.put(value, copy);
+        } else if (value instanceof Date) {
+            copy = ((Date) value).clone();
+            copies.put(value, copy);
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            copy = Array.newInstance(value.getClass().getComponentType(), length);
+            copies.put(value, copy);
+            for (int i = 0; i < length; i++) {
+                Array.set(copy, i, copyValue(Array.get(value, i)));
+            }
+        } else if (value instanceof Map) {
+            copy = copyMap((Map<?, ?>) value);
+        } else if (value instanceof Collection) {
+            copy = copyCollection((Collection<?>) value);
+        } else if (isModel(value.getClass())) {
+            copy = newInstance(value.getClass());
+            if (copy == null) {
+                throw new IllegalArgumentException("Unable to copy " + value.getClass().getName());
+            }
+            copies.put(value, copy);
+            copyProperties(value, copy);
+            copySetFlags(value, copy);
+        } else {
+            // not part of the document model, assumed to be immutable
+            copy = value;
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyMap(Map<?, ?> map) {
+        Object instance = newInstance(map.getClass());
+        Map<Object, Object> copy = instance instanceof Map ? (Map<Object, Object>) instance : new LinkedHashMap<>();
+        copies.put(map, copy);
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            copy.put(copyValue(entry.getKey()), copyValue(entry.getValue()));
+        }
+        // e.g. the extensions of Paths and ApiResponses, which are maps themselves
+        if (copy.getClass() == map.getClass()) {
+            copyProperties(map, copy);
+        }
+        return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object copyCollection(Collection<?> collection) {
+        Object instance = newInstance(collection.getClass());
+        Collection<Object> copy;
+        if (instance instanceof Collection) {
+            copy = (Collection<Object>) instance;
+        } else if (collection instanceof Set) {
+            copy = new LinkedHashSet<>();
+        } else {
+            copy = new ArrayList<>(collection.size());
+        }
+        copies.put(collection, copy);
+        for (Object item : collection) {
+            copy.add(copyValue(item));
+        }
+        return copy;
+    }
+
+    private void copyProperties(Object source, Object target) {
+        try {
+            for (PropertyDescriptor property : properties(source.getClass())) {
+                Object value = property.getReadMethod().invoke(source);
+                if (value != null) {
+                    property.getWriteMethod().invoke(target, copyValue(value));
+                } else if (property.getReadMethod().invoke(target) != null) {
+                    // defaulted by the constructor, e.g. the format of an IntegerSchema, but unset in the source.
+                    // Other unset properties are left alone, as some setters record that a property has been set.
+                    property.getWriteMethod().invoke(target, (Object) null);
+                }
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unable to copy " + source.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Copies the flags recording that a value has been set explicitly, also to null. The bean properties carrying them
+     * are copied like any other property, but a flag must not depend on the order properties are copied in, as the
+     * setters of the values update the flags too.
+     */
+    private static void copySetFlags(Object source, Object target) {
+        if (source instanceof Schema) {
+            ((Schema<?>) target).setExampleSetFlag(((Schema<?>) source).getExampleSetFlag());
+        } else if (source instanceof MediaType) {
+            ((MediaType) target).setExampleSetFlag(((MediaType) source).getExampleSetFlag());
+        } else if (source instanceof Example) {
+            ((Example) target).setValueSetFlag(((Example) source).getValueSetFlag());
+        }
+    }
+
+    /**
+     * Gets the read-write bean properties of a class, excluding those declared by classes of the JDK.
+     */
+    private static PropertyDescriptor[] properties(Class<?> type) {
+        return PROPERTIES.computeIfAbsent(type, t -> {
+            try {
+                List<PropertyDescriptor> properties = new ArrayList<>();
+                for (PropertyDescriptor property : Introspector.getBeanInfo(t).getPropertyDescriptors()) {
+                    Method read = property.getReadMethod();
+                    Method write = property.getWriteMethod();
+                    if (read != null && write != null && !isJdkClass(read.getDeclaringClass())) {
+                        properties.add(property);
+                    }
+                }
+                return properties.toArray(new PropertyDescriptor[0]);
+            } catch (IntrospectionException e) {
+                throw new IllegalArgumentException("Unable to copy " + t.getName(), e);
+            }
+        });
+    }
+
+    private static Object newInstance(Class<?> type) {
+        Optional<Constructor<?>> constructor = CONSTRUCTORS.computeIfAbsent(type, t -> {
+            try {
+                Constructor<?> c = t.getDeclaredConstructor();
+                if (!Modifier.isPublic(c.getModifiers()) || !Modifier.isPublic(t.getModifiers())) {
+                    // e.g. unmodifiable and singleton collections, which are copied as modifiable collections
+                    return Optional.empty();
+                }
+                return Optional.of(c);
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        });
+        if (!constructor.isPresent()) {
+            return null;
+        }
+        try {
+            return constructor.get().newInstance();
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private static boolean isModel(Class<?> type) {
+        return type.getName().startsWith(MODELS_PACKAGE);
+    }
+
+    private static boolean isJdkClass(Class<?> type) {
+        return type.getName().startsWith("java.");
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String
+                || value instanceof Number && isJdkClass(value.getClass())
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum
+                || value instanceof java.time.temporal.TemporalAccessor
+                || value instanceof java.net.URI
+                || value instanceof UUID;
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.config.GlobalSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects the files passed to external post-processors, and executes each post-processor once per batch of files
+ * rather than once per file.
+ * <p>
+ * Files are grouped by post-processor command, i.e. the binary and arguments preceding the file path. Each group is
+ * split into batches whose command line fits into the maximum command line length of the platform, and the batches
+ * are executed on a small pool of processes.
+ */
+public class PostProcessFileBatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostProcessFileBatcher.class);
+
+    // Windows limits the command line to 32767 characters
+    static final int WINDOWS_MAX_COMMAND_LENGTH = 32_000;
+    // ARG_MAX is 256 KiB on older systems and larger on current Linux and macOS. It includes the environment.
+    static final int POSIX_MAX_COMMAND_LENGTH = 262_144;
+    // size of the argv/envp pointer accounted for each argument on POSIX systems
+    private static final int POSIX_POINTER_SIZE = 8;
+
+    private final Map<List<String>, Set<String>> files = new LinkedHashMap<>();
+    private final int maxCommandLength;
+    private final int threads;
+
+    /**
+     * Constructs a new instance of {@link PostProcessFileBatcher} configured by the global properties
+     * {@link CodegenConstants#POST_PROCESS_FILE_MAX_COMMAND_LENGTH} and {@link CodegenConstants#POST_PROCESS_FILE_BATCH_THREADS}.
+     */
+    public PostProcessFileBatcher() {
+        this(intProperty(CodegenConstants.POST_PROCESS_FILE_MAX_COMMAND_LENGTH, defaultMaxCommandLength()),
+                intProperty(CodegenConstants.POST_PROCESS_FILE_BATCH_THREADS, Math.min(4, Runtime.getRuntime().availableProcessors())));
+    }
+
+    /**
+     * Constructs a new instance of {@link PostProcessFileBatcher}.
+     *
+     * @param maxCommandLength The maximum length of a single command line, including the command itself
+     * @param threads          The maximum number of post-processor processes running at the same time
+     */
+    public PostProcessFileBatcher(int maxCommandLength, int threads) {
+        this.maxCommandLength = maxCommandLength;
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Schedules a file to be passed to a post-processor.
+     *
+     * @param command The post-processor command and its arguments. Each item is tokenized on whitespace.
+     * @param file    The path of the file to process
+     */
+    public synchronized void add(List<String> command, String file) {
+        files.computeIfAbsent(tokenize(command), k -> new LinkedHashSet<>()).add(file);
+    }
+
+    /**
+     * @return The number of files scheduled for post-processing
+     */
+    public synchronized int size() {
+        int size = 0;
+        for (Set<String> group : files.values()) {
+            size += group.size();
+        }
+        return size;
+    }
+
+    /**
+     * Executes the post-processors for all scheduled files, and clears the scheduled files.
+     *
+     * @return Whether all post-processor executions passed (true) or at least one failed (false)
+     */
+    public boolean execute() {
+        List<Batch> batches;
+        synchronized (this) {
+            batches = batches();
+            files.clear();
+        }
+        if (batches.isEmpty()) {
+            return true;
+        }
+
+        long start = System.nanoTime();
+        int fileCount = 0;
+        int failed = 0;
+        int workers = Math.min(threads, batches.size());
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "openapi-generator-post-process-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(batches.size());
+            for (Batch batch : batches) {
+                results.add(executor.submit(() -> executeBatch(batch)));
+            }
+            for (int i = 0; i < batches.size(); i++) {
+                fileCount += batches.get(i).files.size();
+                if (!Boolean.TRUE.equals(results.get(i).get())) {
+                    failed++;
+                }
+            }
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted while post-processing files");
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            LOGGER.error("Error post-processing files. Exception: {}", e.getCause().getMessage());
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (failed > 0) {
+            LOGGER.error("Post-processed {} files in {} batches using {} processes in {} ms, {} batches failed", fileCount, batches.size(), workers, elapsed, failed);
+        } else {
+            LOGGER.info("Post-processed {} files in {} batches using {} processes in {} ms", fileCount, batches.size(), workers, elapsed);
+        }
+        return failed == 0;
+    }
+
+    /**
+     * Splits the scheduled files into command lines which fit into the maximum command line length. A file which
+     * doesn't fit into a command line on its own is still passed to the post-processor, in a command line of its own.
+     *
+     * @return The batches, in the order their files were scheduled
+     */
+    synchronized List<Batch> batches() {
+        List<Batch> batches = new ArrayList<>();
+        for (Map.Entry<List<String>, Set<String>> group : files.entrySet()) {
+            List<String> command = group.getKey();
+            int commandLength = 0;
+            for (String arg : command) {
+                commandLength += argumentLength(arg);
+            }
+
+            Batch batch = null;
+            int length = 0;
+            for (String file : group.getValue()) {
+                int fileLength = argumentLength(file);
+                if (batch == null || length + fileLength > maxCommandLength) {
+                    batch = new Batch(command);
+                    batches.add(batch);
+                    length = commandLength;
+                }
+                batch.files.add(file);
+                length += fileLength;
+            }
+        }
+        return batches;
+    }
+
+    private boolean executeBatch(Batch batch) {
+        String command = String.join(" ", batch.command);
+        int fileCount = batch.files.size();
+        long start = System.nanoTime();
+        try {
+            Process p = new ProcessBuilder(batch.commandLine()).redirectErrorStream(true).start();
+            String output = IOUtils.toString(p.getInputStream(), StandardCharsets.UTF_8);
+            int exitValue = p.waitFor();
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            if (exitValue != 0) {
+                LOGGER.error("Error running the command ({}) for {} files in {} ms. Exit value: {}, Output: {}",
+                        command, fileCount, elapsed, exitValue, output);
+                return false;
+            }
+            LOGGER.info("Successfully executed: {} ({} files in {} ms)", command, fileCount, elapsed);
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Error running the command ({}) for {} files. Exception: {}", command, fileCount, e.getMessage());
+        } catch (InterruptedException e) {
+            LOGGER.error("Interrupted running the command ({}) for {} files", command, fileCount);
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    // Runtime.exec(String) tokenizes the command on whitespace, which post-processor definitions such as
+    // `/usr/local/bin/rubocop -a` rely on.
+    private static List<String> tokenize(List<String> command) {
+        List<String> tokens = new ArrayList<>();
+        for (String part : command) {
+            StringTokenizer tokenizer = new StringTokenizer(part);
+            while (tokenizer.hasMoreTokens()) {
+                tokens.add(tokenizer.nextToken());
+            }
+        }
+        return Collections.unmodifiableList(tokens);
+    }
+
+    private static int argumentLength(String arg) {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            // separating space and quotes
+            return arg.length() + 3;
+        }
+        return arg.getBytes(StandardCharsets.UTF_8).length + 1 + POSIX_POINTER_SIZE;
+    }
+
+    private static int defaultMaxCommandLength() {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            return WINDOWS_MAX_COMMAND_LENGTH;
+        }
+        int environmentLength = 0;
+        for (Map.Entry<String, String> variable : System.getenv().entrySet()) {
+            environmentLength += argumentLength(variable.getKey() + "=" + variable.getValue());
+        }
+        // leave some headroom for variables added by the shell wrapping the post-processor
+        return Math.max(POSIX_MAX_COMMAND_LENGTH / 4, POSIX_MAX_COMMAND_LENGTH - environmentLength - 4096);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = GlobalSettings.getProperty(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warn("Ignoring invalid value '{}' of global property {}", value, name);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * A single post-processor invocation.
+     */
+    static final class Batch {
+        final List<String> command;
+        final List<String> files = new ArrayList<>();
+
+        Batch(List<String> command) {
+            this.command = command;
+        }
+
+        List<String> commandLine() {
+            List<String> commandLine = new ArrayList<>(command);
+            commandLine.addAll(files);
+            return commandLine;
+        }
+    }
+}
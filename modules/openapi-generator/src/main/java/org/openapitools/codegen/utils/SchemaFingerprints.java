@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.*;
+
+/**
+ * Computes structural fingerprints of schemas, to be used as hash codes of cache keys in place of
+ * {@link Schema#hashCode()}.
+ * <p>
+ * Schemas which are equal have the same fingerprint. The fingerprint covers the schema and its subschemas down to a
+ * fixed depth only, so that it costs a bounded time instead of a traversal of the whole subtree. Schemas which differ
+ * only below that depth share a fingerprint and are told apart by {@link Schema#equals(Object)}. Fingerprints are not
+ * remembered, a schema modified in place gets the fingerprint of its new content.
+ */
+public final class SchemaFingerprints {
+    // levels of subschemas included in the fingerprint
+    private static final int DEPTH = 2;
+
+    private SchemaFingerprints() {
+    }
+
+    /**
+     * Gets the fingerprint of a schema.
+     *
+     * @param schema the schema
+     * @return the fingerprint, 0 for null
+     */
+    public static int of(Schema schema) {
+        return of(schema, DEPTH);
+    }
+
+    /**
+     * Hashes a subset of the fields compared by {@link Schema#equals(Object)}, which distinguish most schemas.
+     */
+    private static int of(Schema schema, int depth) {
+        if (schema == null) {
+            return 0;
+        }
+        int result = Objects.hash(schema.getClass().getName(), schema.getType(), schema.getTypes(), schema.getFormat(),
+                schema.get$ref(), schema.getTitle(), schema.getDescription(), schema.getNullable(), schema.getEnum(),
+                schema.getRequired(), schema.getDiscriminator(), schema.getMinimum(), schema.getMaximum(),
+                schema.getMinLength(), schema.getMaxLength(), schema.getPattern(), schema.getReadOnly(),
+                schema.getWriteOnly(), schema.getDeprecated());
+        if (depth == 0) {
+            return result;
+        }
+
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            // independent of the order of the properties, like Map.hashCode
+            int propertiesHash = 0;
+            for (Map.Entry<String, Schema> property : properties.entrySet()) {
+                propertiesHash += Objects.hashCode(property.getKey()) ^ of(property.getValue(), depth - 1);
+            }
+            result = 31 * result + propertiesHash;
+        }
+        Object additionalProperties = schema.getAdditionalProperties();
+        result = 31 * result + (additionalProperties instanceof Schema ? of((Schema) additionalProperties, depth - 1) : Objects.hashCode(additionalProperties));
+        result = 31 * result + of(schema.getItems(), depth - 1);
+        result = 31 * result + of(schema.getAllOf(), depth - 1);
+        result = 31 * result + of(schema.getAnyOf(), depth - 1);
+        result = 31 * result + of(schema.getOneOf(), depth - 1);
+        result = 31 * result + of(schema.getNot(), depth - 1);
+        return result;
+    }
+
+    private static int of(List<Schema> schemas, int depth) {
+        if (schemas == null) {
+            return 0;
+        }
+        int result = 1;
+        for (Schema schema : schemas) {
+            result = 31 * result + of(schema, depth);
+        }
+        return result;
+    }
+}
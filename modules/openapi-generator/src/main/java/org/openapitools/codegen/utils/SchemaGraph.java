@@ -0,0 +1,412 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.callbacks.Callback;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import static org.openapitools.codegen.utils.OnceLogger.once;
+
+/**
+ * An index of the references between the schemas of an OpenAPI document.
+ * <p>
+ * The index holds the references of each schema in 'components/schemas' to other schemas, the children of composed
+ * schemas, and the schemas referenced from the paths by media type. It answers the queries of {@link ModelUtils} which
+ * would otherwise traverse the whole document; callers holding an index query it directly rather than through
+ * {@link ModelUtils}, which builds a new index on every call.
+ * <p>
+ * The index is a snapshot of the document at the time it is built and is not updated when the document is modified
+ * afterwards. It is not cached: callers hold on to it for as long as the document does not change, as
+ * {@link org.openapitools.codegen.DefaultGenerator} does once the generator has processed the document.
+ */
+public final class SchemaGraph {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchemaGraph.class);
+
+    private static final String FORM_URLENCODED = "application/x-www-form-urlencoded";
+    private static final String MULTIPART_FORM_DATA = "multipart/form-data";
+
+    private final Map<String, Schema> schemas;
+
+    private final Map<String, List<Edge>> edges = new HashMap<>();
+    private final Map<String, Set<String>> references = new HashMap<>();
+    // computed on demand, determining the parents of composed schemas is comparatively expensive
+    private Map<String, List<String>> children;
+
+    private final Set<String> referencedFromPaths = new LinkedHashSet<>();
+    private final Set<String> referencedInFormParams = new LinkedHashSet<>();
+    private final Set<String> referencedInOtherCases = new HashSet<>();
+
+    private SchemaGraph(OpenAPI openAPI) {
+        this.schemas = ModelUtils.getSchemas(openAPI);
+        Map<String, PathItem> paths = openAPI.getPaths();
+
+        for (Entry<String, Schema> entry : schemas.entrySet()) {
+            List<Edge> schemaEdges = new ArrayList<>();
+            collectEdges(entry.getValue(), false, schemaEdges);
+            edges.put(entry.getKey(), schemaEdges);
+            references.put(entry.getKey(), referenceNames(schemaEdges));
+        }
+
+        if (paths != null) {
+            Set<String> visited = new HashSet<>();
+            for (PathItem path : paths.values()) {
+                visitPathItem(openAPI, path, visited);
+            }
+        }
+    }
+
+    /**
+     * Builds the index of a document in its current state.
+     *
+     * @param openAPI the OpenAPI document
+     * @return the index of the document
+     */
+    public static SchemaGraph of(OpenAPI openAPI) {
+        return new SchemaGraph(openAPI);
+    }
+
+    /**
+     * @param schema a schema of the document, which may be an inline schema
+     * @return whether the schema references a schema which references itself, directly or through other schemas
+     */
+    public boolean hasSelfReference(Schema schema) {
+        return hasSelfReference(schema, name -> references.getOrDefault(name, Collections.emptySet()), new HashMap<>());
+    }
+
+    /**
+     * Checks whether a schema references a schema which references itself, visiting only the schemas reachable from
+     * it. Lets {@link ModelUtils} answer the query for a single schema without indexing the whole document.
+     *
+     * @param schema       a schema of the document, which may be an inline schema
+     * @param referencesOf the names of the schemas referenced by a schema, by its name
+     * @param visited      TRUE for the names of the schemas on the current path, FALSE for those whose references
+     *                     have all been visited. Names which are TRUE initially are treated as already on the path.
+     * @return whether a cycle is reachable from the schema
+     */
+    static boolean hasSelfReference(Schema schema, Function<String, Set<String>> referencesOf, Map<String, Boolean> visited) {
+        if (schema == null) {
+            return false;
+        }
+        List<Edge> schemaEdges = new ArrayList<>();
+        collectEdges(schema, false, schemaEdges);
+        for (String name : referenceNames(schemaEdges)) {
+            Boolean onPath = visited.get(name);
+            if (Boolean.TRUE.equals(onPath) || onPath == null && reachesCycle(name, referencesOf, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param schema a schema, or null
+     * @return the names of the schemas referenced by the schema, including through its properties
+     */
+    static Set<String> getReferenceNames(Schema schema) {
+        List<Edge> schemaEdges = new ArrayList<>();
+        collectEdges(schema, false, schemaEdges);
+        return referenceNames(schemaEdges);
+    }
+
+    private static Set<String> referenceNames(List<Edge> schemaEdges) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Edge edge : schemaEdges) {
+            names.add(edge.name);
+        }
+        return names;
+    }
+
+    /**
+     * Depth-first traversal of the references reachable from a schema, without recursion as reference chains may be
+     * long in large documents.
+     */
+    private static boolean reachesCycle(String start, Function<String, Set<String>> referencesOf, Map<String, Boolean> visited) {
+        Deque<String> path = new ArrayDeque<>();
+        Deque<Iterator<String>> pending = new ArrayDeque<>();
+        visited.put(start, Boolean.TRUE);
+        path.push(start);
+        pending.push(referencesOf.apply(start).iterator());
+        while (!pending.isEmpty()) {
+            Iterator<String> next = pending.peek();
+            if (next.hasNext()) {
+                String name = next.next();
+                Boolean onPath = visited.get(name);
+                if (Boolean.TRUE.equals(onPath)) {
+                    return true;
+                }
+                if (onPath == null) {
+                    visited.put(name, Boolean.TRUE);
+                    path.push(name);
+                    pending.push(referencesOf.apply(name).iterator());
+                }
+            } else {
+                visited.put(path.pop(), Boolean.FALSE);
+                pending.pop();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the names of the composed schemas by the name of their parent schema, see {@link ModelUtils#getParentName(Schema, Map)}
+     */
+    public synchronized Map<String, List<String>> getChildren() {
+        if (children == null) {
+            Map<String, List<String>> childrenMap = new HashMap<>();
+            for (Entry<String, Schema> entry : schemas.entrySet()) {
+                if (ModelUtils.isComposedSchema(entry.getValue())) {
+                    String parent = ModelUtils.getParentName(entry.getValue(), schemas);
+                    if (parent != null) {
+                        childrenMap.computeIfAbsent(parent, k -> new ArrayList<>()).add(entry.getKey());
+                    }
+                }
+            }
+            children = Collections.unmodifiableMap(childrenMap);
+        }
+        return children;
+    }
+
+    /**
+     * @return the names of the schemas referenced from the paths, directly or through other schemas, along with their
+     * children, see {@link ModelUtils#getAllUsedSchemas(OpenAPI)}
+     */
+    public List<String> getUsedSchemas() {
+        return new ArrayList<>(collectUsedSchemas(getChildren()));
+    }
+
+    /**
+     * @return the names of the schemas in 'components/schemas' which are not used, see {@link ModelUtils#getUnusedSchemas(OpenAPI)}
+     */
+    public List<String> getUnusedSchemas() {
+        Map<String, List<String>> childrenMap;
+        try {
+            childrenMap = getChildren();
+        } catch (NullPointerException npe) {
+            // in rare cases, such as a spec document with only one top-level oneOf schema and multiple referenced schemas,
+            // determining the parent of a composed schema raises an NPE. Rather than changing getParentName, which is
+            // used throughout code generation, unused schemas are determined without children for this edge case.
+            childrenMap = Collections.emptyMap();
+        }
+
+        Set<String> usedSchemas = collectUsedSchemas(childrenMap);
+        List<String> unusedSchemas = new ArrayList<>();
+        for (String name : schemas.keySet()) {
+            if (!usedSchemas.contains(name)) {
+                unusedSchemas.add(name);
+            }
+        }
+        return unusedSchemas;
+    }
+
+    private Set<String> collectUsedSchemas(Map<String, List<String>> childrenMap) {
+        Set<String> usedSchemas = new LinkedHashSet<>();
+        for (String ref : referencedFromPaths) {
+            usedSchemas.add(ref);
+            usedSchemas.addAll(childrenMap.getOrDefault(ref, Collections.emptyList()));
+        }
+        return usedSchemas;
+    }
+
+    /**
+     * @return the names of the schemas referenced from the paths, directly or through other schemas
+     */
+    public Set<String> getReferencedFromPaths() {
+        return Collections.unmodifiableSet(referencedFromPaths);
+    }
+
+    /**
+     * @return the names of the schemas referenced from the paths, used only in form parameters
+     */
+    public Set<String> getReferencedOnlyInFormParams() {
+        Set<String> names = new LinkedHashSet<>(referencedInFormParams);
+        names.removeAll(referencedInOtherCases);
+        return names;
+    }
+
+    /**
+     * Collects the references of a schema and its inline schemas, without following the references.
+     * Schemas are traversed the same way as by {@link ModelUtils#getAllSchemas(OpenAPI)}.
+     */
+    private static void collectEdges(Schema schema, boolean inProperty, List<Edge> edges) {
+        if (schema == null) {
+            return;
+        }
+
+        if (schema.get$ref() != null) {
+            String ref = ModelUtils.getSimpleRef(schema.get$ref());
+            if (ref != null) {
+                edges.add(new Edge(ref, inProperty));
+            }
+        }
+        if (ModelUtils.isComposedSchema(schema)) {
+            collectEdges(schema.getOneOf(), inProperty, edges);
+            collectEdges(schema.getAllOf(), inProperty, edges);
+            collectEdges(schema.getAnyOf(), inProperty, edges);
+        } else if (ModelUtils.isArraySchema(schema)) {
+            collectEdges(ModelUtils.getSchemaItems(schema), inProperty, edges);
+        } else if (ModelUtils.isMapSchema(schema)) {
+            Object additionalProperties = schema.getAdditionalProperties();
+            if (additionalProperties instanceof Schema) {
+                collectEdges((Schema) additionalProperties, inProperty, edges);
+            }
+        }
+        collectEdges(schema.getNot(), inProperty, edges);
+        Map<String, Schema> properties = schema.getProperties();
+        if (properties != null) {
+            for (Schema property : properties.values()) {
+                collectEdges(property, true, edges);
+            }
+        }
+    }
+
+    private static void collectEdges(List<Schema> schemas, boolean inProperty, List<Edge> edges) {
+        if (schemas != null) {
+            for (Schema s : schemas) {
+                collectEdges(s, inProperty, edges);
+            }
+        }
+    }
+
+    private void visitPathItem(OpenAPI openAPI, PathItem pathItem, Set<String> visited) {
+        List<Operation> allOperations = pathItem.readOperations();
+        if (allOperations != null) {
+            for (Operation operation : allOperations) {
+                //Params:
+                visitParameters(openAPI, operation.getParameters(), visited);
+
+                //RequestBody:
+                RequestBody requestBody = ModelUtils.getReferencedRequestBody(openAPI, operation.getRequestBody());
+                if (requestBody != null) {
+                    visitContent(requestBody.getContent(), visited);
+                }
+
+                //Responses:
+                if (operation.getResponses() != null) {
+                    for (ApiResponse r : operation.getResponses().values()) {
+                        ApiResponse apiResponse = ModelUtils.getReferencedApiResponse(openAPI, r);
+                        if (apiResponse != null) {
+                            visitContent(apiResponse.getContent(), visited);
+                            if (apiResponse.getHeaders() != null) {
+                                for (Entry<String, Header> e : apiResponse.getHeaders().entrySet()) {
+                                    Header header = ModelUtils.getReferencedHeader(openAPI, e.getValue());
+                                    if (header.getSchema() != null) {
+                                        visitSchema(header.getSchema(), e.getKey(), visited);
+                                    }
+                                    visitContent(header.getContent(), visited);
+                                }
+                            }
+                        }
+                    }
+                }
+
+                //Callbacks:
+                if (operation.getCallbacks() != null) {
+                    for (Callback c : operation.getCallbacks().values()) {
+                        Callback callback = ModelUtils.getReferencedCallback(openAPI, c);
+                        if (callback != null) {
+                            for (PathItem p : callback.values()) {
+                                visitPathItem(openAPI, p, visited);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        //Params:
+        visitParameters(openAPI, pathItem.getParameters(), visited);
+    }
+
+    private void visitParameters(OpenAPI openAPI, List<Parameter> parameters, Set<String> visited) {
+        if (parameters != null) {
+            for (Parameter p : parameters) {
+                Parameter parameter = ModelUtils.getReferencedParameter(openAPI, p);
+                if (parameter != null) {
+                    if (parameter.getSchema() != null) {
+                        visitSchema(parameter.getSchema(), null, visited);
+                    }
+                    visitContent(parameter.getContent(), visited);
+                } else {
+                    once(LOGGER).warn("Unreferenced parameter(s) found.");
+                }
+            }
+        }
+    }
+
+    private void visitContent(Content content, Set<String> visited) {
+        if (content != null) {
+            for (Entry<String, MediaType> e : content.entrySet()) {
+                if (e.getValue().getSchema() != null) {
+                    visitSchema(e.getValue().getSchema(), e.getKey(), visited);
+                }
+            }
+        }
+    }
+
+    private void visitSchema(Schema schema, String mimeType, Set<String> visited) {
+        List<Edge> schemaEdges = new ArrayList<>();
+        collectEdges(schema, false, schemaEdges);
+        visitEdges(schemaEdges, mimeType, visited);
+    }
+
+    /**
+     * Records the references reachable through some edges. Each referenced schema is traversed once, with the media
+     * type of its first use. Properties are not associated with a media type.
+     */
+    private void visitEdges(List<Edge> schemaEdges, String mimeType, Set<String> visited) {
+        for (Edge edge : schemaEdges) {
+            String edgeMimeType = edge.inProperty ? null : mimeType;
+            referencedFromPaths.add(edge.name);
+            if (FORM_URLENCODED.equalsIgnoreCase(edgeMimeType) || MULTIPART_FORM_DATA.equalsIgnoreCase(edgeMimeType)) {
+                referencedInFormParams.add(edge.name);
+            } else {
+                referencedInOtherCases.add(edge.name);
+            }
+            if (visited.add(edge.name)) {
+                List<Edge> referencedEdges = edges.get(edge.name);
+                if (referencedEdges != null) {
+                    visitEdges(referencedEdges, edgeMimeType, visited);
+                }
+            }
+        }
+    }
+
+    private static final class Edge {
+        private final String name;
+        // references within properties are not associated with the media type of the referencing schema
+        private final boolean inProperty;
+
+        Edge(String name, boolean inProperty) {
+            this.name = name;
+            this.inProperty = inProperty;
+        }
+    }
+}
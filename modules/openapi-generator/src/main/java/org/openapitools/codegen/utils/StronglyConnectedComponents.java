@@ -0,0 +1,104 @@
+/*
+ * Copyright 2018 OpenAPI-Generator Contributors (https://openapi-generator.tech)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.openapitools.codegen.utils;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Computes the strongly connected components of a directed graph with Tarjan's algorithm, in time linear in the
+ * number of nodes and edges. Two nodes are in the same component if and only if each can be reached from the other.
+ */
+public final class StronglyConnectedComponents {
+
+    private StronglyConnectedComponents() {
+    }
+
+    /**
+     * Computes the strongly connected components of a graph.
+     * <p>
+     * The traversal is iterative, so that long chains of nodes don't overflow the stack.
+     *
+     * @param nodes      the nodes to start from, nodes reachable from them are included as well
+     * @param successors the successors of a node, i.e. the targets of its edges
+     * @param <T>        the type of the nodes, which must implement equals and hashCode
+     * @return the index of the component of each node
+     */
+    public static <T> Map<T, Integer> of(Collection<T> nodes, Function<T, ? extends Collection<T>> successors) {
+        Map<T, Integer> index = new HashMap<>();
+        Map<T, Integer> lowLink = new HashMap<>();
+        Map<T, Integer> components = new HashMap<>();
+        Deque<T> stack = new ArrayDeque<>();
+        Deque<Frame<T>> frames = new ArrayDeque<>();
+        int componentCount = 0;
+
+        for (T start : nodes) {
+            if (index.containsKey(start)) {
+                continue;
+            }
+            frames.push(visit(start, index, lowLink, stack, successors));
+            while (!frames.isEmpty()) {
+                Frame<T> frame = frames.peek();
+                if (frame.successors.hasNext()) {
+                    T next = frame.successors.next();
+                    if (!index.containsKey(next)) {
+                        frames.push(visit(next, index, lowLink, stack, successors));
+                    } else if (!components.containsKey(next)) {
+                        // on the stack, part of the component being built
+                        lowLink.put(frame.node, Math.min(lowLink.get(frame.node), index.get(next)));
+                    }
+                    continue;
+                }
+
+                frames.pop();
+                if (lowLink.get(frame.node).equals(index.get(frame.node))) {
+                    T member;
+                    do {
+                        member = stack.pop();
+                        components.put(member, componentCount);
+                    } while (!member.equals(frame.node));
+                    componentCount++;
+                }
+                if (!frames.isEmpty()) {
+                    T parent = frames.peek().node;
+                    lowLink.put(parent, Math.min(lowLink.get(parent), lowLink.get(frame.node)));
+                }
+            }
+        }
+        return components;
+    }
+
+    private static <T> Frame<T> visit(T node, Map<T, Integer> index, Map<T, Integer> lowLink, Deque<T> stack,
+                                      Function<T, ? extends Collection<T>> successors) {
+        int i = index.size();
+        index.put(node, i);
+        lowLink.put(node, i);
+        stack.push(node);
+        Collection<T> next = successors.apply(node);
+        return new Frame<>(node, next == null ? Collections.emptyIterator() : next.iterator());
+    }
+
+    private static final class Frame<T> {
+        private final T node;
+        private final Iterator<T> successors;
+
+        Frame(T node, Iterator<T> successors) {
+            this.node = node;
+            this.successors = successors;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.openapitools.codegen;
+
+import org.openapitools.codegen.languages.JavaClientCodegen;
+import org.openapitools.codegen.meta.Stability;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.testng.Assert.*;
+
+public class CodegenConfigLoaderTest {
+    @Test(description = "the generator index written at build time lists every registered generator")
+    public void testIndexMatchesServiceLoader() {
+        List<CodegenConfigIndex.Entry> expected = CodegenConfigLoader.getAll().stream()
+                .map(CodegenConfigIndex.Entry::of)
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .collect(Collectors.toList());
+
+        assertEquals(CodegenConfigLoader.getIndex().getEntries(), expected);
+        assertEquals(CodegenConfigLoader.getAllEntries(), expected);
+    }
+
+    @Test
+    public void testForName() {
+        CodegenConfig config = CodegenConfigLoader.forName("java");
+
+        assertTrue(config instanceof JavaClientCodegen);
+        assertEquals(config.getName(), "java");
+    }
+
+    @Test(description = "a generator registered before a built-in generator of the same name takes precedence, as with the plain ServiceLoader")
+    public void testForNameKeepsRegistrationOrder() {
+        ServiceLoader.Provider<CodegenConfig> custom = provider(CustomJavaCodegen.class, CustomJavaCodegen::new);
+        ServiceLoader.Provider<CodegenConfig> builtIn = provider(JavaClientCodegen.class, JavaClientCodegen::new);
+
+        assertTrue(CodegenConfigLoader.forName("java", CodegenConfigLoader.getIndex(), Arrays.asList(custom, builtIn)) instanceof CustomJavaCodegen);
+        assertFalse(CodegenConfigLoader.forName("java", CodegenConfigLoader.getIndex(), Arrays.asList(builtIn, custom)) instanceof CustomJavaCodegen);
+    }
+
+    public static class CustomJavaCodegen extends JavaClientCodegen {
+    }
+
+    private static ServiceLoader.Provider<CodegenConfig> provider(Class<? extends CodegenConfig> type, Supplier<CodegenConfig> supplier) {
+        return new ServiceLoader.Provider<CodegenConfig>() {
+            @Override
+            public Class<? extends CodegenConfig> type() {
+                return type;
+            }
+
+            @Override
+            public CodegenConfig get() {
+                return supplier.get();
+            }
+        };
+    }
+
+    @Test
+    public void testForClassName() {
+        CodegenConfig config = CodegenConfigLoader.forName(JavaClientCodegen.class.getName());
+
+        assertTrue(config instanceof JavaClientCodegen);
+    }
+
+    @Test
+    public void testForUnknownName() {
+        GeneratorNotFoundException e = expectThrows(GeneratorNotFoundException.class, () -> CodegenConfigLoader.forName("does-not-exist"));
+
+        assertTrue(e.getMessage().contains("\njava\n"));
+    }
+
+    @Test
+    public void testEntryFormat() {
+        CodegenConfigIndex.Entry entry = new CodegenConfigIndex.Entry("java", JavaClientCodegen.class.getName(), CodegenType.CLIENT, Stability.STABLE);
+        CodegenConfigIndex.Entry untyped = new CodegenConfigIndex.Entry("custom", "com.example.CustomCodegen", null, null);
+
+        assertEquals(CodegenConfigIndex.Entry.parse(entry.format()), entry);
+        assertEquals(CodegenConfigIndex.Entry.parse(untyped.format()), untyped);
+    }
+}
@@ -56,12 +56,14 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.testng.Assert.*;
@@ -2479,6 +2481,147 @@ public class DefaultCodegenTest {
         Assertions.assertFalse(roundCOut.isCircularReference);
     }
 
+    @Test
+    public void testCircularReferencesMatchReachability() {
+        DefaultCodegen codegen = new DefaultCodegen();
+        Map<String, CodegenModel> models = circularReferenceModels(codegen, 300);
+
+        // expected flags, determined by a search from each property as circular references were detected before
+        Map<CodegenProperty, Boolean> expected = new IdentityHashMap<>();
+        for (Function<CodegenModel, List<CodegenProperty>> vars : circularReferenceVars()) {
+            Map<String, List<CodegenProperty>> dependencies = new HashMap<>();
+            models.forEach((name, model) -> dependencies.put(name, vars.apply(model)));
+            dependencies.forEach((root, props) -> props.forEach(prop -> expected.put(prop, isReachable(dependencyName(prop), root, dependencies))));
+        }
+
+        codegen.setCircularReferences(models);
+
+        assertTrue(expected.containsValue(true));
+        assertTrue(expected.containsValue(false));
+        expected.forEach((prop, circular) -> assertEquals(prop.isCircularReference, (boolean) circular, prop.baseName));
+    }
+
+    @Test
+    public void testJsonSchemasAreComputedOnDemand() {
+        Schema<?> schema = new ObjectSchema().addProperty("name", new StringSchema());
+        OpenAPI openAPI = TestUtils.createOpenAPIWithOneSchema("Named", schema);
+
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+        CodegenModel model = codegen.fromModel("Named", schema);
+        // computed from the schema as it is when first requested
+        schema.setDescription("changed after fromModel");
+        assertTrue(model.getModelJson().contains("changed after fromModel"));
+        assertTrue(model.vars.get(0).getJsonSchema().contains("\"type\" : \"string\""));
+
+        codegen = new DefaultCodegen();
+        codegen.additionalProperties().put(CodegenConstants.EAGER_JSON_SCHEMAS, "true");
+        codegen.processOpts();
+        assertTrue(codegen.isEagerJsonSchemas());
+        codegen.setOpenAPI(openAPI);
+        model = codegen.fromModel("Named", schema);
+        // computed from the schema as it is in fromModel
+        schema.setDescription("changed again");
+        assertFalse(model.getModelJson().contains("changed again"));
+        assertTrue(model.getModelJson().contains("changed after fromModel"));
+    }
+
+    @Test
+    public void testJsonSchemaIsComputedOnceWhenReadConcurrently() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CodegenProperty property = new CodegenProperty();
+        property.setJsonSchemaSupplier(() -> {
+            calls.incrementAndGet();
+            return "{}";
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(property::getJsonSchema));
+            }
+            for (Future<String> result : results) {
+                assertEquals(result.get(), "{}");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(calls.get(), 1);
+        assertEquals(property.getJsonSchema(), "{}");
+    }
+
+    @Test(enabled = false, description = "benchmark: circular reference detection on a synthetic spec with 5,000 interlinked models")
+    public void benchmarkCircularReferences() {
+        DefaultCodegen codegen = new DefaultCodegen();
+        Map<String, CodegenModel> models = circularReferenceModels(codegen, 5_000);
+        for (int run = 0; run < 5; run++) {
+            long start = System.nanoTime();
+            codegen.setCircularReferences(models);
+            System.out.printf(Locale.ROOT, "%d models: circular references detected in %d ms%n", models.size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    /**
+     * Creates the models of a spec with clusters of models referring to each other in a cycle, through properties,
+     * arrays and oneOf, and references from each cluster to random models of other clusters.
+     */
+    private static Map<String, CodegenModel> circularReferenceModels(DefaultCodegen codegen, int count) {
+        Random random = new Random(42);
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        for (int i = 0; i < count; i++) {
+            int clusterStart = i - i % 10;
+            String next = "Model" + (i + 1 < Math.min(clusterStart + 10, count) ? i + 1 : clusterStart);
+            // mostly forward references, a few backward ones join clusters into larger cycles
+            int laterIndex = i % 50 == 0 ? random.nextInt(i + 1) : clusterStart + 10 + random.nextInt(count);
+            String later = "Model" + (laterIndex < count ? laterIndex : clusterStart);
+            Schema<?> schema;
+            if (i % 7 == 0) {
+                schema = new ComposedSchema()
+                        .addOneOfItem(new Schema<>().$ref(next))
+                        .addOneOfItem(new Schema<>().$ref(later));
+            } else {
+                schema = new ObjectSchema()
+                        .addProperty("next", random.nextBoolean() ? new Schema<>().$ref(next) : new ArraySchema().items(new Schema<>().$ref(next)))
+                        .addProperty("later", new Schema<>().$ref(later))
+                        .addProperty("name", new StringSchema());
+            }
+            openAPI.getComponents().addSchemas("Model" + i, schema);
+        }
+        codegen.setOpenAPI(openAPI);
+
+        Map<String, CodegenModel> models = new HashMap<>();
+        openAPI.getComponents().getSchemas().forEach((name, schema) -> models.put(name, codegen.fromModel(name, schema)));
+        return models;
+    }
+
+    private static List<Function<CodegenModel, List<CodegenProperty>>> circularReferenceVars() {
+        return Arrays.asList(
+                CodegenModel::getAllVars,
+                CodegenModel::getVars,
+                model -> model.getComposedSchemas() != null && model.getComposedSchemas().getOneOf() != null
+                        ? model.getComposedSchemas().getOneOf() : Collections.emptyList());
+    }
+
+    private static String dependencyName(CodegenProperty prop) {
+        return prop.isContainer ? prop.items.dataType : prop.dataType;
+    }
+
+    private static boolean isReachable(String from, String to, Map<String, List<CodegenProperty>> dependencies) {
+        Set<String> visited = new HashSet<>();
+        Deque<String> unvisited = new ArrayDeque<>(Collections.singleton(from));
+        while (!unvisited.isEmpty()) {
+            String next = unvisited.poll();
+            if (next.equals(to)) {
+                return true;
+            }
+            if (visited.add(next)) {
+                dependencies.getOrDefault(next, Collections.emptyList()).forEach(prop -> unvisited.add(dependencyName(prop)));
+            }
+        }
+        return false;
+    }
+
     @Test
     public void testUseOneOfInterfaces() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/composed-oneof.yaml");
@@ -13,6 +13,7 @@ import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.openapitools.codegen.config.CodegenConfigurator;
 import org.openapitools.codegen.config.GlobalSettings;
+import org.openapitools.codegen.languages.JavaClientCodegen;
 import org.openapitools.codegen.model.ModelMap;
 import org.openapitools.codegen.model.OperationsMap;
 import org.openapitools.codegen.utils.ModelUtils;
@@ -26,9 +27,80 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DefaultGeneratorTest {
 
+    @Test
+    public void testDuplicateFilePathsAreReported() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(target.toAbsolutePath().toString());
+
+            ClientOptInput clientOptInput = configurator.toClientOptInput();
+            clientOptInput.getConfig().supportingFiles().add(new SupportingFile("README.mustache", "", "readme.md"));
+
+            DefaultGenerator generator = new DefaultGenerator(false);
+            generator.setGeneratorPropertyDefault(CodegenConstants.MODELS, "false");
+            generator.setGeneratorPropertyDefault(CodegenConstants.APIS, "false");
+            generator.setGeneratorPropertyDefault(CodegenConstants.SUPPORTING_FILES, "true");
+            generator.opts(clientOptInput).generate();
+
+            Map<String, String> duplicates = generator.getDuplicateFiles();
+            Assert.assertEquals(duplicates.size(), 1);
+            Map.Entry<String, String> duplicate = duplicates.entrySet().iterator().next();
+            Assert.assertNotEquals(duplicate.getKey(), duplicate.getValue());
+            Assert.assertEquals(duplicate.getKey().toLowerCase(Locale.ROOT), duplicate.getValue().toLowerCase(Locale.ROOT));
+            Assert.assertTrue(duplicate.getKey().toLowerCase(Locale.ROOT).endsWith("readme.md"));
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testIncrementalGenerationSkipsUnchangedModelsAndApis() throws IOException {
+        Path target = Files.createTempDirectory("test");
+        try {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(target.toAbsolutePath().toString());
+
+            DefaultGenerator generator = new DefaultGenerator(false);
+            generator.setGeneratorPropertyDefault(CodegenConstants.INCREMENTAL_GENERATION, "true");
+            generator.opts(configurator.toClientOptInput()).generate();
+
+            Path manifest = target.resolve(".openapi-generator/MANIFEST");
+            Assert.assertTrue(Files.exists(manifest));
+            Path pet = target.resolve("src/main/java/org/openapitools/client/model/Pet.java");
+            Path order = target.resolve("src/main/java/org/openapitools/client/model/Order.java");
+            Path petApi = target.resolve("src/main/java/org/openapitools/client/api/PetApi.java");
+            Path storeApi = target.resolve("src/main/java/org/openapitools/client/api/StoreApi.java");
+            for (Path file : Arrays.asList(pet, order, petApi, storeApi)) {
+                Files.write(file, "// unchanged".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            }
+
+            // Order is only used by the store API
+            ClientOptInput changed = configurator.toClientOptInput();
+            changed.getOpenAPI().getComponents().getSchemas().get("Order").addProperty("note", new StringSchema());
+            generator = new DefaultGenerator(false);
+            generator.setGeneratorPropertyDefault(CodegenConstants.INCREMENTAL_GENERATION, "true");
+            List<File> files = generator.opts(changed).generate();
+
+            Assert.assertTrue(new String(Files.readAllBytes(pet), StandardCharsets.UTF_8).endsWith("// unchanged"));
+            Assert.assertTrue(new String(Files.readAllBytes(petApi), StandardCharsets.UTF_8).endsWith("// unchanged"));
+            Assert.assertFalse(new String(Files.readAllBytes(order), StandardCharsets.UTF_8).endsWith("// unchanged"));
+            Assert.assertFalse(new String(Files.readAllBytes(storeApi), StandardCharsets.UTF_8).endsWith("// unchanged"));
+            TestUtils.ensureContainsFile(files, target.toFile(), "src/main/java/org/openapitools/client/model/Pet.java");
+            TestUtils.ensureContainsFile(files, target.toFile(), "src/main/java/org/openapitools/client/api/PetApi.java");
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
     @Test
     public void testIgnoreFileProcessing() throws IOException {
         Path target = Files.createTempDirectory("test");
@@ -344,6 +416,88 @@ public class DefaultGeneratorTest {
         }
     }
 
+    @Test
+    public void testParallelRenderingIsDeterministic() throws IOException {
+        Path sequentialTarget = Files.createTempDirectory("test-sequential");
+        Path parallelTarget = Files.createTempDirectory("test-parallel");
+        try {
+            List<File> sequentialFiles = generatePetstore(sequentialTarget, 1);
+            List<File> parallelFiles = generatePetstore(parallelTarget, 4);
+
+            Assert.assertEquals(relativize(parallelTarget, parallelFiles), relativize(sequentialTarget, sequentialFiles));
+            for (File file : sequentialFiles) {
+                if (file.isFile()) {
+                    Path relative = sequentialTarget.relativize(file.toPath());
+                    Assert.assertEquals(Files.readAllBytes(parallelTarget.resolve(relative)), Files.readAllBytes(file.toPath()), relative.toString());
+                }
+            }
+        } finally {
+            sequentialTarget.toFile().deleteOnExit();
+            parallelTarget.toFile().deleteOnExit();
+        }
+    }
+
+    @Test
+    public void testParallelRenderingSerializesPostProcessFile() throws IOException {
+        Path target = Files.createTempDirectory("test-parallel-post-process");
+        try {
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName(ConcurrencyCheckingCodegen.class.getName())
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setEnablePostProcessFile(true)
+                    .setParallelism(4)
+                    .setOutputDir(target.toAbsolutePath().toString());
+            ClientOptInput input = configurator.toClientOptInput();
+
+            new DefaultGenerator().opts(input).generate();
+
+            ConcurrencyCheckingCodegen config = (ConcurrencyCheckingCodegen) input.getConfig();
+            Assert.assertTrue(config.postProcessed.get() > 0);
+            Assert.assertFalse(config.overlapped);
+        } finally {
+            target.toFile().deleteOnExit();
+        }
+    }
+
+    public static class ConcurrencyCheckingCodegen extends JavaClientCodegen {
+        final AtomicInteger postProcessed = new AtomicInteger();
+        final AtomicInteger running = new AtomicInteger();
+        volatile boolean overlapped;
+
+        @Override
+        public void postProcessFile(File file, String fileType) {
+            if (running.incrementAndGet() > 1) {
+                overlapped = true;
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            postProcessed.incrementAndGet();
+            running.decrementAndGet();
+        }
+    }
+
+    private static List<File> generatePetstore(Path target, int parallelism) {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .addAdditionalProperty(CodegenConstants.HIDE_GENERATION_TIMESTAMP, true)
+                .setParallelism(parallelism)
+                .setOutputDir(target.toAbsolutePath().toString());
+
+        return new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+    }
+
+    private static List<String> relativize(Path root, List<File> files) {
+        List<String> paths = new ArrayList<>();
+        for (File file : files) {
+            paths.add(root.relativize(file.toPath().toAbsolutePath()).toString());
+        }
+        return paths;
+    }
+
     @Test
     public void testNonStrictProcessPaths() throws Exception {
         OpenAPI openAPI = TestUtils.createOpenAPI();
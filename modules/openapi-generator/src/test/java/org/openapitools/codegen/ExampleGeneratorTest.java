@@ -1,6 +1,8 @@
 package org.openapitools.codegen;
 
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.examples.ExampleCache;
 import org.openapitools.codegen.examples.ExampleGenerator;
 import org.testng.annotations.Test;
 
@@ -8,6 +10,7 @@ import java.util.*;
 
 import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNull;
+import static org.testng.AssertJUnit.assertTrue;
 
 public class ExampleGeneratorTest {
     @Test
@@ -325,4 +328,38 @@ public class ExampleGeneratorTest {
         assertEquals(String.format(Locale.ROOT, "{%n  \"example_schema_property\" : \"example schema property value\"%n}"), examples.get(0).get("example"));
         assertEquals("200", examples.get(0).get("statusCode"));
     }
+
+    @Test
+    public void generateReusesExamplesOfSharedCache() {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/example_generator_test.yaml");
+
+        new InlineModelResolver().flatten(openAPI);
+
+        ExampleCache cache = new ExampleCache();
+        List<String> mediaTypes = Arrays.asList("application/json", "application/xml");
+        List<Map<String, String>> examples = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "ExampleSchema");
+
+        assertEquals(2, examples.size());
+        String json = examples.get(0).get("example");
+        String xml = examples.get(1).get("example");
+        assertTrue(xml.contains("example schema property value"));
+
+        // a later operation referencing the same model gets the examples rendered by the first one
+        Schema<?> property = (Schema<?>) openAPI.getComponents().getSchemas().get("ExampleSchema").getProperties().get("example_schema_property");
+        property.setExample("changed value");
+        examples = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "ExampleSchema");
+
+        assertEquals(json, examples.get(0).get("example"));
+        assertEquals(xml, examples.get(1).get("example"));
+
+        // naming a schema changes how it is rendered to XML
+        openAPI.getComponents().getSchemas().get("ExampleSchema").setName("ExampleSchema");
+        examples = new ExampleGenerator(openAPI.getComponents().getSchemas(), openAPI, cache)
+                .generate(null, mediaTypes, "ExampleSchema");
+
+        assertEquals(json, examples.get(0).get("example"));
+        assertTrue(examples.get(1).get("example").contains("changed value"));
+    }
 }
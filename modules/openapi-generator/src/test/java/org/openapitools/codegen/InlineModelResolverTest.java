@@ -33,6 +33,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.List;
 
@@ -1197,4 +1198,52 @@ public class InlineModelResolverTest {
         assertNotNull(allOfRefWithDescriptionAndReadonly.getAllOf());
         assertEquals(numberRangeRef, ((Schema) allOfRefWithDescriptionAndReadonly.getAllOf().get(0)).get$ref());
     }
+
+    @Test
+    public void testReuseOfStructurallyEqualInlineSchemas() {
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.setComponents(new Components());
+        openAPI.getComponents().addSchemas("First", new ObjectSchema()
+                .addProperty("address", inlineAddress("street")));
+        openAPI.getComponents().addSchemas("Second", new ObjectSchema()
+                .addProperty("address", inlineAddress("street")));
+        openAPI.getComponents().addSchemas("Third", new ObjectSchema()
+                .addProperty("address", inlineAddress("road")));
+
+        new InlineModelResolver().flatten(openAPI);
+
+        // distinct but equal inline schemas share a model, a different one gets its own model
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        assertEquals("#/components/schemas/First_address", ((Schema) schemas.get("First").getProperties().get("address")).get$ref());
+        assertEquals("#/components/schemas/First_address", ((Schema) schemas.get("Second").getProperties().get("address")).get$ref());
+        assertEquals("#/components/schemas/Third_address", ((Schema) schemas.get("Third").getProperties().get("address")).get$ref());
+        assertNull(schemas.get("Second_address"));
+    }
+
+    @Test(enabled = false, description = "benchmark: flattening a synthetic spec with 5,000 large inline schemas, half of them duplicates")
+    public void benchmarkFlattenDuplicateInlineSchemas() {
+        for (int run = 0; run < 5; run++) {
+            OpenAPI openAPI = new OpenAPI();
+            openAPI.setComponents(new Components());
+            for (int i = 0; i < 5_000; i++) {
+                ObjectSchema address = inlineAddress("street" + i / 2);
+                for (int p = 0; p < 50; p++) {
+                    address.addProperty("line" + p, new StringSchema().description("Line " + p + " of the address").maxLength(100));
+                }
+                openAPI.getComponents().addSchemas("Model" + i, new ObjectSchema().addProperty("address", address));
+            }
+            long start = System.nanoTime();
+            new InlineModelResolver().flatten(openAPI);
+            System.out.printf(Locale.ROOT, "%d schemas after flattening in %d ms%n",
+                    openAPI.getComponents().getSchemas().size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static ObjectSchema inlineAddress(String streetProperty) {
+        ObjectSchema address = new ObjectSchema();
+        address.addProperty(streetProperty, new StringSchema());
+        address.addProperty("city", new StringSchema());
+        address.addProperty("zip", new IntegerSchema());
+        return address;
+    }
 }
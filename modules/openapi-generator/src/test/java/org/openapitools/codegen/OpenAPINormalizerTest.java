@@ -16,11 +16,14 @@
 
 package org.openapitools.codegen;
 
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.*;
 
 import org.openapitools.codegen.utils.ModelUtils;
+import org.slf4j.LoggerFactory;
 import org.testng.annotations.Test;
 
 import java.util.*;
@@ -794,4 +797,75 @@ public class OpenAPINormalizerTest {
         assertEquals(((Schema) schema2.getProperties().get("property2")).getAllOf(), null);
         assertEquals(((Schema) schema2.getProperties().get("property2")).getAllOf(), null);
     }
+
+    @Test
+    public void testOpenAPINormalizerNormalizesEqualSchemasSeparately() {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        // two distinct but equal any type schemas in the same oneOf
+        Schema oneOf = new Schema()
+                .addOneOfItem(new StringSchema())
+                .addOneOfItem(new JsonSchema())
+                .addOneOfItem(new JsonSchema());
+        openAPI.getComponents().addSchemas("AnyOrString", oneOf);
+
+        OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(openAPI,
+                Map.of("NORMALIZE_31SPEC", "true", "SIMPLIFY_ONEOF_ANYOF", "false"));
+        openAPINormalizer.normalize();
+
+        List<Schema> oneOfItems = openAPI.getComponents().getSchemas().get("AnyOrString").getOneOf();
+        assertFalse(oneOfItems.get(1) instanceof JsonSchema);
+        assertFalse(oneOfItems.get(2) instanceof JsonSchema);
+    }
+
+    @Test
+    public void testRuleTimingsAreRecordedWithDebugLogging() {
+        Logger logger = (Logger) LoggerFactory.getLogger(OpenAPINormalizer.class);
+        Level level = logger.getLevel();
+        try {
+            logger.setLevel(Level.INFO);
+            OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(TestUtils.createOpenAPI(), Map.of("NORMALIZE_31SPEC", "true"));
+            openAPINormalizer.normalize();
+            assertTrue(openAPINormalizer.getRuleTimings().isEmpty());
+
+            logger.setLevel(Level.DEBUG);
+            OpenAPI openAPI = TestUtils.createOpenAPI();
+            openAPI.getComponents().addSchemas("Dummy", new ObjectSchema().addProperty("name", new StringSchema()));
+            openAPINormalizer = new OpenAPINormalizer(openAPI, Map.of("NORMALIZE_31SPEC", "true"));
+            openAPINormalizer.normalize();
+            assertTrue(openAPINormalizer.getRuleTimings().containsKey("NORMALIZE_31SPEC"));
+            assertFalse(openAPINormalizer.getRuleTimings().containsKey("REF_AS_PARENT_IN_ALLOF"));
+        } finally {
+            logger.setLevel(level);
+        }
+    }
+
+    @Test(enabled = false, description = "benchmark: normalizing a synthetic spec with 2,000 schemas of deeply nested inline objects")
+    public void benchmarkNormalizeNestedSchemas() {
+        for (int run = 0; run < 5; run++) {
+            OpenAPI openAPI = TestUtils.createOpenAPI();
+            for (int i = 0; i < 2_000; i++) {
+                openAPI.getComponents().addSchemas("Model" + i, nestedSchema(4));
+            }
+            OpenAPINormalizer openAPINormalizer = new OpenAPINormalizer(openAPI,
+                    Map.of("REF_AS_PARENT_IN_ALLOF", "true", "SIMPLIFY_ONEOF_ANYOF", "true",
+                            "SET_PRIMITIVE_TYPES_TO_NULLABLE", "string|integer"));
+            long start = System.nanoTime();
+            openAPINormalizer.normalize();
+            System.out.printf(Locale.ROOT, "normalized in %d ms, rules: %s%n", (System.nanoTime() - start) / 1_000_000, openAPINormalizer.getRuleTimings());
+        }
+    }
+
+    private static Schema nestedSchema(int depth) {
+        ObjectSchema schema = new ObjectSchema();
+        schema.addProperty("name", new StringSchema());
+        schema.addProperty("count", new IntegerSchema());
+        if (depth > 0) {
+            schema.addProperty("child", nestedSchema(depth - 1));
+            schema.addProperty("children", new ArraySchema().items(nestedSchema(depth - 1)));
+            schema.addProperty("either", new ComposedSchema()
+                    .addOneOfItem(nestedSchema(depth - 1))
+                    .addOneOfItem(new Schema<>().type("null")));
+        }
+        return schema;
+    }
 }
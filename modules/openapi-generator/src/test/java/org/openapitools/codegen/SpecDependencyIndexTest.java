@@ -0,0 +1,58 @@
+package org.openapitools.codegen;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Discriminator;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class SpecDependencyIndexTest {
+
+    @Test
+    public void testDiscriminatorParentDependsOnAllDescendants() {
+        OpenAPI openAPI = petHierarchy();
+        SpecDependencyIndex before = new SpecDependencyIndex(openAPI);
+
+        ((Schema<?>) openAPI.getComponents().getSchemas().get("Puppy").getAllOf().get(1)).addProperty("toy", new StringSchema());
+        SpecDependencyIndex after = new SpecDependencyIndex(openAPI);
+
+        assertNotEquals(after.schemaInputs("Pet"), before.schemaInputs("Pet"));
+        assertNotEquals(after.schemaInputs("Dog"), before.schemaInputs("Dog"));
+        assertEquals(after.schemaInputs("Order"), before.schemaInputs("Order"));
+    }
+
+    @Test
+    public void testParentWithoutDiscriminatorDependsOnDirectChildrenOnly() {
+        OpenAPI openAPI = petHierarchy();
+        openAPI.getComponents().getSchemas().get("Pet").setDiscriminator(null);
+        SpecDependencyIndex before = new SpecDependencyIndex(openAPI);
+
+        ((Schema<?>) openAPI.getComponents().getSchemas().get("Puppy").getAllOf().get(1)).addProperty("toy", new StringSchema());
+        SpecDependencyIndex after = new SpecDependencyIndex(openAPI);
+
+        assertEquals(after.schemaInputs("Pet"), before.schemaInputs("Pet"));
+        assertNotEquals(after.schemaInputs("Dog"), before.schemaInputs("Dog"));
+    }
+
+    private static OpenAPI petHierarchy() {
+        OpenAPI openAPI = TestUtils.createOpenAPI();
+        openAPI.getComponents()
+                .addSchemas("Pet", new ObjectSchema()
+                        .addProperty("petType", new StringSchema())
+                        .discriminator(new Discriminator().propertyName("petType")))
+                .addSchemas("Dog", child("Pet", "bark"))
+                .addSchemas("Puppy", child("Dog", "age"))
+                .addSchemas("Order", new ObjectSchema().addProperty("id", new StringSchema()));
+        return openAPI;
+    }
+
+    private static Schema child(String parent, String property) {
+        return new ComposedSchema()
+                .addAllOfItem(new Schema<>().$ref("#/components/schemas/" + parent))
+                .addAllOfItem(new ObjectSchema().addProperty(property, new StringSchema()));
+    }
+}
@@ -16,6 +16,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.testng.Assert.*;
 
@@ -35,6 +36,30 @@ public class TemplateManagerTest {
         }
     }
 
+    static class DirectoryTemplateLoader implements TemplatePathLocator {
+        private final Path templateDir;
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        DirectoryTemplateLoader(Path templateDir) {
+            this.templateDir = templateDir;
+        }
+
+        @Override
+        public String getFullTemplatePath(String relativeTemplateFile) {
+            lookups.incrementAndGet();
+            Path template = templateDir.resolve(relativeTemplateFile);
+            if (template.toFile().exists()) {
+                return template.toString();
+            }
+            return Paths.get("templating", "templates", relativeTemplateFile).toString();
+        }
+
+        @Override
+        public String getResolutionKey() {
+            return templateDir.toString();
+        }
+    }
+
     private final HandlebarsEngineAdapter handlebarsEngineAdapter = new HandlebarsEngineAdapter();
     private final MustacheEngineAdapter mustacheEngineAdapter = new MustacheEngineAdapter();
     private final TemplatePathLocator locator = new ResourceTemplateLoader();
@@ -56,6 +81,40 @@ public class TemplateManagerTest {
         fail("Expected an exception that did not occur");
     }
 
+    @Test
+    public void resolvesTemplatesOnce() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-templatemanager");
+        try {
+            DirectoryTemplateLoader loader = new DirectoryTemplateLoader(templateDir);
+            TemplateManager manager = new TemplateManager(new TemplateManagerOptions(false, false), mustacheEngineAdapter, new TemplatePathLocator[]{ loader });
+
+            assertEquals(manager.getFullTemplateContents("simple.mustache"), "{{name}} and {{age}}");
+            assertEquals(manager.getFullTemplateContents("simple.mustache"), "{{name}} and {{age}}");
+            assertEquals(manager.getFullTemplatePath("simple.mustache"), Paths.get("templating/templates/simple.mustache"));
+            assertEquals(loader.lookups.get(), 1);
+        } finally {
+            templateDir.toFile().delete();
+        }
+    }
+
+    @Test
+    public void reloadsModifiedTemplateContents() throws IOException {
+        Path templateDir = Files.createTempDirectory("test-templatemanager");
+        Path template = templateDir.resolve("simple.mustache");
+        try {
+            Files.write(template, "{{name}}".getBytes(StandardCharsets.UTF_8));
+            TemplateManager manager = new TemplateManager(new TemplateManagerOptions(false, false), mustacheEngineAdapter, new TemplatePathLocator[]{ new DirectoryTemplateLoader(templateDir) });
+
+            assertEquals(manager.getFullTemplateContents("simple.mustache"), "{{name}}");
+
+            Files.write(template, "{{name}} is {{age}}".getBytes(StandardCharsets.UTF_8));
+            assertEquals(manager.getFullTemplateContents("simple.mustache"), "{{name}} is {{age}}");
+        } finally {
+            template.toFile().delete();
+            templateDir.toFile().delete();
+        }
+    }
+
     @Test
     public void readTemplate(){
         TemplateManagerOptions opts = new TemplateManagerOptions(false,false);
@@ -186,6 +245,28 @@ public class TemplateManagerTest {
         }
     }
 
+    @Test
+    public void minimalUpdateWritesChangedContentsOfSameSize() throws IOException {
+        TemplateManagerOptions opts = new TemplateManagerOptions(true,false);
+        TemplateManager manager = new TemplateManager(opts, mustacheEngineAdapter, new TemplatePathLocator[]{ locator });
+        Map<String, Object> data = new HashMap<>();
+        data.put("name","Teddy");
+        data.put("age", "3");
+
+        Path target = Files.createTempDirectory("test-templatemanager");
+        try {
+            File output = new File(target.toFile(), "simple.txt");
+            Files.write(output.toPath(), "Teddy and 4".getBytes(StandardCharsets.UTF_8));
+
+            File written = manager.write(data, "simple.mustache", output);
+
+            assertEquals(Files.readAllLines(written.toPath()).get(0), "Teddy and 3");
+            assertEquals(target.toFile().list(), new String[]{"simple.txt"});
+        } finally {
+            target.toFile().delete();
+        }
+    }
+
     @Test
     public void overwritesWhenSkipOverwriteFalse() throws IOException {
         TemplateManagerOptions opts = new TemplateManagerOptions(false,false);
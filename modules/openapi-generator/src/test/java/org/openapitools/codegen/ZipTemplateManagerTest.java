@@ -0,0 +1,140 @@
+package org.openapitools.codegen;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.openapitools.codegen.api.TemplatePathLocator;
+import org.openapitools.codegen.api.TemplateProcessor;
+import org.openapitools.codegen.api.TemplatingEngineAdapter;
+import org.openapitools.codegen.config.CodegenConfigurator;
+import org.openapitools.codegen.templating.MustacheEngineAdapter;
+import org.openapitools.codegen.templating.TemplateManagerOptions;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.testng.Assert.*;
+
+public class ZipTemplateManagerTest {
+    private final TemplatePathLocator locator = new TemplateManagerTest.ResourceTemplateLoader();
+
+    @Test
+    public void writesEntriesRelativeToOutputDirectory() throws IOException {
+        Path outputDir = Files.createTempDirectory("test-ziptemplatemanager").resolve("out");
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            ZipTemplateManager manager = new ZipTemplateManager(new TemplateManagerOptions(false, false), new MustacheEngineAdapter(), new TemplatePathLocator[]{ locator }, zip, outputDir, "java-client");
+            Map<String, Object> data = new HashMap<>();
+            data.put("name", "Teddy");
+            data.put("age", "3");
+
+            File written = manager.write(data, "simple.mustache", outputDir.resolve("docs").resolve("simple.txt").toFile());
+
+            assertFalse(written.exists());
+            assertThrows(IOException.class, () -> manager.writeToFile(outputDir.resolveSibling("other.txt").toString(), new byte[0]));
+            manager.close();
+            assertThrows(IOException.class, () -> manager.writeToFile(outputDir.resolve("late.txt").toString(), new byte[0]));
+        } finally {
+            outputDir.getParent().toFile().delete();
+        }
+
+        Map<String, String> entries = readEntries(archive.toByteArray());
+        assertEquals(entries.size(), 1);
+        assertEquals(entries.get("java-client/docs/simple.txt"), "Teddy and 3");
+    }
+
+    @Test
+    public void lastWriteToPathWins() throws IOException {
+        Path outputDir = Files.createTempDirectory("test-ziptemplatemanager").resolve("out");
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            ZipTemplateManager manager = new ZipTemplateManager(new TemplateManagerOptions(false, false), new MustacheEngineAdapter(), new TemplatePathLocator[]{ locator }, zip, outputDir, "");
+
+            manager.writeToFile(outputDir.resolve("README.md").toString(), "first".getBytes(StandardCharsets.UTF_8));
+            manager.writeToFile(outputDir.resolve("pom.xml").toString(), "pom".getBytes(StandardCharsets.UTF_8));
+            manager.writeToFile(outputDir.resolve("README.md").toString(), "second".getBytes(StandardCharsets.UTF_8));
+            manager.close();
+        } finally {
+            outputDir.getParent().toFile().delete();
+        }
+
+        Map<String, String> entries = readEntries(archive.toByteArray());
+        assertEquals(new ArrayList<>(entries.keySet()), Arrays.asList("README.md", "pom.xml"));
+        assertEquals(entries.get("README.md"), "second");
+    }
+
+    @Test
+    public void skipOverwriteKeepsFirstWrite() throws IOException {
+        Path outputDir = Files.createTempDirectory("test-ziptemplatemanager").resolve("out");
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            ZipTemplateManager manager = new ZipTemplateManager(new TemplateManagerOptions(false, true), new MustacheEngineAdapter(), new TemplatePathLocator[]{ locator }, zip, outputDir, "");
+
+            manager.writeToFile(outputDir.resolve("README.md").toString(), "first".getBytes(StandardCharsets.UTF_8));
+            manager.writeToFile(outputDir.resolve("README.md").toString(), "second".getBytes(StandardCharsets.UTF_8));
+            manager.close();
+        } finally {
+            outputDir.getParent().toFile().delete();
+        }
+
+        assertEquals(readEntries(archive.toByteArray()).get("README.md"), "first");
+    }
+
+    @Test
+    public void generateIntoArchive() throws IOException {
+        Path tmp = Files.createTempDirectory("test-ziptemplatemanager");
+        try {
+            Path outputDir = tmp.resolve("out");
+            final CodegenConfigurator configurator = new CodegenConfigurator()
+                    .setGeneratorName("java")
+                    .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                    .setOutputDir(outputDir.toString());
+
+            ByteArrayOutputStream archive = new ByteArrayOutputStream();
+            List<File> files;
+            try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+                DefaultGenerator generator = new DefaultGenerator() {
+                    @Override
+                    protected TemplateProcessor createTemplateProcessor(TemplateManagerOptions options, TemplatingEngineAdapter engineAdapter, TemplatePathLocator[] templateLoaders) {
+                        return new ZipTemplateManager(options, engineAdapter, templateLoaders, zip, outputDir, "");
+                    }
+                };
+                files = generator.opts(configurator.toClientOptInput()).generate();
+            }
+
+            Map<String, String> entries = readEntries(archive.toByteArray());
+            assertFalse(files.isEmpty());
+            assertTrue(entries.containsKey("src/main/java/org/openapitools/client/api/PetApi.java"));
+            assertTrue(entries.containsKey(".openapi-generator/FILES"));
+            assertTrue(entries.get(".openapi-generator/FILES").contains("src/main/java/org/openapitools/client/model/Pet.java"));
+            assertFalse(Files.exists(outputDir.resolve("src/main/java/org/openapitools/client/api/PetApi.java")));
+        } finally {
+            FileUtils.deleteDirectory(tmp.toFile());
+        }
+    }
+
+    private static Map<String, String> readEntries(byte[] archive) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), IOUtils.toString(zip, StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,47 @@
+package org.openapitools.codegen.config;
+
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.openapitools.codegen.ClientOptInput;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+
+import static org.testng.Assert.*;
+
+public class ParsedSpecCacheTest {
+    @Test
+    public void testParsesEachSpecOnce() {
+        ParsedSpecCache cache = new ParsedSpecCache();
+        ParseOptions options = new ParseOptions();
+        options.setResolve(true);
+
+        SwaggerParseResult first = cache.parse("src/test/resources/3_0/petstore.yaml", null, Collections.emptyList(), options);
+        SwaggerParseResult second = cache.parse("./src/test/resources/3_0/petstore.yaml", null, Collections.emptyList(), options);
+        cache.parse("src/test/resources/3_0/petstore.yaml", "api_key:secret", Collections.emptyList(), options);
+
+        assertEquals(cache.getParseCount(), 2);
+        assertEquals(cache.getRequestCount(), 3);
+        assertNotSame(first.getOpenAPI(), second.getOpenAPI());
+        assertEquals(first.getOpenAPI(), second.getOpenAPI());
+    }
+
+    @Test
+    public void testConfiguratorsShareParsedSpec() {
+        ParsedSpecCache cache = new ParsedSpecCache();
+        ClientOptInput java = new CodegenConfigurator()
+                .setGeneratorName("java")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setParsedSpecCache(cache)
+                .toClientOptInput();
+        ClientOptInput spring = new CodegenConfigurator()
+                .setGeneratorName("spring")
+                .setInputSpec("src/test/resources/3_0/petstore.yaml")
+                .setParsedSpecCache(cache)
+                .toClientOptInput();
+
+        assertEquals(cache.getParseCount(), 1);
+        assertNotSame(java.getOpenAPI(), spring.getOpenAPI());
+        assertEquals(java.getOpenAPI(), spring.getOpenAPI());
+    }
+}
@@ -603,6 +603,93 @@ public class JavaClientCodegenTest {
         );
     }
 
+    @Test public void testJdkHttpAsyncClientFormBodiesAndExecutor() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setGeneratorName("java")
+            .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+            .addAdditionalProperty(CodegenConstants.INVOKER_PACKAGE, "xyz.abcdef.invoker")
+            .addAdditionalProperty(JavaClientCodegen.ASYNC_NATIVE, true)
+            .setLibrary(JavaClientCodegen.NATIVE)
+            .setInputSpec("src/test/resources/3_0/petstore.yaml")
+            .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PetApi.java")).content()
+            .contains(
+                "ApiClient.MultipartBody multipartBody = new ApiClient.MultipartBody();",
+                "multipartBody.addFile(\"file\", _file);",
+                ".method(\"POST\", multipartBody.toBodyPublisher());",
+                ".method(\"POST\", HttpRequest.BodyPublishers.ofString(formValues.toString()));",
+                "formValues.add(ApiClient.formUrlEncode(\"name\") + \"=\" + ApiClient.formUrlEncode(name.toString()));",
+                "memberVarAsyncExecutor\n"
+            )
+            .doesNotContain("new Thread(", "MultipartEntityBuilder", "org.apache.http");
+        assertThat(output.resolve("src/main/java/xyz/abcdef/invoker/ApiClient.java")).content()
+            .contains(
+                "public static class MultipartBody {",
+                "public ApiClient setExecutor(Executor executor) {"
+            );
+        assertThat(output.resolve("pom.xml")).content().doesNotContain("httpmime");
+    }
+
+    @Test public void testJdkHttpClientWithStreamingJsonBodies() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setGeneratorName("java")
+            .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+            .addAdditionalProperty(CodegenConstants.INVOKER_PACKAGE, "xyz.abcdef.invoker")
+            .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_JSON_BODIES, true)
+            .addAdditionalProperty(JavaClientCodegen.ASYNC_NATIVE, true)
+            .setLibrary(JavaClientCodegen.NATIVE)
+            .setInputSpec("src/test/resources/3_0/petstore.yaml")
+            .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PetApi.java")).content()
+            .contains(
+                "localVarRequestBuilder.method(\"POST\", ApiClient.jsonBodyPublisher(memberVarObjectMapper, pet));",
+                "HttpResponse.BodyHandlers.ofInputStream()).thenComposeAsync(localVarResponse -> {",
+                "ApiClient.readJson(memberVarObjectMapper, localVarResponse.body(), new TypeReference<Pet>() {})",
+                "public CompletableFuture<Stream<Pet>> findPetsByStatusStream(List<String> status) throws ApiException {",
+                "ApiClient.readJsonArray(memberVarObjectMapper, localVarResponse.body(), new TypeReference<List<Pet>>() {})",
+                "memberVarAsyncExecutor = apiClient.getResponseBodyExecutor();"
+            )
+            .doesNotContain("HttpResponse.BodyHandlers.ofString()", "writeValueAsBytes", "defaultExecutor()");
+        assertThat(output.resolve("src/main/java/xyz/abcdef/invoker/ApiClient.java")).content()
+            .contains(
+                "public static HttpRequest.BodyPublisher jsonBodyPublisher(ObjectMapper mapper, Object value) {",
+                "private Consumer<HttpResponse<InputStream>> asyncResponseInterceptor;",
+                "public Executor getResponseBodyExecutor() {"
+            );
+    }
+
+    @Test public void testJdkHttpClientSupportStreamingKeepsBufferedBodies() {
+        final Path output = newTempFolder();
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setGeneratorName("java")
+            .addAdditionalProperty(CodegenConstants.API_PACKAGE, "xyz.abcdef.api")
+            .addAdditionalProperty(CodegenConstants.INVOKER_PACKAGE, "xyz.abcdef.invoker")
+            .addAdditionalProperty(JavaClientCodegen.SUPPORT_STREAMING, true)
+            .addAdditionalProperty(JavaClientCodegen.ASYNC_NATIVE, true)
+            .setLibrary(JavaClientCodegen.NATIVE)
+            .setInputSpec("src/test/resources/3_0/petstore.yaml")
+            .setOutputDir(output.toString().replace("\\", "/"));
+
+        List<File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate();
+
+        validateJavaSourceFiles(files);
+        assertThat(output.resolve("src/main/java/xyz/abcdef/api/PetApi.java")).content()
+            .contains("HttpResponse.BodyHandlers.ofString()")
+            .doesNotContain("jsonBodyPublisher", "findPetsByStatusStream");
+        assertThat(output.resolve("src/main/java/xyz/abcdef/invoker/ApiClient.java")).content()
+            .contains("private Consumer<HttpResponse<String>> asyncResponseInterceptor;");
+    }
+
     @Test
     public void testReferencedHeader() {
         final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/issue855.yaml");
@@ -2717,7 +2804,73 @@ public class JavaClientCodegenTest {
                 "com.fasterxml.jackson.databind.annotation.JsonDeserialize"
             );
     }
-        
+
+    @Test void generatesStreamingTypeAdapters_whenLibraryIsOkHttpGson_andUseStreamingTypeAdaptersIsTrue() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setGeneratorName("java")
+            .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+            .addAdditionalProperty(JavaClientCodegen.USE_STREAMING_TYPE_ADAPTERS, true)
+            .addGlobalProperty(CodegenConstants.MODELS, "Animal,Cat")
+            .addGlobalProperty(CodegenConstants.MODEL_DOCS, "false")
+            .addGlobalProperty(CodegenConstants.MODEL_TESTS, "false")
+            .setInputSpec("src/test/resources/3_0/java/petstore-with-fake-endpoints-models-for-testing-okhttp-gson.yaml")
+            .setOutputDir(newTempFolder().toString().replace("\\", "/"));
+
+        Map<String, File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate().stream()
+            .collect(Collectors.toMap(File::getName, Function.identity()));
+
+        assertThat(files.get("Animal.java")).content()
+            .contains(
+                "protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {",
+                "if (in.peek() == JsonToken.NULL) {",
+                "this.className = gson.getAdapter(TYPE_TOKEN_CLASS_NAME).read(in);"
+            );
+        assertThat(files.get("Cat.java")).content()
+            .contains(
+                "this.declawed = gson.getAdapter(TYPE_TOKEN_DECLAWED).read(in);",
+                "return super.readOpenApiField(gson, name, in);",
+                "missingRequiredFields.remove(name);",
+                "if (!instance.readOpenApiField(gson, name, in)) {",
+                "thisAdapter.write(out, value);"
+            )
+            .doesNotContain("elementAdapter.read(in)");
+    }
+
+    @Test void prunesOneOfCandidatesBeforeValidation_whenLibraryIsOkHttpGson() {
+        final CodegenConfigurator configurator = new CodegenConfigurator()
+            .setGeneratorName("java")
+            .setLibrary(JavaClientCodegen.OKHTTP_GSON)
+            .addGlobalProperty(CodegenConstants.MODELS, "mammal,whale,zebra,Pig,BasquePig,DanishPig,fruitReq,appleReq,bananaReq")
+            .addGlobalProperty(CodegenConstants.MODEL_DOCS, "false")
+            .addGlobalProperty(CodegenConstants.MODEL_TESTS, "false")
+            .addGlobalProperty(CodegenConstants.SUPPORTING_FILES, "JSON.java,AbstractOpenApiSchema.java")
+            .setInputSpec("src/test/resources/3_0/java/petstore-with-fake-endpoints-models-for-testing-okhttp-gson.yaml")
+            .setOutputDir(newTempFolder().toString().replace("\\", "/"));
+
+        Map<String, File> files = new DefaultGenerator().opts(configurator.toClientOptInput()).generate().stream()
+            .collect(Collectors.toMap(File::getName, Function.identity()));
+
+        assertThat(files.get("Mammal.java")).content()
+            .contains(
+                "discriminatorTable.put(\"whale\", \"Whale\");",
+                "schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);",
+                "String discriminatorSchema = getDiscriminatorSchema(jsonElement, \"className\", schemaByDiscriminatorValue);",
+                "checkCandidate(jsonElement, \"Whale\", discriminatorSchema, \"className\");",
+                "checkCandidate(jsonElement, \"Pig\", discriminatorSchema);"
+            );
+        assertThat(files.get("FruitReq.java")).content()
+            .contains(
+                "String discriminatorSchema = null;",
+                "checkCandidate(jsonElement, \"AppleReq\", discriminatorSchema, \"cultivar\");",
+                "checkCandidate(jsonElement, \"BananaReq\", discriminatorSchema, \"lengthCm\");"
+            );
+        assertThat(files.get("AbstractOpenApiSchema.java")).content()
+            .contains("protected static void checkCandidate(JsonElement jsonElement, String schema, String discriminatorSchema, String... requiredFields) {");
+        assertThat(files.get("JSON.java")).content()
+            .contains("classByDiscriminatorValue = Collections.unmodifiableMap(table);")
+            .doesNotContain("Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();");
+    }
+
     /**
      * General XML annotations test (both JAXB and Jackson)
      * <br>
@@ -1,12 +1,20 @@
 package org.openapitools.codegen.templating;
 
+import io.swagger.v3.oas.models.OpenAPI;
 import org.mockito.Mockito;
+import org.openapitools.codegen.CodegenModel;
+import org.openapitools.codegen.DefaultCodegen;
+import org.openapitools.codegen.TestUtils;
 import org.openapitools.codegen.api.TemplatingExecutor;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.testng.Assert.assertEquals;
 
@@ -77,6 +85,50 @@ public class HandlebarsEngineAdapterTest {
                 "  private property: raw_data3");
     }
 
+    @Test(description = "the runtime is reused between files, and changed templates are recompiled")
+    public void testRuntimeReuse() throws IOException {
+        HandlebarsEngineAdapter adapter = new HandlebarsEngineAdapter();
+        TemplatingExecutor executorMock = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executorMock.getFullTemplateContents("outerTemplate.hbs")).thenReturn("Contents: {{>innerTemplate}}");
+        Mockito.when(executorMock.getFullTemplateContents("innerTemplate.hbs")).thenReturn("'{{name}}'");
+
+        assertEquals(adapter.compileTemplate(executorMock, Map.of("name", "first"), "outerTemplate.hbs"), "Contents: 'first'");
+        assertEquals(adapter.compileTemplate(executorMock, Map.of("name", "second"), "outerTemplate.hbs"), "Contents: 'second'");
+
+        Mockito.when(executorMock.getFullTemplateContents("innerTemplate.hbs")).thenReturn("\"{{name}}\"");
+        assertEquals(adapter.compileTemplate(executorMock, Map.of("name", "third"), "outerTemplate.hbs"), "Contents: \"third\"");
+    }
+
+    @Test(enabled = false, description = "benchmark: reused runtime vs. a new runtime per file, rendering every model of a large spec")
+    public void benchmarkRuntimeReuse() throws IOException {
+        OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/jetbrains/ManagementService-v3.json");
+        DefaultCodegen codegen = new DefaultCodegen();
+        codegen.setOpenAPI(openAPI);
+        List<CodegenModel> models = new ArrayList<>();
+        openAPI.getComponents().getSchemas().forEach((name, schema) -> models.add(codegen.fromModel(name, schema)));
+
+        TemplatingExecutor executorMock = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executorMock.getFullTemplateContents("model.hbs")).thenReturn(
+                "class {{classname}} {\n{{#each vars}}{{>property}}{{/each}}\n}\n");
+        Mockito.when(executorMock.getFullTemplateContents("property.hbs")).thenReturn(
+                "  {{#if required}}@NotNull {{/if}}{{dataType}} {{name}};{{#if description}} // {{description}}{{/if}}\n");
+
+        HandlebarsEngineAdapter shared = new HandlebarsEngineAdapter();
+        for (int run = 0; run < 3; run++) {
+            long perFile = renderAll(models, executorMock, HandlebarsEngineAdapter::new);
+            long reused = renderAll(models, executorMock, () -> shared);
+            System.out.printf(Locale.ROOT, "%d models: new runtime per file %d ms, reused runtime %d ms%n", models.size(), perFile, reused);
+        }
+    }
+
+    private static long renderAll(List<CodegenModel> models, TemplatingExecutor executor, Supplier<HandlebarsEngineAdapter> adapter) throws IOException {
+        long start = System.nanoTime();
+        for (CodegenModel model : models) {
+            adapter.get().compileTemplate(executor, Map.of("classname", model.classname, "vars", model.vars), "model.hbs");
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
     static class PropertyObject {
         /**
          * getter-exposed
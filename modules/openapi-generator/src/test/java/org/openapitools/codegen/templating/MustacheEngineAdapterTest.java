@@ -0,0 +1,158 @@
+package org.openapitools.codegen.templating;
+
+import com.samskivert.mustache.Mustache;
+import org.mockito.Mockito;
+import org.openapitools.codegen.CodegenConstants;
+import org.openapitools.codegen.api.TemplatingExecutor;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.testng.Assert.assertEquals;
+
+public class MustacheEngineAdapterTest {
+    private static Map<String, Object> bundle(String name) {
+        Map<String, Object> bundle = new HashMap<>();
+        bundle.put(CodegenConstants.MUSTACHE_PARENT_CONTEXT, new Object());
+        bundle.put("name", name);
+        return bundle;
+    }
+
+    private static TemplatingExecutor fileExecutor(Path dir, String resolutionKey) {
+        TemplatingExecutor executor = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(executor.getTemplateResolutionKey()).thenReturn(resolutionKey);
+        Mockito.when(executor.getFullTemplatePath(Mockito.anyString())).thenAnswer(i -> dir.resolve(i.<String>getArgument(0)));
+        Mockito.when(executor.getFullTemplateContents(Mockito.anyString())).thenAnswer(i -> {
+            try {
+                return new String(Files.readAllBytes(dir.resolve(i.<String>getArgument(0))), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return executor;
+    }
+
+    @Test(description = "compiled templates are reused across adapters and executors sharing a resolution key")
+    public void testCompiledTemplateIsCached() throws IOException {
+        Path dir = Files.createTempDirectory("test-mustache-cache");
+        try {
+            Files.write(dir.resolve("outer.mustache"), "Hello {{>inner}}".getBytes(StandardCharsets.UTF_8));
+            Files.write(dir.resolve("inner.mustache"), "{{name}}!".getBytes(StandardCharsets.UTF_8));
+            String resolutionKey = UUID.randomUUID().toString();
+            CompiledTemplateCache<?> cache = MustacheEngineAdapter.getTemplateCache();
+            long hits = cache.getHitCount();
+            long misses = cache.getMissCount();
+
+            assertEquals(new MustacheEngineAdapter().compileTemplate(fileExecutor(dir, resolutionKey), bundle("Teddy"), "outer.mustache"), "Hello Teddy!");
+            assertEquals(new MustacheEngineAdapter().compileTemplate(fileExecutor(dir, resolutionKey), bundle("Ruby"), "outer.mustache"), "Hello Ruby!");
+
+            assertEquals(cache.getMissCount() - misses, 1);
+            assertEquals(cache.getHitCount() - hits, 1);
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test(description = "a modified partial invalidates the compiled template")
+    public void testModifiedPartialInvalidatesCache() throws IOException {
+        Path dir = Files.createTempDirectory("test-mustache-cache");
+        try {
+            Files.write(dir.resolve("outer.mustache"), "Hello {{>inner}}".getBytes(StandardCharsets.UTF_8));
+            Path inner = Files.write(dir.resolve("inner.mustache"), "{{name}}!".getBytes(StandardCharsets.UTF_8));
+            TemplatingExecutor executor = fileExecutor(dir, UUID.randomUUID().toString());
+            MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+
+            assertEquals(adapter.compileTemplate(executor, bundle("Teddy"), "outer.mustache"), "Hello Teddy!");
+
+            Files.write(inner, "{{name}}?!".getBytes(StandardCharsets.UTF_8));
+            long invalidations = MustacheEngineAdapter.getTemplateCache().getInvalidationCount();
+
+            assertEquals(adapter.compileTemplate(executor, bundle("Teddy"), "outer.mustache"), "Hello Teddy?!");
+            assertEquals(MustacheEngineAdapter.getTemplateCache().getInvalidationCount() - invalidations, 1);
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test(description = "a partial which resolves to a new location invalidates the compiled template")
+    public void testOverriddenPartialInvalidatesCache() throws IOException {
+        Path dir = Files.createTempDirectory("test-mustache-cache");
+        try {
+            // partials not found in the directory resolve to an embedded location, which has no file to watch
+            Path embedded = Paths.get("embedded-" + UUID.randomUUID());
+            TemplatingExecutor executor = Mockito.mock(TemplatingExecutor.class);
+            Mockito.when(executor.getTemplateResolutionKey()).thenReturn(UUID.randomUUID().toString());
+            Mockito.when(executor.getFullTemplatePath(Mockito.anyString())).thenAnswer(i -> {
+                Path override = dir.resolve(i.<String>getArgument(0));
+                return Files.exists(override) ? override : embedded.resolve(i.<String>getArgument(0));
+            });
+            Mockito.when(executor.getFullTemplateContents(Mockito.anyString())).thenAnswer(i -> {
+                Path override = dir.resolve(i.<String>getArgument(0));
+                if (Files.exists(override)) {
+                    return new String(Files.readAllBytes(override), StandardCharsets.UTF_8);
+                }
+                return "outer.mustache".equals(i.getArgument(0)) ? "Hello {{>inner}}" : "{{name}}!";
+            });
+            MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+
+            assertEquals(adapter.compileTemplate(executor, bundle("Teddy"), "outer.mustache"), "Hello Teddy!");
+
+            Files.write(dir.resolve("inner.mustache"), "{{name}}?!".getBytes(StandardCharsets.UTF_8));
+
+            assertEquals(adapter.compileTemplate(executor, bundle("Teddy"), "outer.mustache"), "Hello Teddy?!");
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test(description = "templates compiled with an escaper which isn't shared are not cached")
+    public void testUnsharedEscaperBypassesCache() throws IOException {
+        Path dir = Files.createTempDirectory("test-mustache-cache");
+        try {
+            Files.write(dir.resolve("outer.mustache"), "Hello {{name}}".getBytes(StandardCharsets.UTF_8));
+            TemplatingExecutor executor = fileExecutor(dir, UUID.randomUUID().toString());
+            CompiledTemplateCache<?> cache = MustacheEngineAdapter.getTemplateCache();
+            long size = cache.size();
+            MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+            adapter.setCompiler(Mustache.compiler().withEscaper(text -> text.toUpperCase(Locale.ROOT)));
+
+            assertEquals(adapter.compileTemplate(executor, bundle("Teddy"), "outer.mustache"), "Hello TEDDY");
+            assertEquals(cache.size(), size);
+        } finally {
+            deleteDirectory(dir);
+        }
+    }
+
+    @Test(description = "executors without a resolution key never share compiled templates")
+    public void testNoResolutionKeyBypassesCache() throws IOException {
+        TemplatingExecutor first = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(first.getFullTemplateContents("outer.mustache")).thenReturn("Hello {{>inner}}");
+        Mockito.when(first.getFullTemplateContents("inner.mustache")).thenReturn("{{name}}!");
+        TemplatingExecutor second = Mockito.mock(TemplatingExecutor.class);
+        Mockito.when(second.getFullTemplateContents("outer.mustache")).thenReturn("Hello {{>inner}}");
+        Mockito.when(second.getFullTemplateContents("inner.mustache")).thenReturn("{{name}}?");
+        MustacheEngineAdapter adapter = new MustacheEngineAdapter();
+
+        assertEquals(adapter.compileTemplate(first, bundle("Teddy"), "outer.mustache"), "Hello Teddy!");
+        assertEquals(adapter.compileTemplate(second, bundle("Teddy"), "outer.mustache"), "Hello Teddy?");
+    }
+
+    private static void deleteDirectory(Path dir) {
+        File[] files = dir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        dir.toFile().delete();
+    }
+}
@@ -0,0 +1,84 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.openapitools.codegen.TestUtils;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class OpenAPICopierTest {
+    @Test
+    public void testCopyIsEqual() {
+        for (String spec : new String[]{"3_0/petstore.yaml", "3_0/allOf_composition_discriminator.yaml", "3_0/oneOf.yaml", "3_1/petstore.yaml"}) {
+            OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/" + spec);
+            OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+            assertNotSame(copy, openAPI);
+            assertEquals(copy, openAPI, spec);
+            assertEquals(Yaml.pretty(copy), Yaml.pretty(openAPI), spec);
+            assertNotSame(copy.getComponents().getSchemas(), openAPI.getComponents().getSchemas());
+            assertNotSame(copy.getPaths(), openAPI.getPaths());
+            assertEquals(copy.getPaths().getClass(), openAPI.getPaths().getClass());
+        }
+    }
+
+    @Test
+    public void testCopyIsIsolated() {
+        OpenAPI openAPI = TestUtils.parseSpec("src/test/resources/3_0/allOf_composition_discriminator.yaml");
+        OpenAPI pristine = OpenAPICopier.copy(openAPI);
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+        for (Schema<?> schema : copy.getComponents().getSchemas().values()) {
+            schema.addProperty("added", new StringSchema());
+            if (schema.getAllOf() != null) {
+                schema.getAllOf().clear();
+            }
+        }
+        copy.getComponents().getSchemas().remove("Pet");
+        copy.getPaths().clear();
+
+        assertEquals(openAPI, pristine);
+    }
+
+    @Test
+    public void testExplicitNullExamplesArePreserved() {
+        OpenAPI openAPI = new OpenAPI()
+                .schema("A", new StringSchema().example(null))
+                .schema("B", new StringSchema());
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        assertTrue(copy.getComponents().getSchemas().get("A").getExampleSetFlag());
+        assertNull(copy.getComponents().getSchemas().get("A").getExample());
+        assertFalse(copy.getComponents().getSchemas().get("B").getExampleSetFlag());
+    }
+
+    @Test
+    public void testConstructorDefaultsAreNotAdded() {
+        IntegerSchema integer = new IntegerSchema();
+        integer.setFormat(null);
+        OpenAPI openAPI = new OpenAPI().schema("A", integer);
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+
+        assertEquals(copy.getComponents().getSchemas().get("A").getType(), "integer");
+        assertNull(copy.getComponents().getSchemas().get("A").getFormat());
+        assertEquals(Yaml.pretty(copy), Yaml.pretty(openAPI));
+    }
+
+    @Test
+    public void testSharedReferencesArePreserved() {
+        Schema<?> shared = new StringSchema();
+        OpenAPI openAPI = new OpenAPI().schema("A", new Schema<>().addProperty("a", shared).addProperty("b", shared));
+
+        OpenAPI copy = OpenAPICopier.copy(openAPI);
+        Schema<?> a = copy.getComponents().getSchemas().get("A");
+
+        assertNotSame(a.getProperties().get("a"), shared);
+        assertSame(a.getProperties().get("a"), a.getProperties().get("b"));
+    }
+}
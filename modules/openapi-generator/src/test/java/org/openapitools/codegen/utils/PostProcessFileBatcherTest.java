@@ -0,0 +1,85 @@
+package org.openapitools.codegen.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+public class PostProcessFileBatcherTest {
+    @Test
+    public void testFilesAreGroupedByCommand() {
+        PostProcessFileBatcher batcher = new PostProcessFileBatcher(Integer.MAX_VALUE, 1);
+        batcher.add(Collections.singletonList("fmt"), "a.go");
+        batcher.add(Arrays.asList("tidy -b", "-q"), "a.pl");
+        batcher.add(Collections.singletonList("fmt"), "b.go");
+        batcher.add(Collections.singletonList("fmt"), "b.go");
+
+        List<PostProcessFileBatcher.Batch> batches = batcher.batches();
+
+        assertEquals(batcher.size(), 3);
+        assertEquals(batches.size(), 2);
+        assertEquals(batches.get(0).commandLine(), Arrays.asList("fmt", "a.go", "b.go"));
+        assertEquals(batches.get(1).commandLine(), Arrays.asList("tidy", "-b", "-q", "a.pl"));
+    }
+
+    @Test
+    public void testBatchesFitIntoMaximumCommandLength() {
+        PostProcessFileBatcher batcher = new PostProcessFileBatcher(100, 1);
+        for (int i = 0; i < 10; i++) {
+            batcher.add(Collections.singletonList("fmt"), "file" + i);
+        }
+        batcher.add(Collections.singletonList("fmt"), String.join("", Collections.nCopies(200, "x")));
+
+        List<PostProcessFileBatcher.Batch> batches = batcher.batches();
+
+        int files = 0;
+        for (PostProcessFileBatcher.Batch batch : batches) {
+            assertFalse(batch.files.isEmpty());
+            files += batch.files.size();
+        }
+        assertEquals(files, 11);
+        assertTrue(batches.size() > 2);
+        // a file exceeding the limit on its own is processed in a batch of its own
+        assertEquals(batches.get(batches.size() - 1).files.size(), 1);
+    }
+
+    @Test
+    public void testExecute() throws IOException {
+        if (SystemUtils.IS_OS_WINDOWS) {
+            throw new SkipException("requires a POSIX shell");
+        }
+        Path dir = Files.createTempDirectory("test-post-process");
+        try {
+            Path script = dir.resolve("format.sh");
+            Files.write(script, "#!/bin/sh\nfor f in \"$@\"; do echo formatted >> \"$f\"; done\n".getBytes(StandardCharsets.UTF_8));
+            assertTrue(script.toFile().setExecutable(true));
+            Path first = Files.createFile(dir.resolve("first.txt"));
+            Path second = Files.createFile(dir.resolve("second.txt"));
+
+            PostProcessFileBatcher batcher = new PostProcessFileBatcher(Integer.MAX_VALUE, 2);
+            batcher.add(Collections.singletonList(script.toString()), first.toString());
+            batcher.add(Collections.singletonList(script.toString()), second.toString());
+
+            assertTrue(batcher.execute());
+            assertEquals(batcher.size(), 0);
+            assertEquals(new String(Files.readAllBytes(first), StandardCharsets.UTF_8), "formatted\n");
+            assertEquals(new String(Files.readAllBytes(second), StandardCharsets.UTF_8), "formatted\n");
+
+            batcher.add(Collections.singletonList(dir.resolve("missing.sh").toString()), first.toString());
+            assertFalse(batcher.execute());
+        } finally {
+            FileUtils.deleteDirectory(dir.toFile());
+        }
+    }
+}
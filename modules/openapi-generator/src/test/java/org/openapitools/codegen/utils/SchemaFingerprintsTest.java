@@ -0,0 +1,49 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.*;
+
+public class SchemaFingerprintsTest {
+
+    @Test
+    public void testEqualSchemasHaveEqualFingerprints() {
+        Schema a = new ObjectSchema()
+                .addProperty("id", new IntegerSchema())
+                .addProperty("tags", new ArraySchema().items(new StringSchema()));
+        Schema b = new ObjectSchema()
+                .addProperty("tags", new ArraySchema().items(new StringSchema()))
+                .addProperty("id", new IntegerSchema());
+
+        assertEquals(a, b);
+        assertEquals(SchemaFingerprints.of(a), SchemaFingerprints.of(b));
+        assertNotEquals(SchemaFingerprints.of(a), SchemaFingerprints.of(new ObjectSchema().addProperty("id", new StringSchema())));
+        assertEquals(SchemaFingerprints.of(null), 0);
+    }
+
+    @Test
+    public void testModifiedSchemas() {
+        Schema schema = new ObjectSchema().addProperty("id", new IntegerSchema());
+        Schema parent = new ArraySchema().items(schema);
+        int before = SchemaFingerprints.of(schema);
+        int parentBefore = SchemaFingerprints.of(parent);
+
+        // fingerprints follow schemas modified in place, including their parents
+        schema.addProperty("name", new StringSchema());
+        assertNotEquals(SchemaFingerprints.of(schema), before);
+        assertNotEquals(SchemaFingerprints.of(parent), parentBefore);
+    }
+
+    @Test
+    public void testSelfReference() {
+        Schema schema = new ObjectSchema();
+        schema.addProperty("self", schema);
+
+        assertEquals(SchemaFingerprints.of(schema), SchemaFingerprints.of(schema));
+    }
+}
@@ -0,0 +1,81 @@
+package org.openapitools.codegen.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import org.openapitools.codegen.TestUtils;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+public class SchemaGraphTest {
+
+    @Test
+    public void testReferences() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaGraph graph = SchemaGraph.of(openAPI);
+
+        assertFalse(graph.getReferencedFromPaths().contains("UnusedObj1"));
+        assertTrue(graph.getReferencedFromPaths().containsAll(Arrays.asList("SomeObj14", "PropertyObj14", "SomeArrayObj12", "ArrayItem12")));
+        assertTrue(graph.getUnusedSchemas().contains("UnusedObj1"));
+        assertFalse(graph.getUsedSchemas().contains("UnusedObj1"));
+        assertEquals(graph.getUnusedSchemas(), ModelUtils.getUnusedSchemas(openAPI));
+    }
+
+    @Test
+    public void testSelfReference() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        openAPI.getComponents().addSchemas("Node", new ObjectSchema()
+                .addProperty("next", new Schema<>().$ref("#/components/schemas/Node")));
+        openAPI.getComponents().addSchemas("First", new ObjectSchema()
+                .addProperty("second", new Schema<>().$ref("#/components/schemas/Second")));
+        openAPI.getComponents().addSchemas("Second", new ArraySchema()
+                .items(new Schema<>().$ref("#/components/schemas/First")));
+        SchemaGraph graph = SchemaGraph.of(openAPI);
+
+        assertTrue(graph.hasSelfReference(ModelUtils.getSchema(openAPI, "Node")));
+        assertTrue(graph.hasSelfReference(new Schema<>().$ref("#/components/schemas/First")));
+        assertTrue(ModelUtils.hasSelfReference(openAPI, new Schema<>().$ref("#/components/schemas/Second")));
+        assertFalse(graph.hasSelfReference(ModelUtils.getSchema(openAPI, "SomeObj14")));
+        assertFalse(graph.hasSelfReference(new ArraySchema().items(new Schema<>().$ref("#/components/schemas/SomeArrayObj12"))));
+        assertFalse(ModelUtils.hasSelfReference(openAPI, ModelUtils.getSchema(openAPI, "SomeObj14")));
+    }
+
+    @Test
+    public void testSelfReferenceWithVisitedSchemaNames() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        openAPI.getComponents().addSchemas("Leaf", new ObjectSchema());
+        openAPI.getComponents().addSchemas("Parent", new ObjectSchema()
+                .addProperty("leaf", new Schema<>().$ref("#/components/schemas/Leaf")));
+        Schema<?> parent = new Schema<>().$ref("#/components/schemas/Parent");
+
+        Set<String> visitedSchemaNames = new HashSet<>();
+        assertFalse(ModelUtils.hasSelfReference(openAPI, parent, visitedSchemaNames));
+        assertEquals(visitedSchemaNames, new HashSet<>(Arrays.asList("Parent", "Leaf")));
+        // schemas visited before count as being referenced again
+        assertTrue(ModelUtils.hasSelfReference(openAPI, parent, new HashSet<>(Collections.singletonList("Leaf"))));
+    }
+
+    @Test
+    public void testSchemasModifiedInPlaceAreDetected() {
+        final OpenAPI openAPI = TestUtils.parseFlattenSpec("src/test/resources/3_0/unusedSchemas.yaml");
+        SchemaGraph graph = SchemaGraph.of(openAPI);
+        assertFalse(ModelUtils.getUnusedSchemas(openAPI).contains("AddedObj"));
+
+        openAPI.getComponents().addSchemas("AddedObj", new ObjectSchema());
+        assertTrue(ModelUtils.getUnusedSchemas(openAPI).contains("AddedObj"));
+
+        Schema<?> someObj14 = ModelUtils.getSchema(openAPI, "SomeObj14");
+        someObj14.addProperty("added", new Schema<>().$ref("#/components/schemas/AddedObj"));
+        assertFalse(ModelUtils.getUnusedSchemas(openAPI).contains("AddedObj"));
+        assertTrue(SchemaGraph.of(openAPI).getReferencedFromPaths().contains("AddedObj"));
+        // a graph is a snapshot of the document
+        assertFalse(graph.getReferencedFromPaths().contains("AddedObj"));
+    }
+}
@@ -19,6 +19,9 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.openapitools.jackson.nullable.JsonNullableModule;
 
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -26,13 +29,18 @@ import java.net.http.HttpClient;
 import java.net.http.HttpConnectTimeoutException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -65,6 +73,7 @@ public class ApiClient {
   private Consumer<HttpResponse<String>> asyncResponseInterceptor;
   private Duration readTimeout;
   private Duration connectTimeout;
+  private Executor executor;
 
   public static String valueToString(Object value) {
     if (value == null) {
@@ -86,6 +95,18 @@ public class ApiClient {
     return URLEncoder.encode(s, UTF_8).replaceAll("\\+", "%20");
   }
 
+  /**
+   * Encode a name or value of an application/x-www-form-urlencoded request
+   * body in the UTF-8 encoding. Unlike {@link #urlEncode(String)}, spaces are
+   * encoded as "+".
+   *
+   * @param s String to encode.
+   * @return Form-encoded representation of the input string.
+   */
+  public static String formUrlEncode(String s) {
+    return URLEncoder.encode(s, UTF_8);
+  }
+
   /**
    * Convert a URL query name/value parameter to a list of encoded {@link Pair}
    * objects.
@@ -160,6 +181,137 @@ public class ApiClient {
     return Collections.singletonList(new Pair(urlEncode(name), joiner.toString()));
   }
 
+  /**
+   * A multipart/form-data request body. Files are read while the request is
+   * sent, so they are neither held in memory nor copied by a helper thread.
+   */
+  public static class MultipartBody {
+    private static final byte[] CRLF = "\r\n".getBytes(UTF_8);
+
+    private final String boundary = UUID.randomUUID().toString();
+    // byte arrays for headers and text, files for file contents
+    private final List<Object> segments = new ArrayList<>();
+
+    /**
+     * Add a text part.
+     *
+     * @param name The name of the part.
+     * @param value The text.
+     * @return This object.
+     */
+    public MultipartBody addText(String name, String value) {
+      addHeaders(name, null, "text/plain; charset=UTF-8");
+      segments.add(value.getBytes(UTF_8));
+      segments.add(CRLF);
+      return this;
+    }
+
+    /**
+     * Add a file part.
+     *
+     * @param name The name of the part.
+     * @param file The file, which is read when the request is sent.
+     * @return This object.
+     */
+    public MultipartBody addFile(String name, File file) {
+      addHeaders(name, file.getName(), "application/octet-stream");
+      segments.add(file);
+      segments.add(CRLF);
+      return this;
+    }
+
+    private void addHeaders(String name, String fileName, String contentType) {
+      StringBuilder headers = new StringBuilder("--").append(boundary).append("\r\n")
+          .append("Content-Disposition: form-data; name=\"").append(escape(name)).append('"');
+      if (fileName != null) {
+        headers.append("; filename=\"").append(escape(fileName)).append('"');
+      }
+      headers.append("\r\nContent-Type: ").append(contentType).append("\r\n\r\n");
+      segments.add(headers.toString().getBytes(UTF_8));
+    }
+
+    // as browsers do, see https://html.spec.whatwg.org/#multipart-form-data
+    private static String escape(String value) {
+      return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    /**
+     * Get the content type of the body, including its boundary.
+     *
+     * @return The content type.
+     */
+    public String getContentType() {
+      return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * Create a publisher of the body.
+     *
+     * @return The body publisher.
+     */
+    public HttpRequest.BodyPublisher toBodyPublisher() {
+      List<Object> body = new ArrayList<>(segments);
+      body.add(("--" + boundary + "--\r\n").getBytes(UTF_8));
+      long contentLength = 0;
+      for (Object segment : body) {
+        contentLength += segment instanceof File ? ((File) segment).length() : ((byte[]) segment).length;
+      }
+      return HttpRequest.BodyPublishers.fromPublisher(
+          HttpRequest.BodyPublishers.ofInputStream(() -> new SegmentInputStream(body.iterator())), contentLength);
+    }
+  }
+
+  /**
+   * The concatenation of byte arrays and file contents, opening each file once
+   * the segments before it have been read.
+   */
+  private static class SegmentInputStream extends InputStream {
+    private final Iterator<Object> segments;
+    private InputStream current;
+
+    SegmentInputStream(Iterator<Object> segments) {
+      this.segments = segments;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      while (true) {
+        if (current == null) {
+          if (!segments.hasNext()) {
+            return -1;
+          }
+          Object segment = segments.next();
+          current = segment instanceof File
+              ? Files.newInputStream(((File) segment).toPath())
+              : new ByteArrayInputStream((byte[]) segment);
+        }
+        int count = current.read(b, off, len);
+        if (count != -1) {
+          return count;
+        }
+        current.close();
+        current = null;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (current != null) {
+        current.close();
+        current = null;
+      }
+    }
+  }
+
   /**
    * Create an instance of ApiClient.
    */
@@ -170,6 +322,7 @@ public class ApiClient {
     interceptor = null;
     readTimeout = null;
     connectTimeout = null;
+    executor = null;
     responseInterceptor = null;
     asyncResponseInterceptor = null;
   }
@@ -188,6 +341,7 @@ public class ApiClient {
     interceptor = null;
     readTimeout = null;
     connectTimeout = null;
+    executor = null;
     responseInterceptor = null;
     asyncResponseInterceptor = null;
   }
@@ -453,4 +607,28 @@ public class ApiClient {
   public Duration getConnectTimeout() {
     return connectTimeout;
   }
+
+  /**
+   * Set the executor running the tasks of the http client.
+   *
+   * <p>On JDK 21 and later, {@code Executors.newVirtualThreadPerTaskExecutor()}
+   * runs each of them on a virtual thread.</p>
+   *
+   * @param executor The executor.
+   * @return This object.
+   */
+  public ApiClient setExecutor(Executor executor) {
+    this.executor = executor;
+    this.builder.executor(executor);
+    return this;
+  }
+
+  /**
+   * Get the executor running the tasks of the http client.
+   *
+   * @return The executor that was set, or null if there isn't any.
+   */
+  public Executor getExecutor() {
+    return executor;
+  }
 }
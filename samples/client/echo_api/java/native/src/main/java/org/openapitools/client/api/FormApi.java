@@ -22,21 +22,11 @@ import org.openapitools.client.model.TestFormObjectMultipartRequestMarker;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -157,27 +147,19 @@ public class FormApi {
 
     localVarRequestBuilder.header("Accept", "text/plain");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (integerForm != null) {
-        formValues.add(new BasicNameValuePair("integer_form", integerForm.toString()));
+        formValues.add(ApiClient.formUrlEncode("integer_form") + "=" + ApiClient.formUrlEncode(integerForm.toString()));
     }
     if (booleanForm != null) {
-        formValues.add(new BasicNameValuePair("boolean_form", booleanForm.toString()));
+        formValues.add(ApiClient.formUrlEncode("boolean_form") + "=" + ApiClient.formUrlEncode(booleanForm.toString()));
     }
     if (stringForm != null) {
-        formValues.add(new BasicNameValuePair("string_form", stringForm.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("string_form") + "=" + ApiClient.formUrlEncode(stringForm.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("POST", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -257,39 +239,11 @@ public class FormApi {
 
     localVarRequestBuilder.header("Accept", "text/plain");
 
-    MultipartEntityBuilder multiPartBuilder = MultipartEntityBuilder.create();
-    boolean hasFiles = false;
-    multiPartBuilder.addTextBody("marker", marker.toString());
-    HttpEntity entity = multiPartBuilder.build();
-    HttpRequest.BodyPublisher formDataPublisher;
-    if (hasFiles) {
-        Pipe pipe;
-        try {
-            pipe = Pipe.open();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        new Thread(() -> {
-            try (OutputStream outputStream = Channels.newOutputStream(pipe.sink())) {
-                entity.writeTo(outputStream);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }).start();
-        formDataPublisher = HttpRequest.BodyPublishers.ofInputStream(() -> Channels.newInputStream(pipe.source()));
-    } else {
-        ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-        try {
-            entity.writeTo(formOutputStream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        formDataPublisher = HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray()));
-    }
+    ApiClient.MultipartBody multipartBody = new ApiClient.MultipartBody();
+    multipartBody.addText("marker", marker.toString());
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", formDataPublisher);
+        .header("Content-Type", multipartBody.getContentType())
+        .method("POST", multipartBody.toBodyPublisher());
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -375,36 +329,28 @@ public class FormApi {
 
     localVarRequestBuilder.header("Accept", "text/plain");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (form1 != null) {
-        formValues.add(new BasicNameValuePair("form1", form1.toString()));
+        formValues.add(ApiClient.formUrlEncode("form1") + "=" + ApiClient.formUrlEncode(form1.toString()));
     }
     if (form2 != null) {
-        formValues.add(new BasicNameValuePair("form2", form2.toString()));
+        formValues.add(ApiClient.formUrlEncode("form2") + "=" + ApiClient.formUrlEncode(form2.toString()));
     }
     if (form3 != null) {
-        formValues.add(new BasicNameValuePair("form3", form3.toString()));
+        formValues.add(ApiClient.formUrlEncode("form3") + "=" + ApiClient.formUrlEncode(form3.toString()));
     }
     if (form4 != null) {
-        formValues.add(new BasicNameValuePair("form4", form4.toString()));
+        formValues.add(ApiClient.formUrlEncode("form4") + "=" + ApiClient.formUrlEncode(form4.toString()));
     }
     if (id != null) {
-        formValues.add(new BasicNameValuePair("id", id.toString()));
+        formValues.add(ApiClient.formUrlEncode("id") + "=" + ApiClient.formUrlEncode(id.toString()));
     }
     if (name != null) {
-        formValues.add(new BasicNameValuePair("name", name.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("name") + "=" + ApiClient.formUrlEncode(name.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("POST", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
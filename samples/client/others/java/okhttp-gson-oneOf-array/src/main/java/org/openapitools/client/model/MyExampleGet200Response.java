@@ -98,6 +98,7 @@ public class MyExampleGet200Response extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize List<@Valid OneOf1>
                     try {
@@ -206,6 +207,7 @@ public class MyExampleGet200Response extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with List<@Valid OneOf1>
         try {
             if (!jsonElement.isJsonArray()) {
@@ -97,6 +97,7 @@ public class SimpleOneOf extends AbstractOpenApiSchema implements Serializable {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize String
                     try {
@@ -227,6 +228,7 @@ public class SimpleOneOf extends AbstractOpenApiSchema implements Serializable {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with String
         try {
             if (!jsonElement.getAsJsonPrimitive().isString()) {
@@ -23,14 +23,10 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -45,6 +41,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
 public class AnotherFakeApi {
@@ -54,6 +51,7 @@ public class AnotherFakeApi {
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Executor memberVarAsyncExecutor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
 
   public AnotherFakeApi() {
@@ -68,6 +66,8 @@ public class AnotherFakeApi {
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    // falls back to the executor async methods use by default
+    memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();
   }
 
   private ApiException getApiException(String operationId, HttpResponse<String> response) {
@@ -106,7 +106,7 @@ public class AnotherFakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -143,7 +143,8 @@ public class AnotherFakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
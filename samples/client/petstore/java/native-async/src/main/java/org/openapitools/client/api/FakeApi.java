@@ -33,21 +33,11 @@ import org.openapitools.client.model.User;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -62,6 +52,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
 public class FakeApi {
@@ -71,6 +62,7 @@ public class FakeApi {
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Executor memberVarAsyncExecutor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
 
   public FakeApi() {
@@ -85,6 +77,8 @@ public class FakeApi {
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    // falls back to the executor async methods use by default
+    memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();
   }
 
   private ApiException getApiException(String operationId, HttpResponse<String> response) {
@@ -122,7 +116,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -158,7 +152,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -209,7 +204,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -245,7 +240,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -297,7 +293,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -334,7 +330,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -392,7 +389,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -429,7 +426,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -487,7 +485,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -524,7 +522,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -582,7 +581,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -619,7 +618,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -671,7 +671,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -707,7 +707,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -758,7 +759,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -794,7 +795,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -839,7 +841,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testAdditionalPropertiesReference", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -868,7 +870,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -923,7 +926,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testBodyWithFileSchema", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -952,7 +955,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1008,7 +1012,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testBodyWithQueryParams", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1038,7 +1042,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1119,7 +1124,7 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1156,7 +1161,8 @@ public class FakeApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1224,7 +1230,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testEndpointParameters", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1266,7 +1272,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1300,60 +1307,52 @@ public class FakeApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (integer != null) {
-        formValues.add(new BasicNameValuePair("integer", integer.toString()));
+        formValues.add(ApiClient.formUrlEncode("integer") + "=" + ApiClient.formUrlEncode(integer.toString()));
     }
     if (int32 != null) {
-        formValues.add(new BasicNameValuePair("int32", int32.toString()));
+        formValues.add(ApiClient.formUrlEncode("int32") + "=" + ApiClient.formUrlEncode(int32.toString()));
     }
     if (int64 != null) {
-        formValues.add(new BasicNameValuePair("int64", int64.toString()));
+        formValues.add(ApiClient.formUrlEncode("int64") + "=" + ApiClient.formUrlEncode(int64.toString()));
     }
     if (number != null) {
-        formValues.add(new BasicNameValuePair("number", number.toString()));
+        formValues.add(ApiClient.formUrlEncode("number") + "=" + ApiClient.formUrlEncode(number.toString()));
     }
     if (_float != null) {
-        formValues.add(new BasicNameValuePair("float", _float.toString()));
+        formValues.add(ApiClient.formUrlEncode("float") + "=" + ApiClient.formUrlEncode(_float.toString()));
     }
     if (_double != null) {
-        formValues.add(new BasicNameValuePair("double", _double.toString()));
+        formValues.add(ApiClient.formUrlEncode("double") + "=" + ApiClient.formUrlEncode(_double.toString()));
     }
     if (string != null) {
-        formValues.add(new BasicNameValuePair("string", string.toString()));
+        formValues.add(ApiClient.formUrlEncode("string") + "=" + ApiClient.formUrlEncode(string.toString()));
     }
     if (patternWithoutDelimiter != null) {
-        formValues.add(new BasicNameValuePair("pattern_without_delimiter", patternWithoutDelimiter.toString()));
+        formValues.add(ApiClient.formUrlEncode("pattern_without_delimiter") + "=" + ApiClient.formUrlEncode(patternWithoutDelimiter.toString()));
     }
     if (_byte != null) {
-        formValues.add(new BasicNameValuePair("byte", _byte.toString()));
+        formValues.add(ApiClient.formUrlEncode("byte") + "=" + ApiClient.formUrlEncode(_byte.toString()));
     }
     if (binary != null) {
-        formValues.add(new BasicNameValuePair("binary", binary.toString()));
+        formValues.add(ApiClient.formUrlEncode("binary") + "=" + ApiClient.formUrlEncode(binary.toString()));
     }
     if (date != null) {
-        formValues.add(new BasicNameValuePair("date", date.toString()));
+        formValues.add(ApiClient.formUrlEncode("date") + "=" + ApiClient.formUrlEncode(date.toString()));
     }
     if (dateTime != null) {
-        formValues.add(new BasicNameValuePair("dateTime", dateTime.toString()));
+        formValues.add(ApiClient.formUrlEncode("dateTime") + "=" + ApiClient.formUrlEncode(dateTime.toString()));
     }
     if (password != null) {
-        formValues.add(new BasicNameValuePair("password", password.toString()));
+        formValues.add(ApiClient.formUrlEncode("password") + "=" + ApiClient.formUrlEncode(password.toString()));
     }
     if (paramCallback != null) {
-        formValues.add(new BasicNameValuePair("callback", paramCallback.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("callback") + "=" + ApiClient.formUrlEncode(paramCallback.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("POST", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -1387,7 +1386,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testEnumParameters", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1423,7 +1422,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1468,26 +1468,18 @@ public class FakeApi {
     }
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     for (int i=0; i < enumFormStringArray.size(); i++) {
         if (enumFormStringArray.get(i) != null) {
-            formValues.add(new BasicNameValuePair("enum_form_string_array", enumFormStringArray.get(i).toString()));
+            formValues.add(ApiClient.formUrlEncode("enum_form_string_array") + "=" + ApiClient.formUrlEncode(enumFormStringArray.get(i).toString()));
         }
     }
     if (enumFormString != null) {
-        formValues.add(new BasicNameValuePair("enum_form_string", enumFormString.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("enum_form_string") + "=" + ApiClient.formUrlEncode(enumFormString.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("GET", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("GET", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -1553,7 +1545,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testGroupParameters", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1587,7 +1579,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1748,7 +1741,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testInlineAdditionalProperties", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1777,7 +1770,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1832,7 +1826,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testInlineFreeformAdditionalProperties", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1861,7 +1855,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1917,7 +1912,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testJsonFormData", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -1947,7 +1942,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -1973,24 +1969,16 @@ public class FakeApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (param != null) {
-        formValues.add(new BasicNameValuePair("param", param.toString()));
+        formValues.add(ApiClient.formUrlEncode("param") + "=" + ApiClient.formUrlEncode(param.toString()));
     }
     if (param2 != null) {
-        formValues.add(new BasicNameValuePair("param2", param2.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("param2") + "=" + ApiClient.formUrlEncode(param2.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("GET", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("GET", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -2021,7 +2009,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testQueryParameterCollectionFormat", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -2054,7 +2042,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -2142,7 +2131,7 @@ public class FakeApi {
               return CompletableFuture.failedFuture(getApiException("testStringMapReference", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -2171,7 +2160,8 @@ public class FakeApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -22,21 +22,11 @@ import org.openapitools.client.model.Client;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -51,6 +41,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
 public class FakeClassnameTags123Api {
@@ -60,6 +51,7 @@ public class FakeClassnameTags123Api {
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Executor memberVarAsyncExecutor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
 
   public FakeClassnameTags123Api() {
@@ -74,6 +66,8 @@ public class FakeClassnameTags123Api {
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    // falls back to the executor async methods use by default
+    memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();
   }
 
   private ApiException getApiException(String operationId, HttpResponse<String> response) {
@@ -112,7 +106,7 @@ public class FakeClassnameTags123Api {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -149,7 +143,8 @@ public class FakeClassnameTags123Api {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -24,21 +24,11 @@ import org.openapitools.client.model.Pet;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -53,6 +43,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
 public class PetApi {
@@ -62,6 +53,7 @@ public class PetApi {
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Executor memberVarAsyncExecutor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
 
   public PetApi() {
@@ -76,6 +68,8 @@ public class PetApi {
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    // falls back to the executor async methods use by default
+    memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();
   }
 
   private ApiException getApiException(String operationId, HttpResponse<String> response) {
@@ -107,7 +101,7 @@ public class PetApi {
               return CompletableFuture.failedFuture(getApiException("addPet", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -136,7 +130,8 @@ public class PetApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -192,7 +187,7 @@ public class PetApi {
               return CompletableFuture.failedFuture(getApiException("deletePet", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -222,7 +217,8 @@ public class PetApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -282,7 +278,7 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -319,7 +315,8 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -392,7 +389,7 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -431,7 +428,8 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -502,7 +500,7 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -539,7 +537,8 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -589,7 +588,7 @@ public class PetApi {
               return CompletableFuture.failedFuture(getApiException("updatePet", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -618,7 +617,8 @@ public class PetApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -675,7 +675,7 @@ public class PetApi {
               return CompletableFuture.failedFuture(getApiException("updatePetWithForm", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -706,7 +706,8 @@ public class PetApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -729,24 +730,16 @@ public class PetApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (name != null) {
-        formValues.add(new BasicNameValuePair("name", name.toString()));
+        formValues.add(ApiClient.formUrlEncode("name") + "=" + ApiClient.formUrlEncode(name.toString()));
     }
     if (status != null) {
-        formValues.add(new BasicNameValuePair("status", status.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("status") + "=" + ApiClient.formUrlEncode(status.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("POST", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -782,7 +775,7 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -821,7 +814,8 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -844,41 +838,12 @@ public class PetApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    MultipartEntityBuilder multiPartBuilder = MultipartEntityBuilder.create();
-    boolean hasFiles = false;
-    multiPartBuilder.addTextBody("additionalMetadata", additionalMetadata.toString());
-    multiPartBuilder.addBinaryBody("file", _file);
-    hasFiles = true;
-    HttpEntity entity = multiPartBuilder.build();
-    HttpRequest.BodyPublisher formDataPublisher;
-    if (hasFiles) {
-        Pipe pipe;
-        try {
-            pipe = Pipe.open();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        new Thread(() -> {
-            try (OutputStream outputStream = Channels.newOutputStream(pipe.sink())) {
-                entity.writeTo(outputStream);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }).start();
-        formDataPublisher = HttpRequest.BodyPublishers.ofInputStream(() -> Channels.newInputStream(pipe.source()));
-    } else {
-        ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-        try {
-            entity.writeTo(formOutputStream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        formDataPublisher = HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray()));
-    }
+    ApiClient.MultipartBody multipartBody = new ApiClient.MultipartBody();
+    multipartBody.addText("additionalMetadata", additionalMetadata.toString());
+    multipartBody.addFile("file", _file);
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", formDataPublisher);
+        .header("Content-Type", multipartBody.getContentType())
+        .method("POST", multipartBody.toBodyPublisher());
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -914,7 +879,7 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -953,7 +918,8 @@ public class PetApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -980,41 +946,12 @@ public class PetApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    MultipartEntityBuilder multiPartBuilder = MultipartEntityBuilder.create();
-    boolean hasFiles = false;
-    multiPartBuilder.addTextBody("additionalMetadata", additionalMetadata.toString());
-    multiPartBuilder.addBinaryBody("requiredFile", requiredFile);
-    hasFiles = true;
-    HttpEntity entity = multiPartBuilder.build();
-    HttpRequest.BodyPublisher formDataPublisher;
-    if (hasFiles) {
-        Pipe pipe;
-        try {
-            pipe = Pipe.open();
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        new Thread(() -> {
-            try (OutputStream outputStream = Channels.newOutputStream(pipe.sink())) {
-                entity.writeTo(outputStream);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }).start();
-        formDataPublisher = HttpRequest.BodyPublishers.ofInputStream(() -> Channels.newInputStream(pipe.source()));
-    } else {
-        ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-        try {
-            entity.writeTo(formOutputStream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-        formDataPublisher = HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray()));
-    }
+    ApiClient.MultipartBody multipartBody = new ApiClient.MultipartBody();
+    multipartBody.addText("additionalMetadata", additionalMetadata.toString());
+    multipartBody.addFile("requiredFile", requiredFile);
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", formDataPublisher);
+        .header("Content-Type", multipartBody.getContentType())
+        .method("POST", multipartBody.toBodyPublisher());
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
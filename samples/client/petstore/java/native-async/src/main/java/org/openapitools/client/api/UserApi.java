@@ -23,21 +23,11 @@ import org.openapitools.client.model.User;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -52,6 +42,7 @@ import java.util.Set;
 import java.util.function.Consumer;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
 public class UserApi {
@@ -61,6 +52,7 @@ public class UserApi {
   private final Consumer<HttpRequest.Builder> memberVarInterceptor;
   private final Duration memberVarReadTimeout;
   private final Consumer<HttpResponse<InputStream>> memberVarResponseInterceptor;
+  private final Executor memberVarAsyncExecutor;
   private final Consumer<HttpResponse<String>> memberVarAsyncResponseInterceptor;
 
   public UserApi() {
@@ -75,6 +67,8 @@ public class UserApi {
     memberVarReadTimeout = apiClient.getReadTimeout();
     memberVarResponseInterceptor = apiClient.getResponseInterceptor();
     memberVarAsyncResponseInterceptor = apiClient.getAsyncResponseInterceptor();
+    // falls back to the executor async methods use by default
+    memberVarAsyncExecutor = apiClient.getExecutor() != null ? apiClient.getExecutor() : new CompletableFuture<Void>().defaultExecutor();
   }
 
   private ApiException getApiException(String operationId, HttpResponse<String> response) {
@@ -106,7 +100,7 @@ public class UserApi {
               return CompletableFuture.failedFuture(getApiException("createUser", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -135,7 +129,8 @@ public class UserApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -190,7 +185,7 @@ public class UserApi {
               return CompletableFuture.failedFuture(getApiException("createUsersWithArrayInput", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -219,7 +214,8 @@ public class UserApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -274,7 +270,7 @@ public class UserApi {
               return CompletableFuture.failedFuture(getApiException("createUsersWithListInput", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -303,7 +299,8 @@ public class UserApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -358,7 +355,7 @@ public class UserApi {
               return CompletableFuture.failedFuture(getApiException("deleteUser", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -387,7 +384,8 @@ public class UserApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -444,7 +442,7 @@ public class UserApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -481,7 +479,8 @@ public class UserApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -539,7 +538,7 @@ public class UserApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -577,7 +576,8 @@ public class UserApi {
             } catch (IOException e) {
               return CompletableFuture.failedFuture(new ApiException(e));
             }
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -646,7 +646,7 @@ public class UserApi {
               return CompletableFuture.failedFuture(getApiException("logoutUser", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -674,7 +674,8 @@ public class UserApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -720,7 +721,7 @@ public class UserApi {
               return CompletableFuture.failedFuture(getApiException("updateUser", localVarResponse));
             }
             return CompletableFuture.completedFuture(null);
-      });
+      }, memberVarAsyncExecutor);
     }
     catch (ApiException e) {
       return CompletableFuture.failedFuture(e);
@@ -750,7 +751,8 @@ public class UserApi {
             return CompletableFuture.completedFuture(
                 new ApiResponse<Void>(localVarResponse.statusCode(), localVarResponse.headers().map(), null)
             );
-        }
+        },
+        memberVarAsyncExecutor
       );
     }
     catch (ApiException e) {
@@ -0,0 +1,800 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package org.openapitools.client;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openapitools.jackson.nullable.JsonNullableModule;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Configuration and utility class for API clients.
+ *
+ * <p>This class can be constructed and modified, then used to instantiate the
+ * various API classes. The API classes use the settings in this class to
+ * configure themselves, but otherwise do not store a link to this class.</p>
+ *
+ * <p>This class is mutable and not synchronized, so it is not thread-safe.
+ * The API classes generated from this are immutable and thread-safe.</p>
+ *
+ * <p>The setter methods of this class return the current object to facilitate
+ * a fluent style of configuration.</p>
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class ApiClient {
+
+  private HttpClient.Builder builder;
+  private ObjectMapper mapper;
+  private String scheme;
+  private String host;
+  private int port;
+  private String basePath;
+  private Consumer<HttpRequest.Builder> interceptor;
+  private Consumer<HttpResponse<InputStream>> responseInterceptor;
+  private Consumer<HttpResponse<InputStream>> asyncResponseInterceptor;
+  private Duration readTimeout;
+  private Duration connectTimeout;
+  private Executor executor;
+
+  public static String valueToString(Object value) {
+    if (value == null) {
+      return "";
+    }
+    if (value instanceof OffsetDateTime) {
+      return ((OffsetDateTime) value).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME);
+    }
+    return value.toString();
+  }
+
+  /**
+   * URL encode a string in the UTF-8 encoding.
+   *
+   * @param s String to encode.
+   * @return URL-encoded representation of the input string.
+   */
+  public static String urlEncode(String s) {
+    return URLEncoder.encode(s, UTF_8).replaceAll("\\+", "%20");
+  }
+
+  /**
+   * Encode a name or value of an application/x-www-form-urlencoded request
+   * body in the UTF-8 encoding. Unlike {@link #urlEncode(String)}, spaces are
+   * encoded as "+".
+   *
+   * @param s String to encode.
+   * @return Form-encoded representation of the input string.
+   */
+  public static String formUrlEncode(String s) {
+    return URLEncoder.encode(s, UTF_8);
+  }
+
+  /**
+   * Convert a URL query name/value parameter to a list of encoded {@link Pair}
+   * objects.
+   *
+   * <p>The value can be null, in which case an empty list is returned.</p>
+   *
+   * @param name The query name parameter.
+   * @param value The query value, which may not be a collection but may be
+   *              null.
+   * @return A singleton list of the {@link Pair} objects representing the input
+   * parameters, which is encoded for use in a URL. If the value is null, an
+   * empty list is returned.
+   */
+  public static List<Pair> parameterToPairs(String name, Object value) {
+    if (name == null || name.isEmpty() || value == null) {
+      return Collections.emptyList();
+    }
+    return Collections.singletonList(new Pair(urlEncode(name), urlEncode(valueToString(value))));
+  }
+
+  /**
+   * Convert a URL query name/collection parameter to a list of encoded
+   * {@link Pair} objects.
+   *
+   * @param collectionFormat The swagger collectionFormat string (csv, tsv, etc).
+   * @param name The query name parameter.
+   * @param values A collection of values for the given query name, which may be
+   *               null.
+   * @return A list of {@link Pair} objects representing the input parameters,
+   * which is encoded for use in a URL. If the values collection is null, an
+   * empty list is returned.
+   */
+  public static List<Pair> parameterToPairs(
+      String collectionFormat, String name, Collection<?> values) {
+    if (name == null || name.isEmpty() || values == null || values.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    // get the collection format (default: csv)
+    String format = collectionFormat == null || collectionFormat.isEmpty() ? "csv" : collectionFormat;
+
+    // create the params based on the collection format
+    if ("multi".equals(format)) {
+      return values.stream()
+          .map(value -> new Pair(urlEncode(name), urlEncode(valueToString(value))))
+          .collect(Collectors.toList());
+    }
+
+    String delimiter;
+    switch(format) {
+      case "csv":
+        delimiter = urlEncode(",");
+        break;
+      case "ssv":
+        delimiter = urlEncode(" ");
+        break;
+      case "tsv":
+        delimiter = urlEncode("\t");
+        break;
+      case "pipes":
+        delimiter = urlEncode("|");
+        break;
+      default:
+        throw new IllegalArgumentException("Illegal collection format: " + collectionFormat);
+    }
+
+    StringJoiner joiner = new StringJoiner(delimiter);
+    for (Object value : values) {
+      joiner.add(urlEncode(valueToString(value)));
+    }
+
+    return Collections.singletonList(new Pair(urlEncode(name), joiner.toString()));
+  }
+
+  /**
+   * Create a publisher of the JSON representation of a value, which is written
+   * while the request is sent instead of up front. Collections are written one
+   * element at a time, so only the element being sent is held in serialized form.
+   *
+   * @param mapper The object mapper writing the value.
+   * @param value The value.
+   * @return The body publisher.
+   */
+  public static HttpRequest.BodyPublisher jsonBodyPublisher(ObjectMapper mapper, Object value) {
+    return HttpRequest.BodyPublishers.ofInputStream(() -> new JsonInputStream(mapper.writer(), value));
+  }
+
+  /**
+   * Read a JSON value from a response body as it is received, and close the body.
+   *
+   * @param <T> The type of the value.
+   * @param mapper The object mapper reading the value.
+   * @param body The response body.
+   * @param type The type of the value.
+   * @return The value, or null if the body is empty.
+   * @throws IOException if the body can't be read or isn't a valid value.
+   */
+  public static <T> T readJson(ObjectMapper mapper, InputStream body, TypeReference<T> type) throws IOException {
+    if (body == null) {
+      return null;
+    }
+    try (JsonParser parser = mapper.createParser(body)) {
+      return parser.nextToken() == null ? null : mapper.readValue(parser, type);
+    }
+  }
+
+  /**
+   * Read the elements of a JSON array from a response body one at a time,
+   * without holding the whole array in memory. Closing the stream closes the body.
+   *
+   * @param <T> The type of the elements.
+   * @param mapper The object mapper reading the elements.
+   * @param body The response body.
+   * @param type The type of the array.
+   * @return The elements.
+   * @throws IOException if the body can't be read.
+   */
+  public static <T> Stream<T> readJsonArray(ObjectMapper mapper, InputStream body, TypeReference<? extends Collection<T>> type) throws IOException {
+    JavaType elementType = mapper.getTypeFactory().constructType(type).getContentType();
+    MappingIterator<T> elements;
+    try {
+      elements = mapper.readerFor(elementType).readValues(body);
+    } catch (IOException e) {
+      body.close();
+      throw e;
+    }
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(elements, Spliterator.ORDERED), false)
+        .onClose(() -> {
+          try {
+            elements.close();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+  }
+
+  /**
+   * The JSON representation of a value, written as it is read.
+   */
+  private static class JsonInputStream extends InputStream {
+    private final ObjectWriter writer;
+    private final Object value;
+    private final Buffer buffer = new Buffer();
+    private int position;
+    private Iterator<?> elements;
+    private SequenceWriter sequence;
+    private boolean done;
+
+    JsonInputStream(ObjectWriter writer, Object value) {
+      this.writer = writer;
+      this.value = value;
+    }
+
+    @Override
+    public int read() throws IOException {
+      return fill() ? buffer.bytes()[position++] & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!fill()) {
+        return -1;
+      }
+      int count = Math.min(len, buffer.size() - position);
+      System.arraycopy(buffer.bytes(), position, b, off, count);
+      position += count;
+      return count;
+    }
+
+    // writes the next part of the value once the buffered one has been read
+    private boolean fill() throws IOException {
+      while (position == buffer.size()) {
+        if (done) {
+          return false;
+        }
+        buffer.reset();
+        position = 0;
+        if (value instanceof Collection) {
+          if (sequence == null) {
+            elements = ((Collection<?>) value).iterator();
+            sequence = writer.writeValuesAsArray(buffer);
+          }
+          if (elements.hasNext()) {
+            sequence.write(elements.next());
+          } else {
+            sequence.close();
+            done = true;
+          }
+        } else {
+          writer.writeValue(buffer, value);
+          done = true;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static class Buffer extends ByteArrayOutputStream {
+    byte[] bytes() {
+      return buf;
+    }
+  }
+
+  /**
+   * A multipart/form-data request body. Files are read while the request is
+   * sent, so they are neither held in memory nor copied by a helper thread.
+   */
+  public static class MultipartBody {
+    private static final byte[] CRLF = "\r\n".getBytes(UTF_8);
+
+    private final String boundary = UUID.randomUUID().toString();
+    // byte arrays for headers and text, files for file contents
+    private final List<Object> segments = new ArrayList<>();
+
+    /**
+     * Add a text part.
+     *
+     * @param name The name of the part.
+     * @param value The text.
+     * @return This object.
+     */
+    public MultipartBody addText(String name, String value) {
+      addHeaders(name, null, "text/plain; charset=UTF-8");
+      segments.add(value.getBytes(UTF_8));
+      segments.add(CRLF);
+      return this;
+    }
+
+    /**
+     * Add a file part.
+     *
+     * @param name The name of the part.
+     * @param file The file, which is read when the request is sent.
+     * @return This object.
+     */
+    public MultipartBody addFile(String name, File file) {
+      addHeaders(name, file.getName(), "application/octet-stream");
+      segments.add(file);
+      segments.add(CRLF);
+      return this;
+    }
+
+    private void addHeaders(String name, String fileName, String contentType) {
+      StringBuilder headers = new StringBuilder("--").append(boundary).append("\r\n")
+          .append("Content-Disposition: form-data; name=\"").append(escape(name)).append('"');
+      if (fileName != null) {
+        headers.append("; filename=\"").append(escape(fileName)).append('"');
+      }
+      headers.append("\r\nContent-Type: ").append(contentType).append("\r\n\r\n");
+      segments.add(headers.toString().getBytes(UTF_8));
+    }
+
+    // as browsers do, see https://html.spec.whatwg.org/#multipart-form-data
+    private static String escape(String value) {
+      return value.replace("\"", "%22").replace("\r", "%0D").replace("\n", "%0A");
+    }
+
+    /**
+     * Get the content type of the body, including its boundary.
+     *
+     * @return The content type.
+     */
+    public String getContentType() {
+      return "multipart/form-data; boundary=" + boundary;
+    }
+
+    /**
+     * Create a publisher of the body.
+     *
+     * @return The body publisher.
+     */
+    public HttpRequest.BodyPublisher toBodyPublisher() {
+      List<Object> body = new ArrayList<>(segments);
+      body.add(("--" + boundary + "--\r\n").getBytes(UTF_8));
+      long contentLength = 0;
+      for (Object segment : body) {
+        contentLength += segment instanceof File ? ((File) segment).length() : ((byte[]) segment).length;
+      }
+      return HttpRequest.BodyPublishers.fromPublisher(
+          HttpRequest.BodyPublishers.ofInputStream(() -> new SegmentInputStream(body.iterator())), contentLength);
+    }
+  }
+
+  /**
+   * The concatenation of byte arrays and file contents, opening each file once
+   * the segments before it have been read.
+   */
+  private static class SegmentInputStream extends InputStream {
+    private final Iterator<Object> segments;
+    private InputStream current;
+
+    SegmentInputStream(Iterator<Object> segments) {
+      this.segments = segments;
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      return read(b, 0, 1) == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      while (true) {
+        if (current == null) {
+          if (!segments.hasNext()) {
+            return -1;
+          }
+          Object segment = segments.next();
+          current = segment instanceof File
+              ? Files.newInputStream(((File) segment).toPath())
+              : new ByteArrayInputStream((byte[]) segment);
+        }
+        int count = current.read(b, off, len);
+        if (count != -1) {
+          return count;
+        }
+        current.close();
+        current = null;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (current != null) {
+        current.close();
+        current = null;
+      }
+    }
+  }
+
+  /**
+   * Create an instance of ApiClient.
+   */
+  public ApiClient() {
+    this.builder = createDefaultHttpClientBuilder();
+    this.mapper = createDefaultObjectMapper();
+    updateBaseUri(getDefaultBaseUri());
+    interceptor = null;
+    readTimeout = null;
+    connectTimeout = null;
+    executor = null;
+    responseInterceptor = null;
+    asyncResponseInterceptor = null;
+  }
+
+  /**
+   * Create an instance of ApiClient.
+   *
+   * @param builder Http client builder.
+   * @param mapper Object mapper.
+   * @param baseUri Base URI
+   */
+  public ApiClient(HttpClient.Builder builder, ObjectMapper mapper, String baseUri) {
+    this.builder = builder;
+    this.mapper = mapper;
+    updateBaseUri(baseUri != null ? baseUri : getDefaultBaseUri());
+    interceptor = null;
+    readTimeout = null;
+    connectTimeout = null;
+    executor = null;
+    responseInterceptor = null;
+    asyncResponseInterceptor = null;
+  }
+
+  protected ObjectMapper createDefaultObjectMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+    mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    mapper.configure(DeserializationFeature.FAIL_ON_INVALID_SUBTYPE, false);
+    mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    mapper.enable(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+    mapper.enable(DeserializationFeature.READ_ENUMS_USING_TO_STRING);
+    mapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+    mapper.registerModule(new JavaTimeModule());
+    mapper.registerModule(new JsonNullableModule());
+    return mapper;
+  }
+
+  protected String getDefaultBaseUri() {
+    return "http://petstore.swagger.io:80/v2";
+  }
+
+  protected HttpClient.Builder createDefaultHttpClientBuilder() {
+    return HttpClient.newBuilder();
+  }
+
+  public void updateBaseUri(String baseUri) {
+    URI uri = URI.create(baseUri);
+    scheme = uri.getScheme();
+    host = uri.getHost();
+    port = uri.getPort();
+    basePath = uri.getRawPath();
+  }
+
+  /**
+   * Set a custom {@link HttpClient.Builder} object to use when creating the
+   * {@link HttpClient} that is used by the API client.
+   *
+   * @param builder Custom client builder.
+   * @return This object.
+   */
+  public ApiClient setHttpClientBuilder(HttpClient.Builder builder) {
+    this.builder = builder;
+    return this;
+  }
+
+  /**
+   * Get an {@link HttpClient} based on the current {@link HttpClient.Builder}.
+   *
+   * <p>The returned object is immutable and thread-safe.</p>
+   *
+   * @return The HTTP client.
+   */
+  public HttpClient getHttpClient() {
+    return builder.build();
+  }
+
+  /**
+   * Set a custom {@link ObjectMapper} to serialize and deserialize the request
+   * and response bodies.
+   *
+   * @param mapper Custom object mapper.
+   * @return This object.
+   */
+  public ApiClient setObjectMapper(ObjectMapper mapper) {
+    this.mapper = mapper;
+    return this;
+  }
+
+  /**
+   * Get a copy of the current {@link ObjectMapper}.
+   *
+   * @return A copy of the current object mapper.
+   */
+  public ObjectMapper getObjectMapper() {
+    return mapper.copy();
+  }
+
+  /**
+   * Set a custom host name for the target service.
+   *
+   * @param host The host name of the target service.
+   * @return This object.
+   */
+  public ApiClient setHost(String host) {
+    this.host = host;
+    return this;
+  }
+
+  /**
+   * Set a custom port number for the target service.
+   *
+   * @param port The port of the target service. Set this to -1 to reset the
+   *             value to the default for the scheme.
+   * @return This object.
+   */
+  public ApiClient setPort(int port) {
+    this.port = port;
+    return this;
+  }
+
+  /**
+   * Set a custom base path for the target service, for example '/v2'.
+   *
+   * @param basePath The base path against which the rest of the path is
+   *                 resolved.
+   * @return This object.
+   */
+  public ApiClient setBasePath(String basePath) {
+    this.basePath = basePath;
+    return this;
+  }
+
+  /**
+   * Get the base URI to resolve the endpoint paths against.
+   *
+   * @return The complete base URI that the rest of the API parameters are
+   * resolved against.
+   */
+  public String getBaseUri() {
+    return scheme + "://" + host + (port == -1 ? "" : ":" + port) + basePath;
+  }
+
+  /**
+   * Set a custom scheme for the target service, for example 'https'.
+   *
+   * @param scheme The scheme of the target service
+   * @return This object.
+   */
+  public ApiClient setScheme(String scheme){
+    this.scheme = scheme;
+    return this;
+  }
+
+  /**
+   * Set a custom request interceptor.
+   *
+   * <p>A request interceptor is a mechanism for altering each request before it
+   * is sent. After the request has been fully configured but not yet built, the
+   * request builder is passed into this function for further modification,
+   * after which it is sent out.</p>
+   *
+   * <p>This is useful for altering the requests in a custom manner, such as
+   * adding headers. It could also be used for logging and monitoring.</p>
+   *
+   * @param interceptor A function invoked before creating each request. A value
+   *                    of null resets the interceptor to a no-op.
+   * @return This object.
+   */
+  public ApiClient setRequestInterceptor(Consumer<HttpRequest.Builder> interceptor) {
+    this.interceptor = interceptor;
+    return this;
+  }
+
+  /**
+   * Get the custom interceptor.
+   *
+   * @return The custom interceptor that was set, or null if there isn't any.
+   */
+  public Consumer<HttpRequest.Builder> getRequestInterceptor() {
+    return interceptor;
+  }
+
+  /**
+   * Set a custom response interceptor.
+   *
+   * <p>This is useful for logging, monitoring or extraction of header variables</p>
+   *
+   * @param interceptor A function invoked before creating each request. A value
+   *                    of null resets the interceptor to a no-op.
+   * @return This object.
+   */
+  public ApiClient setResponseInterceptor(Consumer<HttpResponse<InputStream>> interceptor) {
+    this.responseInterceptor = interceptor;
+    return this;
+  }
+
+ /**
+   * Get the custom response interceptor.
+   *
+   * @return The custom interceptor that was set, or null if there isn't any.
+   */
+  public Consumer<HttpResponse<InputStream>> getResponseInterceptor() {
+    return responseInterceptor;
+  }
+
+  /**
+   * Set a custom async response interceptor. Use this interceptor when asyncNative is set to 'true'.
+   *
+   * <p>This is useful for logging, monitoring or extraction of header variables</p>
+   *
+   * @param interceptor A function invoked before creating each request. A value
+   *                    of null resets the interceptor to a no-op.
+   * @return This object.
+   */
+  public ApiClient setAsyncResponseInterceptor(Consumer<HttpResponse<InputStream>> interceptor) {
+    this.asyncResponseInterceptor = interceptor;
+    return this;
+  }
+
+ /**
+   * Get the custom async response interceptor. Use this interceptor when asyncNative is set to 'true'.
+   *
+   * @return The custom interceptor that was set, or null if there isn't any.
+   */
+  public Consumer<HttpResponse<InputStream>> getAsyncResponseInterceptor() {
+    return asyncResponseInterceptor;
+  }
+
+  /**
+   * Set the read timeout for the http client.
+   *
+   * <p>This is the value used by default for each request, though it can be
+   * overridden on a per-request basis with a request interceptor.</p>
+   *
+   * @param readTimeout The read timeout used by default by the http client.
+   *                    Setting this value to null resets the timeout to an
+   *                    effectively infinite value.
+   * @return This object.
+   */
+  public ApiClient setReadTimeout(Duration readTimeout) {
+    this.readTimeout = readTimeout;
+    return this;
+  }
+
+  /**
+   * Get the read timeout that was set.
+   *
+   * @return The read timeout, or null if no timeout was set. Null represents
+   * an infinite wait time.
+   */
+  public Duration getReadTimeout() {
+    return readTimeout;
+  }
+  /**
+   * Sets the connect timeout (in milliseconds) for the http client.
+   *
+   * <p> In the case where a new connection needs to be established, if
+   * the connection cannot be established within the given {@code
+   * duration}, then {@link HttpClient#send(HttpRequest,BodyHandler)
+   * HttpClient::send} throws an {@link HttpConnectTimeoutException}, or
+   * {@link HttpClient#sendAsync(HttpRequest,BodyHandler)
+   * HttpClient::sendAsync} completes exceptionally with an
+   * {@code HttpConnectTimeoutException}. If a new connection does not
+   * need to be established, for example if a connection can be reused
+   * from a previous request, then this timeout duration has no effect.
+   *
+   * @param connectTimeout connection timeout in milliseconds
+   *
+   * @return This object.
+   */
+  public ApiClient setConnectTimeout(Duration connectTimeout) {
+    this.connectTimeout = connectTimeout;
+    this.builder.connectTimeout(connectTimeout);
+    return this;
+  }
+
+  /**
+   * Get connection timeout (in milliseconds).
+   *
+   * @return Timeout in milliseconds
+   */
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  /**
+   * Set the executor running the tasks of the http client, and the
+   * continuations of async calls.
+   *
+   * <p>On JDK 21 and later, {@code Executors.newVirtualThreadPerTaskExecutor()}
+   * runs each of them on a virtual thread.</p>
+   *
+   * @param executor The executor.
+   * @return This object.
+   */
+  public ApiClient setExecutor(Executor executor) {
+    this.executor = executor;
+    this.builder.executor(executor);
+    return this;
+  }
+
+  /**
+   * Get the executor running the tasks of the http client, and the
+   * continuations of async calls.
+   *
+   * @return The executor that was set, or null if there isn't any.
+   */
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Get the executor reading the response bodies of async calls. Reading a streamed
+   * body blocks until it has been received, so unless an executor is set, bodies are
+   * read on a pool of daemon threads rather than the common ForkJoinPool.
+   *
+   * @return The executor that was set, or the pool reading response bodies.
+   */
+  public Executor getResponseBodyExecutor() {
+    return executor != null ? executor : ResponseBodyExecutor.INSTANCE;
+  }
+
+  private static final class ResponseBodyExecutor {
+    private static final Executor INSTANCE = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "ApiClient-response-body");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.Objects;
+import java.util.Map;
+import java.util.HashMap;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+
+import org.openapitools.client.ApiClient;
+/**
+ * Apple
+ */
+@JsonPropertyOrder({
+  Apple.JSON_PROPERTY_CULTIVAR,
+  Apple.JSON_PROPERTY_ORIGIN
+})
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class Apple {
+  public static final String JSON_PROPERTY_CULTIVAR = "cultivar";
+  @javax.annotation.Nullable
+  private String cultivar;
+
+  public static final String JSON_PROPERTY_ORIGIN = "origin";
+  @javax.annotation.Nullable
+  private String origin;
+
+  public Apple() { 
+  }
+
+  public Apple cultivar(@javax.annotation.Nullable String cultivar) {
+    this.cultivar = cultivar;
+    return this;
+  }
+
+  /**
+   * Get cultivar
+   * @return cultivar
+   */
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_CULTIVAR)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getCultivar() {
+    return cultivar;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_CULTIVAR)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setCultivar(@javax.annotation.Nullable String cultivar) {
+    this.cultivar = cultivar;
+  }
+
+
+  public Apple origin(@javax.annotation.Nullable String origin) {
+    this.origin = origin;
+    return this;
+  }
+
+  /**
+   * Get origin
+   * @return origin
+   */
+  @javax.annotation.Nullable
+  @JsonProperty(JSON_PROPERTY_ORIGIN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public String getOrigin() {
+    return origin;
+  }
+
+
+  @JsonProperty(JSON_PROPERTY_ORIGIN)
+  @JsonInclude(value = JsonInclude.Include.USE_DEFAULTS)
+  public void setOrigin(@javax.annotation.Nullable String origin) {
+    this.origin = origin;
+  }
+
+
+  /**
+   * Return true if this apple object is equal to o.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Apple apple = (Apple) o;
+    return Objects.equals(this.cultivar, apple.cultivar) &&
+        Objects.equals(this.origin, apple.origin);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(cultivar, origin);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Apple {\n");
+    sb.append("    cultivar: ").append(toIndentedString(cultivar)).append("\n");
+    sb.append("    origin: ").append(toIndentedString(origin)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @return URL query string
+   */
+  public String toUrlQueryString() {
+    return toUrlQueryString(null);
+  }
+
+  /**
+   * Convert the instance into URL query string.
+   *
+   * @param prefix prefix of the query string
+   * @return URL query string
+   */
+  public String toUrlQueryString(String prefix) {
+    String suffix = "";
+    String containerSuffix = "";
+    String containerPrefix = "";
+    if (prefix == null) {
+      // style=form, explode=true, e.g. /pet?name=cat&type=manx
+      prefix = "";
+    } else {
+      // deepObject style e.g. /pet?id[name]=cat&id[type]=manx
+      prefix = prefix + "[";
+      suffix = "]";
+      containerSuffix = "]";
+      containerPrefix = "[";
+    }
+
+    StringJoiner joiner = new StringJoiner("&");
+
+    // add `cultivar` to the URL query string
+    if (getCultivar() != null) {
+      joiner.add(String.format("%scultivar%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getCultivar()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    // add `origin` to the URL query string
+    if (getOrigin() != null) {
+      joiner.add(String.format("%sorigin%s=%s", prefix, suffix, URLEncoder.encode(ApiClient.valueToString(getOrigin()), StandardCharsets.UTF_8).replaceAll("\\+", "%20")));
+    }
+
+    return joiner.toString();
+  }
+}
+
@@ -0,0 +1,105 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.api;
+
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Order;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * API tests for StoreApi
+ */
+@Disabled
+public class StoreApiTest {
+
+    private final StoreApi api = new StoreApi();
+
+    
+    /**
+     * Delete purchase order by ID
+     *
+     * For valid response try integer IDs with value &lt; 1000. Anything above 1000 or nonintegers will generate API errors
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void deleteOrderTest() throws ApiException {
+        String orderId = null;
+        
+        CompletableFuture<Void> response = api.deleteOrder(orderId);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Returns pet inventories by status
+     *
+     * Returns a map of status codes to quantities
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void getInventoryTest() throws ApiException {
+        CompletableFuture<Map<String, Integer>> response = 
+        api.getInventory();
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Find purchase order by ID
+     *
+     * For valid response try integer IDs with value &lt;&#x3D; 5 or &gt; 10. Other values will generate exceptions
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void getOrderByIdTest() throws ApiException {
+        Long orderId = null;
+        CompletableFuture<Order> response = 
+        api.getOrderById(orderId);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Place an order for a pet
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void placeOrderTest() throws ApiException {
+        Order order = null;
+        CompletableFuture<Order> response = 
+        api.placeOrder(order);
+        
+        // TODO: test validations
+    }
+    
+}
@@ -0,0 +1,176 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.api;
+
+import org.openapitools.client.ApiException;
+import java.time.OffsetDateTime;
+import org.openapitools.client.model.User;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * API tests for UserApi
+ */
+@Disabled
+public class UserApiTest {
+
+    private final UserApi api = new UserApi();
+
+    
+    /**
+     * Create user
+     *
+     * This can only be done by the logged in user.
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void createUserTest() throws ApiException {
+        User user = null;
+        
+        CompletableFuture<Void> response = api.createUser(user);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Creates list of users with given input array
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void createUsersWithArrayInputTest() throws ApiException {
+        List<User> user = null;
+        
+        CompletableFuture<Void> response = api.createUsersWithArrayInput(user);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Creates list of users with given input array
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void createUsersWithListInputTest() throws ApiException {
+        List<User> user = null;
+        
+        CompletableFuture<Void> response = api.createUsersWithListInput(user);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Delete user
+     *
+     * This can only be done by the logged in user.
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void deleteUserTest() throws ApiException {
+        String username = null;
+        
+        CompletableFuture<Void> response = api.deleteUser(username);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Get user by user name
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void getUserByNameTest() throws ApiException {
+        String username = null;
+        CompletableFuture<User> response = 
+        api.getUserByName(username);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Logs user into the system
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void loginUserTest() throws ApiException {
+        String username = null;
+        String password = null;
+        CompletableFuture<String> response = 
+        api.loginUser(username, password);
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Logs out current logged in user session
+     *
+     * 
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void logoutUserTest() throws ApiException {
+        
+        CompletableFuture<Void> response = api.logoutUser();
+        
+        // TODO: test validations
+    }
+    
+    /**
+     * Updated user
+     *
+     * This can only be done by the logged in user.
+     *
+     * @throws ApiException
+     *          if the Api call fails
+     */
+    @Test
+    public void updateUserTest() throws ApiException {
+        String username = null;
+        User user = null;
+        
+        CompletableFuture<Void> response = api.updateUser(username, user);
+        
+        // TODO: test validations
+    }
+    
+}
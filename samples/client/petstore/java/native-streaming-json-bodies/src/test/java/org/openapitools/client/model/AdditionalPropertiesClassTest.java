@@ -0,0 +1,110 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.openapitools.jackson.nullable.JsonNullable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for AdditionalPropertiesClass
+ */
+class AdditionalPropertiesClassTest {
+    private final AdditionalPropertiesClass model = new AdditionalPropertiesClass();
+
+    /**
+     * Model tests for AdditionalPropertiesClass
+     */
+    @Test
+    void testAdditionalPropertiesClass() {
+        // TODO: test AdditionalPropertiesClass
+    }
+
+    /**
+     * Test the property 'mapProperty'
+     */
+    @Test
+    void mapPropertyTest() {
+        // TODO: test mapProperty
+    }
+
+    /**
+     * Test the property 'mapOfMapProperty'
+     */
+    @Test
+    void mapOfMapPropertyTest() {
+        // TODO: test mapOfMapProperty
+    }
+
+    /**
+     * Test the property 'anytype1'
+     */
+    @Test
+    void anytype1Test() {
+        // TODO: test anytype1
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesAnytype1'
+     */
+    @Test
+    void mapWithUndeclaredPropertiesAnytype1Test() {
+        // TODO: test mapWithUndeclaredPropertiesAnytype1
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesAnytype2'
+     */
+    @Test
+    void mapWithUndeclaredPropertiesAnytype2Test() {
+        // TODO: test mapWithUndeclaredPropertiesAnytype2
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesAnytype3'
+     */
+    @Test
+    void mapWithUndeclaredPropertiesAnytype3Test() {
+        // TODO: test mapWithUndeclaredPropertiesAnytype3
+    }
+
+    /**
+     * Test the property 'emptyMap'
+     */
+    @Test
+    void emptyMapTest() {
+        // TODO: test emptyMap
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesString'
+     */
+    @Test
+    void mapWithUndeclaredPropertiesStringTest() {
+        // TODO: test mapWithUndeclaredPropertiesString
+    }
+
+}
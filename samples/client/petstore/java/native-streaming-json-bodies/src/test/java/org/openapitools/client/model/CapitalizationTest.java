@@ -0,0 +1,88 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for Capitalization
+ */
+class CapitalizationTest {
+    private final Capitalization model = new Capitalization();
+
+    /**
+     * Model tests for Capitalization
+     */
+    @Test
+    void testCapitalization() {
+        // TODO: test Capitalization
+    }
+
+    /**
+     * Test the property 'smallCamel'
+     */
+    @Test
+    void smallCamelTest() {
+        // TODO: test smallCamel
+    }
+
+    /**
+     * Test the property 'capitalCamel'
+     */
+    @Test
+    void capitalCamelTest() {
+        // TODO: test capitalCamel
+    }
+
+    /**
+     * Test the property 'smallSnake'
+     */
+    @Test
+    void smallSnakeTest() {
+        // TODO: test smallSnake
+    }
+
+    /**
+     * Test the property 'capitalSnake'
+     */
+    @Test
+    void capitalSnakeTest() {
+        // TODO: test capitalSnake
+    }
+
+    /**
+     * Test the property 'scAETHFlowPoints'
+     */
+    @Test
+    void scAETHFlowPointsTest() {
+        // TODO: test scAETHFlowPoints
+    }
+
+    /**
+     * Test the property 'ATT_NAME'
+     */
+    @Test
+    void ATT_NAMETest() {
+        // TODO: test ATT_NAME
+    }
+
+}
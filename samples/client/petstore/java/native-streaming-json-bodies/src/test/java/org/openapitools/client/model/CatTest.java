@@ -0,0 +1,69 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import java.util.Map;
+import org.openapitools.client.model.Animal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for Cat
+ */
+class CatTest {
+    private final Cat model = new Cat();
+
+    /**
+     * Model tests for Cat
+     */
+    @Test
+    void testCat() {
+        // TODO: test Cat
+    }
+
+    /**
+     * Test the property 'className'
+     */
+    @Test
+    void classNameTest() {
+        // TODO: test className
+    }
+
+    /**
+     * Test the property 'color'
+     */
+    @Test
+    void colorTest() {
+        // TODO: test color
+    }
+
+    /**
+     * Test the property 'declawed'
+     */
+    @Test
+    void declawedTest() {
+        // TODO: test declawed
+    }
+
+}
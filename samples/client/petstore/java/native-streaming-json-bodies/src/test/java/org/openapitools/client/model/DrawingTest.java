@@ -0,0 +1,84 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openapitools.client.model.Fruit;
+import org.openapitools.client.model.NullableShape;
+import org.openapitools.client.model.Shape;
+import org.openapitools.client.model.ShapeOrNull;
+import org.openapitools.jackson.nullable.JsonNullable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for Drawing
+ */
+class DrawingTest {
+    private final Drawing model = new Drawing();
+
+    /**
+     * Model tests for Drawing
+     */
+    @Test
+    void testDrawing() {
+        // TODO: test Drawing
+    }
+
+    /**
+     * Test the property 'mainShape'
+     */
+    @Test
+    void mainShapeTest() {
+        // TODO: test mainShape
+    }
+
+    /**
+     * Test the property 'shapeOrNull'
+     */
+    @Test
+    void shapeOrNullTest() {
+        // TODO: test shapeOrNull
+    }
+
+    /**
+     * Test the property 'nullableShape'
+     */
+    @Test
+    void nullableShapeTest() {
+        // TODO: test nullableShape
+    }
+
+    /**
+     * Test the property 'shapes'
+     */
+    @Test
+    void shapesTest() {
+        // TODO: test shapes
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import org.openapitools.client.model.OuterEnum;
+import org.openapitools.client.model.OuterEnumDefaultValue;
+import org.openapitools.client.model.OuterEnumInteger;
+import org.openapitools.client.model.OuterEnumIntegerDefaultValue;
+import org.openapitools.jackson.nullable.JsonNullable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for EnumTest
+ */
+class EnumTestTest {
+    private final EnumTest model = new EnumTest();
+
+    /**
+     * Model tests for EnumTest
+     */
+    @Test
+    void testEnumTest() {
+        // TODO: test EnumTest
+    }
+
+    /**
+     * Test the property 'enumString'
+     */
+    @Test
+    void enumStringTest() {
+        // TODO: test enumString
+    }
+
+    /**
+     * Test the property 'enumStringRequired'
+     */
+    @Test
+    void enumStringRequiredTest() {
+        // TODO: test enumStringRequired
+    }
+
+    /**
+     * Test the property 'enumInteger'
+     */
+    @Test
+    void enumIntegerTest() {
+        // TODO: test enumInteger
+    }
+
+    /**
+     * Test the property 'enumIntegerOnly'
+     */
+    @Test
+    void enumIntegerOnlyTest() {
+        // TODO: test enumIntegerOnly
+    }
+
+    /**
+     * Test the property 'enumNumber'
+     */
+    @Test
+    void enumNumberTest() {
+        // TODO: test enumNumber
+    }
+
+    /**
+     * Test the property 'outerEnum'
+     */
+    @Test
+    void outerEnumTest() {
+        // TODO: test outerEnum
+    }
+
+    /**
+     * Test the property 'outerEnumInteger'
+     */
+    @Test
+    void outerEnumIntegerTest() {
+        // TODO: test outerEnumInteger
+    }
+
+    /**
+     * Test the property 'outerEnumDefaultValue'
+     */
+    @Test
+    void outerEnumDefaultValueTest() {
+        // TODO: test outerEnumDefaultValue
+    }
+
+    /**
+     * Test the property 'outerEnumIntegerDefaultValue'
+     */
+    @Test
+    void outerEnumIntegerDefaultValueTest() {
+        // TODO: test outerEnumIntegerDefaultValue
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for FakeBigDecimalMap200Response
+ */
+class FakeBigDecimalMap200ResponseTest {
+    private final FakeBigDecimalMap200Response model = new FakeBigDecimalMap200Response();
+
+    /**
+     * Model tests for FakeBigDecimalMap200Response
+     */
+    @Test
+    void testFakeBigDecimalMap200Response() {
+        // TODO: test FakeBigDecimalMap200Response
+    }
+
+    /**
+     * Test the property 'someId'
+     */
+    @Test
+    void someIdTest() {
+        // TODO: test someId
+    }
+
+    /**
+     * Test the property 'someMap'
+     */
+    @Test
+    void someMapTest() {
+        // TODO: test someMap
+    }
+
+}
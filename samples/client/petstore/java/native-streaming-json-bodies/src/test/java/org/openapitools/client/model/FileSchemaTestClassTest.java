@@ -0,0 +1,59 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.ModelFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for FileSchemaTestClass
+ */
+class FileSchemaTestClassTest {
+    private final FileSchemaTestClass model = new FileSchemaTestClass();
+
+    /**
+     * Model tests for FileSchemaTestClass
+     */
+    @Test
+    void testFileSchemaTestClass() {
+        // TODO: test FileSchemaTestClass
+    }
+
+    /**
+     * Test the property '_file'
+     */
+    @Test
+    void _fileTest() {
+        // TODO: test _file
+    }
+
+    /**
+     * Test the property 'files'
+     */
+    @Test
+    void filesTest() {
+        // TODO: test files
+    }
+
+}
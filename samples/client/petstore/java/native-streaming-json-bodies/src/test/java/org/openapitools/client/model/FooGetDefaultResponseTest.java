@@ -0,0 +1,49 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import org.openapitools.client.model.Foo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for FooGetDefaultResponse
+ */
+class FooGetDefaultResponseTest {
+    private final FooGetDefaultResponse model = new FooGetDefaultResponse();
+
+    /**
+     * Model tests for FooGetDefaultResponse
+     */
+    @Test
+    void testFooGetDefaultResponse() {
+        // TODO: test FooGetDefaultResponse
+    }
+
+    /**
+     * Test the property 'string'
+     */
+    @Test
+    void stringTest() {
+        // TODO: test string
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.io.File;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for FormatTest
+ */
+class FormatTestTest {
+    private final FormatTest model = new FormatTest();
+
+    /**
+     * Model tests for FormatTest
+     */
+    @Test
+    void testFormatTest() {
+        // TODO: test FormatTest
+    }
+
+    /**
+     * Test the property 'integer'
+     */
+    @Test
+    void integerTest() {
+        // TODO: test integer
+    }
+
+    /**
+     * Test the property 'int32'
+     */
+    @Test
+    void int32Test() {
+        // TODO: test int32
+    }
+
+    /**
+     * Test the property 'int64'
+     */
+    @Test
+    void int64Test() {
+        // TODO: test int64
+    }
+
+    /**
+     * Test the property 'number'
+     */
+    @Test
+    void numberTest() {
+        // TODO: test number
+    }
+
+    /**
+     * Test the property '_float'
+     */
+    @Test
+    void _floatTest() {
+        // TODO: test _float
+    }
+
+    /**
+     * Test the property '_double'
+     */
+    @Test
+    void _doubleTest() {
+        // TODO: test _double
+    }
+
+    /**
+     * Test the property 'decimal'
+     */
+    @Test
+    void decimalTest() {
+        // TODO: test decimal
+    }
+
+    /**
+     * Test the property 'string'
+     */
+    @Test
+    void stringTest() {
+        // TODO: test string
+    }
+
+    /**
+     * Test the property '_byte'
+     */
+    @Test
+    void _byteTest() {
+        // TODO: test _byte
+    }
+
+    /**
+     * Test the property 'binary'
+     */
+    @Test
+    void binaryTest() {
+        // TODO: test binary
+    }
+
+    /**
+     * Test the property 'date'
+     */
+    @Test
+    void dateTest() {
+        // TODO: test date
+    }
+
+    /**
+     * Test the property 'dateTime'
+     */
+    @Test
+    void dateTimeTest() {
+        // TODO: test dateTime
+    }
+
+    /**
+     * Test the property 'uuid'
+     */
+    @Test
+    void uuidTest() {
+        // TODO: test uuid
+    }
+
+    /**
+     * Test the property 'password'
+     */
+    @Test
+    void passwordTest() {
+        // TODO: test password
+    }
+
+    /**
+     * Test the property 'patternWithDigits'
+     */
+    @Test
+    void patternWithDigitsTest() {
+        // TODO: test patternWithDigits
+    }
+
+    /**
+     * Test the property 'patternWithDigitsAndDelimiter'
+     */
+    @Test
+    void patternWithDigitsAndDelimiterTest() {
+        // TODO: test patternWithDigitsAndDelimiter
+    }
+
+}
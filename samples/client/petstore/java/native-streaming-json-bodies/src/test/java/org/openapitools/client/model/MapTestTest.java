@@ -0,0 +1,74 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for MapTest
+ */
+class MapTestTest {
+    private final MapTest model = new MapTest();
+
+    /**
+     * Model tests for MapTest
+     */
+    @Test
+    void testMapTest() {
+        // TODO: test MapTest
+    }
+
+    /**
+     * Test the property 'mapMapOfString'
+     */
+    @Test
+    void mapMapOfStringTest() {
+        // TODO: test mapMapOfString
+    }
+
+    /**
+     * Test the property 'mapOfEnumString'
+     */
+    @Test
+    void mapOfEnumStringTest() {
+        // TODO: test mapOfEnumString
+    }
+
+    /**
+     * Test the property 'directMap'
+     */
+    @Test
+    void directMapTest() {
+        // TODO: test directMap
+    }
+
+    /**
+     * Test the property 'indirectMap'
+     */
+    @Test
+    void indirectMapTest() {
+        // TODO: test indirectMap
+    }
+
+}
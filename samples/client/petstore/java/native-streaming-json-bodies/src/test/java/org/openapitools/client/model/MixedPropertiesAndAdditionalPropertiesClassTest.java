@@ -0,0 +1,69 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.openapitools.client.model.Animal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for MixedPropertiesAndAdditionalPropertiesClass
+ */
+class MixedPropertiesAndAdditionalPropertiesClassTest {
+    private final MixedPropertiesAndAdditionalPropertiesClass model = new MixedPropertiesAndAdditionalPropertiesClass();
+
+    /**
+     * Model tests for MixedPropertiesAndAdditionalPropertiesClass
+     */
+    @Test
+    void testMixedPropertiesAndAdditionalPropertiesClass() {
+        // TODO: test MixedPropertiesAndAdditionalPropertiesClass
+    }
+
+    /**
+     * Test the property 'uuid'
+     */
+    @Test
+    void uuidTest() {
+        // TODO: test uuid
+    }
+
+    /**
+     * Test the property 'dateTime'
+     */
+    @Test
+    void dateTimeTest() {
+        // TODO: test dateTime
+    }
+
+    /**
+     * Test the property 'map'
+     */
+    @Test
+    void mapTest() {
+        // TODO: test map
+    }
+
+}
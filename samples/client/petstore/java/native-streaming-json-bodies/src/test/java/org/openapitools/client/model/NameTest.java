@@ -0,0 +1,72 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for Name
+ */
+class NameTest {
+    private final Name model = new Name();
+
+    /**
+     * Model tests for Name
+     */
+    @Test
+    void testName() {
+        // TODO: test Name
+    }
+
+    /**
+     * Test the property 'name'
+     */
+    @Test
+    void nameTest() {
+        // TODO: test name
+    }
+
+    /**
+     * Test the property 'snakeCase'
+     */
+    @Test
+    void snakeCaseTest() {
+        // TODO: test snakeCase
+    }
+
+    /**
+     * Test the property 'property'
+     */
+    @Test
+    void propertyTest() {
+        // TODO: test property
+    }
+
+    /**
+     * Test the property '_123number'
+     */
+    @Test
+    void _123numberTest() {
+        // TODO: test _123number
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.openapitools.jackson.nullable.JsonNullable;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.openapitools.jackson.nullable.JsonNullable;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for NullableClass
+ */
+class NullableClassTest {
+    private final NullableClass model = new NullableClass();
+
+    /**
+     * Model tests for NullableClass
+     */
+    @Test
+    void testNullableClass() {
+        // TODO: test NullableClass
+    }
+
+    /**
+     * Test the property 'integerProp'
+     */
+    @Test
+    void integerPropTest() {
+        // TODO: test integerProp
+    }
+
+    /**
+     * Test the property 'numberProp'
+     */
+    @Test
+    void numberPropTest() {
+        // TODO: test numberProp
+    }
+
+    /**
+     * Test the property 'booleanProp'
+     */
+    @Test
+    void booleanPropTest() {
+        // TODO: test booleanProp
+    }
+
+    /**
+     * Test the property 'stringProp'
+     */
+    @Test
+    void stringPropTest() {
+        // TODO: test stringProp
+    }
+
+    /**
+     * Test the property 'dateProp'
+     */
+    @Test
+    void datePropTest() {
+        // TODO: test dateProp
+    }
+
+    /**
+     * Test the property 'datetimeProp'
+     */
+    @Test
+    void datetimePropTest() {
+        // TODO: test datetimeProp
+    }
+
+    /**
+     * Test the property 'arrayNullableProp'
+     */
+    @Test
+    void arrayNullablePropTest() {
+        // TODO: test arrayNullableProp
+    }
+
+    /**
+     * Test the property 'arrayAndItemsNullableProp'
+     */
+    @Test
+    void arrayAndItemsNullablePropTest() {
+        // TODO: test arrayAndItemsNullableProp
+    }
+
+    /**
+     * Test the property 'arrayItemsNullable'
+     */
+    @Test
+    void arrayItemsNullableTest() {
+        // TODO: test arrayItemsNullable
+    }
+
+    /**
+     * Test the property 'objectNullableProp'
+     */
+    @Test
+    void objectNullablePropTest() {
+        // TODO: test objectNullableProp
+    }
+
+    /**
+     * Test the property 'objectAndItemsNullableProp'
+     */
+    @Test
+    void objectAndItemsNullablePropTest() {
+        // TODO: test objectAndItemsNullableProp
+    }
+
+    /**
+     * Test the property 'objectItemsNullable'
+     */
+    @Test
+    void objectItemsNullableTest() {
+        // TODO: test objectItemsNullable
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for NumberOnly
+ */
+class NumberOnlyTest {
+    private final NumberOnly model = new NumberOnly();
+
+    /**
+     * Model tests for NumberOnly
+     */
+    @Test
+    void testNumberOnly() {
+        // TODO: test NumberOnly
+    }
+
+    /**
+     * Test the property 'justNumber'
+     */
+    @Test
+    void justNumberTest() {
+        // TODO: test justNumber
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import com.fasterxml.jackson.annotation.JsonValue;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for TestInlineFreeformAdditionalPropertiesRequest
+ */
+class TestInlineFreeformAdditionalPropertiesRequestTest {
+    private final TestInlineFreeformAdditionalPropertiesRequest model = new TestInlineFreeformAdditionalPropertiesRequest();
+
+    /**
+     * Model tests for TestInlineFreeformAdditionalPropertiesRequest
+     */
+    @Test
+    void testTestInlineFreeformAdditionalPropertiesRequest() {
+        // TODO: test TestInlineFreeformAdditionalPropertiesRequest
+    }
+
+    /**
+     * Test the property 'someProperty'
+     */
+    @Test
+    void somePropertyTest() {
+        // TODO: test someProperty
+    }
+
+}
@@ -33,21 +33,11 @@ import org.openapitools.client.model.User;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import org.apache.http.HttpEntity;
-import org.apache.http.NameValuePair;
-import org.apache.http.entity.mime.MultipartEntityBuilder;
-import org.apache.http.message.BasicNameValuePair;
-import org.apache.http.client.entity.UrlEncodedFormEntity;
-
 import java.io.InputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.http.HttpRequest;
-import java.nio.channels.Channels;
-import java.nio.channels.Pipe;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -1098,60 +1088,52 @@ public class FakeApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (integer != null) {
-        formValues.add(new BasicNameValuePair("integer", integer.toString()));
+        formValues.add(ApiClient.formUrlEncode("integer") + "=" + ApiClient.formUrlEncode(integer.toString()));
     }
     if (int32 != null) {
-        formValues.add(new BasicNameValuePair("int32", int32.toString()));
+        formValues.add(ApiClient.formUrlEncode("int32") + "=" + ApiClient.formUrlEncode(int32.toString()));
     }
     if (int64 != null) {
-        formValues.add(new BasicNameValuePair("int64", int64.toString()));
+        formValues.add(ApiClient.formUrlEncode("int64") + "=" + ApiClient.formUrlEncode(int64.toString()));
     }
     if (number != null) {
-        formValues.add(new BasicNameValuePair("number", number.toString()));
+        formValues.add(ApiClient.formUrlEncode("number") + "=" + ApiClient.formUrlEncode(number.toString()));
     }
     if (_float != null) {
-        formValues.add(new BasicNameValuePair("float", _float.toString()));
+        formValues.add(ApiClient.formUrlEncode("float") + "=" + ApiClient.formUrlEncode(_float.toString()));
     }
     if (_double != null) {
-        formValues.add(new BasicNameValuePair("double", _double.toString()));
+        formValues.add(ApiClient.formUrlEncode("double") + "=" + ApiClient.formUrlEncode(_double.toString()));
     }
     if (string != null) {
-        formValues.add(new BasicNameValuePair("string", string.toString()));
+        formValues.add(ApiClient.formUrlEncode("string") + "=" + ApiClient.formUrlEncode(string.toString()));
     }
     if (patternWithoutDelimiter != null) {
-        formValues.add(new BasicNameValuePair("pattern_without_delimiter", patternWithoutDelimiter.toString()));
+        formValues.add(ApiClient.formUrlEncode("pattern_without_delimiter") + "=" + ApiClient.formUrlEncode(patternWithoutDelimiter.toString()));
     }
     if (_byte != null) {
-        formValues.add(new BasicNameValuePair("byte", _byte.toString()));
+        formValues.add(ApiClient.formUrlEncode("byte") + "=" + ApiClient.formUrlEncode(_byte.toString()));
     }
     if (binary != null) {
-        formValues.add(new BasicNameValuePair("binary", binary.toString()));
+        formValues.add(ApiClient.formUrlEncode("binary") + "=" + ApiClient.formUrlEncode(binary.toString()));
     }
     if (date != null) {
-        formValues.add(new BasicNameValuePair("date", date.toString()));
+        formValues.add(ApiClient.formUrlEncode("date") + "=" + ApiClient.formUrlEncode(date.toString()));
     }
     if (dateTime != null) {
-        formValues.add(new BasicNameValuePair("dateTime", dateTime.toString()));
+        formValues.add(ApiClient.formUrlEncode("dateTime") + "=" + ApiClient.formUrlEncode(dateTime.toString()));
     }
     if (password != null) {
-        formValues.add(new BasicNameValuePair("password", password.toString()));
+        formValues.add(ApiClient.formUrlEncode("password") + "=" + ApiClient.formUrlEncode(password.toString()));
     }
     if (paramCallback != null) {
-        formValues.add(new BasicNameValuePair("callback", paramCallback.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("callback") + "=" + ApiClient.formUrlEncode(paramCallback.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("POST", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("POST", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -1263,26 +1245,18 @@ public class FakeApi {
     }
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     for (int i=0; i < enumFormStringArray.size(); i++) {
         if (enumFormStringArray.get(i) != null) {
-            formValues.add(new BasicNameValuePair("enum_form_string_array", enumFormStringArray.get(i).toString()));
+            formValues.add(ApiClient.formUrlEncode("enum_form_string_array") + "=" + ApiClient.formUrlEncode(enumFormStringArray.get(i).toString()));
         }
     }
     if (enumFormString != null) {
-        formValues.add(new BasicNameValuePair("enum_form_string", enumFormString.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("enum_form_string") + "=" + ApiClient.formUrlEncode(enumFormString.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("GET", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("GET", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
@@ -1755,24 +1729,16 @@ public class FakeApi {
 
     localVarRequestBuilder.header("Accept", "application/json");
 
-    List<NameValuePair> formValues = new ArrayList<>();
+    StringJoiner formValues = new StringJoiner("&");
     if (param != null) {
-        formValues.add(new BasicNameValuePair("param", param.toString()));
+        formValues.add(ApiClient.formUrlEncode("param") + "=" + ApiClient.formUrlEncode(param.toString()));
     }
     if (param2 != null) {
-        formValues.add(new BasicNameValuePair("param2", param2.toString()));
-    }
-    HttpEntity entity = new UrlEncodedFormEntity(formValues, java.nio.charset.StandardCharsets.UTF_8);
-    ByteArrayOutputStream formOutputStream = new ByteArrayOutputStream();
-    try {
-        entity.writeTo(formOutputStream);
-    } catch (IOException e) {
-        throw new RuntimeException(e);
+        formValues.add(ApiClient.formUrlEncode("param2") + "=" + ApiClient.formUrlEncode(param2.toString()));
     }
     localVarRequestBuilder
-        .header("Content-Type", entity.getContentType().getValue())
-        .method("GET", HttpRequest.BodyPublishers
-            .ofInputStream(() -> new ByteArrayInputStream(formOutputStream.toByteArray())));
+        .header("Content-Type", "application/x-www-form-urlencoded; charset=UTF-8")
+        .method("GET", HttpRequest.BodyPublishers.ofString(formValues.toString()));
     if (memberVarReadTimeout != null) {
       localVarRequestBuilder.timeout(memberVarReadTimeout);
     }
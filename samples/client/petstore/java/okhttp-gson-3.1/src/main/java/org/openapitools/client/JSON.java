@@ -35,6 +35,7 @@ import java.text.ParsePosition;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
@@ -59,30 +60,48 @@ public class JSON {
     public static GsonBuilder createGson() {
         GsonFireBuilder fireBuilder = new GsonFireBuilder()
                 .registerTypeSelector(org.openapitools.client.model.Animal.class, new TypeSelector<org.openapitools.client.model.Animal>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Cat", org.openapitools.client.model.Cat.class);
+                        table.put("Dog", org.openapitools.client.model.Dog.class);
+                        table.put("Animal", org.openapitools.client.model.Animal.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Animal> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Cat", org.openapitools.client.model.Cat.class);
-                        classByDiscriminatorValue.put("Dog", org.openapitools.client.model.Dog.class);
-                        classByDiscriminatorValue.put("Animal", org.openapitools.client.model.Animal.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Cat.class, new TypeSelector<org.openapitools.client.model.Cat>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Cat", org.openapitools.client.model.Cat.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Cat> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Cat", org.openapitools.client.model.Cat.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Dog.class, new TypeSelector<org.openapitools.client.model.Dog>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Dog", org.openapitools.client.model.Dog.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Dog> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Dog", org.openapitools.client.model.Dog.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
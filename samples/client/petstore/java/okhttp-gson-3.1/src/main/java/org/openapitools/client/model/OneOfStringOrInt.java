@@ -96,6 +96,7 @@ public class OneOfStringOrInt extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize String
                     try {
@@ -226,6 +227,7 @@ public class OneOfStringOrInt extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with String
         try {
             if (!jsonElement.getAsJsonPrimitive().isString()) {
@@ -99,6 +99,7 @@ public class RefToRefParameterAnyofRefToAnyofParameter extends AbstractOpenApiSc
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize String
                     try {
@@ -240,6 +241,7 @@ public class RefToRefParameterAnyofRefToAnyofParameter extends AbstractOpenApiSc
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with String
         try {
             if (!jsonElement.getAsJsonPrimitive().isString()) {
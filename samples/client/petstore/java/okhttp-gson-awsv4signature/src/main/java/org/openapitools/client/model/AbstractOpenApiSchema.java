@@ -14,6 +14,8 @@
 package org.openapitools.client.model;
 
 import org.openapitools.client.ApiException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import java.util.Objects;
 import java.lang.reflect.Type;
 import java.util.Map;
@@ -141,6 +143,61 @@ public abstract class AbstractOpenApiSchema {
         }
     }
 
+    /**
+     * Get the schema selected by the discriminator of the JSON element
+     *
+     * @param jsonElement the JSON element
+     * @param discriminatorField name of the discriminator property
+     * @param schemaByDiscriminatorValue schema names by discriminator value
+     * @return the selected schema, or null if the element has no known discriminator value
+     */
+    protected static String getDiscriminatorSchema(JsonElement jsonElement, String discriminatorField, Map<String, String> schemaByDiscriminatorValue) {
+        if (jsonElement == null || !jsonElement.isJsonObject()) {
+            return null;
+        }
+        JsonElement value = jsonElement.getAsJsonObject().get(discriminatorField);
+        if (value == null || !value.isJsonPrimitive()) {
+            return null;
+        }
+        return schemaByDiscriminatorValue.get(value.getAsString());
+    }
+
+    /**
+     * Rule out a oneOf/anyOf candidate before validating the JSON element against it, which is
+     * much more expensive for elements the candidate can't match.
+     *
+     * @param jsonElement the JSON element
+     * @param schema name of the candidate schema
+     * @param discriminatorSchema schema selected by the discriminator, or null if none
+     * @param requiredFields required properties of the candidate schema
+     * @throws IllegalArgumentException if the candidate can't match the JSON element
+     */
+    protected static void checkCandidate(JsonElement jsonElement, String schema, String discriminatorSchema, String... requiredFields) {
+        if (discriminatorSchema != null && !discriminatorSchema.equals(schema)) {
+            throw new SchemaMismatchException(String.format("The discriminator selects `%s`", discriminatorSchema));
+        }
+        if (requiredFields.length > 0 && jsonElement != null && jsonElement.isJsonObject()) {
+            JsonObject jsonObject = jsonElement.getAsJsonObject();
+            for (String requiredField : requiredFields) {
+                if (!jsonObject.has(requiredField)) {
+                    throw new SchemaMismatchException(String.format("The required field `%s` is not found in the JSON string", requiredField));
+                }
+            }
+        }
+    }
+
+    // thrown for every ruled out candidate, so it doesn't fill in a stack trace
+    private static class SchemaMismatchException extends IllegalArgumentException {
+        SchemaMismatchException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
 
 
 }
@@ -0,0 +1,203 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import org.openapitools.client.ApiException;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import java.util.Objects;
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * Abstract class for oneOf,anyOf schemas defined in OpenAPI spec
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public abstract class AbstractOpenApiSchema {
+
+    // store the actual instance of the schema/object
+    private Object instance;
+
+    // is nullable
+    private Boolean isNullable;
+
+    // schema type (e.g. oneOf, anyOf)
+    private final String schemaType;
+
+    public AbstractOpenApiSchema(String schemaType, Boolean isNullable) {
+        this.schemaType = schemaType;
+        this.isNullable = isNullable;
+    }
+
+    /**
+     * Get the list of oneOf/anyOf composed schemas allowed to be stored in this object
+     *
+     * @return an instance of the actual schema/object
+     */
+    public abstract Map<String, Class<?>> getSchemas();
+
+    /**
+     * Get the actual instance
+     *
+     * @return an instance of the actual schema/object
+     */
+    //@JsonValue
+    public Object getActualInstance() {return instance;}
+
+    /**
+     * Set the actual instance
+     *
+     * @param instance the actual instance of the schema/object
+     */
+    public void setActualInstance(Object instance) {this.instance = instance;}
+
+    /**
+     * Get the instant recursively when the schemas defined in oneOf/anyof happen to be oneOf/anyOf schema as well
+     *
+     * @return an instance of the actual schema/object
+     */
+    public Object getActualInstanceRecursively() {
+        return getActualInstanceRecursively(this);
+    }
+
+    private Object getActualInstanceRecursively(AbstractOpenApiSchema object) {
+        if (object.getActualInstance() == null) {
+            return null;
+        } else if (object.getActualInstance() instanceof AbstractOpenApiSchema) {
+            return getActualInstanceRecursively((AbstractOpenApiSchema)object.getActualInstance());
+        } else {
+            return object.getActualInstance();
+        }
+    }
+
+    /**
+     * Get the schema type (e.g. anyOf, oneOf)
+     *
+     * @return the schema type
+     */
+    public String getSchemaType() {
+        return schemaType;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("class ").append(getClass()).append(" {\n");
+        sb.append("    instance: ").append(toIndentedString(instance)).append("\n");
+        sb.append("    isNullable: ").append(toIndentedString(isNullable)).append("\n");
+        sb.append("    schemaType: ").append(toIndentedString(schemaType)).append("\n");
+        sb.append("}");
+        return sb.toString();
+    }
+
+    /**
+     * Convert the given object to string with each line indented by 4 spaces
+     * (except the first line).
+     */
+    private String toIndentedString(Object o) {
+        if (o == null) {
+            return "null";
+        }
+        return o.toString().replace("\n", "\n    ");
+    }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AbstractOpenApiSchema a = (AbstractOpenApiSchema) o;
+        return Objects.equals(this.instance, a.instance) &&
+            Objects.equals(this.isNullable, a.isNullable) &&
+            Objects.equals(this.schemaType, a.schemaType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(instance, isNullable, schemaType);
+    }
+
+    /**
+     * Is nullable
+     *
+     * @return true if it's nullable
+     */
+    public Boolean isNullable() {
+        if (Boolean.TRUE.equals(isNullable)) {
+            return Boolean.TRUE;
+        } else {
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * Get the schema selected by the discriminator of the JSON element
+     *
+     * @param jsonElement the JSON element
+     * @param discriminatorField name of the discriminator property
+     * @param schemaByDiscriminatorValue schema names by discriminator value
+     * @return the selected schema, or null if the element has no known discriminator value
+     */
+    protected static String getDiscriminatorSchema(JsonElement jsonElement, String discriminatorField, Map<String, String> schemaByDiscriminatorValue) {
+        if (jsonElement == null || !jsonElement.isJsonObject()) {
+            return null;
+        }
+        JsonElement value = jsonElement.getAsJsonObject().get(discriminatorField);
+        if (value == null || !value.isJsonPrimitive()) {
+            return null;
+        }
+        return schemaByDiscriminatorValue.get(value.getAsString());
+    }
+
+    /**
+     * Rule out a oneOf/anyOf candidate before validating the JSON element against it, which is
+     * much more expensive for elements the candidate can't match.
+     *
+     * @param jsonElement the JSON element
+     * @param schema name of the candidate schema
+     * @param discriminatorSchema schema selected by the discriminator, or null if none
+     * @param requiredFields required properties of the candidate schema
+     * @throws IllegalArgumentException if the candidate can't match the JSON element
+     */
+    protected static void checkCandidate(JsonElement jsonElement, String schema, String discriminatorSchema, String... requiredFields) {
+        if (discriminatorSchema != null && !discriminatorSchema.equals(schema)) {
+            throw new SchemaMismatchException(String.format("The discriminator selects `%s`", discriminatorSchema));
+        }
+        if (requiredFields.length > 0 && jsonElement != null && jsonElement.isJsonObject()) {
+            JsonObject jsonObject = jsonElement.getAsJsonObject();
+            for (String requiredField : requiredFields) {
+                if (!jsonObject.has(requiredField)) {
+                    throw new SchemaMismatchException(String.format("The required field `%s` is not found in the JSON string", requiredField));
+                }
+            }
+        }
+    }
+
+    // thrown for every ruled out candidate, so it doesn't fill in a stack trace
+    private static class SchemaMismatchException extends IllegalArgumentException {
+        SchemaMismatchException(String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+
+
+}
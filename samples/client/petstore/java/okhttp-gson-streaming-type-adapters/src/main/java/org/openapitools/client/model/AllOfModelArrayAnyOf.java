@@ -0,0 +1,441 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.AllOfModelArrayAnyOfAllOfAttributes;
+import org.openapitools.client.model.AllOfModelArrayAnyOfAllOfLinkListColumn1;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * AllOfModelArrayAnyOf
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class AllOfModelArrayAnyOf {
+  public static final String SERIALIZED_NAME_ID = "id";
+  @SerializedName(SERIALIZED_NAME_ID)
+  @javax.annotation.Nullable
+  private Long id;
+
+  public static final String SERIALIZED_NAME_NAME = "name";
+  @SerializedName(SERIALIZED_NAME_NAME)
+  @javax.annotation.Nonnull
+  private String name = "default-name";
+
+  public static final String SERIALIZED_NAME_LINK_LIST_COLUMN1 = "linkListColumn1";
+  @SerializedName(SERIALIZED_NAME_LINK_LIST_COLUMN1)
+  @javax.annotation.Nullable
+  private AllOfModelArrayAnyOfAllOfLinkListColumn1 linkListColumn1;
+
+  public static final String SERIALIZED_NAME_ATTRIBUTES = "attributes";
+  @SerializedName(SERIALIZED_NAME_ATTRIBUTES)
+  @javax.annotation.Nullable
+  private AllOfModelArrayAnyOfAllOfAttributes attributes;
+
+  public AllOfModelArrayAnyOf() {
+  }
+
+  public AllOfModelArrayAnyOf id(@javax.annotation.Nullable Long id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Get id
+   * @return id
+   */
+  @javax.annotation.Nullable
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(@javax.annotation.Nullable Long id) {
+    this.id = id;
+  }
+
+
+  public AllOfModelArrayAnyOf name(@javax.annotation.Nonnull String name) {
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Get name
+   * @return name
+   */
+  @javax.annotation.Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public void setName(@javax.annotation.Nonnull String name) {
+    this.name = name;
+  }
+
+
+  public AllOfModelArrayAnyOf linkListColumn1(@javax.annotation.Nullable AllOfModelArrayAnyOfAllOfLinkListColumn1 linkListColumn1) {
+    this.linkListColumn1 = linkListColumn1;
+    return this;
+  }
+
+  /**
+   * Get linkListColumn1
+   * @return linkListColumn1
+   */
+  @javax.annotation.Nullable
+  public AllOfModelArrayAnyOfAllOfLinkListColumn1 getLinkListColumn1() {
+    return linkListColumn1;
+  }
+
+  public void setLinkListColumn1(@javax.annotation.Nullable AllOfModelArrayAnyOfAllOfLinkListColumn1 linkListColumn1) {
+    this.linkListColumn1 = linkListColumn1;
+  }
+
+
+  public AllOfModelArrayAnyOf attributes(@javax.annotation.Nullable AllOfModelArrayAnyOfAllOfAttributes attributes) {
+    this.attributes = attributes;
+    return this;
+  }
+
+  /**
+   * Get attributes
+   * @return attributes
+   */
+  @javax.annotation.Nullable
+  public AllOfModelArrayAnyOfAllOfAttributes getAttributes() {
+    return attributes;
+  }
+
+  public void setAttributes(@javax.annotation.Nullable AllOfModelArrayAnyOfAllOfAttributes attributes) {
+    this.attributes = attributes;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the AllOfModelArrayAnyOf instance itself
+   */
+  public AllOfModelArrayAnyOf putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AllOfModelArrayAnyOf allOfModelArrayAnyOf = (AllOfModelArrayAnyOf) o;
+    return Objects.equals(this.id, allOfModelArrayAnyOf.id) &&
+        Objects.equals(this.name, allOfModelArrayAnyOf.name) &&
+        Objects.equals(this.linkListColumn1, allOfModelArrayAnyOf.linkListColumn1) &&
+        Objects.equals(this.attributes, allOfModelArrayAnyOf.attributes)&&
+        Objects.equals(this.additionalProperties, allOfModelArrayAnyOf.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, name, linkListColumn1, attributes, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AllOfModelArrayAnyOf {\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    linkListColumn1: ").append(toIndentedString(linkListColumn1)).append("\n");
+    sb.append("    attributes: ").append(toIndentedString(attributes)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("id");
+    openapiFields.add("name");
+    openapiFields.add("linkListColumn1");
+    openapiFields.add("attributes");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("name");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to AllOfModelArrayAnyOf
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!AllOfModelArrayAnyOf.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in AllOfModelArrayAnyOf is not found in the empty JSON string", AllOfModelArrayAnyOf.openapiRequiredFields.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : AllOfModelArrayAnyOf.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      if (!jsonObj.get("name").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `name` to be a primitive type in the JSON string but got `%s`", jsonObj.get("name").toString()));
+      }
+      // validate the optional field `linkListColumn1`
+      if (jsonObj.get("linkListColumn1") != null && !jsonObj.get("linkListColumn1").isJsonNull()) {
+        AllOfModelArrayAnyOfAllOfLinkListColumn1.validateJsonElement(jsonObj.get("linkListColumn1"));
+      }
+      // validate the optional field `attributes`
+      if (jsonObj.get("attributes") != null && !jsonObj.get("attributes").isJsonNull()) {
+        AllOfModelArrayAnyOfAllOfAttributes.validateJsonElement(jsonObj.get("attributes"));
+      }
+  }
+
+  private static final TypeToken<Long> TYPE_TOKEN_ID = new TypeToken<Long>() {};
+  private static final TypeToken<String> TYPE_TOKEN_NAME = new TypeToken<String>() {};
+  private static final TypeToken<AllOfModelArrayAnyOfAllOfLinkListColumn1> TYPE_TOKEN_LINK_LIST_COLUMN1 = new TypeToken<AllOfModelArrayAnyOfAllOfLinkListColumn1>() {};
+  private static final TypeToken<AllOfModelArrayAnyOfAllOfAttributes> TYPE_TOKEN_ATTRIBUTES = new TypeToken<AllOfModelArrayAnyOfAllOfAttributes>() {};
+
+  /**
+   * Reads the value of a property of AllOfModelArrayAnyOf from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if AllOfModelArrayAnyOf has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_ID:
+        this.id = gson.getAdapter(TYPE_TOKEN_ID).read(in);
+        return true;
+      case SERIALIZED_NAME_NAME:
+        if (in.peek() == JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("The required field `name` is null in the JSON string at %s", in.getPath()));
+        }
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `name` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.name = gson.getAdapter(TYPE_TOKEN_NAME).read(in);
+        return true;
+      case SERIALIZED_NAME_LINK_LIST_COLUMN1:
+        this.linkListColumn1 = gson.getAdapter(TYPE_TOKEN_LINK_LIST_COLUMN1).read(in);
+        return true;
+      case SERIALIZED_NAME_ATTRIBUTES:
+        this.attributes = gson.getAdapter(TYPE_TOKEN_ATTRIBUTES).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!AllOfModelArrayAnyOf.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'AllOfModelArrayAnyOf' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<AllOfModelArrayAnyOf> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(AllOfModelArrayAnyOf.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<AllOfModelArrayAnyOf>() {
+           @Override
+           public void write(JsonWriter out, AllOfModelArrayAnyOf value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public AllOfModelArrayAnyOf read(JsonReader in) throws IOException {
+             AllOfModelArrayAnyOf instance = new AllOfModelArrayAnyOf();
+             Set<String> missingRequiredFields = new HashSet<String>(AllOfModelArrayAnyOf.openapiRequiredFields);
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               missingRequiredFields.remove(name);
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             if (!missingRequiredFields.isEmpty()) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string at %s", missingRequiredFields.iterator().next(), in.getPath()));
+             }
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of AllOfModelArrayAnyOf given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of AllOfModelArrayAnyOf
+   * @throws IOException if the JSON string is invalid with respect to AllOfModelArrayAnyOf
+   */
+  public static AllOfModelArrayAnyOf fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, AllOfModelArrayAnyOf.class);
+  }
+
+  /**
+   * Convert an instance of AllOfModelArrayAnyOf to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -0,0 +1,321 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.AllOfModelArrayAnyOfAllOfAttributesC;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * AllOfModelArrayAnyOfAllOfAttributes
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class AllOfModelArrayAnyOfAllOfAttributes {
+  public static final String SERIALIZED_NAME_C = "C";
+  @SerializedName(SERIALIZED_NAME_C)
+  @javax.annotation.Nullable
+  private AllOfModelArrayAnyOfAllOfAttributesC C;
+
+  public AllOfModelArrayAnyOfAllOfAttributes() {
+  }
+
+  public AllOfModelArrayAnyOfAllOfAttributes C(@javax.annotation.Nullable AllOfModelArrayAnyOfAllOfAttributesC C) {
+    this.C = C;
+    return this;
+  }
+
+  /**
+   * Get C
+   * @return C
+   */
+  @javax.annotation.Nullable
+  public AllOfModelArrayAnyOfAllOfAttributesC getC() {
+    return C;
+  }
+
+  public void setC(@javax.annotation.Nullable AllOfModelArrayAnyOfAllOfAttributesC C) {
+    this.C = C;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the AllOfModelArrayAnyOfAllOfAttributes instance itself
+   */
+  public AllOfModelArrayAnyOfAllOfAttributes putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AllOfModelArrayAnyOfAllOfAttributes allOfModelArrayAnyOfAllOfAttributes = (AllOfModelArrayAnyOfAllOfAttributes) o;
+    return Objects.equals(this.C, allOfModelArrayAnyOfAllOfAttributes.C)&&
+        Objects.equals(this.additionalProperties, allOfModelArrayAnyOfAllOfAttributes.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(C, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AllOfModelArrayAnyOfAllOfAttributes {\n");
+    sb.append("    C: ").append(toIndentedString(C)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("C");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to AllOfModelArrayAnyOfAllOfAttributes
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!AllOfModelArrayAnyOfAllOfAttributes.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in AllOfModelArrayAnyOfAllOfAttributes is not found in the empty JSON string", AllOfModelArrayAnyOfAllOfAttributes.openapiRequiredFields.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      // validate the optional field `C`
+      if (jsonObj.get("C") != null && !jsonObj.get("C").isJsonNull()) {
+        AllOfModelArrayAnyOfAllOfAttributesC.validateJsonElement(jsonObj.get("C"));
+      }
+  }
+
+  private static final TypeToken<AllOfModelArrayAnyOfAllOfAttributesC> TYPE_TOKEN_C = new TypeToken<AllOfModelArrayAnyOfAllOfAttributesC>() {};
+
+  /**
+   * Reads the value of a property of AllOfModelArrayAnyOfAllOfAttributes from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if AllOfModelArrayAnyOfAllOfAttributes has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_C:
+        this.C = gson.getAdapter(TYPE_TOKEN_C).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!AllOfModelArrayAnyOfAllOfAttributes.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'AllOfModelArrayAnyOfAllOfAttributes' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<AllOfModelArrayAnyOfAllOfAttributes> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(AllOfModelArrayAnyOfAllOfAttributes.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<AllOfModelArrayAnyOfAllOfAttributes>() {
+           @Override
+           public void write(JsonWriter out, AllOfModelArrayAnyOfAllOfAttributes value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public AllOfModelArrayAnyOfAllOfAttributes read(JsonReader in) throws IOException {
+             AllOfModelArrayAnyOfAllOfAttributes instance = new AllOfModelArrayAnyOfAllOfAttributes();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of AllOfModelArrayAnyOfAllOfAttributes given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of AllOfModelArrayAnyOfAllOfAttributes
+   * @throws IOException if the JSON string is invalid with respect to AllOfModelArrayAnyOfAllOfAttributes
+   */
+  public static AllOfModelArrayAnyOfAllOfAttributes fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, AllOfModelArrayAnyOfAllOfAttributes.class);
+  }
+
+  /**
+   * Convert an instance of AllOfModelArrayAnyOfAllOfAttributes to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
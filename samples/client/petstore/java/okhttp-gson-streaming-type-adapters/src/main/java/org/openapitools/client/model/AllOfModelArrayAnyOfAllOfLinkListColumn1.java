@@ -0,0 +1,356 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.AllOfModelArrayAnyOfAllOfLinkListColumn1Value;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * AllOfModelArrayAnyOfAllOfLinkListColumn1
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class AllOfModelArrayAnyOfAllOfLinkListColumn1 {
+  public static final String SERIALIZED_NAME_VALUE = "value";
+  @SerializedName(SERIALIZED_NAME_VALUE)
+  @javax.annotation.Nonnull
+  private List<AllOfModelArrayAnyOfAllOfLinkListColumn1Value> value = new ArrayList<>();
+
+  public AllOfModelArrayAnyOfAllOfLinkListColumn1() {
+  }
+
+  public AllOfModelArrayAnyOfAllOfLinkListColumn1 value(@javax.annotation.Nonnull List<AllOfModelArrayAnyOfAllOfLinkListColumn1Value> value) {
+    this.value = value;
+    return this;
+  }
+
+  public AllOfModelArrayAnyOfAllOfLinkListColumn1 addValueItem(AllOfModelArrayAnyOfAllOfLinkListColumn1Value valueItem) {
+    if (this.value == null) {
+      this.value = new ArrayList<>();
+    }
+    this.value.add(valueItem);
+    return this;
+  }
+
+  /**
+   * Get value
+   * @return value
+   */
+  @javax.annotation.Nonnull
+  public List<AllOfModelArrayAnyOfAllOfLinkListColumn1Value> getValue() {
+    return value;
+  }
+
+  public void setValue(@javax.annotation.Nonnull List<AllOfModelArrayAnyOfAllOfLinkListColumn1Value> value) {
+    this.value = value;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the AllOfModelArrayAnyOfAllOfLinkListColumn1 instance itself
+   */
+  public AllOfModelArrayAnyOfAllOfLinkListColumn1 putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AllOfModelArrayAnyOfAllOfLinkListColumn1 allOfModelArrayAnyOfAllOfLinkListColumn1 = (AllOfModelArrayAnyOfAllOfLinkListColumn1) o;
+    return Objects.equals(this.value, allOfModelArrayAnyOfAllOfLinkListColumn1.value)&&
+        Objects.equals(this.additionalProperties, allOfModelArrayAnyOfAllOfLinkListColumn1.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(value, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class AllOfModelArrayAnyOfAllOfLinkListColumn1 {\n");
+    sb.append("    value: ").append(toIndentedString(value)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("value");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("value");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to AllOfModelArrayAnyOfAllOfLinkListColumn1
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!AllOfModelArrayAnyOfAllOfLinkListColumn1.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in AllOfModelArrayAnyOfAllOfLinkListColumn1 is not found in the empty JSON string", AllOfModelArrayAnyOfAllOfLinkListColumn1.openapiRequiredFields.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : AllOfModelArrayAnyOfAllOfLinkListColumn1.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      // ensure the json data is an array
+      if (!jsonObj.get("value").isJsonArray()) {
+        throw new IllegalArgumentException(String.format("Expected the field `value` to be an array in the JSON string but got `%s`", jsonObj.get("value").toString()));
+      }
+
+      JsonArray jsonArrayvalue = jsonObj.getAsJsonArray("value");
+      // validate the required field `value` (array)
+      for (int i = 0; i < jsonArrayvalue.size(); i++) {
+        AllOfModelArrayAnyOfAllOfLinkListColumn1Value.validateJsonElement(jsonArrayvalue.get(i));
+      };
+  }
+
+  private static final TypeToken<List<AllOfModelArrayAnyOfAllOfLinkListColumn1Value>> TYPE_TOKEN_VALUE = new TypeToken<List<AllOfModelArrayAnyOfAllOfLinkListColumn1Value>>() {};
+
+  /**
+   * Reads the value of a property of AllOfModelArrayAnyOfAllOfLinkListColumn1 from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if AllOfModelArrayAnyOfAllOfLinkListColumn1 has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_VALUE:
+        if (in.peek() == JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("The required field `value` is null in the JSON string at %s", in.getPath()));
+        }
+        if (in.peek() != JsonToken.BEGIN_ARRAY && in.peek() != JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("Expected the field `value` to be an array in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.value = gson.getAdapter(TYPE_TOKEN_VALUE).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!AllOfModelArrayAnyOfAllOfLinkListColumn1.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'AllOfModelArrayAnyOfAllOfLinkListColumn1' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<AllOfModelArrayAnyOfAllOfLinkListColumn1> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(AllOfModelArrayAnyOfAllOfLinkListColumn1.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<AllOfModelArrayAnyOfAllOfLinkListColumn1>() {
+           @Override
+           public void write(JsonWriter out, AllOfModelArrayAnyOfAllOfLinkListColumn1 value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public AllOfModelArrayAnyOfAllOfLinkListColumn1 read(JsonReader in) throws IOException {
+             AllOfModelArrayAnyOfAllOfLinkListColumn1 instance = new AllOfModelArrayAnyOfAllOfLinkListColumn1();
+             Set<String> missingRequiredFields = new HashSet<String>(AllOfModelArrayAnyOfAllOfLinkListColumn1.openapiRequiredFields);
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               missingRequiredFields.remove(name);
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             if (!missingRequiredFields.isEmpty()) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string at %s", missingRequiredFields.iterator().next(), in.getPath()));
+             }
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of AllOfModelArrayAnyOfAllOfLinkListColumn1 given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of AllOfModelArrayAnyOfAllOfLinkListColumn1
+   * @throws IOException if the JSON string is invalid with respect to AllOfModelArrayAnyOfAllOfLinkListColumn1
+   */
+  public static AllOfModelArrayAnyOfAllOfLinkListColumn1 fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, AllOfModelArrayAnyOfAllOfLinkListColumn1.class);
+  }
+
+  /**
+   * Convert an instance of AllOfModelArrayAnyOfAllOfLinkListColumn1 to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -0,0 +1,289 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * Animal
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class Animal {
+  public static final String SERIALIZED_NAME_CLASS_NAME = "className";
+  @SerializedName(SERIALIZED_NAME_CLASS_NAME)
+  @javax.annotation.Nonnull
+  protected String className;
+
+  public static final String SERIALIZED_NAME_COLOR = "color";
+  @SerializedName(SERIALIZED_NAME_COLOR)
+  @javax.annotation.Nullable
+  private String color = "red";
+
+  public Animal() {
+    this.className = this.getClass().getSimpleName();
+  }
+
+  public Animal className(@javax.annotation.Nonnull String className) {
+    this.className = className;
+    return this;
+  }
+
+  /**
+   * Get className
+   * @return className
+   */
+  @javax.annotation.Nonnull
+  public String getClassName() {
+    return className;
+  }
+
+  public void setClassName(@javax.annotation.Nonnull String className) {
+    this.className = className;
+  }
+
+
+  public Animal color(@javax.annotation.Nullable String color) {
+    this.color = color;
+    return this;
+  }
+
+  /**
+   * Get color
+   * @return color
+   */
+  @javax.annotation.Nullable
+  public String getColor() {
+    return color;
+  }
+
+  public void setColor(@javax.annotation.Nullable String color) {
+    this.color = color;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the Animal instance itself
+   */
+  public Animal putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    Animal animal = (Animal) o;
+    return Objects.equals(this.className, animal.className) &&
+        Objects.equals(this.color, animal.color)&&
+        Objects.equals(this.additionalProperties, animal.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(className, color, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class Animal {\n");
+    sb.append("    className: ").append(toIndentedString(className)).append("\n");
+    sb.append("    color: ").append(toIndentedString(color)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("className");
+    openapiFields.add("color");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("className");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to Animal
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!Animal.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in Animal is not found in the empty JSON string", Animal.openapiRequiredFields.toString()));
+        }
+      }
+
+      String discriminatorValue = jsonElement.getAsJsonObject().get("className").getAsString();
+      switch (discriminatorValue) {
+        case "Cat":
+          Cat.validateJsonElement(jsonElement);
+          break;
+        case "Dog":
+          Dog.validateJsonElement(jsonElement);
+          break;
+        default:
+          throw new IllegalArgumentException(String.format("The value of the `className` field `%s` does not match any key defined in the discriminator's mapping.", discriminatorValue));
+      }
+  }
+
+  private static final TypeToken<String> TYPE_TOKEN_CLASS_NAME = new TypeToken<String>() {};
+  private static final TypeToken<String> TYPE_TOKEN_COLOR = new TypeToken<String>() {};
+
+  /**
+   * Reads the value of a property of Animal from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if Animal has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_CLASS_NAME:
+        if (in.peek() == JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("The required field `className` is null in the JSON string at %s", in.getPath()));
+        }
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `className` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.className = gson.getAdapter(TYPE_TOKEN_CLASS_NAME).read(in);
+        return true;
+      case SERIALIZED_NAME_COLOR:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `color` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.color = gson.getAdapter(TYPE_TOKEN_COLOR).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+
+  /**
+   * Create an instance of Animal given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of Animal
+   * @throws IOException if the JSON string is invalid with respect to Animal
+   */
+  public static Animal fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, Animal.class);
+  }
+
+  /**
+   * Convert an instance of Animal to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -0,0 +1,364 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.Pig;
+import org.openapitools.client.model.Whale;
+import org.openapitools.client.model.Zebra;
+
+
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParseException;
+
+import org.openapitools.client.JSON;
+
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class Mammal extends AbstractOpenApiSchema {
+    private static final Logger log = Logger.getLogger(Mammal.class.getName());
+
+    public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!Mammal.class.isAssignableFrom(type.getRawType())) {
+                return null; // this class only serializes 'Mammal' and its subtypes
+            }
+            final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+            final TypeAdapter<Whale> adapterWhale = gson.getDelegateAdapter(this, TypeToken.get(Whale.class));
+            final TypeAdapter<Zebra> adapterZebra = gson.getDelegateAdapter(this, TypeToken.get(Zebra.class));
+            final TypeAdapter<Pig> adapterPig = gson.getDelegateAdapter(this, TypeToken.get(Pig.class));
+
+            return (TypeAdapter<T>) new TypeAdapter<Mammal>() {
+                @Override
+                public void write(JsonWriter out, Mammal value) throws IOException {
+                    if (value == null || value.getActualInstance() == null) {
+                        elementAdapter.write(out, null);
+                        return;
+                    }
+
+                    // check if the actual instance is of the type `Whale`
+                    if (value.getActualInstance() instanceof Whale) {
+                        JsonElement element = adapterWhale.toJsonTree((Whale)value.getActualInstance());
+                        elementAdapter.write(out, element);
+                        return;
+                    }
+                    // check if the actual instance is of the type `Zebra`
+                    if (value.getActualInstance() instanceof Zebra) {
+                        JsonElement element = adapterZebra.toJsonTree((Zebra)value.getActualInstance());
+                        elementAdapter.write(out, element);
+                        return;
+                    }
+                    // check if the actual instance is of the type `Pig`
+                    if (value.getActualInstance() instanceof Pig) {
+                        JsonElement element = adapterPig.toJsonTree((Pig)value.getActualInstance());
+                        elementAdapter.write(out, element);
+                        return;
+                    }
+                    throw new IOException("Failed to serialize as the type doesn't match oneOf schemas: Pig, Whale, Zebra");
+                }
+
+                @Override
+                public Mammal read(JsonReader in) throws IOException {
+                    Object deserialized = null;
+                    JsonElement jsonElement = elementAdapter.read(in);
+
+                    JsonObject jsonObject = jsonElement.getAsJsonObject();
+
+                    // use discriminator value for faster oneOf lookup
+                    Mammal newMammal = new Mammal();
+                    if (jsonObject.get("className") == null) {
+                        log.log(Level.WARNING, "Failed to lookup discriminator value for Mammal as `className` was not found in the payload or the payload is empty.");
+                    } else  {
+                        // look up the discriminator value in the field `className`
+                        switch (jsonObject.get("className").getAsString()) {
+                            case "Pig":
+                                deserialized = adapterPig.fromJsonTree(jsonObject);
+                                newMammal.setActualInstance(deserialized);
+                                return newMammal;
+                            case "whale":
+                                deserialized = adapterWhale.fromJsonTree(jsonObject);
+                                newMammal.setActualInstance(deserialized);
+                                return newMammal;
+                            case "zebra":
+                                deserialized = adapterZebra.fromJsonTree(jsonObject);
+                                newMammal.setActualInstance(deserialized);
+                                return newMammal;
+                            default:
+                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Mammal. Possible values: Pig whale zebra", jsonObject.get("className").getAsString()));
+                        }
+                    }
+
+                    int match = 0;
+                    ArrayList<String> errorMessages = new ArrayList<>();
+                    TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
+
+                    // deserialize Whale
+                    try {
+                        // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Whale", discriminatorSchema, "className");
+                        Whale.validateJsonElement(jsonElement);
+                        actualAdapter = adapterWhale;
+                        match++;
+                        log.log(Level.FINER, "Input data matches schema 'Whale'");
+                    } catch (Exception e) {
+                        // deserialization failed, continue
+                        errorMessages.add(String.format("Deserialization for Whale failed with `%s`.", e.getMessage()));
+                        log.log(Level.FINER, "Input data does not match schema 'Whale'", e);
+                    }
+                    // deserialize Zebra
+                    try {
+                        // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Zebra", discriminatorSchema, "className");
+                        Zebra.validateJsonElement(jsonElement);
+                        actualAdapter = adapterZebra;
+                        match++;
+                        log.log(Level.FINER, "Input data matches schema 'Zebra'");
+                    } catch (Exception e) {
+                        // deserialization failed, continue
+                        errorMessages.add(String.format("Deserialization for Zebra failed with `%s`.", e.getMessage()));
+                        log.log(Level.FINER, "Input data does not match schema 'Zebra'", e);
+                    }
+                    // deserialize Pig
+                    try {
+                        // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Pig", discriminatorSchema);
+                        Pig.validateJsonElement(jsonElement);
+                        actualAdapter = adapterPig;
+                        match++;
+                        log.log(Level.FINER, "Input data matches schema 'Pig'");
+                    } catch (Exception e) {
+                        // deserialization failed, continue
+                        errorMessages.add(String.format("Deserialization for Pig failed with `%s`.", e.getMessage()));
+                        log.log(Level.FINER, "Input data does not match schema 'Pig'", e);
+                    }
+
+                    if (match == 1) {
+                        Mammal ret = new Mammal();
+                        ret.setActualInstance(actualAdapter.fromJsonTree(jsonElement));
+                        return ret;
+                    }
+
+                    throw new IOException(String.format("Failed deserialization for Mammal: %d classes match result, expected 1. Detailed failure message for oneOf schemas: %s. JSON: %s", match, errorMessages, jsonElement.toString()));
+                }
+            }.nullSafe();
+        }
+    }
+
+    // store a list of schema names defined in oneOf
+    public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
+
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
+    public Mammal() {
+        super("oneOf", Boolean.FALSE);
+    }
+
+    public Mammal(Object o) {
+        super("oneOf", Boolean.FALSE);
+        setActualInstance(o);
+    }
+
+    static {
+        schemas.put("Whale", Whale.class);
+        schemas.put("Zebra", Zebra.class);
+        schemas.put("Pig", Pig.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("Pig", "Pig");
+        discriminatorTable.put("whale", "Whale");
+        discriminatorTable.put("zebra", "Zebra");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
+    }
+
+    @Override
+    public Map<String, Class<?>> getSchemas() {
+        return Mammal.schemas;
+    }
+
+    /**
+     * Set the instance that matches the oneOf child schema, check
+     * the instance parameter is valid against the oneOf child schemas:
+     * Pig, Whale, Zebra
+     *
+     * It could be an instance of the 'oneOf' schemas.
+     */
+    @Override
+    public void setActualInstance(Object instance) {
+        if (instance instanceof Whale) {
+            super.setActualInstance(instance);
+            return;
+        }
+
+        if (instance instanceof Zebra) {
+            super.setActualInstance(instance);
+            return;
+        }
+
+        if (instance instanceof Pig) {
+            super.setActualInstance(instance);
+            return;
+        }
+
+        throw new RuntimeException("Invalid instance type. Must be Pig, Whale, Zebra");
+    }
+
+    /**
+     * Get the actual instance, which can be the following:
+     * Pig, Whale, Zebra
+     *
+     * @return The actual instance (Pig, Whale, Zebra)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object getActualInstance() {
+        return super.getActualInstance();
+    }
+
+    /**
+     * Get the actual instance of `Whale`. If the actual instance is not `Whale`,
+     * the ClassCastException will be thrown.
+     *
+     * @return The actual instance of `Whale`
+     * @throws ClassCastException if the instance is not `Whale`
+     */
+    public Whale getWhale() throws ClassCastException {
+        return (Whale)super.getActualInstance();
+    }
+
+    /**
+     * Get the actual instance of `Zebra`. If the actual instance is not `Zebra`,
+     * the ClassCastException will be thrown.
+     *
+     * @return The actual instance of `Zebra`
+     * @throws ClassCastException if the instance is not `Zebra`
+     */
+    public Zebra getZebra() throws ClassCastException {
+        return (Zebra)super.getActualInstance();
+    }
+
+    /**
+     * Get the actual instance of `Pig`. If the actual instance is not `Pig`,
+     * the ClassCastException will be thrown.
+     *
+     * @return The actual instance of `Pig`
+     * @throws ClassCastException if the instance is not `Pig`
+     */
+    public Pig getPig() throws ClassCastException {
+        return (Pig)super.getActualInstance();
+    }
+
+    /**
+     * Validates the JSON Element and throws an exception if issues found
+     *
+     * @param jsonElement JSON Element
+     * @throws IOException if the JSON Element is invalid with respect to Mammal
+     */
+    public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+        // validate oneOf schemas one by one
+        int validCount = 0;
+        ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
+        // validate the json string with Whale
+        try {
+            checkCandidate(jsonElement, "Whale", discriminatorSchema, "className");
+            Whale.validateJsonElement(jsonElement);
+            validCount++;
+        } catch (Exception e) {
+            errorMessages.add(String.format("Deserialization for Whale failed with `%s`.", e.getMessage()));
+            // continue to the next one
+        }
+        // validate the json string with Zebra
+        try {
+            checkCandidate(jsonElement, "Zebra", discriminatorSchema, "className");
+            Zebra.validateJsonElement(jsonElement);
+            validCount++;
+        } catch (Exception e) {
+            errorMessages.add(String.format("Deserialization for Zebra failed with `%s`.", e.getMessage()));
+            // continue to the next one
+        }
+        // validate the json string with Pig
+        try {
+            checkCandidate(jsonElement, "Pig", discriminatorSchema);
+            Pig.validateJsonElement(jsonElement);
+            validCount++;
+        } catch (Exception e) {
+            errorMessages.add(String.format("Deserialization for Pig failed with `%s`.", e.getMessage()));
+            // continue to the next one
+        }
+        if (validCount != 1) {
+            throw new IOException(String.format("The JSON string is invalid for Mammal with oneOf schemas: Pig, Whale, Zebra. %d class(es) match the result, expected 1. Detailed failure message for oneOf schemas: %s. JSON: %s", validCount, errorMessages, jsonElement.toString()));
+        }
+    }
+
+    /**
+     * Create an instance of Mammal given an JSON string
+     *
+     * @param jsonString JSON string
+     * @return An instance of Mammal
+     * @throws IOException if the JSON string is invalid with respect to Mammal
+     */
+    public static Mammal fromJson(String jsonString) throws IOException {
+        return JSON.getGson().fromJson(jsonString, Mammal.class);
+    }
+
+    /**
+     * Convert an instance of Mammal to an JSON string
+     *
+     * @return JSON string
+     */
+    public String toJson() {
+        return JSON.getGson().toJson(this);
+    }
+}
+
@@ -0,0 +1,357 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.ArrayAnyOf;
+import org.openapitools.client.model.ArrayOneOf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * ModelWithOneOfAnyOfProperties
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class ModelWithOneOfAnyOfProperties {
+  public static final String SERIALIZED_NAME_ONEOF_PROP = "oneof_prop";
+  @SerializedName(SERIALIZED_NAME_ONEOF_PROP)
+  @javax.annotation.Nullable
+  private ArrayOneOf oneofProp;
+
+  public static final String SERIALIZED_NAME_ANYOF_PROP = "anyof_prop";
+  @SerializedName(SERIALIZED_NAME_ANYOF_PROP)
+  @javax.annotation.Nullable
+  private ArrayAnyOf anyofProp;
+
+  public ModelWithOneOfAnyOfProperties() {
+  }
+
+  public ModelWithOneOfAnyOfProperties oneofProp(@javax.annotation.Nullable ArrayOneOf oneofProp) {
+    this.oneofProp = oneofProp;
+    return this;
+  }
+
+  /**
+   * Get oneofProp
+   * @return oneofProp
+   */
+  @javax.annotation.Nullable
+  public ArrayOneOf getOneofProp() {
+    return oneofProp;
+  }
+
+  public void setOneofProp(@javax.annotation.Nullable ArrayOneOf oneofProp) {
+    this.oneofProp = oneofProp;
+  }
+
+
+  public ModelWithOneOfAnyOfProperties anyofProp(@javax.annotation.Nullable ArrayAnyOf anyofProp) {
+    this.anyofProp = anyofProp;
+    return this;
+  }
+
+  /**
+   * Get anyofProp
+   * @return anyofProp
+   */
+  @javax.annotation.Nullable
+  public ArrayAnyOf getAnyofProp() {
+    return anyofProp;
+  }
+
+  public void setAnyofProp(@javax.annotation.Nullable ArrayAnyOf anyofProp) {
+    this.anyofProp = anyofProp;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the ModelWithOneOfAnyOfProperties instance itself
+   */
+  public ModelWithOneOfAnyOfProperties putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    ModelWithOneOfAnyOfProperties modelWithOneOfAnyOfProperties = (ModelWithOneOfAnyOfProperties) o;
+    return Objects.equals(this.oneofProp, modelWithOneOfAnyOfProperties.oneofProp) &&
+        Objects.equals(this.anyofProp, modelWithOneOfAnyOfProperties.anyofProp)&&
+        Objects.equals(this.additionalProperties, modelWithOneOfAnyOfProperties.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(oneofProp, anyofProp, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class ModelWithOneOfAnyOfProperties {\n");
+    sb.append("    oneofProp: ").append(toIndentedString(oneofProp)).append("\n");
+    sb.append("    anyofProp: ").append(toIndentedString(anyofProp)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("oneof_prop");
+    openapiFields.add("anyof_prop");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to ModelWithOneOfAnyOfProperties
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!ModelWithOneOfAnyOfProperties.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in ModelWithOneOfAnyOfProperties is not found in the empty JSON string", ModelWithOneOfAnyOfProperties.openapiRequiredFields.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      // validate the optional field `oneof_prop`
+      if (jsonObj.get("oneof_prop") != null && !jsonObj.get("oneof_prop").isJsonNull()) {
+        ArrayOneOf.validateJsonElement(jsonObj.get("oneof_prop"));
+      }
+      // validate the optional field `anyof_prop`
+      if (jsonObj.get("anyof_prop") != null && !jsonObj.get("anyof_prop").isJsonNull()) {
+        ArrayAnyOf.validateJsonElement(jsonObj.get("anyof_prop"));
+      }
+  }
+
+  private static final TypeToken<ArrayOneOf> TYPE_TOKEN_ONEOF_PROP = new TypeToken<ArrayOneOf>() {};
+  private static final TypeToken<ArrayAnyOf> TYPE_TOKEN_ANYOF_PROP = new TypeToken<ArrayAnyOf>() {};
+
+  /**
+   * Reads the value of a property of ModelWithOneOfAnyOfProperties from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if ModelWithOneOfAnyOfProperties has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_ONEOF_PROP:
+        this.oneofProp = gson.getAdapter(TYPE_TOKEN_ONEOF_PROP).read(in);
+        return true;
+      case SERIALIZED_NAME_ANYOF_PROP:
+        this.anyofProp = gson.getAdapter(TYPE_TOKEN_ANYOF_PROP).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!ModelWithOneOfAnyOfProperties.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'ModelWithOneOfAnyOfProperties' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<ModelWithOneOfAnyOfProperties> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(ModelWithOneOfAnyOfProperties.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<ModelWithOneOfAnyOfProperties>() {
+           @Override
+           public void write(JsonWriter out, ModelWithOneOfAnyOfProperties value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public ModelWithOneOfAnyOfProperties read(JsonReader in) throws IOException {
+             ModelWithOneOfAnyOfProperties instance = new ModelWithOneOfAnyOfProperties();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of ModelWithOneOfAnyOfProperties given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of ModelWithOneOfAnyOfProperties
+   * @throws IOException if the JSON string is invalid with respect to ModelWithOneOfAnyOfProperties
+   */
+  public static ModelWithOneOfAnyOfProperties fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, ModelWithOneOfAnyOfProperties.class);
+  }
+
+  /**
+   * Convert an instance of ModelWithOneOfAnyOfProperties to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -0,0 +1,716 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.openapitools.client.model.Category;
+import org.openapitools.client.model.NewPetCategoryInlineAllof;
+import org.openapitools.client.model.Tag;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * NewPet
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class NewPet {
+  public static final String SERIALIZED_NAME_ID = "id";
+  @SerializedName(SERIALIZED_NAME_ID)
+  @javax.annotation.Nullable
+  private Long id;
+
+  public static final String SERIALIZED_NAME_CATEGORY_INLINE_ALLOF = "category_inline_allof";
+  @SerializedName(SERIALIZED_NAME_CATEGORY_INLINE_ALLOF)
+  @javax.annotation.Nullable
+  private NewPetCategoryInlineAllof categoryInlineAllof;
+
+  public static final String SERIALIZED_NAME_CATEGORY_ALL_OF_REF = "category_allOf_ref";
+  @SerializedName(SERIALIZED_NAME_CATEGORY_ALL_OF_REF)
+  @javax.annotation.Nullable
+  private Category categoryAllOfRef;
+
+  public static final String SERIALIZED_NAME_CATEGORY_ALL_OF_REF_DESCRIPTION = "category_allOf_ref_description";
+  @SerializedName(SERIALIZED_NAME_CATEGORY_ALL_OF_REF_DESCRIPTION)
+  @javax.annotation.Nullable
+  private Category categoryAllOfRefDescription;
+
+  public static final String SERIALIZED_NAME_CATEGORY_ALL_OF_REF_DESCRIPTION_READONLY = "category_allOf_ref_description_readonly";
+  @SerializedName(SERIALIZED_NAME_CATEGORY_ALL_OF_REF_DESCRIPTION_READONLY)
+  @javax.annotation.Nullable
+  private Category categoryAllOfRefDescriptionReadonly;
+
+  public static final String SERIALIZED_NAME_NAME = "name";
+  @SerializedName(SERIALIZED_NAME_NAME)
+  @javax.annotation.Nonnull
+  private String name;
+
+  public static final String SERIALIZED_NAME_PHOTO_URLS = "photoUrls";
+  @SerializedName(SERIALIZED_NAME_PHOTO_URLS)
+  @javax.annotation.Nonnull
+  private List<String> photoUrls = new ArrayList<>();
+
+  public static final String SERIALIZED_NAME_TAGS = "tags";
+  @SerializedName(SERIALIZED_NAME_TAGS)
+  @javax.annotation.Nullable
+  private List<Tag> tags = new ArrayList<>();
+
+  /**
+   * pet status in the store
+   */
+  @JsonAdapter(StatusEnum.Adapter.class)
+  public enum StatusEnum {
+    AVAILABLE("available"),
+    
+    PENDING("pending"),
+    
+    SOLD("sold");
+
+    private String value;
+
+    StatusEnum(String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.valueOf(value);
+    }
+
+    public static StatusEnum fromValue(String value) {
+      for (StatusEnum b : StatusEnum.values()) {
+        if (b.value.equals(value)) {
+          return b;
+        }
+      }
+      throw new IllegalArgumentException("Unexpected value '" + value + "'");
+    }
+
+    public static class Adapter extends TypeAdapter<StatusEnum> {
+      @Override
+      public void write(final JsonWriter jsonWriter, final StatusEnum enumeration) throws IOException {
+        jsonWriter.value(enumeration.getValue());
+      }
+
+      @Override
+      public StatusEnum read(final JsonReader jsonReader) throws IOException {
+        String value =  jsonReader.nextString();
+        return StatusEnum.fromValue(value);
+      }
+    }
+
+    public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      String value = jsonElement.getAsString();
+      StatusEnum.fromValue(value);
+    }
+  }
+
+  public static final String SERIALIZED_NAME_STATUS = "status";
+  @SerializedName(SERIALIZED_NAME_STATUS)
+  @javax.annotation.Nullable
+  private StatusEnum status;
+
+  public NewPet() {
+  }
+
+  public NewPet(
+     Category categoryAllOfRefDescriptionReadonly
+  ) {
+    this();
+    this.categoryAllOfRefDescriptionReadonly = categoryAllOfRefDescriptionReadonly;
+  }
+
+  public NewPet id(@javax.annotation.Nullable Long id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Get id
+   * @return id
+   */
+  @javax.annotation.Nullable
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(@javax.annotation.Nullable Long id) {
+    this.id = id;
+  }
+
+
+  public NewPet categoryInlineAllof(@javax.annotation.Nullable NewPetCategoryInlineAllof categoryInlineAllof) {
+    this.categoryInlineAllof = categoryInlineAllof;
+    return this;
+  }
+
+  /**
+   * Get categoryInlineAllof
+   * @return categoryInlineAllof
+   */
+  @javax.annotation.Nullable
+  public NewPetCategoryInlineAllof getCategoryInlineAllof() {
+    return categoryInlineAllof;
+  }
+
+  public void setCategoryInlineAllof(@javax.annotation.Nullable NewPetCategoryInlineAllof categoryInlineAllof) {
+    this.categoryInlineAllof = categoryInlineAllof;
+  }
+
+
+  public NewPet categoryAllOfRef(@javax.annotation.Nullable Category categoryAllOfRef) {
+    this.categoryAllOfRef = categoryAllOfRef;
+    return this;
+  }
+
+  /**
+   * Get categoryAllOfRef
+   * @return categoryAllOfRef
+   */
+  @javax.annotation.Nullable
+  public Category getCategoryAllOfRef() {
+    return categoryAllOfRef;
+  }
+
+  public void setCategoryAllOfRef(@javax.annotation.Nullable Category categoryAllOfRef) {
+    this.categoryAllOfRef = categoryAllOfRef;
+  }
+
+
+  public NewPet categoryAllOfRefDescription(@javax.annotation.Nullable Category categoryAllOfRefDescription) {
+    this.categoryAllOfRefDescription = categoryAllOfRefDescription;
+    return this;
+  }
+
+  /**
+   * Adding description to property using allOf 
+   * @return categoryAllOfRefDescription
+   */
+  @javax.annotation.Nullable
+  public Category getCategoryAllOfRefDescription() {
+    return categoryAllOfRefDescription;
+  }
+
+  public void setCategoryAllOfRefDescription(@javax.annotation.Nullable Category categoryAllOfRefDescription) {
+    this.categoryAllOfRefDescription = categoryAllOfRefDescription;
+  }
+
+
+  /**
+   * Adding description to readonly property using allOf 
+   * @return categoryAllOfRefDescriptionReadonly
+   */
+  @javax.annotation.Nullable
+  public Category getCategoryAllOfRefDescriptionReadonly() {
+    return categoryAllOfRefDescriptionReadonly;
+  }
+
+
+
+  public NewPet name(@javax.annotation.Nonnull String name) {
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * Get name
+   * @return name
+   */
+  @javax.annotation.Nonnull
+  public String getName() {
+    return name;
+  }
+
+  public void setName(@javax.annotation.Nonnull String name) {
+    this.name = name;
+  }
+
+
+  public NewPet photoUrls(@javax.annotation.Nonnull List<String> photoUrls) {
+    this.photoUrls = photoUrls;
+    return this;
+  }
+
+  public NewPet addPhotoUrlsItem(String photoUrlsItem) {
+    if (this.photoUrls == null) {
+      this.photoUrls = new ArrayList<>();
+    }
+    this.photoUrls.add(photoUrlsItem);
+    return this;
+  }
+
+  /**
+   * Get photoUrls
+   * @return photoUrls
+   */
+  @javax.annotation.Nonnull
+  public List<String> getPhotoUrls() {
+    return photoUrls;
+  }
+
+  public void setPhotoUrls(@javax.annotation.Nonnull List<String> photoUrls) {
+    this.photoUrls = photoUrls;
+  }
+
+
+  public NewPet tags(@javax.annotation.Nullable List<Tag> tags) {
+    this.tags = tags;
+    return this;
+  }
+
+  public NewPet addTagsItem(Tag tagsItem) {
+    if (this.tags == null) {
+      this.tags = new ArrayList<>();
+    }
+    this.tags.add(tagsItem);
+    return this;
+  }
+
+  /**
+   * Get tags
+   * @return tags
+   */
+  @javax.annotation.Nullable
+  public List<Tag> getTags() {
+    return tags;
+  }
+
+  public void setTags(@javax.annotation.Nullable List<Tag> tags) {
+    this.tags = tags;
+  }
+
+
+  public NewPet status(@javax.annotation.Nullable StatusEnum status) {
+    this.status = status;
+    return this;
+  }
+
+  /**
+   * pet status in the store
+   * @return status
+   */
+  @javax.annotation.Nullable
+  public StatusEnum getStatus() {
+    return status;
+  }
+
+  public void setStatus(@javax.annotation.Nullable StatusEnum status) {
+    this.status = status;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the NewPet instance itself
+   */
+  public NewPet putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    NewPet newPet = (NewPet) o;
+    return Objects.equals(this.id, newPet.id) &&
+        Objects.equals(this.categoryInlineAllof, newPet.categoryInlineAllof) &&
+        Objects.equals(this.categoryAllOfRef, newPet.categoryAllOfRef) &&
+        Objects.equals(this.categoryAllOfRefDescription, newPet.categoryAllOfRefDescription) &&
+        Objects.equals(this.categoryAllOfRefDescriptionReadonly, newPet.categoryAllOfRefDescriptionReadonly) &&
+        Objects.equals(this.name, newPet.name) &&
+        Objects.equals(this.photoUrls, newPet.photoUrls) &&
+        Objects.equals(this.tags, newPet.tags) &&
+        Objects.equals(this.status, newPet.status)&&
+        Objects.equals(this.additionalProperties, newPet.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, categoryInlineAllof, categoryAllOfRef, categoryAllOfRefDescription, categoryAllOfRefDescriptionReadonly, name, photoUrls, tags, status, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class NewPet {\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    categoryInlineAllof: ").append(toIndentedString(categoryInlineAllof)).append("\n");
+    sb.append("    categoryAllOfRef: ").append(toIndentedString(categoryAllOfRef)).append("\n");
+    sb.append("    categoryAllOfRefDescription: ").append(toIndentedString(categoryAllOfRefDescription)).append("\n");
+    sb.append("    categoryAllOfRefDescriptionReadonly: ").append(toIndentedString(categoryAllOfRefDescriptionReadonly)).append("\n");
+    sb.append("    name: ").append(toIndentedString(name)).append("\n");
+    sb.append("    photoUrls: ").append(toIndentedString(photoUrls)).append("\n");
+    sb.append("    tags: ").append(toIndentedString(tags)).append("\n");
+    sb.append("    status: ").append(toIndentedString(status)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("id");
+    openapiFields.add("category_inline_allof");
+    openapiFields.add("category_allOf_ref");
+    openapiFields.add("category_allOf_ref_description");
+    openapiFields.add("category_allOf_ref_description_readonly");
+    openapiFields.add("name");
+    openapiFields.add("photoUrls");
+    openapiFields.add("tags");
+    openapiFields.add("status");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+    openapiRequiredFields.add("name");
+    openapiRequiredFields.add("photoUrls");
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to NewPet
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!NewPet.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in NewPet is not found in the empty JSON string", NewPet.openapiRequiredFields.toString()));
+        }
+      }
+
+      // check to make sure all required properties/fields are present in the JSON string
+      for (String requiredField : NewPet.openapiRequiredFields) {
+        if (jsonElement.getAsJsonObject().get(requiredField) == null) {
+          throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string: %s", requiredField, jsonElement.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      // validate the optional field `category_inline_allof`
+      if (jsonObj.get("category_inline_allof") != null && !jsonObj.get("category_inline_allof").isJsonNull()) {
+        NewPetCategoryInlineAllof.validateJsonElement(jsonObj.get("category_inline_allof"));
+      }
+      // validate the optional field `category_allOf_ref`
+      if (jsonObj.get("category_allOf_ref") != null && !jsonObj.get("category_allOf_ref").isJsonNull()) {
+        Category.validateJsonElement(jsonObj.get("category_allOf_ref"));
+      }
+      // validate the optional field `category_allOf_ref_description`
+      if (jsonObj.get("category_allOf_ref_description") != null && !jsonObj.get("category_allOf_ref_description").isJsonNull()) {
+        Category.validateJsonElement(jsonObj.get("category_allOf_ref_description"));
+      }
+      // validate the optional field `category_allOf_ref_description_readonly`
+      if (jsonObj.get("category_allOf_ref_description_readonly") != null && !jsonObj.get("category_allOf_ref_description_readonly").isJsonNull()) {
+        Category.validateJsonElement(jsonObj.get("category_allOf_ref_description_readonly"));
+      }
+      if (!jsonObj.get("name").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `name` to be a primitive type in the JSON string but got `%s`", jsonObj.get("name").toString()));
+      }
+      // ensure the required json array is present
+      if (jsonObj.get("photoUrls") == null) {
+        throw new IllegalArgumentException("Expected the field `linkedContent` to be an array in the JSON string but got `null`");
+      } else if (!jsonObj.get("photoUrls").isJsonArray()) {
+        throw new IllegalArgumentException(String.format("Expected the field `photoUrls` to be an array in the JSON string but got `%s`", jsonObj.get("photoUrls").toString()));
+      }
+      if (jsonObj.get("tags") != null && !jsonObj.get("tags").isJsonNull()) {
+        JsonArray jsonArraytags = jsonObj.getAsJsonArray("tags");
+        if (jsonArraytags != null) {
+          // ensure the json data is an array
+          if (!jsonObj.get("tags").isJsonArray()) {
+            throw new IllegalArgumentException(String.format("Expected the field `tags` to be an array in the JSON string but got `%s`", jsonObj.get("tags").toString()));
+          }
+
+          // validate the optional field `tags` (array)
+          for (int i = 0; i < jsonArraytags.size(); i++) {
+            Tag.validateJsonElement(jsonArraytags.get(i));
+          };
+        }
+      }
+      if ((jsonObj.get("status") != null && !jsonObj.get("status").isJsonNull()) && !jsonObj.get("status").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `status` to be a primitive type in the JSON string but got `%s`", jsonObj.get("status").toString()));
+      }
+      // validate the optional field `status`
+      if (jsonObj.get("status") != null && !jsonObj.get("status").isJsonNull()) {
+        StatusEnum.validateJsonElement(jsonObj.get("status"));
+      }
+  }
+
+  private static final TypeToken<Long> TYPE_TOKEN_ID = new TypeToken<Long>() {};
+  private static final TypeToken<NewPetCategoryInlineAllof> TYPE_TOKEN_CATEGORY_INLINE_ALLOF = new TypeToken<NewPetCategoryInlineAllof>() {};
+  private static final TypeToken<Category> TYPE_TOKEN_CATEGORY_ALL_OF_REF = new TypeToken<Category>() {};
+  private static final TypeToken<Category> TYPE_TOKEN_CATEGORY_ALL_OF_REF_DESCRIPTION = new TypeToken<Category>() {};
+  private static final TypeToken<Category> TYPE_TOKEN_CATEGORY_ALL_OF_REF_DESCRIPTION_READONLY = new TypeToken<Category>() {};
+  private static final TypeToken<String> TYPE_TOKEN_NAME = new TypeToken<String>() {};
+  private static final TypeToken<List<String>> TYPE_TOKEN_PHOTO_URLS = new TypeToken<List<String>>() {};
+  private static final TypeToken<List<Tag>> TYPE_TOKEN_TAGS = new TypeToken<List<Tag>>() {};
+  private static final TypeToken<StatusEnum> TYPE_TOKEN_STATUS = new TypeToken<StatusEnum>() {};
+
+  /**
+   * Reads the value of a property of NewPet from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if NewPet has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_ID:
+        this.id = gson.getAdapter(TYPE_TOKEN_ID).read(in);
+        return true;
+      case SERIALIZED_NAME_CATEGORY_INLINE_ALLOF:
+        this.categoryInlineAllof = gson.getAdapter(TYPE_TOKEN_CATEGORY_INLINE_ALLOF).read(in);
+        return true;
+      case SERIALIZED_NAME_CATEGORY_ALL_OF_REF:
+        this.categoryAllOfRef = gson.getAdapter(TYPE_TOKEN_CATEGORY_ALL_OF_REF).read(in);
+        return true;
+      case SERIALIZED_NAME_CATEGORY_ALL_OF_REF_DESCRIPTION:
+        this.categoryAllOfRefDescription = gson.getAdapter(TYPE_TOKEN_CATEGORY_ALL_OF_REF_DESCRIPTION).read(in);
+        return true;
+      case SERIALIZED_NAME_CATEGORY_ALL_OF_REF_DESCRIPTION_READONLY:
+        this.categoryAllOfRefDescriptionReadonly = gson.getAdapter(TYPE_TOKEN_CATEGORY_ALL_OF_REF_DESCRIPTION_READONLY).read(in);
+        return true;
+      case SERIALIZED_NAME_NAME:
+        if (in.peek() == JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("The required field `name` is null in the JSON string at %s", in.getPath()));
+        }
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `name` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.name = gson.getAdapter(TYPE_TOKEN_NAME).read(in);
+        return true;
+      case SERIALIZED_NAME_PHOTO_URLS:
+        if (in.peek() == JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("The required field `photoUrls` is null in the JSON string at %s", in.getPath()));
+        }
+        if (in.peek() != JsonToken.BEGIN_ARRAY && in.peek() != JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("Expected the field `photoUrls` to be an array in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.photoUrls = gson.getAdapter(TYPE_TOKEN_PHOTO_URLS).read(in);
+        return true;
+      case SERIALIZED_NAME_TAGS:
+        if (in.peek() != JsonToken.BEGIN_ARRAY && in.peek() != JsonToken.NULL) {
+          throw new IllegalArgumentException(String.format("Expected the field `tags` to be an array in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.tags = gson.getAdapter(TYPE_TOKEN_TAGS).read(in);
+        return true;
+      case SERIALIZED_NAME_STATUS:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `status` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.status = gson.getAdapter(TYPE_TOKEN_STATUS).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!NewPet.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'NewPet' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<NewPet> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(NewPet.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<NewPet>() {
+           @Override
+           public void write(JsonWriter out, NewPet value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public NewPet read(JsonReader in) throws IOException {
+             NewPet instance = new NewPet();
+             Set<String> missingRequiredFields = new HashSet<String>(NewPet.openapiRequiredFields);
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               missingRequiredFields.remove(name);
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             if (!missingRequiredFields.isEmpty()) {
+               throw new IllegalArgumentException(String.format("The required field `%s` is not found in the JSON string at %s", missingRequiredFields.iterator().next(), in.getPath()));
+             }
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of NewPet given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of NewPet
+   * @throws IOException if the JSON string is invalid with respect to NewPet
+   */
+  public static NewPet fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, NewPet.class);
+  }
+
+  /**
+   * Convert an instance of NewPet to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
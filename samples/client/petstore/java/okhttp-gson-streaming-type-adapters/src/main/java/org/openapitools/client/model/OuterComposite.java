@@ -0,0 +1,385 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * OuterComposite
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class OuterComposite {
+  public static final String SERIALIZED_NAME_MY_NUMBER = "my_number";
+  @SerializedName(SERIALIZED_NAME_MY_NUMBER)
+  @javax.annotation.Nullable
+  private BigDecimal myNumber;
+
+  public static final String SERIALIZED_NAME_MY_STRING = "my_string";
+  @SerializedName(SERIALIZED_NAME_MY_STRING)
+  @javax.annotation.Nullable
+  private String myString;
+
+  public static final String SERIALIZED_NAME_MY_BOOLEAN = "my_boolean";
+  @SerializedName(SERIALIZED_NAME_MY_BOOLEAN)
+  @javax.annotation.Nullable
+  private Boolean myBoolean;
+
+  public OuterComposite() {
+  }
+
+  public OuterComposite myNumber(@javax.annotation.Nullable BigDecimal myNumber) {
+    this.myNumber = myNumber;
+    return this;
+  }
+
+  /**
+   * Get myNumber
+   * @return myNumber
+   */
+  @javax.annotation.Nullable
+  public BigDecimal getMyNumber() {
+    return myNumber;
+  }
+
+  public void setMyNumber(@javax.annotation.Nullable BigDecimal myNumber) {
+    this.myNumber = myNumber;
+  }
+
+
+  public OuterComposite myString(@javax.annotation.Nullable String myString) {
+    this.myString = myString;
+    return this;
+  }
+
+  /**
+   * Get myString
+   * @return myString
+   */
+  @javax.annotation.Nullable
+  public String getMyString() {
+    return myString;
+  }
+
+  public void setMyString(@javax.annotation.Nullable String myString) {
+    this.myString = myString;
+  }
+
+
+  public OuterComposite myBoolean(@javax.annotation.Nullable Boolean myBoolean) {
+    this.myBoolean = myBoolean;
+    return this;
+  }
+
+  /**
+   * Get myBoolean
+   * @return myBoolean
+   */
+  @javax.annotation.Nullable
+  public Boolean getMyBoolean() {
+    return myBoolean;
+  }
+
+  public void setMyBoolean(@javax.annotation.Nullable Boolean myBoolean) {
+    this.myBoolean = myBoolean;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the OuterComposite instance itself
+   */
+  public OuterComposite putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    OuterComposite outerComposite = (OuterComposite) o;
+    return Objects.equals(this.myNumber, outerComposite.myNumber) &&
+        Objects.equals(this.myString, outerComposite.myString) &&
+        Objects.equals(this.myBoolean, outerComposite.myBoolean)&&
+        Objects.equals(this.additionalProperties, outerComposite.additionalProperties);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(myNumber, myString, myBoolean, additionalProperties);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class OuterComposite {\n");
+    sb.append("    myNumber: ").append(toIndentedString(myNumber)).append("\n");
+    sb.append("    myString: ").append(toIndentedString(myString)).append("\n");
+    sb.append("    myBoolean: ").append(toIndentedString(myBoolean)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("my_number");
+    openapiFields.add("my_string");
+    openapiFields.add("my_boolean");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to OuterComposite
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!OuterComposite.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in OuterComposite is not found in the empty JSON string", OuterComposite.openapiRequiredFields.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      if ((jsonObj.get("my_string") != null && !jsonObj.get("my_string").isJsonNull()) && !jsonObj.get("my_string").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `my_string` to be a primitive type in the JSON string but got `%s`", jsonObj.get("my_string").toString()));
+      }
+  }
+
+  private static final TypeToken<BigDecimal> TYPE_TOKEN_MY_NUMBER = new TypeToken<BigDecimal>() {};
+  private static final TypeToken<String> TYPE_TOKEN_MY_STRING = new TypeToken<String>() {};
+  private static final TypeToken<Boolean> TYPE_TOKEN_MY_BOOLEAN = new TypeToken<Boolean>() {};
+
+  /**
+   * Reads the value of a property of OuterComposite from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if OuterComposite has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_MY_NUMBER:
+        this.myNumber = gson.getAdapter(TYPE_TOKEN_MY_NUMBER).read(in);
+        return true;
+      case SERIALIZED_NAME_MY_STRING:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `my_string` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.myString = gson.getAdapter(TYPE_TOKEN_MY_STRING).read(in);
+        return true;
+      case SERIALIZED_NAME_MY_BOOLEAN:
+        this.myBoolean = gson.getAdapter(TYPE_TOKEN_MY_BOOLEAN).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!OuterComposite.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'OuterComposite' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<OuterComposite> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(OuterComposite.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<OuterComposite>() {
+           @Override
+           public void write(JsonWriter out, OuterComposite value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public OuterComposite read(JsonReader in) throws IOException {
+             OuterComposite instance = new OuterComposite();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of OuterComposite given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of OuterComposite
+   * @throws IOException if the JSON string is invalid with respect to OuterComposite
+   */
+  public static OuterComposite fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, OuterComposite.class);
+  }
+
+  /**
+   * Convert an instance of OuterComposite to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
@@ -0,0 +1,80 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.annotations.SerializedName;
+
+import java.io.IOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.JsonElement;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Gets or Sets OuterEnumIntegerDefaultValue
+ */
+@JsonAdapter(OuterEnumIntegerDefaultValue.Adapter.class)
+public enum OuterEnumIntegerDefaultValue {
+  
+  NUMBER_0(0),
+  
+  NUMBER_1(1),
+  
+  NUMBER_2(2);
+
+  private Integer value;
+
+  OuterEnumIntegerDefaultValue(Integer value) {
+    this.value = value;
+  }
+
+  public Integer getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return String.valueOf(value);
+  }
+
+  public static OuterEnumIntegerDefaultValue fromValue(Integer value) {
+    for (OuterEnumIntegerDefaultValue b : OuterEnumIntegerDefaultValue.values()) {
+      if (b.value.equals(value)) {
+        return b;
+      }
+    }
+    throw new IllegalArgumentException("Unexpected value '" + value + "'");
+  }
+
+  public static class Adapter extends TypeAdapter<OuterEnumIntegerDefaultValue> {
+    @Override
+    public void write(final JsonWriter jsonWriter, final OuterEnumIntegerDefaultValue enumeration) throws IOException {
+      jsonWriter.value(enumeration.getValue());
+    }
+
+    @Override
+    public OuterEnumIntegerDefaultValue read(final JsonReader jsonReader) throws IOException {
+      Integer value = jsonReader.nextInt();
+      return OuterEnumIntegerDefaultValue.fromValue(value);
+    }
+  }
+
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+    Integer value = jsonElement.getAsInt();
+    OuterEnumIntegerDefaultValue.fromValue(value);
+  }
+}
+
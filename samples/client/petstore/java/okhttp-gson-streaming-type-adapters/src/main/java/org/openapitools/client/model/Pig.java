@@ -0,0 +1,312 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.BasquePig;
+import org.openapitools.client.model.DanishPig;
+
+
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParseException;
+
+import org.openapitools.client.JSON;
+
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class Pig extends AbstractOpenApiSchema {
+    private static final Logger log = Logger.getLogger(Pig.class.getName());
+
+    public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+            if (!Pig.class.isAssignableFrom(type.getRawType())) {
+                return null; // this class only serializes 'Pig' and its subtypes
+            }
+            final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+            final TypeAdapter<BasquePig> adapterBasquePig = gson.getDelegateAdapter(this, TypeToken.get(BasquePig.class));
+            final TypeAdapter<DanishPig> adapterDanishPig = gson.getDelegateAdapter(this, TypeToken.get(DanishPig.class));
+
+            return (TypeAdapter<T>) new TypeAdapter<Pig>() {
+                @Override
+                public void write(JsonWriter out, Pig value) throws IOException {
+                    if (value == null || value.getActualInstance() == null) {
+                        elementAdapter.write(out, null);
+                        return;
+                    }
+
+                    // check if the actual instance is of the type `BasquePig`
+                    if (value.getActualInstance() instanceof BasquePig) {
+                        JsonElement element = adapterBasquePig.toJsonTree((BasquePig)value.getActualInstance());
+                        elementAdapter.write(out, element);
+                        return;
+                    }
+                    // check if the actual instance is of the type `DanishPig`
+                    if (value.getActualInstance() instanceof DanishPig) {
+                        JsonElement element = adapterDanishPig.toJsonTree((DanishPig)value.getActualInstance());
+                        elementAdapter.write(out, element);
+                        return;
+                    }
+                    throw new IOException("Failed to serialize as the type doesn't match oneOf schemas: BasquePig, DanishPig");
+                }
+
+                @Override
+                public Pig read(JsonReader in) throws IOException {
+                    Object deserialized = null;
+                    JsonElement jsonElement = elementAdapter.read(in);
+
+                    JsonObject jsonObject = jsonElement.getAsJsonObject();
+
+                    // use discriminator value for faster oneOf lookup
+                    Pig newPig = new Pig();
+                    if (jsonObject.get("className") == null) {
+                        log.log(Level.WARNING, "Failed to lookup discriminator value for Pig as `className` was not found in the payload or the payload is empty.");
+                    } else  {
+                        // look up the discriminator value in the field `className`
+                        switch (jsonObject.get("className").getAsString()) {
+                            case "BasquePig":
+                                deserialized = adapterBasquePig.fromJsonTree(jsonObject);
+                                newPig.setActualInstance(deserialized);
+                                return newPig;
+                            case "DanishPig":
+                                deserialized = adapterDanishPig.fromJsonTree(jsonObject);
+                                newPig.setActualInstance(deserialized);
+                                return newPig;
+                            default:
+                                log.log(Level.WARNING, String.format("Failed to lookup discriminator value `%s` for Pig. Possible values: BasquePig DanishPig", jsonObject.get("className").getAsString()));
+                        }
+                    }
+
+                    int match = 0;
+                    ArrayList<String> errorMessages = new ArrayList<>();
+                    TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
+
+                    // deserialize BasquePig
+                    try {
+                        // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "BasquePig", discriminatorSchema, "className");
+                        BasquePig.validateJsonElement(jsonElement);
+                        actualAdapter = adapterBasquePig;
+                        match++;
+                        log.log(Level.FINER, "Input data matches schema 'BasquePig'");
+                    } catch (Exception e) {
+                        // deserialization failed, continue
+                        errorMessages.add(String.format("Deserialization for BasquePig failed with `%s`.", e.getMessage()));
+                        log.log(Level.FINER, "Input data does not match schema 'BasquePig'", e);
+                    }
+                    // deserialize DanishPig
+                    try {
+                        // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "DanishPig", discriminatorSchema, "className");
+                        DanishPig.validateJsonElement(jsonElement);
+                        actualAdapter = adapterDanishPig;
+                        match++;
+                        log.log(Level.FINER, "Input data matches schema 'DanishPig'");
+                    } catch (Exception e) {
+                        // deserialization failed, continue
+                        errorMessages.add(String.format("Deserialization for DanishPig failed with `%s`.", e.getMessage()));
+                        log.log(Level.FINER, "Input data does not match schema 'DanishPig'", e);
+                    }
+
+                    if (match == 1) {
+                        Pig ret = new Pig();
+                        ret.setActualInstance(actualAdapter.fromJsonTree(jsonElement));
+                        return ret;
+                    }
+
+                    throw new IOException(String.format("Failed deserialization for Pig: %d classes match result, expected 1. Detailed failure message for oneOf schemas: %s. JSON: %s", match, errorMessages, jsonElement.toString()));
+                }
+            }.nullSafe();
+        }
+    }
+
+    // store a list of schema names defined in oneOf
+    public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
+
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
+    public Pig() {
+        super("oneOf", Boolean.FALSE);
+    }
+
+    public Pig(Object o) {
+        super("oneOf", Boolean.FALSE);
+        setActualInstance(o);
+    }
+
+    static {
+        schemas.put("BasquePig", BasquePig.class);
+        schemas.put("DanishPig", DanishPig.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("BasquePig", "BasquePig");
+        discriminatorTable.put("DanishPig", "DanishPig");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
+    }
+
+    @Override
+    public Map<String, Class<?>> getSchemas() {
+        return Pig.schemas;
+    }
+
+    /**
+     * Set the instance that matches the oneOf child schema, check
+     * the instance parameter is valid against the oneOf child schemas:
+     * BasquePig, DanishPig
+     *
+     * It could be an instance of the 'oneOf' schemas.
+     */
+    @Override
+    public void setActualInstance(Object instance) {
+        if (instance instanceof BasquePig) {
+            super.setActualInstance(instance);
+            return;
+        }
+
+        if (instance instanceof DanishPig) {
+            super.setActualInstance(instance);
+            return;
+        }
+
+        throw new RuntimeException("Invalid instance type. Must be BasquePig, DanishPig");
+    }
+
+    /**
+     * Get the actual instance, which can be the following:
+     * BasquePig, DanishPig
+     *
+     * @return The actual instance (BasquePig, DanishPig)
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Object getActualInstance() {
+        return super.getActualInstance();
+    }
+
+    /**
+     * Get the actual instance of `BasquePig`. If the actual instance is not `BasquePig`,
+     * the ClassCastException will be thrown.
+     *
+     * @return The actual instance of `BasquePig`
+     * @throws ClassCastException if the instance is not `BasquePig`
+     */
+    public BasquePig getBasquePig() throws ClassCastException {
+        return (BasquePig)super.getActualInstance();
+    }
+
+    /**
+     * Get the actual instance of `DanishPig`. If the actual instance is not `DanishPig`,
+     * the ClassCastException will be thrown.
+     *
+     * @return The actual instance of `DanishPig`
+     * @throws ClassCastException if the instance is not `DanishPig`
+     */
+    public DanishPig getDanishPig() throws ClassCastException {
+        return (DanishPig)super.getActualInstance();
+    }
+
+    /**
+     * Validates the JSON Element and throws an exception if issues found
+     *
+     * @param jsonElement JSON Element
+     * @throws IOException if the JSON Element is invalid with respect to Pig
+     */
+    public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+        // validate oneOf schemas one by one
+        int validCount = 0;
+        ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
+        // validate the json string with BasquePig
+        try {
+            checkCandidate(jsonElement, "BasquePig", discriminatorSchema, "className");
+            BasquePig.validateJsonElement(jsonElement);
+            validCount++;
+        } catch (Exception e) {
+            errorMessages.add(String.format("Deserialization for BasquePig failed with `%s`.", e.getMessage()));
+            // continue to the next one
+        }
+        // validate the json string with DanishPig
+        try {
+            checkCandidate(jsonElement, "DanishPig", discriminatorSchema, "className");
+            DanishPig.validateJsonElement(jsonElement);
+            validCount++;
+        } catch (Exception e) {
+            errorMessages.add(String.format("Deserialization for DanishPig failed with `%s`.", e.getMessage()));
+            // continue to the next one
+        }
+        if (validCount != 1) {
+            throw new IOException(String.format("The JSON string is invalid for Pig with oneOf schemas: BasquePig, DanishPig. %d class(es) match the result, expected 1. Detailed failure message for oneOf schemas: %s. JSON: %s", validCount, errorMessages, jsonElement.toString()));
+        }
+    }
+
+    /**
+     * Create an instance of Pig given an JSON string
+     *
+     * @param jsonString JSON string
+     * @return An instance of Pig
+     * @throws IOException if the JSON string is invalid with respect to Pig
+     */
+    public static Pig fromJson(String jsonString) throws IOException {
+        return JSON.getGson().fromJson(jsonString, Pig.class);
+    }
+
+    /**
+     * Convert an instance of Pig to an JSON string
+     *
+     * @return JSON string
+     */
+    public String toJson() {
+        return JSON.getGson().toJson(this);
+    }
+}
+
@@ -0,0 +1,705 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.Objects;
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.jackson.nullable.JsonNullable;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonDeserializationContext;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.TypeAdapter;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.openapitools.client.JSON;
+
+/**
+ * User
+ */
+@javax.annotation.Generated(value = "org.openapitools.codegen.languages.JavaClientCodegen", comments = "Generator version: 7.10.0-SNAPSHOT")
+public class User {
+  public static final String SERIALIZED_NAME_ID = "id";
+  @SerializedName(SERIALIZED_NAME_ID)
+  @javax.annotation.Nullable
+  private Long id;
+
+  public static final String SERIALIZED_NAME_USERNAME = "username";
+  @SerializedName(SERIALIZED_NAME_USERNAME)
+  @javax.annotation.Nullable
+  private String username;
+
+  public static final String SERIALIZED_NAME_FIRST_NAME = "firstName";
+  @SerializedName(SERIALIZED_NAME_FIRST_NAME)
+  @javax.annotation.Nullable
+  private String firstName;
+
+  public static final String SERIALIZED_NAME_LAST_NAME = "lastName";
+  @SerializedName(SERIALIZED_NAME_LAST_NAME)
+  @javax.annotation.Nullable
+  private String lastName;
+
+  public static final String SERIALIZED_NAME_EMAIL = "email";
+  @SerializedName(SERIALIZED_NAME_EMAIL)
+  @javax.annotation.Nullable
+  private String email;
+
+  public static final String SERIALIZED_NAME_PASSWORD = "password";
+  @SerializedName(SERIALIZED_NAME_PASSWORD)
+  @javax.annotation.Nullable
+  private String password;
+
+  public static final String SERIALIZED_NAME_PHONE = "phone";
+  @SerializedName(SERIALIZED_NAME_PHONE)
+  @javax.annotation.Nullable
+  private String phone;
+
+  public static final String SERIALIZED_NAME_USER_STATUS = "userStatus";
+  @SerializedName(SERIALIZED_NAME_USER_STATUS)
+  @javax.annotation.Nullable
+  private Integer userStatus;
+
+  public static final String SERIALIZED_NAME_OBJECT_WITH_NO_DECLARED_PROPS = "objectWithNoDeclaredProps";
+  @SerializedName(SERIALIZED_NAME_OBJECT_WITH_NO_DECLARED_PROPS)
+  @javax.annotation.Nullable
+  private Object objectWithNoDeclaredProps;
+
+  public static final String SERIALIZED_NAME_OBJECT_WITH_NO_DECLARED_PROPS_NULLABLE = "objectWithNoDeclaredPropsNullable";
+  @SerializedName(SERIALIZED_NAME_OBJECT_WITH_NO_DECLARED_PROPS_NULLABLE)
+  @javax.annotation.Nullable
+  private Object objectWithNoDeclaredPropsNullable;
+
+  public static final String SERIALIZED_NAME_ANY_TYPE_PROP = "anyTypeProp";
+  @SerializedName(SERIALIZED_NAME_ANY_TYPE_PROP)
+  @javax.annotation.Nullable
+  private Object anyTypeProp = null;
+
+  public static final String SERIALIZED_NAME_ANY_TYPE_PROP_NULLABLE = "anyTypePropNullable";
+  @SerializedName(SERIALIZED_NAME_ANY_TYPE_PROP_NULLABLE)
+  @javax.annotation.Nullable
+  private Object anyTypePropNullable = null;
+
+  public User() {
+  }
+
+  public User id(@javax.annotation.Nullable Long id) {
+    this.id = id;
+    return this;
+  }
+
+  /**
+   * Get id
+   * @return id
+   */
+  @javax.annotation.Nullable
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(@javax.annotation.Nullable Long id) {
+    this.id = id;
+  }
+
+
+  public User username(@javax.annotation.Nullable String username) {
+    this.username = username;
+    return this;
+  }
+
+  /**
+   * Get username
+   * @return username
+   */
+  @javax.annotation.Nullable
+  public String getUsername() {
+    return username;
+  }
+
+  public void setUsername(@javax.annotation.Nullable String username) {
+    this.username = username;
+  }
+
+
+  public User firstName(@javax.annotation.Nullable String firstName) {
+    this.firstName = firstName;
+    return this;
+  }
+
+  /**
+   * Get firstName
+   * @return firstName
+   */
+  @javax.annotation.Nullable
+  public String getFirstName() {
+    return firstName;
+  }
+
+  public void setFirstName(@javax.annotation.Nullable String firstName) {
+    this.firstName = firstName;
+  }
+
+
+  public User lastName(@javax.annotation.Nullable String lastName) {
+    this.lastName = lastName;
+    return this;
+  }
+
+  /**
+   * Get lastName
+   * @return lastName
+   */
+  @javax.annotation.Nullable
+  public String getLastName() {
+    return lastName;
+  }
+
+  public void setLastName(@javax.annotation.Nullable String lastName) {
+    this.lastName = lastName;
+  }
+
+
+  public User email(@javax.annotation.Nullable String email) {
+    this.email = email;
+    return this;
+  }
+
+  /**
+   * Get email
+   * @return email
+   */
+  @javax.annotation.Nullable
+  public String getEmail() {
+    return email;
+  }
+
+  public void setEmail(@javax.annotation.Nullable String email) {
+    this.email = email;
+  }
+
+
+  public User password(@javax.annotation.Nullable String password) {
+    this.password = password;
+    return this;
+  }
+
+  /**
+   * Get password
+   * @return password
+   */
+  @javax.annotation.Nullable
+  public String getPassword() {
+    return password;
+  }
+
+  public void setPassword(@javax.annotation.Nullable String password) {
+    this.password = password;
+  }
+
+
+  public User phone(@javax.annotation.Nullable String phone) {
+    this.phone = phone;
+    return this;
+  }
+
+  /**
+   * Get phone
+   * @return phone
+   */
+  @javax.annotation.Nullable
+  public String getPhone() {
+    return phone;
+  }
+
+  public void setPhone(@javax.annotation.Nullable String phone) {
+    this.phone = phone;
+  }
+
+
+  public User userStatus(@javax.annotation.Nullable Integer userStatus) {
+    this.userStatus = userStatus;
+    return this;
+  }
+
+  /**
+   * User Status
+   * @return userStatus
+   */
+  @javax.annotation.Nullable
+  public Integer getUserStatus() {
+    return userStatus;
+  }
+
+  public void setUserStatus(@javax.annotation.Nullable Integer userStatus) {
+    this.userStatus = userStatus;
+  }
+
+
+  public User objectWithNoDeclaredProps(@javax.annotation.Nullable Object objectWithNoDeclaredProps) {
+    this.objectWithNoDeclaredProps = objectWithNoDeclaredProps;
+    return this;
+  }
+
+  /**
+   * test code generation for objects Value must be a map of strings to values. It cannot be the &#39;null&#39; value.
+   * @return objectWithNoDeclaredProps
+   */
+  @javax.annotation.Nullable
+  public Object getObjectWithNoDeclaredProps() {
+    return objectWithNoDeclaredProps;
+  }
+
+  public void setObjectWithNoDeclaredProps(@javax.annotation.Nullable Object objectWithNoDeclaredProps) {
+    this.objectWithNoDeclaredProps = objectWithNoDeclaredProps;
+  }
+
+
+  public User objectWithNoDeclaredPropsNullable(@javax.annotation.Nullable Object objectWithNoDeclaredPropsNullable) {
+    this.objectWithNoDeclaredPropsNullable = objectWithNoDeclaredPropsNullable;
+    return this;
+  }
+
+  /**
+   * test code generation for nullable objects. Value must be a map of strings to values or the &#39;null&#39; value.
+   * @return objectWithNoDeclaredPropsNullable
+   */
+  @javax.annotation.Nullable
+  public Object getObjectWithNoDeclaredPropsNullable() {
+    return objectWithNoDeclaredPropsNullable;
+  }
+
+  public void setObjectWithNoDeclaredPropsNullable(@javax.annotation.Nullable Object objectWithNoDeclaredPropsNullable) {
+    this.objectWithNoDeclaredPropsNullable = objectWithNoDeclaredPropsNullable;
+  }
+
+
+  public User anyTypeProp(@javax.annotation.Nullable Object anyTypeProp) {
+    this.anyTypeProp = anyTypeProp;
+    return this;
+  }
+
+  /**
+   * test code generation for any type Here the &#39;type&#39; attribute is not specified, which means the value can be anything, including the null value, string, number, boolean, array or object. See https://github.com/OAI/OpenAPI-Specification/issues/1389
+   * @return anyTypeProp
+   */
+  @javax.annotation.Nullable
+  public Object getAnyTypeProp() {
+    return anyTypeProp;
+  }
+
+  public void setAnyTypeProp(@javax.annotation.Nullable Object anyTypeProp) {
+    this.anyTypeProp = anyTypeProp;
+  }
+
+
+  public User anyTypePropNullable(@javax.annotation.Nullable Object anyTypePropNullable) {
+    this.anyTypePropNullable = anyTypePropNullable;
+    return this;
+  }
+
+  /**
+   * test code generation for any type Here the &#39;type&#39; attribute is not specified, which means the value can be anything, including the null value, string, number, boolean, array or object. The &#39;nullable&#39; attribute does not change the allowed values.
+   * @return anyTypePropNullable
+   */
+  @javax.annotation.Nullable
+  public Object getAnyTypePropNullable() {
+    return anyTypePropNullable;
+  }
+
+  public void setAnyTypePropNullable(@javax.annotation.Nullable Object anyTypePropNullable) {
+    this.anyTypePropNullable = anyTypePropNullable;
+  }
+
+  /**
+   * A container for additional, undeclared properties.
+   * This is a holder for any undeclared properties as specified with
+   * the 'additionalProperties' keyword in the OAS document.
+   */
+  private Map<String, Object> additionalProperties;
+
+  /**
+   * Set the additional (undeclared) property with the specified name and value.
+   * If the property does not already exist, create it otherwise replace it.
+   *
+   * @param key name of the property
+   * @param value value of the property
+   * @return the User instance itself
+   */
+  public User putAdditionalProperty(String key, Object value) {
+    if (this.additionalProperties == null) {
+        this.additionalProperties = new HashMap<String, Object>();
+    }
+    this.additionalProperties.put(key, value);
+    return this;
+  }
+
+  /**
+   * Return the additional (undeclared) property.
+   *
+   * @return a map of objects
+   */
+  public Map<String, Object> getAdditionalProperties() {
+    return additionalProperties;
+  }
+
+  /**
+   * Return the additional (undeclared) property with the specified name.
+   *
+   * @param key name of the property
+   * @return an object
+   */
+  public Object getAdditionalProperty(String key) {
+    if (this.additionalProperties == null) {
+        return null;
+    }
+    return this.additionalProperties.get(key);
+  }
+
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    User user = (User) o;
+    return Objects.equals(this.id, user.id) &&
+        Objects.equals(this.username, user.username) &&
+        Objects.equals(this.firstName, user.firstName) &&
+        Objects.equals(this.lastName, user.lastName) &&
+        Objects.equals(this.email, user.email) &&
+        Objects.equals(this.password, user.password) &&
+        Objects.equals(this.phone, user.phone) &&
+        Objects.equals(this.userStatus, user.userStatus) &&
+        Objects.equals(this.objectWithNoDeclaredProps, user.objectWithNoDeclaredProps) &&
+        Objects.equals(this.objectWithNoDeclaredPropsNullable, user.objectWithNoDeclaredPropsNullable) &&
+        Objects.equals(this.anyTypeProp, user.anyTypeProp) &&
+        Objects.equals(this.anyTypePropNullable, user.anyTypePropNullable)&&
+        Objects.equals(this.additionalProperties, user.additionalProperties);
+  }
+
+  private static <T> boolean equalsNullable(JsonNullable<T> a, JsonNullable<T> b) {
+    return a == b || (a != null && b != null && a.isPresent() && b.isPresent() && Objects.deepEquals(a.get(), b.get()));
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(id, username, firstName, lastName, email, password, phone, userStatus, objectWithNoDeclaredProps, objectWithNoDeclaredPropsNullable, anyTypeProp, anyTypePropNullable, additionalProperties);
+  }
+
+  private static <T> int hashCodeNullable(JsonNullable<T> a) {
+    if (a == null) {
+      return 1;
+    }
+    return a.isPresent() ? Arrays.deepHashCode(new Object[]{a.get()}) : 31;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class User {\n");
+    sb.append("    id: ").append(toIndentedString(id)).append("\n");
+    sb.append("    username: ").append(toIndentedString(username)).append("\n");
+    sb.append("    firstName: ").append(toIndentedString(firstName)).append("\n");
+    sb.append("    lastName: ").append(toIndentedString(lastName)).append("\n");
+    sb.append("    email: ").append(toIndentedString(email)).append("\n");
+    sb.append("    password: ").append(toIndentedString(password)).append("\n");
+    sb.append("    phone: ").append(toIndentedString(phone)).append("\n");
+    sb.append("    userStatus: ").append(toIndentedString(userStatus)).append("\n");
+    sb.append("    objectWithNoDeclaredProps: ").append(toIndentedString(objectWithNoDeclaredProps)).append("\n");
+    sb.append("    objectWithNoDeclaredPropsNullable: ").append(toIndentedString(objectWithNoDeclaredPropsNullable)).append("\n");
+    sb.append("    anyTypeProp: ").append(toIndentedString(anyTypeProp)).append("\n");
+    sb.append("    anyTypePropNullable: ").append(toIndentedString(anyTypePropNullable)).append("\n");
+    sb.append("    additionalProperties: ").append(toIndentedString(additionalProperties)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+
+
+  public static HashSet<String> openapiFields;
+  public static HashSet<String> openapiRequiredFields;
+
+  static {
+    // a set of all properties/fields (JSON key names)
+    openapiFields = new HashSet<String>();
+    openapiFields.add("id");
+    openapiFields.add("username");
+    openapiFields.add("firstName");
+    openapiFields.add("lastName");
+    openapiFields.add("email");
+    openapiFields.add("password");
+    openapiFields.add("phone");
+    openapiFields.add("userStatus");
+    openapiFields.add("objectWithNoDeclaredProps");
+    openapiFields.add("objectWithNoDeclaredPropsNullable");
+    openapiFields.add("anyTypeProp");
+    openapiFields.add("anyTypePropNullable");
+
+    // a set of required properties/fields (JSON key names)
+    openapiRequiredFields = new HashSet<String>();
+  }
+
+  /**
+   * Validates the JSON Element and throws an exception if issues found
+   *
+   * @param jsonElement JSON Element
+   * @throws IOException if the JSON Element is invalid with respect to User
+   */
+  public static void validateJsonElement(JsonElement jsonElement) throws IOException {
+      if (jsonElement == null) {
+        if (!User.openapiRequiredFields.isEmpty()) { // has required fields but JSON element is null
+          throw new IllegalArgumentException(String.format("The required field(s) %s in User is not found in the empty JSON string", User.openapiRequiredFields.toString()));
+        }
+      }
+        JsonObject jsonObj = jsonElement.getAsJsonObject();
+      if ((jsonObj.get("username") != null && !jsonObj.get("username").isJsonNull()) && !jsonObj.get("username").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `username` to be a primitive type in the JSON string but got `%s`", jsonObj.get("username").toString()));
+      }
+      if ((jsonObj.get("firstName") != null && !jsonObj.get("firstName").isJsonNull()) && !jsonObj.get("firstName").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `firstName` to be a primitive type in the JSON string but got `%s`", jsonObj.get("firstName").toString()));
+      }
+      if ((jsonObj.get("lastName") != null && !jsonObj.get("lastName").isJsonNull()) && !jsonObj.get("lastName").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `lastName` to be a primitive type in the JSON string but got `%s`", jsonObj.get("lastName").toString()));
+      }
+      if ((jsonObj.get("email") != null && !jsonObj.get("email").isJsonNull()) && !jsonObj.get("email").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `email` to be a primitive type in the JSON string but got `%s`", jsonObj.get("email").toString()));
+      }
+      if ((jsonObj.get("password") != null && !jsonObj.get("password").isJsonNull()) && !jsonObj.get("password").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `password` to be a primitive type in the JSON string but got `%s`", jsonObj.get("password").toString()));
+      }
+      if ((jsonObj.get("phone") != null && !jsonObj.get("phone").isJsonNull()) && !jsonObj.get("phone").isJsonPrimitive()) {
+        throw new IllegalArgumentException(String.format("Expected the field `phone` to be a primitive type in the JSON string but got `%s`", jsonObj.get("phone").toString()));
+      }
+  }
+
+  private static final TypeToken<Long> TYPE_TOKEN_ID = new TypeToken<Long>() {};
+  private static final TypeToken<String> TYPE_TOKEN_USERNAME = new TypeToken<String>() {};
+  private static final TypeToken<String> TYPE_TOKEN_FIRST_NAME = new TypeToken<String>() {};
+  private static final TypeToken<String> TYPE_TOKEN_LAST_NAME = new TypeToken<String>() {};
+  private static final TypeToken<String> TYPE_TOKEN_EMAIL = new TypeToken<String>() {};
+  private static final TypeToken<String> TYPE_TOKEN_PASSWORD = new TypeToken<String>() {};
+  private static final TypeToken<String> TYPE_TOKEN_PHONE = new TypeToken<String>() {};
+  private static final TypeToken<Integer> TYPE_TOKEN_USER_STATUS = new TypeToken<Integer>() {};
+  private static final TypeToken<Object> TYPE_TOKEN_OBJECT_WITH_NO_DECLARED_PROPS = new TypeToken<Object>() {};
+  private static final TypeToken<Object> TYPE_TOKEN_OBJECT_WITH_NO_DECLARED_PROPS_NULLABLE = new TypeToken<Object>() {};
+  private static final TypeToken<Object> TYPE_TOKEN_ANY_TYPE_PROP = new TypeToken<Object>() {};
+  private static final TypeToken<Object> TYPE_TOKEN_ANY_TYPE_PROP_NULLABLE = new TypeToken<Object>() {};
+
+  /**
+   * Reads the value of a property of User from the JSON reader
+   *
+   * @param gson Gson instance providing the adapters of the property types
+   * @param name JSON key name of the property
+   * @param in JSON reader positioned at the value of the property
+   * @return false if User has no property with this name, leaving the value unread
+   * @throws IOException if the value is invalid with respect to the property
+   */
+  protected boolean readOpenApiField(Gson gson, String name, JsonReader in) throws IOException {
+    switch (name) {
+      case SERIALIZED_NAME_ID:
+        this.id = gson.getAdapter(TYPE_TOKEN_ID).read(in);
+        return true;
+      case SERIALIZED_NAME_USERNAME:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `username` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.username = gson.getAdapter(TYPE_TOKEN_USERNAME).read(in);
+        return true;
+      case SERIALIZED_NAME_FIRST_NAME:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `firstName` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.firstName = gson.getAdapter(TYPE_TOKEN_FIRST_NAME).read(in);
+        return true;
+      case SERIALIZED_NAME_LAST_NAME:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `lastName` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.lastName = gson.getAdapter(TYPE_TOKEN_LAST_NAME).read(in);
+        return true;
+      case SERIALIZED_NAME_EMAIL:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `email` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.email = gson.getAdapter(TYPE_TOKEN_EMAIL).read(in);
+        return true;
+      case SERIALIZED_NAME_PASSWORD:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `password` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.password = gson.getAdapter(TYPE_TOKEN_PASSWORD).read(in);
+        return true;
+      case SERIALIZED_NAME_PHONE:
+        if (in.peek() == JsonToken.BEGIN_ARRAY || in.peek() == JsonToken.BEGIN_OBJECT) {
+          throw new IllegalArgumentException(String.format("Expected the field `phone` to be a primitive type in the JSON string but got `%s`", gson.getAdapter(JsonElement.class).read(in).toString()));
+        }
+        this.phone = gson.getAdapter(TYPE_TOKEN_PHONE).read(in);
+        return true;
+      case SERIALIZED_NAME_USER_STATUS:
+        this.userStatus = gson.getAdapter(TYPE_TOKEN_USER_STATUS).read(in);
+        return true;
+      case SERIALIZED_NAME_OBJECT_WITH_NO_DECLARED_PROPS:
+        this.objectWithNoDeclaredProps = gson.getAdapter(TYPE_TOKEN_OBJECT_WITH_NO_DECLARED_PROPS).read(in);
+        return true;
+      case SERIALIZED_NAME_OBJECT_WITH_NO_DECLARED_PROPS_NULLABLE:
+        this.objectWithNoDeclaredPropsNullable = gson.getAdapter(TYPE_TOKEN_OBJECT_WITH_NO_DECLARED_PROPS_NULLABLE).read(in);
+        return true;
+      case SERIALIZED_NAME_ANY_TYPE_PROP:
+        this.anyTypeProp = gson.getAdapter(TYPE_TOKEN_ANY_TYPE_PROP).read(in);
+        return true;
+      case SERIALIZED_NAME_ANY_TYPE_PROP_NULLABLE:
+        this.anyTypePropNullable = gson.getAdapter(TYPE_TOKEN_ANY_TYPE_PROP_NULLABLE).read(in);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  public static class CustomTypeAdapterFactory implements TypeAdapterFactory {
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+       if (!User.class.isAssignableFrom(type.getRawType())) {
+         return null; // this class only serializes 'User' and its subtypes
+       }
+       final TypeAdapter<JsonElement> elementAdapter = gson.getAdapter(JsonElement.class);
+       final TypeAdapter<User> thisAdapter
+                        = gson.getDelegateAdapter(this, TypeToken.get(User.class));
+
+       return (TypeAdapter<T>) new TypeAdapter<User>() {
+           @Override
+           public void write(JsonWriter out, User value) throws IOException {
+             JsonObject obj = thisAdapter.toJsonTree(value).getAsJsonObject();
+             obj.remove("additionalProperties");
+             // serialize additional properties
+             if (value.getAdditionalProperties() != null) {
+               for (Map.Entry<String, Object> entry : value.getAdditionalProperties().entrySet()) {
+                 if (entry.getValue() instanceof String)
+                   obj.addProperty(entry.getKey(), (String) entry.getValue());
+                 else if (entry.getValue() instanceof Number)
+                   obj.addProperty(entry.getKey(), (Number) entry.getValue());
+                 else if (entry.getValue() instanceof Boolean)
+                   obj.addProperty(entry.getKey(), (Boolean) entry.getValue());
+                 else if (entry.getValue() instanceof Character)
+                   obj.addProperty(entry.getKey(), (Character) entry.getValue());
+                 else {
+                   JsonElement jsonElement = gson.toJsonTree(entry.getValue());
+                   if (jsonElement.isJsonArray()) {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonArray());
+                   } else {
+                     obj.add(entry.getKey(), jsonElement.getAsJsonObject());
+                   }
+                 }
+               }
+             }
+             elementAdapter.write(out, obj);
+           }
+
+           @Override
+           public User read(JsonReader in) throws IOException {
+             User instance = new User();
+             in.beginObject();
+             while (in.hasNext()) {
+               String name = in.nextName();
+               if (!instance.readOpenApiField(gson, name, in)) {
+                 // store additional fields in the deserialized instance
+                 switch (in.peek()) {
+                   case STRING:
+                     instance.putAdditionalProperty(name, in.nextString());
+                     break;
+                   case NUMBER:
+                     instance.putAdditionalProperty(name, ToNumberPolicy.LAZILY_PARSED_NUMBER.readNumber(in));
+                     break;
+                   case BOOLEAN:
+                     instance.putAdditionalProperty(name, in.nextBoolean());
+                     break;
+                   case BEGIN_ARRAY:
+                     instance.putAdditionalProperty(name, gson.getAdapter(List.class).read(in));
+                     break;
+                   case BEGIN_OBJECT:
+                     instance.putAdditionalProperty(name, gson.getAdapter(HashMap.class).read(in));
+                     break;
+                   case NULL:
+                     in.nextNull();
+                     instance.putAdditionalProperty(name, null);
+                     break;
+                   default:
+                     throw new IllegalArgumentException(String.format("The field `%s` has unknown primitive type at %s", name, in.getPath()));
+                 }
+               }
+             }
+             in.endObject();
+             return instance;
+           }
+
+       }.nullSafe();
+    }
+  }
+
+  /**
+   * Create an instance of User given an JSON string
+   *
+   * @param jsonString JSON string
+   * @return An instance of User
+   * @throws IOException if the JSON string is invalid with respect to User
+   */
+  public static User fromJson(String jsonString) throws IOException {
+    return JSON.getGson().fromJson(jsonString, User.class);
+  }
+
+  /**
+   * Convert an instance of User to an JSON string
+   *
+   * @return JSON string
+   */
+  public String toJson() {
+    return JSON.getGson().toJson(this);
+  }
+}
+
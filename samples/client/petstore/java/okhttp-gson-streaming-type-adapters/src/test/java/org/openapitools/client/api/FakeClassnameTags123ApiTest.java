@@ -0,0 +1,41 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * OpenAPI spec version: 1.0.0
+ *
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+package org.openapitools.client.api;
+
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.openapitools.client.ApiException;
+import org.openapitools.client.model.Client;
+
+/** API tests for FakeClassnameTags123Api */
+@Disabled
+public class FakeClassnameTags123ApiTest {
+
+    private final FakeClassnameTags123Api api = new FakeClassnameTags123Api();
+
+    /**
+     * To test class name in snake case
+     *
+     * <p>To test class name in snake case
+     *
+     * @throws ApiException if the Api call fails
+     */
+    @Test
+    public void testClassnameTest() throws ApiException {
+        Client body = null;
+        Client response = api.testClassname(body);
+
+        // TODO: test validations
+    }
+}
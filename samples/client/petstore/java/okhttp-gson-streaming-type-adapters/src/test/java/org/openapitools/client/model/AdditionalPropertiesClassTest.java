@@ -0,0 +1,107 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for AdditionalPropertiesClass
+ */
+public class AdditionalPropertiesClassTest {
+    private final AdditionalPropertiesClass model = new AdditionalPropertiesClass();
+
+    /**
+     * Model tests for AdditionalPropertiesClass
+     */
+    @Test
+    public void testAdditionalPropertiesClass() {
+        // TODO: test AdditionalPropertiesClass
+    }
+
+    /**
+     * Test the property 'mapProperty'
+     */
+    @Test
+    public void mapPropertyTest() {
+        // TODO: test mapProperty
+    }
+
+    /**
+     * Test the property 'mapOfMapProperty'
+     */
+    @Test
+    public void mapOfMapPropertyTest() {
+        // TODO: test mapOfMapProperty
+    }
+
+    /**
+     * Test the property 'anytype1'
+     */
+    @Test
+    public void anytype1Test() {
+        // TODO: test anytype1
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesAnytype1'
+     */
+    @Test
+    public void mapWithUndeclaredPropertiesAnytype1Test() {
+        // TODO: test mapWithUndeclaredPropertiesAnytype1
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesAnytype2'
+     */
+    @Test
+    public void mapWithUndeclaredPropertiesAnytype2Test() {
+        // TODO: test mapWithUndeclaredPropertiesAnytype2
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesAnytype3'
+     */
+    @Test
+    public void mapWithUndeclaredPropertiesAnytype3Test() {
+        // TODO: test mapWithUndeclaredPropertiesAnytype3
+    }
+
+    /**
+     * Test the property 'emptyMap'
+     */
+    @Test
+    public void emptyMapTest() {
+        // TODO: test emptyMap
+    }
+
+    /**
+     * Test the property 'mapWithUndeclaredPropertiesString'
+     */
+    @Test
+    public void mapWithUndeclaredPropertiesStringTest() {
+        // TODO: test mapWithUndeclaredPropertiesString
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.Tag;
+import org.openapitools.client.model.User;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for AllOfModelArrayAnyOfAllOfLinkListColumn1Value
+ */
+public class AllOfModelArrayAnyOfAllOfLinkListColumn1ValueTest {
+    private final AllOfModelArrayAnyOfAllOfLinkListColumn1Value model = new AllOfModelArrayAnyOfAllOfLinkListColumn1Value();
+
+    /**
+     * Model tests for AllOfModelArrayAnyOfAllOfLinkListColumn1Value
+     */
+    @Test
+    public void testAllOfModelArrayAnyOfAllOfLinkListColumn1Value() {
+        // TODO: test AllOfModelArrayAnyOfAllOfLinkListColumn1Value
+    }
+
+    /**
+     * Test the property 'id'
+     */
+    @Test
+    public void idTest() {
+        // TODO: test id
+    }
+
+    /**
+     * Test the property 'username'
+     */
+    @Test
+    public void usernameTest() {
+        // TODO: test username
+    }
+
+    /**
+     * Test the property 'firstName'
+     */
+    @Test
+    public void firstNameTest() {
+        // TODO: test firstName
+    }
+
+    /**
+     * Test the property 'lastName'
+     */
+    @Test
+    public void lastNameTest() {
+        // TODO: test lastName
+    }
+
+    /**
+     * Test the property 'email'
+     */
+    @Test
+    public void emailTest() {
+        // TODO: test email
+    }
+
+    /**
+     * Test the property 'password'
+     */
+    @Test
+    public void passwordTest() {
+        // TODO: test password
+    }
+
+    /**
+     * Test the property 'phone'
+     */
+    @Test
+    public void phoneTest() {
+        // TODO: test phone
+    }
+
+    /**
+     * Test the property 'userStatus'
+     */
+    @Test
+    public void userStatusTest() {
+        // TODO: test userStatus
+    }
+
+    /**
+     * Test the property 'objectWithNoDeclaredProps'
+     */
+    @Test
+    public void objectWithNoDeclaredPropsTest() {
+        // TODO: test objectWithNoDeclaredProps
+    }
+
+    /**
+     * Test the property 'objectWithNoDeclaredPropsNullable'
+     */
+    @Test
+    public void objectWithNoDeclaredPropsNullableTest() {
+        // TODO: test objectWithNoDeclaredPropsNullable
+    }
+
+    /**
+     * Test the property 'anyTypeProp'
+     */
+    @Test
+    public void anyTypePropTest() {
+        // TODO: test anyTypeProp
+    }
+
+    /**
+     * Test the property 'anyTypePropNullable'
+     */
+    @Test
+    public void anyTypePropNullableTest() {
+        // TODO: test anyTypePropNullable
+    }
+
+    /**
+     * Test the property 'name'
+     */
+    @Test
+    public void nameTest() {
+        // TODO: test name
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.AllOfModelArrayAnyOfAllOfLinkListColumn1;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for AllOfModelArrayAnyOf
+ */
+public class AllOfModelArrayAnyOfTest {
+    private final AllOfModelArrayAnyOf model = new AllOfModelArrayAnyOf();
+
+    /**
+     * Model tests for AllOfModelArrayAnyOf
+     */
+    @Test
+    public void testAllOfModelArrayAnyOf() {
+        // TODO: test AllOfModelArrayAnyOf
+    }
+
+    /**
+     * Test the property 'id'
+     */
+    @Test
+    public void idTest() {
+        // TODO: test id
+    }
+
+    /**
+     * Test the property 'name'
+     */
+    @Test
+    public void nameTest() {
+        // TODO: test name
+    }
+
+    /**
+     * Test the property 'linkListColumn1'
+     */
+    @Test
+    public void linkListColumn1Test() {
+        // TODO: test linkListColumn1
+    }
+
+}
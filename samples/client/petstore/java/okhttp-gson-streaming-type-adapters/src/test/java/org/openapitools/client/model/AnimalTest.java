@@ -0,0 +1,58 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.openapitools.client.model.Cat;
+import org.openapitools.client.model.Dog;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for Animal
+ */
+public class AnimalTest {
+    private final Animal model = new Animal();
+
+    /**
+     * Model tests for Animal
+     */
+    @Test
+    public void testAnimal() {
+        // TODO: test Animal
+    }
+
+    /**
+     * Test the property 'className'
+     */
+    @Test
+    public void classNameTest() {
+        // TODO: test className
+    }
+
+    /**
+     * Test the property 'color'
+     */
+    @Test
+    public void colorTest() {
+        // TODO: test color
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for ArrayOfInlineAllOfArrayAllofDogPropertyInner
+ */
+public class ArrayOfInlineAllOfArrayAllofDogPropertyInnerTest {
+    private final ArrayOfInlineAllOfArrayAllofDogPropertyInner model = new ArrayOfInlineAllOfArrayAllofDogPropertyInner();
+
+    /**
+     * Model tests for ArrayOfInlineAllOfArrayAllofDogPropertyInner
+     */
+    @Test
+    public void testArrayOfInlineAllOfArrayAllofDogPropertyInner() {
+        // TODO: test ArrayOfInlineAllOfArrayAllofDogPropertyInner
+    }
+
+    /**
+     * Test the property 'breed'
+     */
+    @Test
+    public void breedTest() {
+        // TODO: test breed
+    }
+
+    /**
+     * Test the property 'color'
+     */
+    @Test
+    public void colorTest() {
+        // TODO: test color
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for ArrayOfNumberOnly
+ */
+public class ArrayOfNumberOnlyTest {
+    private final ArrayOfNumberOnly model = new ArrayOfNumberOnly();
+
+    /**
+     * Model tests for ArrayOfNumberOnly
+     */
+    @Test
+    public void testArrayOfNumberOnly() {
+        // TODO: test ArrayOfNumberOnly
+    }
+
+    /**
+     * Test the property 'arrayNumber'
+     */
+    @Test
+    public void arrayNumberTest() {
+        // TODO: test arrayNumber
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.openapitools.client.model.ReadOnlyFirst;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for ArrayTest
+ */
+public class ArrayTestTest {
+    private final ArrayTest model = new ArrayTest();
+
+    /**
+     * Model tests for ArrayTest
+     */
+    @Test
+    public void testArrayTest() {
+        // TODO: test ArrayTest
+    }
+
+    /**
+     * Test the property 'arrayOfString'
+     */
+    @Test
+    public void arrayOfStringTest() {
+        // TODO: test arrayOfString
+    }
+
+    /**
+     * Test the property 'arrayArrayOfInteger'
+     */
+    @Test
+    public void arrayArrayOfIntegerTest() {
+        // TODO: test arrayArrayOfInteger
+    }
+
+    /**
+     * Test the property 'arrayArrayOfModel'
+     */
+    @Test
+    public void arrayArrayOfModelTest() {
+        // TODO: test arrayArrayOfModel
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for BananaReq
+ */
+public class BananaReqTest {
+    private final BananaReq model = new BananaReq();
+
+    /**
+     * Model tests for BananaReq
+     */
+    @Test
+    public void testBananaReq() {
+        // TODO: test BananaReq
+    }
+
+    /**
+     * Test the property 'lengthCm'
+     */
+    @Test
+    public void lengthCmTest() {
+        // TODO: test lengthCm
+    }
+
+    /**
+     * Test the property 'sweet'
+     */
+    @Test
+    public void sweetTest() {
+        // TODO: test sweet
+    }
+
+}
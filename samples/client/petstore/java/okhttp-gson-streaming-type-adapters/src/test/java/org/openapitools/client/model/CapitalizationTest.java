@@ -0,0 +1,88 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for Capitalization
+ */
+public class CapitalizationTest {
+    private final Capitalization model = new Capitalization();
+
+    /**
+     * Model tests for Capitalization
+     */
+    @Test
+    public void testCapitalization() {
+        // TODO: test Capitalization
+    }
+
+    /**
+     * Test the property 'smallCamel'
+     */
+    @Test
+    public void smallCamelTest() {
+        // TODO: test smallCamel
+    }
+
+    /**
+     * Test the property 'capitalCamel'
+     */
+    @Test
+    public void capitalCamelTest() {
+        // TODO: test capitalCamel
+    }
+
+    /**
+     * Test the property 'smallSnake'
+     */
+    @Test
+    public void smallSnakeTest() {
+        // TODO: test smallSnake
+    }
+
+    /**
+     * Test the property 'capitalSnake'
+     */
+    @Test
+    public void capitalSnakeTest() {
+        // TODO: test capitalSnake
+    }
+
+    /**
+     * Test the property 'scAETHFlowPoints'
+     */
+    @Test
+    public void scAETHFlowPointsTest() {
+        // TODO: test scAETHFlowPoints
+    }
+
+    /**
+     * Test the property 'ATT_NAME'
+     */
+    @Test
+    public void ATT_NAMETest() {
+        // TODO: test ATT_NAME
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.openapitools.client.model.Animal;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for Cat
+ */
+public class CatTest {
+    private final Cat model = new Cat();
+
+    /**
+     * Model tests for Cat
+     */
+    @Test
+    public void testCat() {
+        // TODO: test Cat
+    }
+
+    /**
+     * Test the property 'className'
+     */
+    @Test
+    public void classNameTest() {
+        // TODO: test className
+    }
+
+    /**
+     * Test the property 'color'
+     */
+    @Test
+    public void colorTest() {
+        // TODO: test color
+    }
+
+    /**
+     * Test the property 'declawed'
+     */
+    @Test
+    public void declawedTest() {
+        // TODO: test declawed
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.openapitools.client.model.Fruit;
+import org.openapitools.client.model.NullableShape;
+import org.openapitools.client.model.Shape;
+import org.openapitools.client.model.ShapeOrNull;
+import org.openapitools.jackson.nullable.JsonNullable;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for Drawing
+ */
+public class DrawingTest {
+    private final Drawing model = new Drawing();
+
+    /**
+     * Model tests for Drawing
+     */
+    @Test
+    public void testDrawing() {
+        // TODO: test Drawing
+    }
+
+    /**
+     * Test the property 'mainShape'
+     */
+    @Test
+    public void mainShapeTest() {
+        // TODO: test mainShape
+    }
+
+    /**
+     * Test the property 'shapeOrNull'
+     */
+    @Test
+    public void shapeOrNullTest() {
+        // TODO: test shapeOrNull
+    }
+
+    /**
+     * Test the property 'nullableShape'
+     */
+    @Test
+    public void nullableShapeTest() {
+        // TODO: test nullableShape
+    }
+
+    /**
+     * Test the property 'shapes'
+     */
+    @Test
+    public void shapesTest() {
+        // TODO: test shapes
+    }
+
+}
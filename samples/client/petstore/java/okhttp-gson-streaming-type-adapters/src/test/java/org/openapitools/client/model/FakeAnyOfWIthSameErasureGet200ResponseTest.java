@@ -0,0 +1,34 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for FakeAnyOfWIthSameErasureGet200Response
+ */
+public class FakeAnyOfWIthSameErasureGet200ResponseTest {
+    private final FakeAnyOfWIthSameErasureGet200Response model = new FakeAnyOfWIthSameErasureGet200Response();
+
+    /**
+     * Model tests for FakeAnyOfWIthSameErasureGet200Response
+     */
+    @Test
+    public void testFakeAnyOfWIthSameErasureGet200Response() {
+        // TODO: test FakeAnyOfWIthSameErasureGet200Response
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for FakeRefParameterPetIdParameter
+ */
+public class FakeRefParameterPetIdParameterTest {
+    private final FakeRefParameterPetIdParameter model = new FakeRefParameterPetIdParameter();
+
+    /**
+     * Model tests for FakeRefParameterPetIdParameter
+     */
+    @Test
+    public void testFakeRefParameterPetIdParameter() {
+        // TODO: test FakeRefParameterPetIdParameter
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.openapitools.client.model.ModelFile;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for FileSchemaTestClass
+ */
+public class FileSchemaTestClassTest {
+    private final FileSchemaTestClass model = new FileSchemaTestClass();
+
+    /**
+     * Model tests for FileSchemaTestClass
+     */
+    @Test
+    public void testFileSchemaTestClass() {
+        // TODO: test FileSchemaTestClass
+    }
+
+    /**
+     * Test the property '_file'
+     */
+    @Test
+    public void _fileTest() {
+        // TODO: test _file
+    }
+
+    /**
+     * Test the property 'files'
+     */
+    @Test
+    public void filesTest() {
+        // TODO: test files
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for FormatTest
+ */
+public class FormatTestTest {
+    private final FormatTest model = new FormatTest();
+
+    /**
+     * Model tests for FormatTest
+     */
+    @Test
+    public void testFormatTest() {
+        // TODO: test FormatTest
+    }
+
+    /**
+     * Test the property 'integer'
+     */
+    @Test
+    public void integerTest() {
+        // TODO: test integer
+    }
+
+    /**
+     * Test the property 'int32'
+     */
+    @Test
+    public void int32Test() {
+        // TODO: test int32
+    }
+
+    /**
+     * Test the property 'int64'
+     */
+    @Test
+    public void int64Test() {
+        // TODO: test int64
+    }
+
+    /**
+     * Test the property 'number'
+     */
+    @Test
+    public void numberTest() {
+        // TODO: test number
+    }
+
+    /**
+     * Test the property '_float'
+     */
+    @Test
+    public void _floatTest() {
+        // TODO: test _float
+    }
+
+    /**
+     * Test the property '_double'
+     */
+    @Test
+    public void _doubleTest() {
+        // TODO: test _double
+    }
+
+    /**
+     * Test the property 'decimal'
+     */
+    @Test
+    public void decimalTest() {
+        // TODO: test decimal
+    }
+
+    /**
+     * Test the property 'string'
+     */
+    @Test
+    public void stringTest() {
+        // TODO: test string
+    }
+
+    /**
+     * Test the property '_byte'
+     */
+    @Test
+    public void _byteTest() {
+        // TODO: test _byte
+    }
+
+    /**
+     * Test the property 'binary'
+     */
+    @Test
+    public void binaryTest() {
+        // TODO: test binary
+    }
+
+    /**
+     * Test the property 'date'
+     */
+    @Test
+    public void dateTest() {
+        // TODO: test date
+    }
+
+    /**
+     * Test the property 'dateTime'
+     */
+    @Test
+    public void dateTimeTest() {
+        // TODO: test dateTime
+    }
+
+    /**
+     * Test the property 'uuid'
+     */
+    @Test
+    public void uuidTest() {
+        // TODO: test uuid
+    }
+
+    /**
+     * Test the property 'uuidWithDefault'
+     */
+    @Test
+    public void uuidWithDefaultTest() {
+        // TODO: test uuidWithDefault
+    }
+
+    /**
+     * Test the property 'password'
+     */
+    @Test
+    public void passwordTest() {
+        // TODO: test password
+    }
+
+    /**
+     * Test the property 'patternWithDigits'
+     */
+    @Test
+    public void patternWithDigitsTest() {
+        // TODO: test patternWithDigits
+    }
+
+    /**
+     * Test the property 'patternWithDigitsAndDelimiter'
+     */
+    @Test
+    public void patternWithDigitsAndDelimiterTest() {
+        // TODO: test patternWithDigitsAndDelimiter
+    }
+
+}
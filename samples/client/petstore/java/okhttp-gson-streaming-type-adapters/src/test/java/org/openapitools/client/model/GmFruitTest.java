@@ -0,0 +1,67 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.openapitools.client.model.Apple;
+import org.openapitools.client.model.Banana;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for GmFruit
+ */
+public class GmFruitTest {
+    private final GmFruit model = new GmFruit();
+
+    /**
+     * Model tests for GmFruit
+     */
+    @Test
+    public void testGmFruit() {
+        // TODO: test GmFruit
+    }
+
+    /**
+     * Test the property 'cultivar'
+     */
+    @Test
+    public void cultivarTest() {
+        // TODO: test cultivar
+    }
+
+    /**
+     * Test the property 'origin'
+     */
+    @Test
+    public void originTest() {
+        // TODO: test origin
+    }
+
+    /**
+     * Test the property 'lengthCm'
+     */
+    @Test
+    public void lengthCmTest() {
+        // TODO: test lengthCm
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.Pig;
+import org.openapitools.client.model.Whale;
+import org.openapitools.client.model.Zebra;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for MammalAnyof
+ */
+public class MammalAnyofTest {
+    private final MammalAnyof model = new MammalAnyof();
+
+    /**
+     * Model tests for MammalAnyof
+     */
+    @Test
+    public void testMammalAnyof() {
+        // TODO: test MammalAnyof
+    }
+
+    /**
+     * Test the property 'hasBaleen'
+     */
+    @Test
+    public void hasBaleenTest() {
+        // TODO: test hasBaleen
+    }
+
+    /**
+     * Test the property 'hasTeeth'
+     */
+    @Test
+    public void hasTeethTest() {
+        // TODO: test hasTeeth
+    }
+
+    /**
+     * Test the property 'className'
+     */
+    @Test
+    public void classNameTest() {
+        // TODO: test className
+    }
+
+    /**
+     * Test the property 'type'
+     */
+    @Test
+    public void typeTest() {
+        // TODO: test type
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for MapTest
+ */
+public class MapTestTest {
+    private final MapTest model = new MapTest();
+
+    /**
+     * Model tests for MapTest
+     */
+    @Test
+    public void testMapTest() {
+        // TODO: test MapTest
+    }
+
+    /**
+     * Test the property 'mapMapOfString'
+     */
+    @Test
+    public void mapMapOfStringTest() {
+        // TODO: test mapMapOfString
+    }
+
+    /**
+     * Test the property 'mapOfEnumString'
+     */
+    @Test
+    public void mapOfEnumStringTest() {
+        // TODO: test mapOfEnumString
+    }
+
+    /**
+     * Test the property 'directMap'
+     */
+    @Test
+    public void directMapTest() {
+        // TODO: test directMap
+    }
+
+    /**
+     * Test the property 'indirectMap'
+     */
+    @Test
+    public void indirectMapTest() {
+        // TODO: test indirectMap
+    }
+
+}
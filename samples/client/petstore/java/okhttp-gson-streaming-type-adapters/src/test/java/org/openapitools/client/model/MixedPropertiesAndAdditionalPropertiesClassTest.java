@@ -0,0 +1,69 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.openapitools.client.model.Animal;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for MixedPropertiesAndAdditionalPropertiesClass
+ */
+public class MixedPropertiesAndAdditionalPropertiesClassTest {
+    private final MixedPropertiesAndAdditionalPropertiesClass model = new MixedPropertiesAndAdditionalPropertiesClass();
+
+    /**
+     * Model tests for MixedPropertiesAndAdditionalPropertiesClass
+     */
+    @Test
+    public void testMixedPropertiesAndAdditionalPropertiesClass() {
+        // TODO: test MixedPropertiesAndAdditionalPropertiesClass
+    }
+
+    /**
+     * Test the property 'uuid'
+     */
+    @Test
+    public void uuidTest() {
+        // TODO: test uuid
+    }
+
+    /**
+     * Test the property 'dateTime'
+     */
+    @Test
+    public void dateTimeTest() {
+        // TODO: test dateTime
+    }
+
+    /**
+     * Test the property 'map'
+     */
+    @Test
+    public void mapTest() {
+        // TODO: test map
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.ArrayAnyOf;
+import org.openapitools.client.model.ArrayOneOf;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for ModelWithOneOfAnyOfProperties
+ */
+public class ModelWithOneOfAnyOfPropertiesTest {
+    private final ModelWithOneOfAnyOfProperties model = new ModelWithOneOfAnyOfProperties();
+
+    /**
+     * Model tests for ModelWithOneOfAnyOfProperties
+     */
+    @Test
+    public void testModelWithOneOfAnyOfProperties() {
+        // TODO: test ModelWithOneOfAnyOfProperties
+    }
+
+    /**
+     * Test the property 'oneofProp'
+     */
+    @Test
+    public void oneofPropTest() {
+        // TODO: test oneofProp
+    }
+
+    /**
+     * Test the property 'anyofProp'
+     */
+    @Test
+    public void anyofPropTest() {
+        // TODO: test anyofProp
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for Name
+ */
+public class NameTest {
+    private final Name model = new Name();
+
+    /**
+     * Model tests for Name
+     */
+    @Test
+    public void testName() {
+        // TODO: test Name
+    }
+
+    /**
+     * Test the property 'name'
+     */
+    @Test
+    public void nameTest() {
+        // TODO: test name
+    }
+
+    /**
+     * Test the property 'snakeCase'
+     */
+    @Test
+    public void snakeCaseTest() {
+        // TODO: test snakeCase
+    }
+
+    /**
+     * Test the property 'property'
+     */
+    @Test
+    public void propertyTest() {
+        // TODO: test property
+    }
+
+    /**
+     * Test the property '_123number'
+     */
+    @Test
+    public void _123numberTest() {
+        // TODO: test _123number
+    }
+
+}
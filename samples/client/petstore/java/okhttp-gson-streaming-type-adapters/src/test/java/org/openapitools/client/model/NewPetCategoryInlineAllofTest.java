@@ -0,0 +1,65 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import org.openapitools.client.model.NewPetCategoryInlineAllofAllOfCategoryTag;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Model tests for NewPetCategoryInlineAllof
+ */
+public class NewPetCategoryInlineAllofTest {
+    private final NewPetCategoryInlineAllof model = new NewPetCategoryInlineAllof();
+
+    /**
+     * Model tests for NewPetCategoryInlineAllof
+     */
+    @Test
+    public void testNewPetCategoryInlineAllof() {
+        // TODO: test NewPetCategoryInlineAllof
+    }
+
+    /**
+     * Test the property 'id'
+     */
+    @Test
+    public void idTest() {
+        // TODO: test id
+    }
+
+    /**
+     * Test the property 'name'
+     */
+    @Test
+    public void nameTest() {
+        // TODO: test name
+    }
+
+    /**
+     * Test the property 'categoryTag'
+     */
+    @Test
+    public void categoryTagTest() {
+        // TODO: test categoryTag
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for QuadrilateralInterface
+ */
+public class QuadrilateralInterfaceTest {
+    private final QuadrilateralInterface model = new QuadrilateralInterface();
+
+    /**
+     * Model tests for QuadrilateralInterface
+     */
+    @Test
+    public void testQuadrilateralInterface() {
+        // TODO: test QuadrilateralInterface
+    }
+
+    /**
+     * Test the property 'quadrilateralType'
+     */
+    @Test
+    public void quadrilateralTypeTest() {
+        // TODO: test quadrilateralType
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ * OpenAPI Petstore
+ * This spec is mainly for testing Petstore server and contains fake endpoints, models. Please do not use this for any other purpose. Special characters: \" \\
+ *
+ * The version of the OpenAPI document: 1.0.0
+ * 
+ *
+ * NOTE: This class is auto generated by OpenAPI Generator (https://openapi-generator.tech).
+ * https://openapi-generator.tech
+ * Do not edit the class manually.
+ */
+
+
+package org.openapitools.client.model;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Model tests for Whale
+ */
+public class WhaleTest {
+    private final Whale model = new Whale();
+
+    /**
+     * Model tests for Whale
+     */
+    @Test
+    public void testWhale() {
+        // TODO: test Whale
+    }
+
+    /**
+     * Test the property 'hasBaleen'
+     */
+    @Test
+    public void hasBaleenTest() {
+        // TODO: test hasBaleen
+    }
+
+    /**
+     * Test the property 'hasTeeth'
+     */
+    @Test
+    public void hasTeethTest() {
+        // TODO: test hasTeeth
+    }
+
+    /**
+     * Test the property 'className'
+     */
+    @Test
+    public void classNameTest() {
+        // TODO: test className
+    }
+
+}
@@ -35,6 +35,7 @@ import java.text.ParsePosition;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Locale;
 import java.util.Map;
@@ -59,149 +60,233 @@ public class JSON {
     public static GsonBuilder createGson() {
         GsonFireBuilder fireBuilder = new GsonFireBuilder()
                 .registerTypeSelector(org.openapitools.client.model.Animal.class, new TypeSelector<org.openapitools.client.model.Animal>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Cat", org.openapitools.client.model.Cat.class);
+                        table.put("Dog", org.openapitools.client.model.Dog.class);
+                        table.put("Animal", org.openapitools.client.model.Animal.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Animal> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Cat", org.openapitools.client.model.Cat.class);
-                        classByDiscriminatorValue.put("Dog", org.openapitools.client.model.Dog.class);
-                        classByDiscriminatorValue.put("Animal", org.openapitools.client.model.Animal.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Cat.class, new TypeSelector<org.openapitools.client.model.Cat>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Cat", org.openapitools.client.model.Cat.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Cat> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Cat", org.openapitools.client.model.Cat.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Dog.class, new TypeSelector<org.openapitools.client.model.Dog>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Dog", org.openapitools.client.model.Dog.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Dog> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Dog", org.openapitools.client.model.Dog.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.EnumStringDiscriminator.class, new TypeSelector<org.openapitools.client.model.EnumStringDiscriminator>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("EnumStringDiscriminator", org.openapitools.client.model.EnumStringDiscriminator.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.EnumStringDiscriminator> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("EnumStringDiscriminator", org.openapitools.client.model.EnumStringDiscriminator.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "enum_str_type"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.GrandparentAnimal.class, new TypeSelector<org.openapitools.client.model.GrandparentAnimal>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("ParentPet", org.openapitools.client.model.ParentPet.class);
+                        table.put("GrandparentAnimal", org.openapitools.client.model.GrandparentAnimal.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.GrandparentAnimal> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("ParentPet", org.openapitools.client.model.ParentPet.class);
-                        classByDiscriminatorValue.put("GrandparentAnimal", org.openapitools.client.model.GrandparentAnimal.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "pet_type"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Mammal.class, new TypeSelector<org.openapitools.client.model.Mammal>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Pig", org.openapitools.client.model.Pig.class);
+                        table.put("whale", org.openapitools.client.model.Whale.class);
+                        table.put("zebra", org.openapitools.client.model.Zebra.class);
+                        table.put("mammal", org.openapitools.client.model.Mammal.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Mammal> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Pig", org.openapitools.client.model.Pig.class);
-                        classByDiscriminatorValue.put("whale", org.openapitools.client.model.Whale.class);
-                        classByDiscriminatorValue.put("zebra", org.openapitools.client.model.Zebra.class);
-                        classByDiscriminatorValue.put("mammal", org.openapitools.client.model.Mammal.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.MammalAnyof.class, new TypeSelector<org.openapitools.client.model.MammalAnyof>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Pig", org.openapitools.client.model.Pig.class);
+                        table.put("whale", org.openapitools.client.model.Whale.class);
+                        table.put("zebra", org.openapitools.client.model.Zebra.class);
+                        table.put("mammal_anyof", org.openapitools.client.model.MammalAnyof.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.MammalAnyof> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Pig", org.openapitools.client.model.Pig.class);
-                        classByDiscriminatorValue.put("whale", org.openapitools.client.model.Whale.class);
-                        classByDiscriminatorValue.put("zebra", org.openapitools.client.model.Zebra.class);
-                        classByDiscriminatorValue.put("mammal_anyof", org.openapitools.client.model.MammalAnyof.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.NullableShape.class, new TypeSelector<org.openapitools.client.model.NullableShape>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
+                        table.put("Triangle", org.openapitools.client.model.Triangle.class);
+                        table.put("NullableShape", org.openapitools.client.model.NullableShape.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.NullableShape> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
-                        classByDiscriminatorValue.put("Triangle", org.openapitools.client.model.Triangle.class);
-                        classByDiscriminatorValue.put("NullableShape", org.openapitools.client.model.NullableShape.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "shapeType"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.ParentPet.class, new TypeSelector<org.openapitools.client.model.ParentPet>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("ParentPet", org.openapitools.client.model.ParentPet.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.ParentPet> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("ParentPet", org.openapitools.client.model.ParentPet.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "pet_type"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Pig.class, new TypeSelector<org.openapitools.client.model.Pig>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("BasquePig", org.openapitools.client.model.BasquePig.class);
+                        table.put("DanishPig", org.openapitools.client.model.DanishPig.class);
+                        table.put("Pig", org.openapitools.client.model.Pig.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Pig> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("BasquePig", org.openapitools.client.model.BasquePig.class);
-                        classByDiscriminatorValue.put("DanishPig", org.openapitools.client.model.DanishPig.class);
-                        classByDiscriminatorValue.put("Pig", org.openapitools.client.model.Pig.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "className"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Quadrilateral.class, new TypeSelector<org.openapitools.client.model.Quadrilateral>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("ComplexQuadrilateral", org.openapitools.client.model.ComplexQuadrilateral.class);
+                        table.put("SimpleQuadrilateral", org.openapitools.client.model.SimpleQuadrilateral.class);
+                        table.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Quadrilateral> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("ComplexQuadrilateral", org.openapitools.client.model.ComplexQuadrilateral.class);
-                        classByDiscriminatorValue.put("SimpleQuadrilateral", org.openapitools.client.model.SimpleQuadrilateral.class);
-                        classByDiscriminatorValue.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "quadrilateralType"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Shape.class, new TypeSelector<org.openapitools.client.model.Shape>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
+                        table.put("Triangle", org.openapitools.client.model.Triangle.class);
+                        table.put("Shape", org.openapitools.client.model.Shape.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Shape> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
-                        classByDiscriminatorValue.put("Triangle", org.openapitools.client.model.Triangle.class);
-                        classByDiscriminatorValue.put("Shape", org.openapitools.client.model.Shape.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "shapeType"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.ShapeOrNull.class, new TypeSelector<org.openapitools.client.model.ShapeOrNull>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
+                        table.put("Triangle", org.openapitools.client.model.Triangle.class);
+                        table.put("ShapeOrNull", org.openapitools.client.model.ShapeOrNull.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.ShapeOrNull> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("Quadrilateral", org.openapitools.client.model.Quadrilateral.class);
-                        classByDiscriminatorValue.put("Triangle", org.openapitools.client.model.Triangle.class);
-                        classByDiscriminatorValue.put("ShapeOrNull", org.openapitools.client.model.ShapeOrNull.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "shapeType"));
                     }
           })
                 .registerTypeSelector(org.openapitools.client.model.Triangle.class, new TypeSelector<org.openapitools.client.model.Triangle>() {
+                    // built once, as the selector is called for every element read
+                    private final Map<String, Class> classByDiscriminatorValue;
+                    {
+                        Map<String, Class> table = new HashMap<String, Class>();
+                        table.put("EquilateralTriangle", org.openapitools.client.model.EquilateralTriangle.class);
+                        table.put("IsoscelesTriangle", org.openapitools.client.model.IsoscelesTriangle.class);
+                        table.put("ScaleneTriangle", org.openapitools.client.model.ScaleneTriangle.class);
+                        table.put("Triangle", org.openapitools.client.model.Triangle.class);
+                        classByDiscriminatorValue = Collections.unmodifiableMap(table);
+                    }
+
                     @Override
                     public Class<? extends org.openapitools.client.model.Triangle> getClassForElement(JsonElement readElement) {
-                        Map<String, Class> classByDiscriminatorValue = new HashMap<String, Class>();
-                        classByDiscriminatorValue.put("EquilateralTriangle", org.openapitools.client.model.EquilateralTriangle.class);
-                        classByDiscriminatorValue.put("IsoscelesTriangle", org.openapitools.client.model.IsoscelesTriangle.class);
-                        classByDiscriminatorValue.put("ScaleneTriangle", org.openapitools.client.model.ScaleneTriangle.class);
-                        classByDiscriminatorValue.put("Triangle", org.openapitools.client.model.Triangle.class);
                         return getClassByDiscriminator(classByDiscriminatorValue,
                                 getDiscriminatorValue(readElement, "triangleType"));
                     }
@@ -110,10 +110,12 @@ public class AllOfModelArrayAnyOfAllOfAttributesC extends AbstractOpenApiSchema
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize Pet
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Pet", discriminatorSchema, "name", "photoUrls");
                         Pet.validateJsonElement(jsonElement);
                         actualAdapter = adapterPet;
                         match++;
@@ -126,6 +128,7 @@ public class AllOfModelArrayAnyOfAllOfAttributesC extends AbstractOpenApiSchema
                     // deserialize Order
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Order", discriminatorSchema);
                         Order.validateJsonElement(jsonElement);
                         actualAdapter = adapterOrder;
                         match++;
@@ -236,8 +239,10 @@ public class AllOfModelArrayAnyOfAllOfAttributesC extends AbstractOpenApiSchema
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with Pet
         try {
+            checkCandidate(jsonElement, "Pet", discriminatorSchema, "name", "photoUrls");
             Pet.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -246,6 +251,7 @@ public class AllOfModelArrayAnyOfAllOfAttributesC extends AbstractOpenApiSchema
         }
         // validate the json string with Order
         try {
+            checkCandidate(jsonElement, "Order", discriminatorSchema);
             Order.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
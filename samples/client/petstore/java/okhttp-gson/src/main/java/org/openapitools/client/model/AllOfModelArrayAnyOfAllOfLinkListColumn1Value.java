@@ -109,6 +109,7 @@ public class AllOfModelArrayAnyOfAllOfLinkListColumn1Value extends AbstractOpenA
                     // deserialize User
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "User", null);
                         User.validateJsonElement(jsonElement);
                         actualAdapter = adapterUser;
                         AllOfModelArrayAnyOfAllOfLinkListColumn1Value ret = new AllOfModelArrayAnyOfAllOfLinkListColumn1Value();
@@ -122,6 +123,7 @@ public class AllOfModelArrayAnyOfAllOfLinkListColumn1Value extends AbstractOpenA
                     // deserialize Tag
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Tag", null);
                         Tag.validateJsonElement(jsonElement);
                         actualAdapter = adapterTag;
                         AllOfModelArrayAnyOfAllOfLinkListColumn1Value ret = new AllOfModelArrayAnyOfAllOfLinkListColumn1Value();
@@ -228,6 +230,7 @@ public class AllOfModelArrayAnyOfAllOfLinkListColumn1Value extends AbstractOpenA
         ArrayList<String> errorMessages = new ArrayList<>();
         // validate the json string with User
         try {
+            checkCandidate(jsonElement, "User", null);
             User.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
@@ -236,6 +239,7 @@ public class AllOfModelArrayAnyOfAllOfLinkListColumn1Value extends AbstractOpenA
         }
         // validate the json string with Tag
         try {
+            checkCandidate(jsonElement, "Tag", null);
             Tag.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
@@ -95,6 +95,7 @@ public class FakeOneOfWIthSameErasureGet200Response extends AbstractOpenApiSchem
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize List<String>
                     try {
@@ -216,6 +217,7 @@ public class FakeOneOfWIthSameErasureGet200Response extends AbstractOpenApiSchem
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with List<String>
         try {
             if (!jsonElement.isJsonArray()) {
@@ -106,10 +106,12 @@ public class Fruit extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize Apple
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Apple", discriminatorSchema);
                         Apple.validateJsonElement(jsonElement);
                         actualAdapter = adapterApple;
                         match++;
@@ -122,6 +124,7 @@ public class Fruit extends AbstractOpenApiSchema {
                     // deserialize Banana
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Banana", discriminatorSchema);
                         Banana.validateJsonElement(jsonElement);
                         actualAdapter = adapterBanana;
                         match++;
@@ -232,8 +235,10 @@ public class Fruit extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with Apple
         try {
+            checkCandidate(jsonElement, "Apple", discriminatorSchema);
             Apple.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -242,6 +247,7 @@ public class Fruit extends AbstractOpenApiSchema {
         }
         // validate the json string with Banana
         try {
+            checkCandidate(jsonElement, "Banana", discriminatorSchema);
             Banana.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
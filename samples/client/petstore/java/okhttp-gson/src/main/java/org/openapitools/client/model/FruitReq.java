@@ -106,10 +106,12 @@ public class FruitReq extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize AppleReq
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "AppleReq", discriminatorSchema, "cultivar");
                         AppleReq.validateJsonElement(jsonElement);
                         actualAdapter = adapterAppleReq;
                         match++;
@@ -122,6 +124,7 @@ public class FruitReq extends AbstractOpenApiSchema {
                     // deserialize BananaReq
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "BananaReq", discriminatorSchema, "lengthCm");
                         BananaReq.validateJsonElement(jsonElement);
                         actualAdapter = adapterBananaReq;
                         match++;
@@ -237,8 +240,10 @@ public class FruitReq extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with AppleReq
         try {
+            checkCandidate(jsonElement, "AppleReq", discriminatorSchema, "cultivar");
             AppleReq.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -247,6 +252,7 @@ public class FruitReq extends AbstractOpenApiSchema {
         }
         // validate the json string with BananaReq
         try {
+            checkCandidate(jsonElement, "BananaReq", discriminatorSchema, "lengthCm");
             BananaReq.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -109,6 +109,7 @@ public class GmFruit extends AbstractOpenApiSchema {
                     // deserialize Apple
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Apple", null);
                         Apple.validateJsonElement(jsonElement);
                         actualAdapter = adapterApple;
                         GmFruit ret = new GmFruit();
@@ -122,6 +123,7 @@ public class GmFruit extends AbstractOpenApiSchema {
                     // deserialize Banana
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Banana", null);
                         Banana.validateJsonElement(jsonElement);
                         actualAdapter = adapterBanana;
                         GmFruit ret = new GmFruit();
@@ -228,6 +230,7 @@ public class GmFruit extends AbstractOpenApiSchema {
         ArrayList<String> errorMessages = new ArrayList<>();
         // validate the json string with Apple
         try {
+            checkCandidate(jsonElement, "Apple", null);
             Apple.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
@@ -236,6 +239,7 @@ public class GmFruit extends AbstractOpenApiSchema {
         }
         // validate the json string with Banana
         try {
+            checkCandidate(jsonElement, "Banana", null);
             Banana.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
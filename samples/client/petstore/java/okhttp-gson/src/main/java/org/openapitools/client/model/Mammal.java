@@ -139,10 +139,12 @@ public class Mammal extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
 
                     // deserialize Whale
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Whale", discriminatorSchema, "className");
                         Whale.validateJsonElement(jsonElement);
                         actualAdapter = adapterWhale;
                         match++;
@@ -155,6 +157,7 @@ public class Mammal extends AbstractOpenApiSchema {
                     // deserialize Zebra
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Zebra", discriminatorSchema, "className");
                         Zebra.validateJsonElement(jsonElement);
                         actualAdapter = adapterZebra;
                         match++;
@@ -167,6 +170,7 @@ public class Mammal extends AbstractOpenApiSchema {
                     // deserialize Pig
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Pig", discriminatorSchema);
                         Pig.validateJsonElement(jsonElement);
                         actualAdapter = adapterPig;
                         match++;
@@ -192,6 +196,9 @@ public class Mammal extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
 
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
     public Mammal() {
         super("oneOf", Boolean.FALSE);
     }
@@ -205,6 +212,13 @@ public class Mammal extends AbstractOpenApiSchema {
         schemas.put("Whale", Whale.class);
         schemas.put("Zebra", Zebra.class);
         schemas.put("Pig", Pig.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("Pig", "Pig");
+        discriminatorTable.put("whale", "Whale");
+        discriminatorTable.put("zebra", "Zebra");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
     }
 
     @Override
@@ -294,8 +308,10 @@ public class Mammal extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
         // validate the json string with Whale
         try {
+            checkCandidate(jsonElement, "Whale", discriminatorSchema, "className");
             Whale.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -304,6 +320,7 @@ public class Mammal extends AbstractOpenApiSchema {
         }
         // validate the json string with Zebra
         try {
+            checkCandidate(jsonElement, "Zebra", discriminatorSchema, "className");
             Zebra.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -312,6 +329,7 @@ public class Mammal extends AbstractOpenApiSchema {
         }
         // validate the json string with Pig
         try {
+            checkCandidate(jsonElement, "Pig", discriminatorSchema);
             Pig.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -116,6 +116,7 @@ public class MammalAnyof extends AbstractOpenApiSchema {
                     // deserialize Whale
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Whale", null, "className");
                         Whale.validateJsonElement(jsonElement);
                         actualAdapter = adapterWhale;
                         MammalAnyof ret = new MammalAnyof();
@@ -129,6 +130,7 @@ public class MammalAnyof extends AbstractOpenApiSchema {
                     // deserialize Zebra
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Zebra", null, "className");
                         Zebra.validateJsonElement(jsonElement);
                         actualAdapter = adapterZebra;
                         MammalAnyof ret = new MammalAnyof();
@@ -142,6 +144,7 @@ public class MammalAnyof extends AbstractOpenApiSchema {
                     // deserialize Pig
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Pig", null);
                         Pig.validateJsonElement(jsonElement);
                         actualAdapter = adapterPig;
                         MammalAnyof ret = new MammalAnyof();
@@ -265,6 +268,7 @@ public class MammalAnyof extends AbstractOpenApiSchema {
         ArrayList<String> errorMessages = new ArrayList<>();
         // validate the json string with Whale
         try {
+            checkCandidate(jsonElement, "Whale", null, "className");
             Whale.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
@@ -273,6 +277,7 @@ public class MammalAnyof extends AbstractOpenApiSchema {
         }
         // validate the json string with Zebra
         try {
+            checkCandidate(jsonElement, "Zebra", null, "className");
             Zebra.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
@@ -281,6 +286,7 @@ public class MammalAnyof extends AbstractOpenApiSchema {
         }
         // validate the json string with Pig
         try {
+            checkCandidate(jsonElement, "Pig", null);
             Pig.validateJsonElement(jsonElement);
             return;
         } catch (Exception e) {
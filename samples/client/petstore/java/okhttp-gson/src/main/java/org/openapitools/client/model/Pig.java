@@ -127,10 +127,12 @@ public class Pig extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
 
                     // deserialize BasquePig
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "BasquePig", discriminatorSchema, "className");
                         BasquePig.validateJsonElement(jsonElement);
                         actualAdapter = adapterBasquePig;
                         match++;
@@ -143,6 +145,7 @@ public class Pig extends AbstractOpenApiSchema {
                     // deserialize DanishPig
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "DanishPig", discriminatorSchema, "className");
                         DanishPig.validateJsonElement(jsonElement);
                         actualAdapter = adapterDanishPig;
                         match++;
@@ -168,6 +171,9 @@ public class Pig extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
 
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
     public Pig() {
         super("oneOf", Boolean.FALSE);
     }
@@ -180,6 +186,12 @@ public class Pig extends AbstractOpenApiSchema {
     static {
         schemas.put("BasquePig", BasquePig.class);
         schemas.put("DanishPig", DanishPig.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("BasquePig", "BasquePig");
+        discriminatorTable.put("DanishPig", "DanishPig");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
     }
 
     @Override
@@ -253,8 +265,10 @@ public class Pig extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "className", schemaByDiscriminatorValue);
         // validate the json string with BasquePig
         try {
+            checkCandidate(jsonElement, "BasquePig", discriminatorSchema, "className");
             BasquePig.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -263,6 +277,7 @@ public class Pig extends AbstractOpenApiSchema {
         }
         // validate the json string with DanishPig
         try {
+            checkCandidate(jsonElement, "DanishPig", discriminatorSchema, "className");
             DanishPig.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
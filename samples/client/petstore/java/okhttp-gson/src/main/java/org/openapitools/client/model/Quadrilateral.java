@@ -127,10 +127,12 @@ public class Quadrilateral extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "quadrilateralType", schemaByDiscriminatorValue);
 
                     // deserialize SimpleQuadrilateral
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "SimpleQuadrilateral", discriminatorSchema, "shapeType", "quadrilateralType");
                         SimpleQuadrilateral.validateJsonElement(jsonElement);
                         actualAdapter = adapterSimpleQuadrilateral;
                         match++;
@@ -143,6 +145,7 @@ public class Quadrilateral extends AbstractOpenApiSchema {
                     // deserialize ComplexQuadrilateral
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "ComplexQuadrilateral", discriminatorSchema, "shapeType", "quadrilateralType");
                         ComplexQuadrilateral.validateJsonElement(jsonElement);
                         actualAdapter = adapterComplexQuadrilateral;
                         match++;
@@ -168,6 +171,9 @@ public class Quadrilateral extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
 
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
     public Quadrilateral() {
         super("oneOf", Boolean.FALSE);
     }
@@ -180,6 +186,12 @@ public class Quadrilateral extends AbstractOpenApiSchema {
     static {
         schemas.put("SimpleQuadrilateral", SimpleQuadrilateral.class);
         schemas.put("ComplexQuadrilateral", ComplexQuadrilateral.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("ComplexQuadrilateral", "ComplexQuadrilateral");
+        discriminatorTable.put("SimpleQuadrilateral", "SimpleQuadrilateral");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
     }
 
     @Override
@@ -253,8 +265,10 @@ public class Quadrilateral extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "quadrilateralType", schemaByDiscriminatorValue);
         // validate the json string with SimpleQuadrilateral
         try {
+            checkCandidate(jsonElement, "SimpleQuadrilateral", discriminatorSchema, "shapeType", "quadrilateralType");
             SimpleQuadrilateral.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -263,6 +277,7 @@ public class Quadrilateral extends AbstractOpenApiSchema {
         }
         // validate the json string with ComplexQuadrilateral
         try {
+            checkCandidate(jsonElement, "ComplexQuadrilateral", discriminatorSchema, "shapeType", "quadrilateralType");
             ComplexQuadrilateral.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
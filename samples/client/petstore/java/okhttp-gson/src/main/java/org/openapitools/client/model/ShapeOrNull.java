@@ -127,10 +127,12 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "shapeType", schemaByDiscriminatorValue);
 
                     // deserialize Triangle
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Triangle", discriminatorSchema);
                         Triangle.validateJsonElement(jsonElement);
                         actualAdapter = adapterTriangle;
                         match++;
@@ -143,6 +145,7 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
                     // deserialize Quadrilateral
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Quadrilateral", discriminatorSchema);
                         Quadrilateral.validateJsonElement(jsonElement);
                         actualAdapter = adapterQuadrilateral;
                         match++;
@@ -168,6 +171,9 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
 
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
     public ShapeOrNull() {
         super("oneOf", Boolean.TRUE);
     }
@@ -180,6 +186,12 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
     static {
         schemas.put("Triangle", Triangle.class);
         schemas.put("Quadrilateral", Quadrilateral.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("Quadrilateral", "Quadrilateral");
+        discriminatorTable.put("Triangle", "Triangle");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
     }
 
     @Override
@@ -258,8 +270,10 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "shapeType", schemaByDiscriminatorValue);
         // validate the json string with Triangle
         try {
+            checkCandidate(jsonElement, "Triangle", discriminatorSchema);
             Triangle.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -268,6 +282,7 @@ public class ShapeOrNull extends AbstractOpenApiSchema {
         }
         // validate the json string with Quadrilateral
         try {
+            checkCandidate(jsonElement, "Quadrilateral", discriminatorSchema);
             Quadrilateral.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
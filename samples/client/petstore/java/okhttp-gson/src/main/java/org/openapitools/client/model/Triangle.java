@@ -139,10 +139,12 @@ public class Triangle extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = getDiscriminatorSchema(jsonElement, "triangleType", schemaByDiscriminatorValue);
 
                     // deserialize EquilateralTriangle
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "EquilateralTriangle", discriminatorSchema, "shapeType", "triangleType");
                         EquilateralTriangle.validateJsonElement(jsonElement);
                         actualAdapter = adapterEquilateralTriangle;
                         match++;
@@ -155,6 +157,7 @@ public class Triangle extends AbstractOpenApiSchema {
                     // deserialize IsoscelesTriangle
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "IsoscelesTriangle", discriminatorSchema, "shapeType", "triangleType");
                         IsoscelesTriangle.validateJsonElement(jsonElement);
                         actualAdapter = adapterIsoscelesTriangle;
                         match++;
@@ -167,6 +170,7 @@ public class Triangle extends AbstractOpenApiSchema {
                     // deserialize ScaleneTriangle
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "ScaleneTriangle", discriminatorSchema, "shapeType", "triangleType");
                         ScaleneTriangle.validateJsonElement(jsonElement);
                         actualAdapter = adapterScaleneTriangle;
                         match++;
@@ -192,6 +196,9 @@ public class Triangle extends AbstractOpenApiSchema {
     // store a list of schema names defined in oneOf
     public static final Map<String, Class<?>> schemas = new HashMap<String, Class<?>>();
 
+    // oneOf schema names by discriminator value
+    private static final Map<String, String> schemaByDiscriminatorValue;
+
     public Triangle() {
         super("oneOf", Boolean.FALSE);
     }
@@ -205,6 +212,13 @@ public class Triangle extends AbstractOpenApiSchema {
         schemas.put("EquilateralTriangle", EquilateralTriangle.class);
         schemas.put("IsoscelesTriangle", IsoscelesTriangle.class);
         schemas.put("ScaleneTriangle", ScaleneTriangle.class);
+        Map<String, String> discriminatorTable = new HashMap<String, String>();
+        discriminatorTable.put("EquilateralTriangle", "EquilateralTriangle");
+        discriminatorTable.put("IsoscelesTriangle", "IsoscelesTriangle");
+        discriminatorTable.put("ScaleneTriangle", "ScaleneTriangle");
+        // a value mapped to a schema not listed in oneOf doesn't rule out the listed ones
+        discriminatorTable.values().retainAll(schemas.keySet());
+        schemaByDiscriminatorValue = Collections.unmodifiableMap(discriminatorTable);
     }
 
     @Override
@@ -294,8 +308,10 @@ public class Triangle extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = getDiscriminatorSchema(jsonElement, "triangleType", schemaByDiscriminatorValue);
         // validate the json string with EquilateralTriangle
         try {
+            checkCandidate(jsonElement, "EquilateralTriangle", discriminatorSchema, "shapeType", "triangleType");
             EquilateralTriangle.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -304,6 +320,7 @@ public class Triangle extends AbstractOpenApiSchema {
         }
         // validate the json string with IsoscelesTriangle
         try {
+            checkCandidate(jsonElement, "IsoscelesTriangle", discriminatorSchema, "shapeType", "triangleType");
             IsoscelesTriangle.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -312,6 +329,7 @@ public class Triangle extends AbstractOpenApiSchema {
         }
         // validate the json string with ScaleneTriangle
         try {
+            checkCandidate(jsonElement, "ScaleneTriangle", discriminatorSchema, "shapeType", "triangleType");
             ScaleneTriangle.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {
@@ -103,10 +103,12 @@ public class Value extends AbstractOpenApiSchema {
                     int match = 0;
                     ArrayList<String> errorMessages = new ArrayList<>();
                     TypeAdapter actualAdapter = elementAdapter;
+                    String discriminatorSchema = null;
 
                     // deserialize Scalar
                     try {
                         // validate the JSON object to see if any exception is thrown
+                        checkCandidate(jsonElement, "Scalar", discriminatorSchema);
                         Scalar.validateJsonElement(jsonElement);
                         actualAdapter = adapterScalar;
                         match++;
@@ -240,8 +242,10 @@ public class Value extends AbstractOpenApiSchema {
         // validate oneOf schemas one by one
         int validCount = 0;
         ArrayList<String> errorMessages = new ArrayList<>();
+        String discriminatorSchema = null;
         // validate the json string with Scalar
         try {
+            checkCandidate(jsonElement, "Scalar", discriminatorSchema);
             Scalar.validateJsonElement(jsonElement);
             validCount++;
         } catch (Exception e) {